@@ -0,0 +1,117 @@
+package lotecs.auth.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotecs.auth.infrastructure.config.PasswordHashingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그인 시 커넥션 점유 방식별 처리량 비교 (커넥션 풀 20개 기준 부하 테스트).
+ *
+ * <p>Hikari 풀은 20개 permit의 {@link Semaphore}로, 쿼리는 1ms 대기로 모사한다.
+ * 각 그룹은 로그인 스레드 32개와 일반 조회 스레드 16개를 동시에 실행한다.</p>
+ * <ul>
+ *   <li>{@code pinned}: 변경 전 방식. 커넥션을 잡은 채 조회 → BCrypt 비교 → 저장</li>
+ *   <li>{@code offloaded}: 현재 방식. 조회 후 커넥션 반납 → 전용 실행기에서 BCrypt 비교 → 저장</li>
+ * </ul>
+ * <p>{@code ./gradlew :lotecs-auth-backend:jmh} 결과에서 그룹별 login/query 처리량을 비교한다.
+ * offloaded에서는 해시 계산 중에 커넥션이 비어 있으므로 일반 조회 처리량이 유지된다.
+ * (로그인 스레드 32개는 기본 대기열 크기 64 안에 들어가므로 거절은 발생하지 않는다.)</p>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoginConnectionHoldBenchmark {
+
+    private static final int POOL_SIZE = 20;
+    private static final long QUERY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final String RAW_PASSWORD = "password123";
+
+    private PasswordEncoder passwordEncoder;
+    private PasswordHashingExecutor hashingExecutor;
+    private Semaphore connections;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(10);
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+        connections = new Semaphore(POOL_SIZE, true);
+
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setMaxWait(Duration.ofSeconds(3));
+        hashingExecutor = new PasswordHashingExecutor(passwordEncoder, properties, new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Benchmark
+    @Group("pinned")
+    @GroupThreads(32)
+    public boolean pinnedLogin() throws InterruptedException {
+        connections.acquire();
+        try {
+            query();
+            boolean matched = passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+            query();
+            return matched;
+        } finally {
+            connections.release();
+        }
+    }
+
+    @Benchmark
+    @Group("pinned")
+    @GroupThreads(16)
+    public void pinnedQuery() throws InterruptedException {
+        withConnection();
+    }
+
+    @Benchmark
+    @Group("offloaded")
+    @GroupThreads(32)
+    public boolean offloadedLogin() throws InterruptedException {
+        withConnection();
+        boolean matched = hashingExecutor.matches(RAW_PASSWORD, encodedPassword);
+        withConnection();
+        return matched;
+    }
+
+    @Benchmark
+    @Group("offloaded")
+    @GroupThreads(16)
+    public void offloadedQuery() throws InterruptedException {
+        withConnection();
+    }
+
+    private void withConnection() throws InterruptedException {
+        connections.acquire();
+        try {
+            query();
+        } finally {
+            connections.release();
+        }
+    }
+
+    private static void query() {
+        LockSupport.parkNanos(QUERY_NANOS);
+    }
+}
@@ -0,0 +1,114 @@
+package lotecs.auth.infrastructure.sso;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lotecs.auth.domain.sso.SsoAuthRequest;
+import lotecs.auth.domain.sso.SsoAuthResult;
+import lotecs.auth.domain.sso.SsoType;
+import lotecs.auth.domain.sso.model.TenantSsoConfig;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
+import lotecs.auth.infrastructure.config.SsoConfigCacheProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtSsoProvider 토큰 생성/검증 처리량 비교.
+ *
+ * <p>{@code perCall*}은 변경 전 방식(요청마다 키 파생 + 파서 생성), {@code provider*}는 캐시된 키/파서를 쓰는 현재 방식이다.
+ * 할당량은 {@code ./gradlew :lotecs-auth-backend:jmh} 결과의 gc 프로파일러 항목(gc.alloc.rate.norm)으로 비교한다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class JwtSsoProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtSsoProvider provider;
+    private TenantSsoConfig config;
+    private SsoAuthRequest createRequest;
+    private SsoAuthRequest validateRequest;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        config = TenantSsoConfig.builder()
+                .tenantId("tenant-bench")
+                .ssoType(SsoType.JWT_SSO)
+                .ssoEnabled(true)
+                .jwtSecretKey(SECRET)
+                .jwtExpirationSeconds(3600)
+                .build();
+        // 요청에 설정이 담겨 있으므로 저장소는 사용되지 않는다
+        provider = new JwtSsoProvider(new TenantSsoConfigCache(null, new SsoConfigCacheProperties()));
+
+        createRequest = SsoAuthRequest.builder()
+                .tenantId("tenant-bench")
+                .username("bench-user")
+                .password("unused")
+                .ssoConfig(config)
+                .build();
+
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = Jwts.builder()
+                .claims(Map.of("userId", "bench-user", "userName", "Bench"))
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000L))
+                .signWith(key)
+                .compact();
+
+        validateRequest = SsoAuthRequest.builder()
+                .tenantId("tenant-bench")
+                .username("bench-user")
+                .password("unused")
+                .ssoToken(token)
+                .ssoConfig(config)
+                .build();
+    }
+
+    @Benchmark
+    public String perCallCreate() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        Date now = new Date();
+        return Jwts.builder()
+                .claims(Map.of("userId", "bench-user"))
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 3_600_000L))
+                .signWith(key)
+                .compact();
+    }
+
+    @Benchmark
+    public SsoAuthResult providerCreate() {
+        return provider.authenticate(createRequest);
+    }
+
+    @Benchmark
+    public Claims perCallValidate() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public SsoAuthResult providerValidate() {
+        return provider.authenticate(validateRequest);
+    }
+}
@@ -3,9 +3,11 @@ package lotecs.auth;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @MapperScan("lotecs.auth.infrastructure.persistence.**.mapper")
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class LotecsAuthApplication {
     public static void main(String[] args) {
         SpringApplication.run(LotecsAuthApplication.class, args);
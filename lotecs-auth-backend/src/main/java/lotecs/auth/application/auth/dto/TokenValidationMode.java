@@ -0,0 +1,19 @@
+package lotecs.auth.application.auth.dto;
+
+/**
+ * 토큰 검증 시 사용자 정보 출처
+ */
+public enum TokenValidationMode {
+    /**
+     * 토큰 클레임으로 사용자 정보 구성 (DB 조회 없음, status/fullName 미포함)
+     */
+    CLAIMS_ONLY,
+    /**
+     * 로컬 캐시된 사용자 (짧은 TTL, 사용자/역할 변경 시 무효화)
+     */
+    CACHED_USER,
+    /**
+     * 매번 DB 조회
+     */
+    FRESH_USER
+}
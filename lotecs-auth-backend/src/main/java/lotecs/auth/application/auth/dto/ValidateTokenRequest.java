@@ -8,4 +8,6 @@ public class ValidateTokenRequest {
 
     @NotBlank(message = "accessToken is required")
     private String accessToken;
+
+    private TokenValidationMode mode = TokenValidationMode.CLAIMS_ONLY;
 }
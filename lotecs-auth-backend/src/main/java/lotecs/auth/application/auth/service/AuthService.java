@@ -5,13 +5,18 @@ import lombok.extern.slf4j.Slf4j;
 import lotecs.auth.application.auth.dto.AuthResult;
 import lotecs.auth.application.auth.dto.LoginRequest;
 import lotecs.auth.application.auth.dto.LoginResponse;
+import lotecs.auth.application.auth.dto.TokenValidationMode;
 import lotecs.auth.application.auth.dto.ValidateTokenResponse;
+import lotecs.auth.application.user.dto.UserDto;
 import lotecs.auth.application.user.mapper.UserDtoMapper;
 import lotecs.auth.application.user.service.UserProfileService;
 import lotecs.auth.application.user.service.UserSyncService;
 import lotecs.auth.exception.auth.AccountDisabledException;
 import lotecs.auth.exception.auth.AccountLockedException;
 import lotecs.auth.exception.auth.InvalidCredentialsException;
+import lotecs.auth.exception.auth.LoginThrottledException;
+import lotecs.auth.exception.auth.PasswordHashingBusyException;
+import lotecs.auth.exception.auth.RefreshTokenReuseException;
 import lotecs.auth.exception.auth.TokenRefreshException;
 import lotecs.auth.exception.sso.SsoAuthenticationException;
 import lotecs.auth.exception.user.UserNotFoundException;
@@ -20,60 +25,100 @@ import lotecs.auth.domain.sso.SsoAuthResult;
 import lotecs.auth.domain.sso.SsoProvider;
 import lotecs.auth.domain.sso.SsoType;
 import lotecs.auth.domain.sso.model.TenantSsoConfig;
-import lotecs.auth.domain.sso.repository.TenantSsoConfigRepository;
+import lotecs.auth.domain.user.model.Authorities;
+import lotecs.auth.domain.user.model.LoginActivity;
 import lotecs.auth.domain.user.model.Permission;
 import lotecs.auth.domain.user.model.Role;
 import lotecs.auth.domain.user.model.User;
 import lotecs.auth.domain.user.model.UserStatus;
 import lotecs.auth.domain.user.repository.UserRepository;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
+import lotecs.auth.infrastructure.cache.UserSnapshotCache;
+import lotecs.auth.infrastructure.cache.ValidatedTokenCache;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationBus;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.persistence.user.LoginActivityWriter;
 import lotecs.auth.infrastructure.persistence.user.mapper.PermissionMapper;
-import lotecs.auth.infrastructure.persistence.user.mapper.RoleMapper;
+import lotecs.auth.infrastructure.security.LoginLockoutEngine;
+import lotecs.auth.infrastructure.security.LoginShield;
+import lotecs.auth.infrastructure.security.PasswordHashingExecutor;
+import lotecs.auth.infrastructure.security.RefreshTokenRotationEngine;
+import lotecs.auth.infrastructure.security.RevocationFeed;
+import lotecs.auth.infrastructure.security.TokenBlacklist;
+import lotecs.auth.infrastructure.security.TokenDigests;
 import lotecs.auth.infrastructure.sso.SsoProviderFactory;
 import lotecs.framework.common.jwt.model.JwtResult;
 import lotecs.framework.common.jwt.model.JwtTokenResponse;
 import lotecs.framework.common.jwt.service.facade.JwtAuthenticationService;
 import lotecs.framework.common.jwt.service.facade.JwtRefreshService;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
-    private final TenantSsoConfigRepository ssoConfigRepository;
+    private static final String REVOKED_TOKEN_MESSAGE = "Token has been revoked";
+    /**
+     * Refresh Token 패밀리 클레임 (로그아웃 시 해당 세션만 회수)
+     */
+    private static final String TOKEN_FAMILY_CLAIM = "tokenFamily";
+    /**
+     * 갱신 시 새 토큰으로 옮기는 사용자 클레임 ({@link #buildUserClaims} 참고)
+     */
+    private static final List<String> USER_CLAIMS = List.of("userId", "tenantId", "username", "email", "roles", "authorities");
+
+    private final TenantSsoConfigCache ssoConfigCache;
     private final SsoProviderFactory ssoProviderFactory;
     private final UserSyncService userSyncService;
     private final UserProfileService userProfileService;
     private final JwtAuthenticationService jwtAuthenticationService;
     private final JwtRefreshService jwtRefreshService;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final UserDtoMapper userDtoMapper;
-    private final RoleMapper roleMapper;
     private final PermissionMapper permissionMapper;
+    private final LoginActivityWriter loginActivityWriter;
+    private final LoginLockoutEngine loginLockoutEngine;
+    private final LoginShield loginShield;
+    private final UserSnapshotCache userSnapshotCache;
+    private final ValidatedTokenCache validatedTokenCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final RevocationFeed revocationFeed;
+    private final TokenBlacklist tokenBlacklist;
+    private final RefreshTokenRotationEngine refreshTokenRotationEngine;
 
     /**
      * 로그인 처리
      *
+     * <p>비밀번호 해시 비교와 외부 SSO 호출 동안 DB 커넥션을 잡지 않도록 메서드 전체 트랜잭션을 두지 않는다.
+     * 조회/저장은 각 호출 단위로 커넥션을 사용하고, 사용자 동기화/프로필 저장은 각 서비스의 트랜잭션으로 처리한다.</p>
+     *
      * @param request 로그인 요청
      * @return 로그인 응답 (JWT 토큰 포함)
+     * @throws PasswordHashingBusyException 비밀번호 해시 실행기가 포화 상태인 경우
+     * @throws LoginThrottledException IP/사용자명별 로그인 실패가 임계값을 넘은 경우
      */
-    @Transactional
     public LoginResponse login(LoginRequest request) {
         log.info("[AUTH] 로그인 시도: tenant={}, username={}, ip={}",
                 request.getTenantId(), request.getUsername(), request.getIpAddress());
 
+        // 0. 인증 전 차단 (SSO 설정 조회, DB 조회, 해시 계산 전)
+        loginShield.check(request.getTenantId(), request.getUsername(), request.getIpAddress());
+
         // 1. SSO 설정 조회 (없으면 INTERNAL)
-        TenantSsoConfig ssoConfig = ssoConfigRepository
-                .findByTenantId(request.getTenantId())
+        TenantSsoConfig ssoConfig = ssoConfigCache
+                .get(request.getTenantId())
                 .orElseGet(() -> getDefaultInternalConfig(request.getTenantId()));
 
         log.info("[AUTH] SSO 설정: tenant={}, ssoType={}, ssoEnabled={}",
@@ -87,22 +132,26 @@ public class AuthService {
         // 2. SSO Type에 따라 인증 분기
         User user = authResult.getUser();
 
-        // 3. 로그인 정보 업데이트
-        user.recordLoginSuccess(request.getIpAddress());
-        userRepository.save(user);
+        // 3. 로그인 정보 업데이트 (실패 횟수/잠금 초기화는 즉시, 마지막 로그인 시각/IP는 write-behind)
+        recordLoginSuccess(user, request.getIpAddress());
 
         // 4. JWT 발급 (lotecs-jwt 사용)
-        String roles = user.getRoles().stream()
+        List<String> roleNames = user.getRoles().stream()
                 .map(Role::getRoleName)
-                .collect(Collectors.joining(","));
+                .toList();
 
-        Map<String, Object> customClaims = buildUserClaims(user);
+        String tokenFamily = UUID.randomUUID().toString();
+        Map<String, Object> customClaims = buildUserClaims(user, roleNames);
+        customClaims.put(TOKEN_FAMILY_CLAIM, tokenFamily);
         JwtTokenResponse tokenResponse = jwtAuthenticationService.loginWithClaims(
                 user.getUsername(),
-                roles,
+                String.join(",", roleNames),
                 customClaims
         );
 
+        refreshTokenRotationEngine.record(
+                tokenResponse.getRefreshToken(), user.getUserId(), user.getTenantId(), tokenFamily, request.getIpAddress());
+
         log.info("[AUTH-001] 로그인 성공: userId={}, tenant={}, ssoType={}, ip={}",
                 user.getUserId(), user.getTenantId(), ssoConfig.getSsoType(), request.getIpAddress());
 
@@ -117,10 +166,24 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * 로그인 성공 기록. 행 전체 UPDATE 대신 필요한 컬럼만 갱신한다.
+     */
+    private void recordLoginSuccess(User user, String ipAddress) {
+        boolean hadFailures = user.getFailedLoginAttempts() > 0 || !user.isAccountNonLocked();
+        user.recordLoginSuccess(ipAddress);
+
+        if (hadFailures) {
+            userRepository.resetLoginFailures(user.getUserId());
+        }
+        loginLockoutEngine.reset(user);
+        loginActivityWriter.record(new LoginActivity(user.getUserId(), user.getLastLoginAt(), ipAddress));
+    }
+
     /**
      * User 객체에서 JWT 커스텀 클레임 생성
      */
-    private Map<String, Object> buildUserClaims(User user) {
+    private Map<String, Object> buildUserClaims(User user, List<String> roleNames) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", user.getUserId());
         claims.put("tenantId", user.getTenantId());
@@ -129,6 +192,9 @@ public class AuthService {
             claims.put("email", user.getEmail());
         }
 
+        // roles 클레임 추가 (lotecs-jwt의 roles 인자 형식에 의존하지 않도록 목록으로 직접 넣는다)
+        claims.put("roles", roleNames);
+
         // authorities 클레임 추가 (사용자의 모든 권한)
         List<String> authorities = buildAuthorities(user.getUserId());
         claims.put("authorities", authorities);
@@ -140,26 +206,11 @@ public class AuthService {
 
     /**
      * 사용자의 모든 권한(authorities) 목록 조회
-     * Role -> Permission -> authority 문자열 변환
+     * UserRole -> RolePermission -> Permission 을 단일 쿼리로 조회하여 authority 문자열로 변환
      */
     private List<String> buildAuthorities(String userId) {
-        List<String> authorities = new ArrayList<>();
-
-        // 사용자의 역할 목록 조회
-        List<Role> roles = roleMapper.findByUserId(userId);
-
-        for (Role role : roles) {
-            // 각 역할의 권한 목록 조회
-            List<Permission> permissions = permissionMapper.findByRoleId(role.getRoleId());
-            for (Permission permission : permissions) {
-                String authority = permission.toAuthority();
-                if (!authorities.contains(authority)) {
-                    authorities.add(authority);
-                }
-            }
-        }
-
-        return authorities;
+        List<Permission> permissions = permissionMapper.findGrantedByUserId(userId);
+        return new ArrayList<>(Authorities.of(permissions));
     }
 
     /**
@@ -172,30 +223,66 @@ public class AuthService {
         log.debug("[AUTH] INTERNAL 인증 시작: username={}, tenant={}",
                 request.getUsername(), request.getTenantId());
 
+        // 최근 존재하지 않는 것으로 확인된 사용자명은 DB 조회 없이 거절
+        if (loginShield.isUnknownUser(request.getTenantId(), request.getUsername())) {
+            log.debug("[AUTH] 존재하지 않는 사용자명 (캐시): username={}, tenant={}",
+                    request.getUsername(), request.getTenantId());
+            loginShield.recordFailure(request.getTenantId(), request.getUsername(), request.getIpAddress());
+            throw new InvalidCredentialsException();
+        }
+
         // 사용자 조회
         User user = userRepository
                 .findByUsernameAndTenantId(request.getUsername(), request.getTenantId())
                 .orElseThrow(() -> {
                     log.warn("[AUTH] 사용자를 찾을 수 없음: username={}, tenant={}",
                             request.getUsername(), request.getTenantId());
+                    loginShield.recordUnknownUser(request.getTenantId(), request.getUsername());
+                    loginShield.recordFailure(request.getTenantId(), request.getUsername(), request.getIpAddress());
                     return new InvalidCredentialsException();
                 });
 
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 잠긴 계정은 비밀번호 해시 전에 거절
+        if (loginLockoutEngine.isLocked(user)) {
+            log.warn("[AUTH] 계정 잠김: userId={}, username={}", user.getUserId(), user.getUsername());
+            throw new AccountLockedException(user.getUsername());
+        }
+
+        // 비밀번호 검증 (전용 실행기, 커넥션 미점유 상태)
+        if (!passwordHashingExecutor.matches(request.getPassword(), user.getPassword())) {
             log.warn("[AUTH] 비밀번호 불일치: username={}", request.getUsername());
-            user.recordLoginFailure();
-            userRepository.save(user);
+            loginLockoutEngine.recordFailure(user);
+            loginShield.recordFailure(request.getTenantId(), request.getUsername(), request.getIpAddress());
             throw InvalidCredentialsException.passwordMismatch();
         }
 
         // 계정 상태 확인
         validateUserStatus(user);
 
+        // 해시 알고리즘/비용이 현재 설정과 다르면 재해시
+        rehashIfNeeded(user, request.getPassword());
+
         log.info("[AUTH] INTERNAL 인증 성공: userId={}, username={}", user.getUserId(), user.getUsername());
         return AuthResult.of(user);
     }
 
+    /**
+     * 저장된 비밀번호 해시가 현재 알고리즘/비용과 다르면 같은 비밀번호로 재해시한다.
+     * 해시 실행기가 포화 상태면 로그인을 막지 않고 다음 로그인으로 미룬다.
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingExecutor.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            user.rehashPassword(passwordHashingExecutor.encode(rawPassword));
+            userRepository.updatePassword(user.getUserId(), user.getPassword());
+            log.info("[AUTH] 비밀번호 해시 갱신: userId={}", user.getUserId());
+        } catch (PasswordHashingBusyException e) {
+            log.debug("[AUTH] 비밀번호 해시 갱신 보류 (실행기 포화): userId={}", user.getUserId());
+        }
+    }
+
     /**
      * 외부 SSO 인증 (Fallback 지원)
      *
@@ -216,6 +303,7 @@ public class AuthService {
         ssoRequest.setUsername(request.getUsername());
         ssoRequest.setPassword(request.getPassword());
         ssoRequest.setIpAddress(request.getIpAddress());
+        ssoRequest.setSsoConfig(ssoConfig);
 
         SsoAuthResult ssoResult = ssoProvider.authenticate(ssoRequest);
 
@@ -223,6 +311,7 @@ public class AuthService {
         if (!ssoResult.isSuccess()) {
             log.warn("[AUTH] 외부 SSO 인증 실패: ssoType={}, errorCode={}, errorMessage={}",
                     ssoConfig.getSsoType(), ssoResult.getErrorCode(), ssoResult.getErrorMessage());
+            loginShield.recordFailure(request.getTenantId(), request.getUsername(), request.getIpAddress());
             throw new SsoAuthenticationException(ssoResult.getErrorMessage());
         }
 
@@ -273,7 +362,7 @@ public class AuthService {
      * @param user 사용자
      */
     private void validateUserStatus(User user) {
-        if (!user.isAccountNonLocked()) {
+        if (loginLockoutEngine.isLocked(user)) {
             log.warn("[AUTH] 계정 잠김: userId={}, username={}", user.getUserId(), user.getUsername());
             throw new AccountLockedException(user.getUsername());
         }
@@ -310,6 +399,9 @@ public class AuthService {
     /**
      * 로그아웃 처리
      *
+     * <p>Access Token 폐기와 함께 그 토큰의 Refresh Token 패밀리(tokenFamily 클레임)만 회수해 다른 기기의 세션은 유지한다.
+     * 패밀리 클레임이 없는 토큰(클레임 도입 전 발급)은 토큰 주인의 Refresh Token을 모두 회수한다.</p>
+     *
      * @param accessToken Access Token
      * @param userId 사용자 ID
      */
@@ -317,22 +409,63 @@ public class AuthService {
     public void logout(String accessToken, String userId) {
         log.info("[AUTH-007] 로그아웃: userId={}", userId);
 
-        // JWT 블랙리스트에 추가
+        // 회수 대상은 요청 파라미터가 아니라 토큰 클레임의 사용자
+        JwtResult jwtResult = jwtAuthenticationService.validateToken(accessToken);
+        Map<String, Object> tokenClaims = jwtResult.isSuccess() && jwtResult.getClaims() != null
+                ? jwtResult.getClaims()
+                : Map.of();
+
+        // JWT 블랙리스트(로컬 shadow + Redis)에 추가 후 검증 캐시에서 제거 (다른 노드는 이벤트로 반영)
         jwtAuthenticationService.logout(accessToken, userId);
+        CacheInvalidationEvent.TokenRevoked revoked = validatedTokenCache.revoke(accessToken);
+        tokenBlacklist.revoke(revoked.tokenDigest(), accessToken);
+        revocationFeed.record(revoked.tokenDigest());
+        cacheInvalidationBus.publish(revoked);
+        String tokenFamily = claimAsString(tokenClaims, TOKEN_FAMILY_CLAIM);
+        if (tokenFamily != null) {
+            refreshTokenRotationEngine.revokeFamily(tokenFamily);
+        } else {
+            refreshTokenRotationEngine.revokeAll(claimAsString(tokenClaims, "userId"));
+        }
 
         log.info("[AUTH-008] 로그아웃 완료: userId={}", userId);
     }
 
+    /**
+     * 토큰 폐기 스트림 구독 (SDK 로컬 검증기용)
+     *
+     * @param sinceVersion 마지막으로 받은 version (최초 접속은 0)
+     * @param sink 폐기 digest 변경분/snapshot 수신자
+     * @return 구독 (전송 재개/해지용)
+     */
+    public RevocationFeed.Subscription watchRevocations(long sinceVersion, RevocationFeed.Sink sink) {
+        return revocationFeed.subscribe(sinceVersion, sink);
+    }
+
     /**
      * 토큰 갱신
      *
+     * <p>제시된 Refresh Token을 {@link RefreshTokenRotationEngine}으로 먼저 회수하고, 회수에 성공했을 때만 새 토큰을 발급해
+     * 같은 패밀리로 저장한다. 이미 교체된 토큰이 다시 오면 새 토큰을 발급하지 않고 패밀리 전체를 회수한다.
+     * 사용자 정보는 새 Access Token 클레임으로 만들며 DB를 조회하지 않는다.
+     * 새 Access Token에는 회수된 토큰의 패밀리를 tokenFamily 클레임으로 유지한다.</p>
+     *
      * @param refreshToken Refresh Token
      * @return 로그인 응답
+     * @throws RefreshTokenReuseException 이미 교체된 Refresh Token이 다시 사용된 경우
      */
-    @Transactional
     public LoginResponse refresh(String refreshToken) {
         log.info("[AUTH-009] 토큰 갱신 시도");
 
+        // 제시된 토큰 회수 (재사용이면 패밀리 회수 후 예외, 새 토큰은 발급하지 않음)
+        // 클레임은 저장되지 않은 토큰을 등록할 때만 사용하므로 검증에 실패하면 비워 둔다
+        JwtResult presented = jwtAuthenticationService.validateToken(refreshToken);
+        Map<String, Object> presentedClaims = presented.isSuccess() && presented.getClaims() != null
+                ? presented.getClaims()
+                : Map.of();
+        RefreshTokenRotationEngine.ConsumedToken consumed = refreshTokenRotationEngine.consume(
+                refreshToken, claimAsString(presentedClaims, "userId"), claimAsString(presentedClaims, "tenantId"));
+
         JwtTokenResponse tokenResponse = jwtRefreshService.refreshToken(refreshToken);
 
         // 토큰에서 사용자 정보 추출
@@ -343,68 +476,152 @@ public class AuthService {
             throw new TokenRefreshException(jwtResult.getErrorMessage());
         }
 
-        // User 조회 (클레임에서 userId 추출)
-        String userId = jwtResult.getClaims() != null
-                ? (String) jwtResult.getClaims().get("userId")
-                : null;
-        String tenantId = jwtResult.getClaims() != null
-                ? (String) jwtResult.getClaims().get("tenantId")
-                : null;
+        Map<String, Object> claims = jwtResult.getClaims() != null ? jwtResult.getClaims() : Map.of();
 
-        User user = null;
-        if (userId != null && tenantId != null) {
-            user = userRepository.findByIdAndTenantId(userId, tenantId).orElse(null);
+        // 라이브러리가 패밀리 클레임을 옮기지 않았으면(클레임 도입 전 토큰 포함) 같은 사용자 클레임 + 패밀리로 다시 발급
+        if (consumed != null && !Objects.equals(consumed.tokenFamily(), claimAsString(claims, TOKEN_FAMILY_CLAIM))) {
+            Map<String, Object> reissued = withTokenFamily(claims, consumed.tokenFamily());
+            String username = claimAsString(claims, "username");
+            tokenResponse = jwtAuthenticationService.loginWithClaims(
+                    username != null ? username : claimAsString(claims, "sub"),
+                    String.join(",", claimAsList(claims, "roles")),
+                    reissued
+            );
+            claims = reissued;
         }
 
+        String userId = claimAsString(claims, "userId");
+        String tenantId = claimAsString(claims, "tenantId");
+
+        // 새 토큰을 회수된 토큰과 같은 패밀리로 저장
+        refreshTokenRotationEngine.attach(consumed, tokenResponse.getRefreshToken(), null);
+
+        UserDto user = userId != null && tenantId != null ? userFromClaims(claims, userId, tenantId) : null;
+
         log.info("[AUTH-010] 토큰 갱신 성공: userId={}", userId);
 
         return LoginResponse.builder()
                 .accessToken(tokenResponse.getAccessToken())
                 .refreshToken(tokenResponse.getRefreshToken())
                 .expiresIn(tokenResponse.getExpiresIn())
-                .user(user != null ? userDtoMapper.toDto(user) : null)
+                .user(user)
                 .build();
     }
 
     /**
      * 토큰 검증
      *
+     * <p>CLAIMS_ONLY는 토큰 클레임(userId, tenantId, username, email, roles, authorities)으로 사용자 정보를 만들며 DB를 조회하지 않는다.
+     * CACHED_USER는 로컬 사용자 캐시를, FRESH_USER는 매번 DB를 조회한다.
+     * 메서드 전체 트랜잭션을 두지 않아 CLAIMS_ONLY 경로에서는 커넥션을 잡지 않는다.
+     * 서명/블랙리스트 검증을 통과한 토큰은 {@link ValidatedTokenCache}에 보관해 반복 검증을 생략한다.</p>
+     *
      * @param accessToken Access Token
+     * @param mode 사용자 정보 출처 (null이면 CLAIMS_ONLY)
      * @return 검증 결과
      */
-    @Transactional(readOnly = true)
-    public ValidateTokenResponse validate(String accessToken) {
-        log.debug("[AUTH-011] 토큰 검증 시도");
+    public ValidateTokenResponse validate(String accessToken, TokenValidationMode mode) {
+        log.debug("[AUTH-011] 토큰 검증 시도: mode={}", mode);
 
-        JwtResult jwtResult = jwtAuthenticationService.validateToken(accessToken);
+        Map<String, Object> claims = validatedTokenCache.get(accessToken);
+        if (claims == null) {
+            JwtResult jwtResult = jwtAuthenticationService.validateToken(accessToken);
 
-        if (!jwtResult.isSuccess()) {
-            log.warn("[AUTH-013] 토큰 검증 실패: {}", jwtResult.getErrorMessage());
+            if (!jwtResult.isSuccess()) {
+                log.warn("[AUTH-013] 토큰 검증 실패: {}", jwtResult.getErrorMessage());
+
+                return ValidateTokenResponse.builder()
+                        .valid(false)
+                        .errorMessage(jwtResult.getErrorMessage())
+                        .build();
+            }
+
+            claims = jwtResult.getClaims() != null ? jwtResult.getClaims() : Map.of();
+            if (tokenBlacklist.isRevoked(claimAsString(claims, "tenantId"), TokenDigests.of(accessToken))) {
+                log.warn("[AUTH-013] 토큰 검증 실패: 폐기된 토큰");
 
-            return ValidateTokenResponse.builder()
-                    .valid(false)
-                    .errorMessage(jwtResult.getErrorMessage())
-                    .build();
+                return ValidateTokenResponse.builder()
+                        .valid(false)
+                        .errorMessage(REVOKED_TOKEN_MESSAGE)
+                        .build();
+            }
+            validatedTokenCache.put(accessToken, claims);
         }
 
         // 클레임에서 사용자 정보 추출
-        String userId = jwtResult.getClaims() != null
-                ? (String) jwtResult.getClaims().get("userId")
-                : null;
-        String tenantId = jwtResult.getClaims() != null
-                ? (String) jwtResult.getClaims().get("tenantId")
-                : null;
-
-        User user = null;
+        String userId = claimAsString(claims, "userId");
+        String tenantId = claimAsString(claims, "tenantId");
+
+        UserDto user = null;
         if (userId != null && tenantId != null) {
-            user = userRepository.findByIdAndTenantId(userId, tenantId).orElse(null);
+            user = switch (mode != null ? mode : TokenValidationMode.CLAIMS_ONLY) {
+                case CLAIMS_ONLY -> userFromClaims(claims, userId, tenantId);
+                case CACHED_USER -> userSnapshotCache
+                        .get(tenantId, userId, () -> userRepository.findByIdAndTenantId(userId, tenantId))
+                        .map(userDtoMapper::toDto)
+                        .orElse(null);
+                case FRESH_USER -> userRepository.findByIdAndTenantId(userId, tenantId)
+                        .map(userDtoMapper::toDto)
+                        .orElse(null);
+            };
         }
 
         log.debug("[AUTH-012] 토큰 검증 성공: userId={}", userId);
 
         return ValidateTokenResponse.builder()
                 .valid(true)
-                .user(user != null ? userDtoMapper.toDto(user) : null)
+                .user(user)
                 .build();
     }
+
+    /**
+     * 토큰 클레임으로 사용자 정보 구성 (status, fullName 등 클레임에 없는 항목은 비워 둔다)
+     */
+    private UserDto userFromClaims(Map<String, Object> claims, String userId, String tenantId) {
+        String username = claimAsString(claims, "username");
+        return UserDto.builder()
+                .userId(userId)
+                .tenantId(tenantId)
+                .username(username != null ? username : claimAsString(claims, "sub"))
+                .email(claimAsString(claims, "email"))
+                .roles(claimAsList(claims, "roles"))
+                .permissions(claimAsList(claims, "authorities"))
+                .build();
+    }
+
+    /**
+     * 갱신 토큰 클레임 구성 (사용자 클레임 + 패밀리, exp/iat 등 발급 시 정해지는 클레임은 제외)
+     */
+    private static Map<String, Object> withTokenFamily(Map<String, Object> claims, String tokenFamily) {
+        Map<String, Object> reissued = new HashMap<>();
+        for (String name : USER_CLAIMS) {
+            if (claims.get(name) != null) {
+                reissued.put(name, claims.get(name));
+            }
+        }
+        reissued.put(TOKEN_FAMILY_CLAIM, tokenFamily);
+        return reissued;
+    }
+
+    private static String claimAsString(Map<String, Object> claims, String name) {
+        Object value = claims.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * 목록 클레임 변환 (JSON 배열 또는 "A,B" 형식 문자열)
+     */
+    private static List<String> claimAsList(Map<String, Object> claims, String name) {
+        Object value = claims.get(name);
+        if (value instanceof Collection<?> values) {
+            return values.stream().map(String::valueOf).toList();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            return Arrays.stream(text.split(","))
+                    .map(String::trim)
+                    .filter(item -> !item.isEmpty())
+                    .toList();
+        }
+        return List.of();
+    }
 }
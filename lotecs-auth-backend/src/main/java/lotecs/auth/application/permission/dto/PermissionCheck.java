@@ -0,0 +1,14 @@
+package lotecs.auth.application.permission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 권한 확인 항목 (사용자, 권한 코드)
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class PermissionCheck {
+    private final String userId;
+    private final String permissionCode;
+}
@@ -0,0 +1,19 @@
+package lotecs.auth.application.permission.dto;
+
+/**
+ * 다건 권한 확인 결합 방식
+ */
+public enum PermissionCheckMode {
+    /**
+     * 항목별 결과만 반환 (granted = 전체 허용 여부)
+     */
+    EACH,
+    /**
+     * 하나라도 보유하면 허용 (OR)
+     */
+    ANY,
+    /**
+     * 모두 보유해야 허용 (AND)
+     */
+    ALL
+}
@@ -0,0 +1,17 @@
+package lotecs.auth.application.permission.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 다건 권한 확인 결과
+ * results 순서는 요청 항목 순서와 동일하다.
+ */
+@Getter
+@Builder
+public class PermissionCheckResult {
+    private boolean granted;
+    private List<Boolean> results;
+}
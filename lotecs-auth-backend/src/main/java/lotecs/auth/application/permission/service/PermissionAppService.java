@@ -3,22 +3,36 @@ package lotecs.auth.application.permission.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lotecs.auth.application.permission.dto.CreatePermissionRequest;
+import lotecs.auth.application.permission.dto.PermissionCheck;
+import lotecs.auth.application.permission.dto.PermissionCheckMode;
+import lotecs.auth.application.permission.dto.PermissionCheckResult;
 import lotecs.auth.application.permission.dto.PermissionDto;
 import lotecs.auth.application.permission.dto.UpdatePermissionRequest;
 import lotecs.auth.application.permission.mapper.PermissionDtoMapper;
 import lotecs.auth.domain.user.model.Permission;
+import lotecs.auth.domain.user.model.Role;
 import lotecs.auth.domain.user.model.RolePermission;
 import lotecs.auth.domain.user.repository.PermissionRepository;
 import lotecs.auth.domain.user.repository.RoleRepository;
 import lotecs.auth.exception.permission.PermissionAlreadyExistsException;
 import lotecs.auth.exception.permission.PermissionNotFoundException;
 import lotecs.auth.exception.role.RoleNotFoundException;
+import lotecs.auth.infrastructure.cache.RbacSnapshot;
+import lotecs.auth.infrastructure.cache.RbacSnapshotRegistry;
+import lotecs.auth.infrastructure.cache.UserRoleCache;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationBus;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
 import lotecs.auth.infrastructure.persistence.user.mapper.RolePermissionMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,6 +44,9 @@ public class PermissionAppService {
     private final RoleRepository roleRepository;
     private final RolePermissionMapper rolePermissionMapper;
     private final PermissionDtoMapper permissionDtoMapper;
+    private final UserRoleCache userRoleCache;
+    private final RbacSnapshotRegistry rbacSnapshotRegistry;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @Transactional(readOnly = true)
     public PermissionDto getPermission(String permissionId, String tenantId) {
@@ -83,6 +100,8 @@ public class PermissionAppService {
         );
 
         permission = permissionRepository.save(permission);
+        rbacSnapshotRegistry.refresh(permission.getTenantId());
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.PermissionChanged(permission.getTenantId(), permission.getPermissionId()));
 
         log.info("[PERM-007] 권한 생성 완료: permissionId={}", permission.getPermissionId());
         return permissionDtoMapper.toDto(permission);
@@ -103,6 +122,8 @@ public class PermissionAppService {
 
         permission.updateInfo(request.getDescription(), request.getUpdatedBy());
         permission = permissionRepository.save(permission);
+        rbacSnapshotRegistry.refresh(permission.getTenantId());
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.PermissionChanged(permission.getTenantId(), permission.getPermissionId()));
 
         log.info("[PERM-010] 권한 수정 완료: permissionId={}", permission.getPermissionId());
         return permissionDtoMapper.toDto(permission);
@@ -123,6 +144,8 @@ public class PermissionAppService {
         rolePermissionMapper.deleteAllByPermissionId(permissionId);
 
         permissionRepository.delete(permissionId);
+        rbacSnapshotRegistry.refresh(tenantId);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.PermissionChanged(tenantId, permissionId));
 
         log.info("[PERM-013] 권한 삭제 완료: permissionId={}", permissionId);
     }
@@ -179,6 +202,8 @@ public class PermissionAppService {
 
         if (!rolePermissions.isEmpty()) {
             rolePermissionMapper.insertBatch(rolePermissions);
+            rbacSnapshotRegistry.refresh(tenantId);
+            cacheInvalidationBus.publish(new CacheInvalidationEvent.RoleChanged(tenantId, roleId));
             log.info("[PERM-020] 역할에 권한 할당 완료: roleId={}, count={}", roleId, rolePermissions.size());
         }
     }
@@ -195,6 +220,8 @@ public class PermissionAppService {
                 });
 
         rolePermissionMapper.delete(roleId, permissionId);
+        rbacSnapshotRegistry.refresh(tenantId);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.RoleChanged(tenantId, roleId));
 
         log.info("[PERM-023] 역할에서 권한 회수 완료: roleId={}, permissionId={}", roleId, permissionId);
     }
@@ -211,40 +238,49 @@ public class PermissionAppService {
     public boolean hasPermission(String userId, String permissionCode, String tenantId) {
         log.debug("[PERM-024] 권한 확인: userId={}, permissionCode={}, tenantId={}", userId, permissionCode, tenantId);
 
-        // 사용자의 역할 목록 조회
-        List<lotecs.auth.domain.user.model.Role> roles = roleRepository.findByUserId(userId);
+        RbacSnapshot snapshot = rbacSnapshotRegistry.get(tenantId);
+        BitSet granted = grantedBits(snapshot, userId, tenantId);
 
-        if (roles.isEmpty()) {
-            log.debug("[PERM-025] 사용자에게 할당된 역할 없음: userId={}", userId);
-            return false;
-        }
-
-        // 각 역할의 권한 조회 및 확인
-        for (lotecs.auth.domain.user.model.Role role : roles) {
-            List<Permission> permissions = permissionRepository.findByRoleId(role.getRoleId());
-
-            for (Permission permission : permissions) {
-                // permissionCode가 "resource:action" 형식인 경우
-                String authority = permission.toAuthority();
-                if (authority.equals(permissionCode)) {
-                    log.debug("[PERM-026] 권한 확인 성공 (authority): userId={}, permissionCode={}, roleId={}",
-                            userId, permissionCode, role.getRoleId());
-                    return true;
-                }
-
-                // permissionCode가 permissionName인 경우
-                if (permission.getPermissionName().equals(permissionCode)) {
-                    log.debug("[PERM-027] 권한 확인 성공 (permissionName): userId={}, permissionCode={}, roleId={}",
-                            userId, permissionCode, role.getRoleId());
-                    return true;
-                }
-            }
+        if (snapshot.isGranted(granted, permissionCode)) {
+            log.debug("[PERM-026] 권한 확인 성공: userId={}, permissionCode={}", userId, permissionCode);
+            return true;
         }
 
         log.debug("[PERM-028] 권한 없음: userId={}, permissionCode={}", userId, permissionCode);
         return false;
     }
 
+    /**
+     * 사용자의 권한 집합 조회
+     * resource:action 형식과 permissionName을 모두 포함한다.
+     */
+    @Transactional(readOnly = true)
+    public Set<String> getUserAuthorities(String userId, String tenantId) {
+        RbacSnapshot snapshot = rbacSnapshotRegistry.get(tenantId);
+        return snapshot.authorities(grantedBits(snapshot, userId, tenantId));
+    }
+
+    /**
+     * 사용자가 보유한 역할들의 권한 비트 합집합
+     */
+    private BitSet grantedBits(RbacSnapshot snapshot, String userId, String tenantId) {
+        Set<String> roleIds = userRoleCache.get(tenantId, userId, () -> loadUserRoleIds(userId));
+        return snapshot.grantedBits(roleIds);
+    }
+
+    private Set<String> loadUserRoleIds(String userId) {
+        Set<String> roleIds = roleRepository.findByUserId(userId).stream()
+                .map(Role::getRoleId)
+                .collect(Collectors.toSet());
+
+        if (roleIds.isEmpty()) {
+            log.debug("[PERM-025] 사용자에게 할당된 역할 없음: userId={}", userId);
+        } else {
+            log.debug("[PERM-027] 사용자 역할 적재: userId={}, roleCount={}", userId, roleIds.size());
+        }
+        return roleIds;
+    }
+
     /**
      * 사용자가 여러 권한 중 하나라도 보유하고 있는지 확인
      */
@@ -252,12 +288,8 @@ public class PermissionAppService {
     public boolean hasAnyPermission(String userId, List<String> permissionCodes, String tenantId) {
         log.debug("[PERM-029] 권한 확인 (OR): userId={}, permissionCodes={}, tenantId={}", userId, permissionCodes, tenantId);
 
-        for (String permissionCode : permissionCodes) {
-            if (hasPermission(userId, permissionCode, tenantId)) {
-                return true;
-            }
-        }
-        return false;
+        RbacSnapshot snapshot = rbacSnapshotRegistry.get(tenantId);
+        return snapshot.isGrantedAny(grantedBits(snapshot, userId, tenantId), permissionCodes);
     }
 
     /**
@@ -267,11 +299,40 @@ public class PermissionAppService {
     public boolean hasAllPermissions(String userId, List<String> permissionCodes, String tenantId) {
         log.debug("[PERM-030] 권한 확인 (AND): userId={}, permissionCodes={}, tenantId={}", userId, permissionCodes, tenantId);
 
-        for (String permissionCode : permissionCodes) {
-            if (!hasPermission(userId, permissionCode, tenantId)) {
-                return false;
-            }
+        RbacSnapshot snapshot = rbacSnapshotRegistry.get(tenantId);
+        return snapshot.isGrantedAll(grantedBits(snapshot, userId, tenantId), permissionCodes);
+    }
+
+    /**
+     * 다건 권한 확인
+     * 사용자별 권한 비트를 한 번만 계산하여 모든 항목을 평가한다.
+     *
+     * @param checks 확인 항목 (요청 순서대로 결과 반환)
+     * @param mode 결합 방식 (ANY/ALL/EACH)
+     * @param tenantId 테넌트 ID
+     */
+    @Transactional(readOnly = true)
+    public PermissionCheckResult checkPermissions(List<PermissionCheck> checks, PermissionCheckMode mode, String tenantId) {
+        log.debug("[PERM-031] 다건 권한 확인: tenantId={}, mode={}, count={}", tenantId, mode, checks.size());
+
+        RbacSnapshot snapshot = rbacSnapshotRegistry.get(tenantId);
+        Map<String, BitSet> grantedByUser = new HashMap<>();
+        List<Boolean> results = new ArrayList<>(checks.size());
+        for (PermissionCheck check : checks) {
+            BitSet granted = grantedByUser.computeIfAbsent(
+                    check.getUserId(), userId -> grantedBits(snapshot, userId, tenantId));
+            results.add(snapshot.isGranted(granted, check.getPermissionCode()));
         }
-        return true;
+
+        boolean granted = switch (mode) {
+            case ANY -> results.contains(Boolean.TRUE);
+            case ALL, EACH -> !results.isEmpty() && !results.contains(Boolean.FALSE);
+        };
+
+        log.debug("[PERM-032] 다건 권한 확인 완료: tenantId={}, mode={}, granted={}", tenantId, mode, granted);
+        return PermissionCheckResult.builder()
+                .granted(granted)
+                .results(results)
+                .build();
     }
 }
@@ -10,6 +10,9 @@ import lotecs.auth.domain.user.model.Role;
 import lotecs.auth.domain.user.repository.RoleRepository;
 import lotecs.auth.exception.role.RoleAlreadyExistsException;
 import lotecs.auth.exception.role.RoleNotFoundException;
+import lotecs.auth.infrastructure.cache.RbacSnapshotRegistry;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationBus;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +28,8 @@ public class RoleAppService {
 
     private final RoleRepository roleRepository;
     private final RoleDtoMapper roleDtoMapper;
+    private final RbacSnapshotRegistry rbacSnapshotRegistry;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @Transactional(readOnly = true)
     public RoleDto getRole(String roleId, String tenantId) {
@@ -129,6 +134,8 @@ public class RoleAppService {
                 });
 
         roleRepository.delete(roleId);
+        rbacSnapshotRegistry.refresh(tenantId);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.RoleChanged(tenantId, roleId));
 
         log.info("[ROLE-014] 역할 삭제 완료: roleId={}", roleId);
     }
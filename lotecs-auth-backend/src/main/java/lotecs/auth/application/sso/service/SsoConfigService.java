@@ -7,6 +7,9 @@ import lotecs.auth.application.sso.mapper.SsoConfigDtoMapper;
 import lotecs.auth.domain.sso.SsoType;
 import lotecs.auth.domain.sso.model.TenantSsoConfig;
 import lotecs.auth.domain.sso.repository.TenantSsoConfigRepository;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationBus;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,8 @@ public class SsoConfigService {
 
     private final TenantSsoConfigRepository ssoConfigRepository;
     private final SsoConfigDtoMapper ssoConfigDtoMapper;
+    private final TenantSsoConfigCache ssoConfigCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     /**
      * SSO 설정 조회
@@ -73,6 +78,8 @@ public class SsoConfigService {
 
         config.setUpdatedAt(LocalDateTime.now());
         config = ssoConfigRepository.save(config);
+        ssoConfigCache.invalidate(tenantId);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.SsoConfigChanged(tenantId));
 
         log.info("[SSO-004] SSO 설정 수정 완료: tenant={}", tenantId);
 
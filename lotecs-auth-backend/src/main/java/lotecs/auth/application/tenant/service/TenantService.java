@@ -8,6 +8,8 @@ import lotecs.auth.domain.tenant.model.Tenant;
 import lotecs.auth.domain.tenant.repository.TenantRepository;
 import lotecs.auth.exception.tenant.TenantAlreadyExistsException;
 import lotecs.auth.exception.tenant.TenantNotFoundException;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationBus;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class TenantService {
 
     private final TenantRepository tenantRepository;
     private final TenantDtoMapper tenantDtoMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @Transactional(readOnly = true)
     public TenantDto getTenant(String tenantId) {
@@ -164,6 +167,7 @@ public class TenantService {
         tenant.setUpdatedAt(LocalDateTime.now());
 
         tenant = tenantRepository.save(tenant);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.TenantChanged(tenantId));
 
         log.info("[TENANT-012] 테넌트 수정 완료: tenantId={}", tenantId);
         return tenantDtoMapper.toDto(tenant);
@@ -179,6 +183,7 @@ public class TenantService {
         }
 
         tenantRepository.delete(tenantId);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.TenantChanged(tenantId));
 
         log.info("[TENANT-015] 테넌트 삭제 완료: tenantId={}", tenantId);
     }
@@ -195,6 +200,7 @@ public class TenantService {
 
         tenant.publish(publishedBy);
         tenant = tenantRepository.save(tenant);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.TenantChanged(tenantId));
 
         log.info("[TENANT-018] 테넌트 게시 완료: tenantId={}, status={}", tenantId, tenant.getStatus());
         return tenantDtoMapper.toDto(tenant);
@@ -212,6 +218,7 @@ public class TenantService {
 
         tenant.unpublish(unpublishedBy, reason);
         tenant = tenantRepository.save(tenant);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.TenantChanged(tenantId));
 
         log.info("[TENANT-021] 테넌트 게시 중단 완료: tenantId={}, status={}", tenantId, tenant.getStatus());
         return tenantDtoMapper.toDto(tenant);
@@ -229,6 +236,7 @@ public class TenantService {
 
         tenant.suspend(suspendedBy, reason);
         tenant = tenantRepository.save(tenant);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.TenantChanged(tenantId));
 
         log.info("[TENANT-024] 테넌트 일시중지 완료: tenantId={}, status={}", tenantId, tenant.getStatus());
         return tenantDtoMapper.toDto(tenant);
@@ -246,6 +254,7 @@ public class TenantService {
 
         tenant.resume(resumedBy);
         tenant = tenantRepository.save(tenant);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.TenantChanged(tenantId));
 
         log.info("[TENANT-027] 테넌트 재개 완료: tenantId={}, status={}", tenantId, tenant.getStatus());
         return tenantDtoMapper.toDto(tenant);
@@ -263,6 +272,7 @@ public class TenantService {
 
         tenant.archive(archivedBy);
         tenant = tenantRepository.save(tenant);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.TenantChanged(tenantId));
 
         log.info("[TENANT-030] 테넌트 보관 완료: tenantId={}, status={}", tenantId, tenant.getStatus());
         return tenantDtoMapper.toDto(tenant);
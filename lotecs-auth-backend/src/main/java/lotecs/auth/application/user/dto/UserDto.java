@@ -20,6 +20,7 @@ public class UserDto {
     private String fullName;
     private String status;
     private List<String> roles;
+    private List<String> permissions;
     private String externalUserId;
     private String externalSystem;
 }
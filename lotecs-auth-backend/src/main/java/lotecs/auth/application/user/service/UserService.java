@@ -15,6 +15,12 @@ import lotecs.auth.exception.auth.InvalidCredentialsException;
 import lotecs.auth.exception.role.RoleNotFoundException;
 import lotecs.auth.exception.user.UserAlreadyExistsException;
 import lotecs.auth.exception.user.UserNotFoundException;
+import lotecs.auth.infrastructure.cache.UserRoleCache;
+import lotecs.auth.infrastructure.cache.UserSnapshotCache;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationBus;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.security.LoginShield;
+import lotecs.auth.infrastructure.security.PasswordHashingExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,7 +37,12 @@ public class UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final UserDtoMapper userDtoMapper;
+    private final UserRoleCache userRoleCache;
+    private final UserSnapshotCache userSnapshotCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final LoginShield loginShield;
 
     /**
      * 사용자 생성
@@ -73,6 +84,8 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        loginShield.evictUnknownUser(user.getTenantId(), user.getUsername());
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.UserCreated(user.getTenantId(), user.getUsername()));
 
         log.info("[USER-003] 사용자 생성 완료: userId={}", user.getUserId());
 
@@ -150,6 +163,7 @@ public class UserService {
 
         user.setUpdatedAt(LocalDateTime.now());
         user = userRepository.save(user);
+        invalidateUser(tenantId, userId);
 
         log.info("[USER-011] 사용자 수정 완료: userId={}", userId);
 
@@ -170,6 +184,7 @@ public class UserService {
                 });
 
         userRepository.delete(userId);
+        invalidateUser(tenantId, userId);
 
         log.info("[USER-014] 사용자 삭제 완료: userId={}", userId);
     }
@@ -190,6 +205,9 @@ public class UserService {
         user.addRole(role);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userRoleCache.invalidate(tenantId, userId);
+        userSnapshotCache.invalidate(tenantId, userId);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.UserRolesChanged(tenantId, userId));
 
         log.info("[USER-016] 역할 할당 완료: userId={}, roleId={}", userId, roleId);
     }
@@ -218,6 +236,9 @@ public class UserService {
 
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userRoleCache.invalidate(tenantId, userId);
+        userSnapshotCache.invalidate(tenantId, userId);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.UserRolesChanged(tenantId, userId));
 
         log.info("[USER-019] 다중 역할 할당 완료: userId={}, assignedCount={}", userId, assignedCount);
         return assignedCount;
@@ -239,6 +260,9 @@ public class UserService {
         user.removeRole(role);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userRoleCache.invalidate(tenantId, userId);
+        userSnapshotCache.invalidate(tenantId, userId);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.UserRolesChanged(tenantId, userId));
 
         log.info("[USER-021] 역할 제거 완료: userId={}, roleId={}", userId, roleId);
     }
@@ -257,6 +281,7 @@ public class UserService {
         user.setStatus(UserStatus.LOCKED);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        invalidateUser(tenantId, userId);
 
         log.info("[USER-023] 계정 잠금 완료: userId={}", userId);
     }
@@ -276,14 +301,17 @@ public class UserService {
         user.setFailedLoginAttempts(0);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        invalidateUser(tenantId, userId);
 
         log.info("[USER-025] 계정 잠금 해제 완료: userId={}", userId);
     }
 
     /**
      * 비밀번호 변경
+     *
+     * <p>해시 비교/생성은 전용 실행기에서 수행하며, 그동안 DB 커넥션을 잡지 않도록 트랜잭션을 두지 않는다.
+     * 조회와 저장은 각각 단일 쿼리다.</p>
      */
-    @Transactional
     public void changePassword(String userId, String tenantId, String currentPassword, String newPassword) {
         log.info("[USER-026] 비밀번호 변경: userId={}, tenant={}", userId, tenantId);
 
@@ -291,15 +319,23 @@ public class UserService {
                 .orElseThrow(() -> UserNotFoundException.byId(userId));
 
         // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+        if (!passwordHashingExecutor.matches(currentPassword, user.getPassword())) {
             log.warn("[USER-027] 현재 비밀번호 불일치: userId={}", userId);
             throw InvalidCredentialsException.passwordMismatch();
         }
 
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHashingExecutor.encode(newPassword));
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
 
         log.info("[USER-028] 비밀번호 변경 완료: userId={}", userId);
     }
+
+    /**
+     * 사용자 정보/상태 변경 시 토큰 검증용 사용자 캐시 무효화 (로컬 + 다른 노드)
+     */
+    private void invalidateUser(String tenantId, String userId) {
+        userSnapshotCache.invalidate(tenantId, userId);
+        cacheInvalidationBus.publish(new CacheInvalidationEvent.UserChanged(tenantId, userId));
+    }
 }
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lotecs.auth.domain.sso.model.TenantSsoConfig;
 
 import java.util.Map;
 
@@ -50,4 +52,10 @@ public class SsoAuthRequest {
      * 추가 파라미터
      */
     private Map<String, String> extraParams;
+
+    /**
+     * 해석된 테넌트 SSO 설정 (있으면 Provider가 재조회하지 않음)
+     */
+    @ToString.Exclude
+    private TenantSsoConfig ssoConfig;
 }
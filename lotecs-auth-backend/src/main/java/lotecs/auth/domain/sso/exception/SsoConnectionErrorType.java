@@ -25,6 +25,16 @@ public enum SsoConnectionErrorType {
      */
     RESPONSE_ERROR(true),
 
+    /**
+     * 서킷브레이커 OPEN 상태로 호출하지 않음
+     */
+    CIRCUIT_OPEN(true),
+
+    /**
+     * 동시 호출 한도(bulkhead) 초과로 호출하지 않음
+     */
+    BULKHEAD_FULL(true),
+
     /**
      * 설정 오류 (fallback 불가)
      */
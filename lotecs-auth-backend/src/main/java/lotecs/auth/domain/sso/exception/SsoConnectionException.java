@@ -86,6 +86,20 @@ public class SsoConnectionException extends RuntimeException {
         return new SsoConnectionException(message, SsoConnectionErrorType.RESPONSE_ERROR, cause);
     }
 
+    /**
+     * 서킷브레이커 OPEN 예외 생성
+     */
+    public static SsoConnectionException circuitOpen(String message) {
+        return new SsoConnectionException(message, SsoConnectionErrorType.CIRCUIT_OPEN);
+    }
+
+    /**
+     * 동시 호출 한도 초과 예외 생성
+     */
+    public static SsoConnectionException bulkheadFull(String message) {
+        return new SsoConnectionException(message, SsoConnectionErrorType.BULKHEAD_FULL);
+    }
+
     /**
      * Fallback 가능 여부 확인
      */
@@ -4,20 +4,29 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lotecs.auth.domain.sso.SsoType;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class TenantSsoConfig {
@@ -94,6 +103,15 @@ public class TenantSsoConfig {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * additionalConfig 파싱 결과 (원본 문자열이 바뀌면 다시 파싱)
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final transient AtomicReference<ParsedAdditionalConfig> parsedAdditionalConfig = new AtomicReference<>();
+
     public boolean isRoleMappingEnabled() {
         return Boolean.TRUE.equals(this.roleMappingEnabled);
     }
@@ -114,54 +132,145 @@ public class TenantSsoConfig {
         return Boolean.TRUE.equals(this.fallbackPasswordRequired);
     }
 
+    /**
+     * 필드 값을 복사한 새 인스턴스 (additionalConfig 파싱 결과는 불변이므로 공유해 다시 파싱하지 않는다)
+     */
+    public TenantSsoConfig copy() {
+        TenantSsoConfig copy = toBuilder().build();
+        copy.parsedAdditionalConfig.set(parsedAdditionalConfig.get());
+        return copy;
+    }
+
     /**
      * additionalConfig JSON을 Map으로 파싱
+     * 파싱 결과는 인스턴스에 보관되며 중첩된 Map/List까지 읽기 전용으로 반환된다.
      */
     public Map<String, Object> getAdditionalConfigAsMap() {
-        if (additionalConfig == null || additionalConfig.isBlank()) {
-            return Collections.emptyMap();
-        }
-        try {
-            return objectMapper.readValue(additionalConfig, new TypeReference<>() {});
-        } catch (Exception e) {
-            log.warn("Failed to parse additionalConfig: {}", e.getMessage());
-            return Collections.emptyMap();
-        }
+        return parsed().config();
     }
 
     /**
      * additionalConfig에서 특정 키 값 조회
      */
     public String getAdditionalConfigValue(String key) {
-        Map<String, Object> config = getAdditionalConfigAsMap();
-        Object value = config.get(key);
+        Object value = getAdditionalConfigAsMap().get(key);
         return value != null ? value.toString() : null;
     }
 
+    /**
+     * SSO 응답 필드 매핑 (표준 키 -> 원본 키)
+     */
+    public Map<String, String> getResponseMapping() {
+        return parsed().responseMapping();
+    }
+
+    /**
+     * SSO 응답에 추가할 커스텀 정적 필드
+     */
+    public Map<String, Object> getCustomFields() {
+        return parsed().customFields();
+    }
+
     /**
      * 사용자 구분 매핑 조회 (REST_TOKEN용)
      */
-    @SuppressWarnings("unchecked")
     public Map<String, String> getUserDivisionMapping() {
-        Map<String, Object> config = getAdditionalConfigAsMap();
-        Object mapping = config.get("userDivisionMapping");
-        if (mapping instanceof Map) {
-            return (Map<String, String>) mapping;
-        }
-        return Collections.emptyMap();
+        return parsed().userDivisionMapping();
     }
 
     /**
      * 사용자 구분 prefix 매핑 조회 (REST_TOKEN용)
      */
-    @SuppressWarnings("unchecked")
     public Map<String, String> getUserDivisionPrefix() {
-        Map<String, Object> config = getAdditionalConfigAsMap();
-        Object prefix = config.get("userDivisionPrefix");
-        if (prefix instanceof Map) {
-            return (Map<String, String>) prefix;
+        return parsed().userDivisionPrefix();
+    }
+
+    private ParsedAdditionalConfig parsed() {
+        String source = additionalConfig;
+        ParsedAdditionalConfig parsed = parsedAdditionalConfig.get();
+        if (parsed == null || !Objects.equals(parsed.source(), source)) {
+            parsed = ParsedAdditionalConfig.parse(source);
+            parsedAdditionalConfig.set(parsed);
+        }
+        return parsed;
+    }
+
+    private record ParsedAdditionalConfig(
+            String source,
+            Map<String, Object> config,
+            Map<String, String> responseMapping,
+            Map<String, Object> customFields,
+            Map<String, String> userDivisionMapping,
+            Map<String, String> userDivisionPrefix
+    ) {
+
+        static ParsedAdditionalConfig parse(String source) {
+            Map<String, Object> config = Collections.emptyMap();
+            if (source != null && !source.isBlank()) {
+                try {
+                    config = immutableMap(objectMapper.readValue(source, new TypeReference<Map<String, Object>>() {}));
+                } catch (Exception e) {
+                    log.warn("Failed to parse additionalConfig: {}", e.getMessage());
+                }
+            }
+            return new ParsedAdditionalConfig(
+                    source,
+                    config,
+                    toStringMap(config.get("responseMapping")),
+                    toObjectMap(config.get("customFields")),
+                    toStringMap(config.get("userDivisionMapping")),
+                    toStringMap(config.get("userDivisionPrefix"))
+            );
+        }
+
+        private static Map<String, String> toStringMap(Object value) {
+            if (!(value instanceof Map<?, ?> map)) {
+                return Collections.emptyMap();
+            }
+            Map<String, String> result = new LinkedHashMap<>();
+            map.forEach((k, v) -> {
+                if (k != null && v != null) {
+                    result.put(k.toString(), v.toString());
+                }
+            });
+            return Collections.unmodifiableMap(result);
+        }
+
+        private static Map<String, Object> toObjectMap(Object value) {
+            if (!(value instanceof Map<?, ?> map)) {
+                return Collections.emptyMap();
+            }
+            Map<String, Object> result = new LinkedHashMap<>();
+            map.forEach((k, v) -> {
+                if (k != null) {
+                    result.put(k.toString(), v);
+                }
+            });
+            return Collections.unmodifiableMap(result);
+        }
+
+        /**
+         * JSON 파싱 결과를 중첩된 Map/List까지 읽기 전용으로 변환 (null 값 유지를 위해 Map.copyOf 대신 unmodifiable 래핑)
+         */
+        private static Map<String, Object> immutableMap(Map<?, ?> map) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            map.forEach((k, v) -> {
+                if (k != null) {
+                    result.put(k.toString(), immutableValue(v));
+                }
+            });
+            return Collections.unmodifiableMap(result);
+        }
+
+        private static Object immutableValue(Object value) {
+            if (value instanceof Map<?, ?> map) {
+                return immutableMap(map);
+            }
+            if (value instanceof List<?> list) {
+                return list.stream().map(ParsedAdditionalConfig::immutableValue).toList();
+            }
+            return value;
         }
-        return Collections.emptyMap();
     }
 
 }
@@ -0,0 +1,52 @@
+package lotecs.auth.domain.token.model;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Refresh Token 교체 요청/결과 (ATH_REFRESH_TOKENS 한 번의 호출로 제시된 토큰 회수와 재사용 탐지를 처리)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRotation {
+
+    /**
+     * 제시된 토큰 해시
+     */
+    private String tokenHash;
+
+    /**
+     * 교체로 회수된 지 이 시간(초) 이내에 다시 제시되면 재사용이 아니라 동시 갱신으로 본다
+     */
+    private long reuseGraceSeconds;
+
+    /**
+     * 저장되지 않은 토큰을 등록할 때 사용할 사용자/테넌트/패밀리 (null이면 등록하지 않음)
+     */
+    private String adoptUserId;
+    private String adoptTenantId;
+    private String adoptTokenFamily;
+    private String adoptTokenId;
+    private LocalDateTime adoptExpiresAt;
+
+    /**
+     * 결과 (호출 후 채워짐)
+     */
+    private String outcome;
+    private String userId;
+    private String tenantId;
+    private String tokenFamily;
+    private String deviceId;
+
+    public RotationOutcome getRotationOutcome() {
+        return outcome != null ? RotationOutcome.valueOf(outcome) : RotationOutcome.UNKNOWN;
+    }
+}
@@ -0,0 +1,42 @@
+package lotecs.auth.domain.token.model;
+
+/**
+ * Refresh Token 교체 결과
+ */
+public enum RotationOutcome {
+
+    /**
+     * 활성 토큰을 회수함 (새 토큰은 발급 후 같은 패밀리로 저장)
+     */
+    ROTATED,
+
+    /**
+     * 저장되지 않은(이전 버전에서 발급된) 토큰을 회수 상태로 새 패밀리에 등록함
+     */
+    ADOPTED,
+
+    /**
+     * 교체로 회수된 토큰이 다시 사용됨 (패밀리 전체 회수)
+     */
+    REUSED,
+
+    /**
+     * 교체 직후(reuse-grace-period 이내) 다시 사용됨. 동시 갱신으로 보고 패밀리를 회수하지 않고 거절한다.
+     */
+    CONCURRENT,
+
+    /**
+     * 교체 외의 사유(로그아웃, 재사용 탐지)로 회수된 토큰
+     */
+    REVOKED,
+
+    /**
+     * 만료된 토큰
+     */
+    EXPIRED,
+
+    /**
+     * 저장되지 않은 토큰
+     */
+    UNKNOWN
+}
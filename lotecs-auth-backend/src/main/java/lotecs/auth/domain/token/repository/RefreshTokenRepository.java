@@ -0,0 +1,32 @@
+package lotecs.auth.domain.token.repository;
+
+import lotecs.auth.domain.token.model.RefreshToken;
+import lotecs.auth.domain.token.model.RefreshTokenRotation;
+import lotecs.auth.domain.token.model.RotationOutcome;
+
+/**
+ * Refresh Token Repository 인터페이스
+ */
+public interface RefreshTokenRepository {
+
+    /**
+     * 새 토큰 저장
+     */
+    void save(RefreshToken refreshToken);
+
+    /**
+     * 토큰 교체의 회수 단계. 활성 토큰 회수와 재사용 시 패밀리 회수를 한 번의 DB 호출로 처리한다.
+     * 새 토큰은 발급 후 {@link #save}로 같은 패밀리에 저장한다.
+     */
+    RotationOutcome rotate(RefreshTokenRotation rotation);
+
+    /**
+     * 토큰 패밀리 전체 회수
+     */
+    void revokeFamily(String tokenFamily, String reason);
+
+    /**
+     * 사용자의 모든 활성 토큰 회수
+     */
+    void revokeAllByUserId(String userId, String reason);
+}
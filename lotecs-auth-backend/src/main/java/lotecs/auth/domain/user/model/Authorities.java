@@ -0,0 +1,41 @@
+package lotecs.auth.domain.user.model;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 권한 목록을 authority 문자열 집합으로 변환하는 헬퍼
+ *
+ * <p>LinkedHashSet을 사용하므로 중복은 O(1)로 제거되고 조회 순서는 유지된다.</p>
+ */
+public final class Authorities {
+
+    private Authorities() {
+    }
+
+    /**
+     * resource:action 형식의 authority 집합 (JWT authorities 클레임용)
+     */
+    public static Set<String> of(Collection<Permission> permissions) {
+        Set<String> authorities = new LinkedHashSet<>(permissions.size() * 2);
+        for (Permission permission : permissions) {
+            authorities.add(permission.toAuthority());
+        }
+        return authorities;
+    }
+
+    /**
+     * resource:action 형식과 permissionName을 모두 포함한 집합 (권한 확인용)
+     */
+    public static Set<String> withPermissionNames(Collection<Permission> permissions) {
+        Set<String> authorities = new LinkedHashSet<>(permissions.size() * 4);
+        for (Permission permission : permissions) {
+            authorities.add(permission.toAuthority());
+            if (permission.getPermissionName() != null) {
+                authorities.add(permission.getPermissionName());
+            }
+        }
+        return authorities;
+    }
+}
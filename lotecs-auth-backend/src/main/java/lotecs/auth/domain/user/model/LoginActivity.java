@@ -0,0 +1,9 @@
+package lotecs.auth.domain.user.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 성공 기록 (마지막 로그인 시각/IP)
+ */
+public record LoginActivity(String userId, LocalDateTime loggedInAt, String ipAddress) {
+}
@@ -48,7 +48,6 @@ public class User {
     @Builder.Default
     private List<Role> roles = new ArrayList<>();
 
-    private static final int MAX_FAILED_ATTEMPTS = 5;
     private static final int PASSWORD_EXPIRY_DAYS = 90;
 
     public void recordLoginSuccess(String ipAddress) {
@@ -61,14 +60,6 @@ public class User {
         }
     }
 
-    public void recordLoginFailure() {
-        this.failedLoginAttempts++;
-        if (this.failedLoginAttempts >= MAX_FAILED_ATTEMPTS) {
-            this.accountNonLocked = false;
-            this.lockedAt = LocalDateTime.now();
-        }
-    }
-
     public void recordLogout() {
         this.updatedAt = LocalDateTime.now();
     }
@@ -86,6 +77,13 @@ public class User {
         this.credentialsNonExpired = true;
     }
 
+    /**
+     * 같은 비밀번호의 해시만 교체 (알고리즘/비용 변경에 따른 재해시, 변경 시각은 유지)
+     */
+    public void rehashPassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     public void lock(String reason) {
         this.accountNonLocked = false;
         this.lockedAt = LocalDateTime.now();
@@ -32,6 +32,11 @@ public interface PermissionRepository {
      */
     List<Permission> findByRoleId(String roleId);
 
+    /**
+     * 사용자에게 부여된 권한 목록 조회 (모든 역할 통합, 중복 제거)
+     */
+    List<Permission> findGrantedByUserId(String userId);
+
     /**
      * 권한 저장
      */
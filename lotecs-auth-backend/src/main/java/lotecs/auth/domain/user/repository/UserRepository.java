@@ -1,7 +1,10 @@
 package lotecs.auth.domain.user.repository;
 
+import lotecs.auth.domain.user.model.LoginActivity;
 import lotecs.auth.domain.user.model.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +39,35 @@ public interface UserRepository {
      * 사용자 삭제
      */
     void delete(String userId);
+
+    /**
+     * 비밀번호 해시만 변경 (재해시용)
+     */
+    void updatePassword(String userId, String encodedPassword);
+
+    /**
+     * 로그인 실패 횟수/잠금 초기화 (변경할 값이 있을 때만 갱신)
+     */
+    void resetLoginFailures(String userId);
+
+    /**
+     * 로그인 실패 횟수 원자적 증가. 증가 후 값이 maxAttempts 이상이면 같은 UPDATE에서 잠근다.
+     * lockExpiredBefore 이전에 잠긴 계정은 잠금이 만료된 것으로 보고 이번 실패부터 다시 센다.
+     *
+     * @param lockExpiredBefore 잠금 만료 기준 시각 (null이면 잠금이 만료되지 않음)
+     */
+    void incrementLoginFailures(String userId, int maxAttempts, LocalDateTime now, LocalDateTime lockExpiredBefore);
+
+    /**
+     * 계정 잠금 (이미 잠겨 있고 잠금이 만료되지 않은 경우 변경 없음)
+     *
+     * @param lockExpiredBefore 잠금 만료 기준 시각 (null이면 잠금이 만료되지 않음)
+     * @return 이번 호출로 잠금 상태가 바뀌었으면 true
+     */
+    boolean lockAccount(String userId, int failedAttempts, LocalDateTime lockedAt, LocalDateTime lockExpiredBefore);
+
+    /**
+     * 마지막 로그인 시각/IP 일괄 갱신 (JDBC batch)
+     */
+    void updateLastLogins(Collection<LoginActivity> activities);
 }
@@ -16,6 +16,10 @@ public enum AuthErrorCode implements ErrorCode {
     // ===== 인증 (CREDENTIALS) =====
     ATH_CREDENTIALS_INVALID("ATH_CREDENTIALS_INVALID", "아이디 또는 비밀번호가 올바르지 않습니다.", HttpStatus.UNAUTHORIZED),
     ATH_CREDENTIALS_PASSWORD_MISMATCH("ATH_CREDENTIALS_PASSWORD_MISMATCH", "현재 비밀번호가 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+    ATH_CREDENTIALS_THROTTLED("ATH_CREDENTIALS_THROTTLED", "로그인 실패가 많아 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+
+    // ===== 비밀번호 (PASSWORD) =====
+    ATH_PASSWORD_HASHING_BUSY("ATH_PASSWORD_HASHING_BUSY", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     // ===== 계정 상태 (ACCOUNT) =====
     ATH_ACCOUNT_LOCKED("ATH_ACCOUNT_LOCKED", "계정이 잠겨있습니다.", HttpStatus.LOCKED),
@@ -24,6 +28,7 @@ public enum AuthErrorCode implements ErrorCode {
 
     // ===== 토큰 (TOKEN) =====
     ATH_TOKEN_REFRESH_FAILED("ATH_TOKEN_REFRESH_FAILED", "토큰 갱신에 실패했습니다.", HttpStatus.UNAUTHORIZED),
+    ATH_TOKEN_REFRESH_REUSED("ATH_TOKEN_REFRESH_REUSED", "이미 사용된 토큰입니다. 다시 로그인해주세요.", HttpStatus.UNAUTHORIZED),
 
     // ===== 사용자 (USER) =====
     ATH_USER_NOT_FOUND("ATH_USER_NOT_FOUND", "사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -0,0 +1,17 @@
+package lotecs.auth.exception.auth;
+
+import lotecs.auth.exception.AuthErrorCode;
+import lotecs.auth.exception.AuthException;
+
+/**
+ * IP 또는 사용자명별 로그인 실패가 임계값을 넘었을 때 발생하는 예외.
+ * HTTP 429 Too Many Requests, gRPC RESOURCE_EXHAUSTED로 매핑됩니다.
+ */
+public class LoginThrottledException extends AuthException {
+
+    private static final long serialVersionUID = 1L;
+
+    public LoginThrottledException() {
+        super(AuthErrorCode.ATH_CREDENTIALS_THROTTLED);
+    }
+}
@@ -0,0 +1,21 @@
+package lotecs.auth.exception.auth;
+
+import lotecs.auth.exception.AuthErrorCode;
+import lotecs.auth.exception.AuthException;
+
+/**
+ * 비밀번호 해시 실행기가 포화 상태일 때 발생하는 예외.
+ * HTTP 429 Too Many Requests, gRPC RESOURCE_EXHAUSTED로 매핑됩니다.
+ */
+public class PasswordHashingBusyException extends AuthException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingBusyException() {
+        super(AuthErrorCode.ATH_PASSWORD_HASHING_BUSY);
+    }
+
+    public PasswordHashingBusyException(Throwable cause) {
+        super(AuthErrorCode.ATH_PASSWORD_HASHING_BUSY, cause);
+    }
+}
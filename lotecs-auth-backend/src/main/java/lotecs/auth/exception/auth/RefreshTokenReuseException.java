@@ -0,0 +1,17 @@
+package lotecs.auth.exception.auth;
+
+import lotecs.auth.exception.AuthErrorCode;
+import lotecs.auth.exception.AuthException;
+
+/**
+ * 이미 교체(회수)된 Refresh Token이 다시 사용되었을 때 발생하는 예외.
+ * 같은 패밀리의 토큰은 모두 회수되며, HTTP 401 Unauthorized로 매핑됩니다.
+ */
+public class RefreshTokenReuseException extends AuthException {
+
+    private static final long serialVersionUID = 1L;
+
+    public RefreshTokenReuseException() {
+        super(AuthErrorCode.ATH_TOKEN_REFRESH_REUSED);
+    }
+}
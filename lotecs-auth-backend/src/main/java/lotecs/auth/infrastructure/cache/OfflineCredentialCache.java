@@ -0,0 +1,176 @@
+package lotecs.auth.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.sso.SsoAuthResult;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.exception.auth.PasswordHashingBusyException;
+import lotecs.auth.infrastructure.config.OfflineCredentialProperties;
+import lotecs.auth.infrastructure.config.PasswordEncodingProperties;
+import lotecs.auth.infrastructure.security.PasswordHashingExecutor;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SSO 폴백용 오프라인 자격증명 검증자 캐시.
+ *
+ * <p>외부 SSO 로그인이 성공하면 비밀번호 대신 Argon2id 검증자와 SSO 응답의 사용자 정보를
+ * (tenant, username) 단위로 보관한다. SSO 장애로 폴백할 때 캐시가 맞으면 DB 조회 없이 인증한다.
+ * 계정 잠금/비활성 여부는 로그인 처리({@code AuthService})에서 DB 사용자로 다시 확인한다.</p>
+ *
+ * <p>Argon2id 파라미터는 {@code auth.password.argon2}를 따르며, 검증자는 PHC 형식
+ * ({@code $argon2id$v=19$m=..,t=..,p=..$salt$hash})으로 항목마다 파라미터를 함께 보관하므로 설정을 바꿔도
+ * 기존 항목을 그대로 검증할 수 있다. 해시 계산은 {@link PasswordHashingExecutor}에서 실행해 요청 스레드를 점유하지 않고,
+ * 실행기가 포화 상태면 저장은 건너뛰고 검증은 불일치로 처리한다(DB 검증으로 진행).</p>
+ *
+ * <p>SSO가 비밀번호 불일치를 응답하거나 테넌트/SSO 설정이 바뀌면 해당 항목을 제거한다.</p>
+ */
+@Slf4j
+@Component
+public class OfflineCredentialCache implements CacheInvalidationListener {
+
+    private final OfflineCredentialProperties properties;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final Argon2PasswordEncoder verifierEncoder;
+    private final Cache<Key, Entry> cache;
+
+    public OfflineCredentialCache(OfflineCredentialProperties properties,
+                                  PasswordEncodingProperties passwordEncodingProperties,
+                                  PasswordHashingExecutor passwordHashingExecutor) {
+        this.properties = properties;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        PasswordEncodingProperties.Argon2 argon2 = passwordEncodingProperties.getArgon2();
+        this.verifierEncoder = new Argon2PasswordEncoder(
+                argon2.getSaltLength(),
+                argon2.getHashLength(),
+                argon2.getParallelism(),
+                argon2.getMemory(),
+                argon2.getIterations()
+        );
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        log.debug("OfflineCredentialCache initialized: enabled={}, maxSize={}, ttl={}, argon2(m={}, t={}, p={})",
+                properties.isEnabled(), properties.getMaxSize(), properties.getTtl(),
+                argon2.getMemory(), argon2.getIterations(), argon2.getParallelism());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * SSO 로그인 성공 결과와 비밀번호 검증자 저장
+     */
+    public void store(String tenantId, String username, String password, SsoAuthResult result) {
+        if (!properties.isEnabled() || password == null || password.isEmpty()) {
+            return;
+        }
+
+        Key key = new Key(tenantId, username);
+        try {
+            String verifier = passwordHashingExecutor.execute(() -> verifierEncoder.encode(password));
+            cache.put(key, new Entry(verifier, CachedIdentity.from(result)));
+        } catch (PasswordHashingBusyException e) {
+            // 이전 비밀번호의 검증자가 남지 않도록 제거
+            cache.invalidate(key);
+            log.warn("[SSO-OFFLINE] 해시 실행기 포화로 검증자 저장 생략: tenant={}, username={}", tenantId, username);
+        }
+    }
+
+    /**
+     * 저장된 검증자로 비밀번호 확인
+     *
+     * @return 일치하면 마지막 SSO 로그인 시의 사용자 정보, 항목이 없거나 불일치하면 empty
+     */
+    public Optional<CachedIdentity> verify(String tenantId, String username, String password) {
+        if (!properties.isEnabled() || password == null) {
+            return Optional.empty();
+        }
+
+        Entry entry = cache.getIfPresent(new Key(tenantId, username));
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        try {
+            if (passwordHashingExecutor.execute(() -> verifierEncoder.matches(password, entry.verifier()))) {
+                return Optional.of(entry.identity());
+            }
+            log.debug("[SSO-OFFLINE] 검증자 불일치: tenant={}, username={}", tenantId, username);
+        } catch (PasswordHashingBusyException e) {
+            log.warn("[SSO-OFFLINE] 해시 실행기 포화로 검증 생략: tenant={}, username={}", tenantId, username);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 단일 사용자 검증자 제거 (SSO가 자격증명을 거부한 경우)
+     */
+    public void invalidate(String tenantId, String username) {
+        cache.invalidate(new Key(tenantId, username));
+    }
+
+    /**
+     * 테넌트 전체 검증자 제거
+     */
+    public void evict(String tenantId) {
+        cache.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+        log.debug("[SSO-OFFLINE] 테넌트 검증자 캐시 무효화: tenantId={}", tenantId);
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.SsoConfigChanged
+                || event instanceof CacheInvalidationEvent.TenantChanged) {
+            evict(event.tenantId());
+        }
+    }
+
+    /**
+     * 마지막 SSO 로그인 성공 시의 사용자 정보
+     */
+    public record CachedIdentity(
+            String externalUserId,
+            String username,
+            String email,
+            String fullName,
+            List<String> roles,
+            Map<String, Object> additionalData
+    ) {
+
+        static CachedIdentity from(SsoAuthResult result) {
+            return new CachedIdentity(
+                    result.getExternalUserId(),
+                    result.getUsername(),
+                    result.getEmail(),
+                    result.getFullName(),
+                    result.getRoles() != null ? List.copyOf(result.getRoles()) : List.of(),
+                    result.getAdditionalData() != null ? Map.copyOf(withoutNulls(result.getAdditionalData())) : Map.of()
+            );
+        }
+
+        private static Map<String, Object> withoutNulls(Map<String, Object> data) {
+            Map<String, Object> copy = new HashMap<>(data);
+            copy.values().removeIf(value -> value == null);
+            return copy;
+        }
+    }
+
+    private record Key(String tenantId, String username) {
+    }
+
+    /**
+     * @param verifier Argon2id PHC 문자열 (파라미터/솔트/해시 포함)
+     */
+    private record Entry(String verifier, CachedIdentity identity) {
+    }
+}
@@ -0,0 +1,163 @@
+package lotecs.auth.infrastructure.cache;
+
+import lotecs.auth.domain.user.model.Permission;
+import lotecs.auth.domain.user.model.Role;
+import lotecs.auth.domain.user.model.RolePermission;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 테넌트 단위 불변 RBAC 스냅샷.
+ *
+ * <p>권한마다 비트 번호를 부여하고, 역할별로 보유 권한을 {@link BitSet}으로 보관한다.
+ * authority 문자열({@code resource:action})과 permissionName은 모두 같은 비트로 색인된다.
+ * 생성 이후 내부 상태는 변경되지 않으므로 잠금 없이 여러 스레드에서 읽을 수 있다.</p>
+ */
+public final class RbacSnapshot {
+
+    private final String tenantId;
+    private final long version;
+    private final String[] authorities;
+    private final String[] permissionNames;
+    private final Map<String, Integer> bitIndex;
+    private final Map<String, BitSet> roleBits;
+
+    private RbacSnapshot(String tenantId, long version, String[] authorities, String[] permissionNames,
+                         Map<String, Integer> bitIndex, Map<String, BitSet> roleBits) {
+        this.tenantId = tenantId;
+        this.version = version;
+        this.authorities = authorities;
+        this.permissionNames = permissionNames;
+        this.bitIndex = bitIndex;
+        this.roleBits = roleBits;
+    }
+
+    /**
+     * 테넌트의 권한/역할/역할-권한 매핑으로 스냅샷 생성
+     * 삭제된 역할이나 권한을 가리키는 매핑은 무시한다.
+     */
+    public static RbacSnapshot build(String tenantId, long version, List<Permission> permissions,
+                                     List<Role> roles, List<RolePermission> rolePermissions) {
+        int size = permissions.size();
+        String[] authorities = new String[size];
+        String[] permissionNames = new String[size];
+        Map<String, Integer> bitByPermissionId = new HashMap<>(size * 2);
+        Map<String, Integer> bitIndex = new HashMap<>(size * 4);
+
+        for (int bit = 0; bit < size; bit++) {
+            Permission permission = permissions.get(bit);
+            authorities[bit] = permission.toAuthority().intern();
+            permissionNames[bit] = permission.getPermissionName() != null ? permission.getPermissionName().intern() : null;
+            bitByPermissionId.put(permission.getPermissionId(), bit);
+            bitIndex.putIfAbsent(authorities[bit], bit);
+            if (permissionNames[bit] != null) {
+                bitIndex.putIfAbsent(permissionNames[bit], bit);
+            }
+        }
+
+        Map<String, BitSet> roleBits = new HashMap<>(roles.size() * 2);
+        for (Role role : roles) {
+            roleBits.put(role.getRoleId(), new BitSet(size));
+        }
+        for (RolePermission rolePermission : rolePermissions) {
+            BitSet bits = roleBits.get(rolePermission.getRoleId());
+            Integer bit = bitByPermissionId.get(rolePermission.getPermissionId());
+            if (bits != null && bit != null) {
+                bits.set(bit);
+            }
+        }
+
+        return new RbacSnapshot(tenantId, version, authorities, permissionNames,
+                Map.copyOf(bitIndex), Map.copyOf(roleBits));
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getPermissionCount() {
+        return authorities.length;
+    }
+
+    public int getRoleCount() {
+        return roleBits.size();
+    }
+
+    /**
+     * 역할 목록이 보유한 권한 비트의 합집합
+     * 반환된 BitSet은 호출자 소유이다.
+     */
+    public BitSet grantedBits(Collection<String> roleIds) {
+        BitSet granted = new BitSet(authorities.length);
+        for (String roleId : roleIds) {
+            BitSet bits = roleBits.get(roleId);
+            if (bits != null) {
+                granted.or(bits);
+            }
+        }
+        return granted;
+    }
+
+    /**
+     * 권한 코드(resource:action 또는 permissionName) 보유 여부
+     */
+    public boolean isGranted(BitSet granted, String permissionCode) {
+        Integer bit = bitIndex.get(permissionCode);
+        return bit != null && granted.get(bit);
+    }
+
+    /**
+     * 권한 코드를 모두 보유하는지 확인 (required AND NOT granted == 0)
+     * 스냅샷에 없는 코드가 하나라도 있으면 false
+     */
+    public boolean isGrantedAll(BitSet granted, Collection<String> permissionCodes) {
+        BitSet required = new BitSet(authorities.length);
+        for (String permissionCode : permissionCodes) {
+            Integer bit = bitIndex.get(permissionCode);
+            if (bit == null) {
+                return false;
+            }
+            required.set(bit);
+        }
+        required.andNot(granted);
+        return required.isEmpty();
+    }
+
+    /**
+     * 권한 코드 중 하나라도 보유하는지 확인 (required AND granted != 0)
+     */
+    public boolean isGrantedAny(BitSet granted, Collection<String> permissionCodes) {
+        BitSet required = new BitSet(authorities.length);
+        for (String permissionCode : permissionCodes) {
+            Integer bit = bitIndex.get(permissionCode);
+            if (bit != null) {
+                required.set(bit);
+            }
+        }
+        return required.intersects(granted);
+    }
+
+    /**
+     * 비트 집합을 authority 문자열 집합으로 변환 (resource:action + permissionName)
+     */
+    public Set<String> authorities(BitSet granted) {
+        Set<String> result = new LinkedHashSet<>(granted.cardinality() * 4);
+        for (int bit = granted.nextSetBit(0); bit >= 0; bit = granted.nextSetBit(bit + 1)) {
+            result.add(authorities[bit]);
+            if (permissionNames[bit] != null) {
+                result.add(permissionNames[bit]);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,134 @@
+package lotecs.auth.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.user.repository.PermissionRepository;
+import lotecs.auth.domain.user.repository.RoleRepository;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.persistence.user.mapper.RolePermissionMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테넌트별 {@link RbacSnapshot} 보관소.
+ *
+ * <p>최초 조회 시 적재하고, 권한/역할 데이터가 변경되면 새 스냅샷을 만들어 교체한다(copy-on-write).
+ * 변경 트랜잭션 안에서 호출되면 커밋 이후에 재생성하므로, 커밋 전까지는 이전 스냅샷이 그대로 사용된다.</p>
+ *
+ * <p>DB 적재는 맵 bin lock 밖에서 하고, 교체만 잠금 안에서 한다. 적재 시작 시 버전을 발급해 더 새 버전만 반영하고,
+ * 제거 이전에 시작된 적재본은 반영하지 않는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RbacSnapshotRegistry implements CacheInvalidationListener {
+
+    private final PermissionRepository permissionRepository;
+    private final RoleRepository roleRepository;
+    private final RolePermissionMapper rolePermissionMapper;
+
+    private final ConcurrentMap<String, RbacSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> evictedVersions = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /**
+     * 테넌트 스냅샷 조회 (없으면 적재)
+     */
+    public RbacSnapshot get(String tenantId) {
+        RbacSnapshot snapshot = snapshots.get(tenantId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        RbacSnapshot loaded = load(tenantId);
+        RbacSnapshot installed = install(loaded);
+        // 적재 중 제거되어 반영되지 않았으면 이번 조회에만 적재본을 사용한다
+        return installed != null ? installed : loaded;
+    }
+
+    /**
+     * 테넌트 스냅샷 재생성 요청
+     * 트랜잭션이 활성화되어 있으면 커밋 후, 아니면 즉시 재생성한다.
+     */
+    public void refresh(String tenantId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuild(tenantId);
+                }
+            });
+            return;
+        }
+        rebuild(tenantId);
+    }
+
+    /**
+     * 테넌트 스냅샷 제거 (다음 조회 시 재적재)
+     */
+    public void evict(String tenantId) {
+        evictedVersions.put(tenantId, versionSequence.incrementAndGet());
+        snapshots.remove(tenantId);
+        log.debug("[RBAC-SNAPSHOT] 스냅샷 제거: tenantId={}", tenantId);
+    }
+
+    /**
+     * 다른 노드의 권한/역할/테넌트 변경 수신 시 스냅샷 제거 (다음 조회 시 재적재)
+     */
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.PermissionChanged
+                || event instanceof CacheInvalidationEvent.RoleChanged
+                || event instanceof CacheInvalidationEvent.TenantChanged) {
+            evict(event.tenantId());
+        }
+    }
+
+    private void rebuild(String tenantId) {
+        // 아직 적재되지 않은 테넌트는 다음 조회 시 적재한다
+        if (!snapshots.containsKey(tenantId)) {
+            return;
+        }
+        try {
+            install(load(tenantId));
+        } catch (RuntimeException e) {
+            // 재생성 실패 시 이전 스냅샷을 계속 사용하지 않도록 제거
+            snapshots.remove(tenantId);
+            log.warn("[RBAC-SNAPSHOT] 스냅샷 재생성 실패, 제거 후 재적재 대기: tenantId={}, error={}",
+                    tenantId, e.getMessage());
+        }
+    }
+
+    /**
+     * 적재본 반영. 동시 적재 시 버전이 더 높은(더 늦게 시작한) 적재본이 남는다.
+     *
+     * @return 맵에 남은 스냅샷 (제거 이전에 시작된 적재본이라 반영하지 않았고 기존 스냅샷도 없으면 null)
+     */
+    private RbacSnapshot install(RbacSnapshot loaded) {
+        return snapshots.compute(loaded.getTenantId(), (tenantId, current) -> {
+            if (loaded.getVersion() <= evictedVersions.getOrDefault(tenantId, 0L)) {
+                return current;
+            }
+            return current == null || loaded.getVersion() > current.getVersion() ? loaded : current;
+        });
+    }
+
+    private RbacSnapshot load(String tenantId) {
+        long version = versionSequence.incrementAndGet();
+        RbacSnapshot snapshot = RbacSnapshot.build(
+                tenantId,
+                version,
+                permissionRepository.findByTenantId(tenantId),
+                roleRepository.findByTenantId(tenantId),
+                rolePermissionMapper.findByTenantId(tenantId)
+        );
+        log.info("[RBAC-SNAPSHOT] 스냅샷 적재: tenantId={}, version={}, permissions={}, roles={}",
+                tenantId, version, snapshot.getPermissionCount(), snapshot.getRoleCount());
+        return snapshot;
+    }
+}
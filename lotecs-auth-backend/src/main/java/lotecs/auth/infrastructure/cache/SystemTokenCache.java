@@ -0,0 +1,163 @@
+package lotecs.auth.infrastructure.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.config.SystemTokenCacheProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 테넌트별 SSO 시스템 토큰(client credential) 캐시.
+ *
+ * <p>토큰 만료 시각까지 재사용하고, 유효 시간의 refreshRatio가 지나면 현재 토큰을 돌려주면서 백그라운드에서 재발급한다.
+ * 같은 테넌트의 발급 요청은 하나만 진행되고(single-flight) 동시 로그인은 그 결과를 공유한다.
+ * 캐시 항목은 SSO 서버/클라이언트 식별값(fingerprint)이 같을 때만 사용한다.</p>
+ */
+@Slf4j
+@Component
+public class SystemTokenCache implements CacheInvalidationListener {
+
+    private final SystemTokenCacheProperties properties;
+    private final Clock clock;
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SystemTokenCache(SystemTokenCacheProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    SystemTokenCache(SystemTokenCacheProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 유효한 시스템 토큰 조회 (없거나 만료되었으면 발급될 때까지 대기)
+     *
+     * @param tenantId 테넌트 ID
+     * @param fingerprint SSO 서버/클라이언트 식별값 (바뀌면 캐시 항목을 쓰지 않음)
+     * @param loader 토큰 발급 함수
+     */
+    public String get(String tenantId, String fingerprint, Callable<SystemToken> loader) throws Exception {
+        if (!properties.isEnabled()) {
+            return loader.call().value();
+        }
+
+        Instant now = clock.instant();
+        Entry entry = tokens.get(tenantId);
+        if (entry != null && entry.fingerprint().equals(fingerprint) && now.isBefore(entry.expiresAt())) {
+            if (!now.isBefore(entry.refreshAt())) {
+                load(tenantId, fingerprint, loader, true);
+            }
+            return entry.token();
+        }
+
+        try {
+            return load(tenantId, fingerprint, loader, false).join().token();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * SSO 서버가 거부한 토큰 제거 (그 사이 새 토큰으로 교체되었으면 유지)
+     */
+    public void invalidate(String tenantId, String rejectedToken) {
+        tokens.computeIfPresent(tenantId, (id, entry) -> entry.token().equals(rejectedToken) ? null : entry);
+        log.debug("[SYSTEM-TOKEN] 토큰 무효화: tenantId={}", tenantId);
+    }
+
+    public void evict(String tenantId) {
+        tokens.remove(tenantId);
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.SsoConfigChanged
+                || event instanceof CacheInvalidationEvent.TenantChanged) {
+            evict(event.tenantId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private CompletableFuture<Entry> load(String tenantId, String fingerprint, Callable<SystemToken> loader, boolean background) {
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = inFlight.putIfAbsent(tenantId, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        Runnable task = () -> {
+            try {
+                Instant issuedAt = clock.instant();
+                SystemToken token = loader.call();
+                Entry entry = toEntry(fingerprint, token, issuedAt);
+                tokens.put(tenantId, entry);
+                log.debug("[SYSTEM-TOKEN] 토큰 발급: tenantId={}, expiresAt={}, background={}",
+                        tenantId, entry.expiresAt(), background);
+                created.complete(entry);
+            } catch (Throwable e) {
+                if (background) {
+                    log.warn("[SYSTEM-TOKEN] 백그라운드 재발급 실패 (기존 토큰 유지): tenantId={}, error={}",
+                            tenantId, e.getMessage());
+                }
+                created.completeExceptionally(e);
+            } finally {
+                inFlight.remove(tenantId, created);
+            }
+        };
+
+        if (background) {
+            refreshExecutor.execute(task);
+        } else {
+            task.run();
+        }
+        return created;
+    }
+
+    private Entry toEntry(String fingerprint, SystemToken token, Instant issuedAt) {
+        Duration ttl = token.expiresIn() != null && !token.expiresIn().isNegative() && !token.expiresIn().isZero()
+                ? token.expiresIn()
+                : properties.getDefaultTtl();
+        Duration usable = ttl.minus(properties.getExpirySkew());
+        if (usable.isNegative()) {
+            usable = Duration.ZERO;
+        }
+        Instant refreshAt = issuedAt.plusMillis((long) (usable.toMillis() * properties.getRefreshRatio()));
+        return new Entry(fingerprint, token.value(), refreshAt, issuedAt.plus(usable));
+    }
+
+    /**
+     * 발급된 시스템 토큰
+     *
+     * @param value 토큰 값
+     * @param expiresIn 유효 시간 (응답에 없으면 null)
+     */
+    public record SystemToken(String value, Duration expiresIn) {
+    }
+
+    private record Entry(String fingerprint, String token, Instant refreshAt, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,89 @@
+package lotecs.auth.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.sso.SsoAuthRequest;
+import lotecs.auth.domain.sso.model.TenantSsoConfig;
+import lotecs.auth.domain.sso.repository.TenantSsoConfigRepository;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.config.SsoConfigCacheProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * 테넌트 SSO 설정 캐시.
+ *
+ * <p>캐시된 {@link TenantSsoConfig}는 additionalConfig 파싱 결과를 내부에 보관하므로,
+ * 로그인마다 DB 조회와 JSON 파싱이 반복되지 않는다. 캐시 원본은 밖으로 내보내지 않고 조회마다
+ * {@link TenantSsoConfig#copy()} 복사본을 돌려주므로, 호출자가 값을 바꿔도 다른 요청에 영향이 없다.
+ * 파싱 결과는 중첩된 Map까지 불변이라 복사본끼리 공유한다. 설정이 없는 테넌트도 빈 값으로 캐시한다.</p>
+ */
+@Slf4j
+@Component
+public class TenantSsoConfigCache implements CacheInvalidationListener {
+
+    private final TenantSsoConfigRepository ssoConfigRepository;
+    private final boolean enabled;
+    private final Cache<String, Optional<TenantSsoConfig>> cache;
+
+    public TenantSsoConfigCache(TenantSsoConfigRepository ssoConfigRepository, SsoConfigCacheProperties properties) {
+        this.ssoConfigRepository = ssoConfigRepository;
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    /**
+     * 테넌트 SSO 설정 조회 (캐시)
+     */
+    public Optional<TenantSsoConfig> get(String tenantId) {
+        if (!enabled) {
+            return ssoConfigRepository.findByTenantId(tenantId);
+        }
+        return cache.get(tenantId, id -> {
+            log.debug("[SSO-CACHE] SSO 설정 적재: tenantId={}", id);
+            return ssoConfigRepository.findByTenantId(id);
+        }).map(TenantSsoConfig::copy);
+    }
+
+    /**
+     * 요청에 담긴 설정을 우선 사용하고, 없으면 캐시에서 조회
+     */
+    public Optional<TenantSsoConfig> resolve(SsoAuthRequest request) {
+        if (request.getSsoConfig() != null) {
+            return Optional.of(request.getSsoConfig());
+        }
+        return get(request.getTenantId());
+    }
+
+    /**
+     * 테넌트 SSO 설정 캐시 무효화 (즉시 + 커밋 후)
+     */
+    public void invalidate(String tenantId) {
+        cache.invalidate(tenantId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(tenantId);
+                }
+            });
+        }
+        log.debug("[SSO-CACHE] SSO 설정 캐시 무효화: tenantId={}", tenantId);
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.SsoConfigChanged
+                || event instanceof CacheInvalidationEvent.TenantChanged) {
+            cache.invalidate(event.tenantId());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package lotecs.auth.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.config.AuthorityCacheProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * (tenant, user) 단위 보유 역할 ID 캐시.
+ *
+ * <p>역할이 가진 권한은 {@link RbacSnapshot}에서 계산하므로, 이 캐시는 사용자-역할 할당만 보관한다.
+ * 따라서 역할-권한 매핑 변경 시 사용자별 무효화가 필요 없고, 역할 할당/회수 시에만 무효화한다.</p>
+ *
+ * <p>무효화는 즉시 한 번, 트랜잭션이 활성화되어 있으면 커밋 후에 한 번 더 수행한다.
+ * 커밋 전에 다른 스레드가 이전 데이터를 다시 적재하는 경우를 막기 위함이다.</p>
+ */
+@Slf4j
+@Component
+public class UserRoleCache implements CacheInvalidationListener {
+
+    private final boolean enabled;
+    private final Cache<Key, Set<String>> cache;
+
+    public UserRoleCache(AuthorityCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        log.debug("UserRoleCache initialized: enabled={}, maxSize={}, ttl={}",
+                properties.isEnabled(), properties.getMaxSize(), properties.getTtl());
+    }
+
+    /**
+     * 캐시된 역할 ID 집합을 반환하고, 없으면 loader로 적재한다.
+     */
+    public Set<String> get(String tenantId, String userId, Supplier<Set<String>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return cache.get(new Key(tenantId, userId), k -> Set.copyOf(loader.get()));
+    }
+
+    /**
+     * 단일 사용자 캐시 무효화
+     */
+    public void invalidate(String tenantId, String userId) {
+        Key key = new Key(tenantId, userId);
+        cache.invalidate(key);
+        afterCommit(() -> cache.invalidate(key));
+        log.debug("[AUTHZ-CACHE] 사용자 역할 캐시 무효화: tenantId={}, userId={}", tenantId, userId);
+    }
+
+    /**
+     * 여러 사용자 캐시 무효화
+     */
+    public void invalidateAll(String tenantId, Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Set<Key> keys = userIds.stream()
+                .map(userId -> new Key(tenantId, userId))
+                .collect(Collectors.toUnmodifiableSet());
+        cache.invalidateAll(keys);
+        afterCommit(() -> cache.invalidateAll(keys));
+        log.debug("[AUTHZ-CACHE] 사용자 역할 캐시 무효화: tenantId={}, count={}", tenantId, keys.size());
+    }
+
+    /**
+     * 테넌트 전체 캐시 무효화
+     */
+    public void invalidateTenant(String tenantId) {
+        cache.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+        log.debug("[AUTHZ-CACHE] 테넌트 역할 캐시 무효화: tenantId={}", tenantId);
+    }
+
+    /**
+     * 다른 노드의 사용자 역할/테넌트 변경 수신 시 무효화
+     */
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.UserRolesChanged changed) {
+            cache.invalidate(new Key(changed.tenantId(), changed.userId()));
+        } else if (event instanceof CacheInvalidationEvent.TenantChanged) {
+            invalidateTenant(event.tenantId());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private record Key(String tenantId, String userId) {
+    }
+}
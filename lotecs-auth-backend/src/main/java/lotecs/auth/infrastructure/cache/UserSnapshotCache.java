@@ -0,0 +1,96 @@
+package lotecs.auth.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.user.model.User;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.config.TokenValidationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 토큰 검증(CACHED_USER 모드)용 (tenant, user) 단위 사용자 캐시.
+ *
+ * <p>사용자 수정/삭제/잠금과 역할 할당/회수 시 무효화한다. 로그인 실패 잠금이나 SSO 동기화처럼
+ * 무효화 이벤트가 없는 변경은 TTL 안에 반영된다. 즉시 반영이 필요하면 FRESH_USER 모드를 사용한다.
+ * 존재하지 않는 사용자는 캐시하지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class UserSnapshotCache implements CacheInvalidationListener {
+
+    private final boolean enabled;
+    private final Cache<Key, User> cache;
+
+    public UserSnapshotCache(TokenValidationProperties properties) {
+        TokenValidationProperties.UserCache config = properties.getUserCache();
+        this.enabled = config.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(config.getTtl())
+                .build();
+        log.debug("UserSnapshotCache initialized: enabled={}, maxSize={}, ttl={}",
+                config.isEnabled(), config.getMaxSize(), config.getTtl());
+    }
+
+    /**
+     * 캐시된 사용자를 반환하고, 없으면 loader로 적재한다.
+     */
+    public Optional<User> get(String tenantId, String userId, Supplier<Optional<User>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Key key = new Key(tenantId, userId);
+        User cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<User> loaded = loader.get();
+        loaded.ifPresent(user -> cache.put(key, user));
+        return loaded;
+    }
+
+    /**
+     * 단일 사용자 캐시 무효화 (트랜잭션 활성 시 커밋 후 한 번 더)
+     */
+    public void invalidate(String tenantId, String userId) {
+        Key key = new Key(tenantId, userId);
+        cache.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * 테넌트 전체 캐시 무효화
+     */
+    public void invalidateTenant(String tenantId) {
+        cache.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+        log.debug("[USER-CACHE] 테넌트 사용자 캐시 무효화: tenantId={}", tenantId);
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.UserChanged changed) {
+            cache.invalidate(new Key(changed.tenantId(), changed.userId()));
+        } else if (event instanceof CacheInvalidationEvent.UserRolesChanged changed) {
+            cache.invalidate(new Key(changed.tenantId(), changed.userId()));
+        } else if (event instanceof CacheInvalidationEvent.TenantChanged) {
+            invalidateTenant(event.tenantId());
+        }
+    }
+
+    private record Key(String tenantId, String userId) {
+    }
+}
@@ -0,0 +1,181 @@
+package lotecs.auth.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.config.TokenValidationProperties;
+import lotecs.auth.infrastructure.security.TokenDigests;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 Access Token near cache.
+ *
+ * <p>게이트웨이는 같은 토큰을 수명(900초) 동안 요청마다 검증하므로, 서명 검증과 Redis 블랙리스트 조회를 통과한
+ * 토큰의 클레임을 토큰 SHA-256 digest 앞 128비트를 키로 보관한다. 토큰 원문은 보관하지 않는다.
+ * 항목은 토큰 exp와 TTL 중 빠른 시점에 만료된다.</p>
+ *
+ * <p>로그아웃 시 {@link #revoke(String)}로 즉시 제거하고 {@link CacheInvalidationEvent.TokenRevoked}로 다른 노드에 전파한다.
+ * 폐기된 digest는 TTL 동안 기억해, 폐기 직전에 시작된 검증이 항목을 다시 넣지 못하게 한다.
+ * 폐기는 digest 기록 → 항목 제거 순서로, 저장은 항목 맵의 {@code compute} 안에서 폐기 여부를 확인하므로
+ * 같은 키에 대해 둘이 직렬화되어 폐기 후 저장된 항목이 남지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class ValidatedTokenCache implements CacheInvalidationListener {
+
+    private final boolean enabled;
+    private final Clock clock;
+    private final Cache<Digest, Entry> cache;
+    private final Cache<Digest, Boolean> revoked;
+
+    @Autowired
+    public ValidatedTokenCache(TokenValidationProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    ValidatedTokenCache(TokenValidationProperties properties, Clock clock) {
+        TokenValidationProperties.NearCache config = properties.getNearCache();
+        this.enabled = config.isEnabled();
+        this.clock = clock;
+
+        long ttlNanos = config.getTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .expireAfter(new Expiry<Digest, Entry>() {
+                    @Override
+                    public long expireAfterCreate(Digest key, Entry entry, long currentTime) {
+                        if (entry.expiresAtMillis() == null) {
+                            return ttlNanos;
+                        }
+                        long untilExp = TimeUnit.MILLISECONDS.toNanos(entry.expiresAtMillis() - clock.millis());
+                        return Math.max(0, Math.min(ttlNanos, untilExp));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Digest key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Digest key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .expireAfterWrite(config.getTtl())
+                .build();
+
+        log.debug("ValidatedTokenCache initialized: enabled={}, maxSize={}, ttl={}",
+                config.isEnabled(), config.getMaxSize(), config.getTtl());
+    }
+
+    /**
+     * 캐시된 검증 결과(클레임) 조회
+     *
+     * @return 검증된 토큰의 클레임, 없거나 만료되었으면 null
+     */
+    public Map<String, Object> get(String accessToken) {
+        if (!enabled || accessToken == null) {
+            return null;
+        }
+        Entry entry = cache.getIfPresent(digest(accessToken));
+        return entry != null ? entry.claims() : null;
+    }
+
+    /**
+     * 검증에 성공한 토큰의 클레임 저장 (폐기된 토큰이나 이미 만료된 토큰은 저장하지 않음)
+     */
+    public void put(String accessToken, Map<String, Object> claims) {
+        if (!enabled || accessToken == null) {
+            return;
+        }
+        Long expiresAt = expiresAtMillis(claims.get("exp"));
+        if (expiresAt != null && expiresAt <= clock.millis()) {
+            return;
+        }
+        Entry entry = new Entry(Collections.unmodifiableMap(new HashMap<>(claims)), expiresAt);
+        // 폐기 확인과 저장을 키 단위로 원자적으로 처리 (revoke의 remove와 직렬화됨)
+        cache.asMap().compute(digest(accessToken), (key, current) ->
+                revoked.getIfPresent(key) != null ? null : entry);
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃). 로컬 항목을 제거하고 다른 노드에 전파할 이벤트를 반환한다.
+     */
+    public CacheInvalidationEvent.TokenRevoked revoke(String accessToken) {
+        Digest key = digest(accessToken);
+        // 폐기 기록을 먼저 남겨, 이후의 put이 항목을 다시 넣지 못하게 한다
+        revoked.put(key, Boolean.TRUE);
+        Entry entry = cache.asMap().remove(key);
+
+        String tenantId = entry != null && entry.claims().get("tenantId") != null
+                ? entry.claims().get("tenantId").toString()
+                : null;
+        return new CacheInvalidationEvent.TokenRevoked(tenantId, key.toHex());
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.TokenRevoked tokenRevoked) {
+            Digest key = Digest.fromHex(tokenRevoked.tokenDigest());
+            revoked.put(key, Boolean.TRUE);
+            cache.invalidate(key);
+        }
+    }
+
+    private static Digest digest(String accessToken) {
+        ByteBuffer hash = ByteBuffer.wrap(TokenDigests.sha256(accessToken));
+        return new Digest(hash.getLong(), hash.getLong());
+    }
+
+    /**
+     * exp 클레임 변환 (epoch 초 숫자, Date, Instant)
+     */
+    private static Long expiresAtMillis(Object exp) {
+        if (exp instanceof Number seconds) {
+            return TimeUnit.SECONDS.toMillis(seconds.longValue());
+        }
+        if (exp instanceof Date date) {
+            return date.getTime();
+        }
+        if (exp instanceof Instant instant) {
+            return instant.toEpochMilli();
+        }
+        return null;
+    }
+
+    /**
+     * SHA-256 앞 128비트
+     */
+    private record Digest(long high, long low) {
+
+        String toHex() {
+            return HexFormat.of().toHexDigits(high) + HexFormat.of().toHexDigits(low);
+        }
+
+        static Digest fromHex(String hex) {
+            return new Digest(HexFormat.fromHexDigitsToLong(hex, 0, 16), HexFormat.fromHexDigitsToLong(hex, 16, 32));
+        }
+    }
+
+    private record Entry(Map<String, Object> claims, Long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,173 @@
+package lotecs.auth.infrastructure.cache.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.infrastructure.config.CacheInvalidationProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 노드 간 캐시 무효화 이벤트 버스.
+ *
+ * <p>발행: 트랜잭션 안에서 발행된 이벤트는 트랜잭션 단위로 중복 제거 후 커밋 이후에 전송한다.
+ * 발행 노드의 로컬 캐시는 애플리케이션 서비스가 직접 무효화하므로 자기 메시지는 수신 시 무시한다.</p>
+ *
+ * <p>수신: 수신된 이벤트는 병합 주기(coalesce-window) 동안 모아 같은 이벤트는 한 번만
+ * {@link CacheInvalidationListener}에 전달한다.</p>
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheInvalidationTransport transport;
+    private final Supplier<Collection<CacheInvalidationListener>> listeners;
+    private final long coalesceWindowMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object pendingLock = new Object();
+    private Set<CacheInvalidationEvent> pending = new LinkedHashSet<>();
+    private boolean flushScheduled;
+
+    @Autowired
+    public CacheInvalidationBus(CacheInvalidationProperties properties,
+                                ObjectProvider<CacheInvalidationTransport> transportProvider,
+                                ObjectProvider<CacheInvalidationListener> listenerProvider) {
+        this(properties, transportProvider.getIfAvailable(), () -> listenerProvider.orderedStream().toList());
+    }
+
+    CacheInvalidationBus(CacheInvalidationProperties properties,
+                         CacheInvalidationTransport transport,
+                         Supplier<Collection<CacheInvalidationListener>> listeners) {
+        this.transport = transport;
+        this.listeners = listeners;
+        this.coalesceWindowMillis = properties.getCoalesceWindow().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cache-invalidation-bus");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (transport != null) {
+            transport.subscribe(this::onMessage);
+        }
+        log.info("[CACHE-BUS] 캐시 무효화 버스 초기화: nodeId={}, transport={}, coalesceWindow={}ms",
+                nodeId, transport != null ? transport.getClass().getSimpleName() : "none", coalesceWindowMillis);
+    }
+
+    /**
+     * 무효화 이벤트 발행
+     * 트랜잭션이 활성화되어 있으면 커밋 후 전송하고, 롤백되면 전송하지 않는다.
+     */
+    public void publish(CacheInvalidationEvent event) {
+        if (transport == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(event);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<CacheInvalidationEvent> events = (Set<CacheInvalidationEvent>) TransactionSynchronizationManager.getResource(this);
+        if (events == null) {
+            Set<CacheInvalidationEvent> bound = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bound.forEach(CacheInvalidationBus.this::send);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+                }
+            });
+            events = bound;
+        }
+        events.add(event);
+    }
+
+    private void send(CacheInvalidationEvent event) {
+        try {
+            transport.send(objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, event)));
+            log.debug("[CACHE-BUS] 무효화 이벤트 발행: {}", event);
+        } catch (Exception e) {
+            log.warn("[CACHE-BUS] 무효화 이벤트 발행 실패: event={}, error={}", event, e.getMessage());
+        }
+    }
+
+    void onMessage(String payload) {
+        CacheInvalidationMessage message;
+        try {
+            message = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+        } catch (Exception e) {
+            log.warn("[CACHE-BUS] 무효화 메시지 파싱 실패: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(message.origin()) || message.event() == null) {
+            return;
+        }
+
+        synchronized (pendingLock) {
+            pending.add(message.event());
+            if (flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        scheduler.schedule(this::flush, coalesceWindowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void flush() {
+        Set<CacheInvalidationEvent> events;
+        synchronized (pendingLock) {
+            events = pending;
+            pending = new LinkedHashSet<>();
+            flushScheduled = false;
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<CacheInvalidationListener> targets = new ArrayList<>(listeners.get());
+        for (CacheInvalidationEvent event : events) {
+            for (CacheInvalidationListener listener : targets) {
+                try {
+                    listener.onInvalidation(event);
+                } catch (Exception e) {
+                    log.warn("[CACHE-BUS] 무효화 처리 실패: listener={}, event={}, error={}",
+                            listener.getClass().getSimpleName(), event, e.getMessage());
+                }
+            }
+        }
+        log.debug("[CACHE-BUS] 원격 무효화 이벤트 적용: count={}", events.size());
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
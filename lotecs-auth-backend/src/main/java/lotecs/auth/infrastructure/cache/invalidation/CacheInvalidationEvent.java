@@ -0,0 +1,73 @@
+package lotecs.auth.infrastructure.cache.invalidation;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * 노드 간 캐시 무효화 이벤트.
+ *
+ * <p>record 기반이므로 같은 내용의 이벤트는 equals로 동일하게 취급되어 병합(coalescing)된다.</p>
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = CacheInvalidationEvent.TenantChanged.class, name = "TENANT_CHANGED"),
+        @JsonSubTypes.Type(value = CacheInvalidationEvent.SsoConfigChanged.class, name = "SSO_CONFIG_CHANGED"),
+        @JsonSubTypes.Type(value = CacheInvalidationEvent.RoleChanged.class, name = "ROLE_CHANGED"),
+        @JsonSubTypes.Type(value = CacheInvalidationEvent.UserRolesChanged.class, name = "USER_ROLES_CHANGED"),
+        @JsonSubTypes.Type(value = CacheInvalidationEvent.UserCreated.class, name = "USER_CREATED"),
+        @JsonSubTypes.Type(value = CacheInvalidationEvent.UserChanged.class, name = "USER_CHANGED"),
+        @JsonSubTypes.Type(value = CacheInvalidationEvent.TokenRevoked.class, name = "TOKEN_REVOKED"),
+        @JsonSubTypes.Type(value = CacheInvalidationEvent.PermissionChanged.class, name = "PERMISSION_CHANGED")
+})
+public sealed interface CacheInvalidationEvent {
+
+    String tenantId();
+
+    /**
+     * 테넌트 정보/상태 변경
+     */
+    record TenantChanged(String tenantId) implements CacheInvalidationEvent {
+    }
+
+    /**
+     * 테넌트 SSO 설정 변경
+     */
+    record SsoConfigChanged(String tenantId) implements CacheInvalidationEvent {
+    }
+
+    /**
+     * 역할 변경 (수정/삭제, 역할-권한 매핑 변경 포함)
+     */
+    record RoleChanged(String tenantId, String roleId) implements CacheInvalidationEvent {
+    }
+
+    /**
+     * 사용자 역할 할당/회수
+     */
+    record UserRolesChanged(String tenantId, String userId) implements CacheInvalidationEvent {
+    }
+
+    /**
+     * 사용자 생성 (존재하지 않는 사용자명 캐시 제거용)
+     */
+    record UserCreated(String tenantId, String username) implements CacheInvalidationEvent {
+    }
+
+    /**
+     * 사용자 정보/상태 변경 (수정, 삭제, 잠금, 잠금 해제)
+     */
+    record UserChanged(String tenantId, String userId) implements CacheInvalidationEvent {
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃). 토큰 원문 대신 digest를 전달하며, tenantId는 알 수 없으면 null
+     */
+    record TokenRevoked(String tenantId, String tokenDigest) implements CacheInvalidationEvent {
+    }
+
+    /**
+     * 권한 생성/삭제
+     */
+    record PermissionChanged(String tenantId, String permissionId) implements CacheInvalidationEvent {
+    }
+}
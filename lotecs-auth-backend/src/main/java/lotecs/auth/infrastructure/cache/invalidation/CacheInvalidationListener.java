@@ -0,0 +1,11 @@
+package lotecs.auth.infrastructure.cache.invalidation;
+
+/**
+ * 다른 노드에서 발행한 무효화 이벤트를 수신하는 로컬 캐시
+ *
+ * <p>병합 주기마다 호출되며, 같은 이벤트는 주기 내에서 한 번만 전달된다.</p>
+ */
+public interface CacheInvalidationListener {
+
+    void onInvalidation(CacheInvalidationEvent event);
+}
@@ -0,0 +1,7 @@
+package lotecs.auth.infrastructure.cache.invalidation;
+
+/**
+ * 전송 단위 메시지 (발행 노드 식별자 + 이벤트)
+ */
+public record CacheInvalidationMessage(String origin, CacheInvalidationEvent event) {
+}
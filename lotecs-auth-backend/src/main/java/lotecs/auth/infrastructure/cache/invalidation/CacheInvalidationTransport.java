@@ -0,0 +1,19 @@
+package lotecs.auth.infrastructure.cache.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * 무효화 메시지 전송 채널 (운영: Redis pub/sub)
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * 직렬화된 메시지 발행
+     */
+    void send(String payload);
+
+    /**
+     * 수신 핸들러 등록
+     */
+    void subscribe(Consumer<String> handler);
+}
@@ -0,0 +1,45 @@
+package lotecs.auth.infrastructure.cache.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 무효화 메시지 전송
+ */
+@Slf4j
+public class RedisCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+
+    public RedisCacheInvalidationTransport(StringRedisTemplate redisTemplate,
+                                           RedisMessageListenerContainer listenerContainer,
+                                           String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.topic = new ChannelTopic(channel);
+    }
+
+    @Override
+    public void send(String payload) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), payload);
+        } catch (Exception e) {
+            // Redis 장애 시 다른 노드는 TTL 만료로 수렴한다
+            log.warn("[CACHE-BUS] 무효화 메시지 발행 실패: channel={}, error={}", topic.getTopic(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> handler) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> handler.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                topic);
+    }
+}
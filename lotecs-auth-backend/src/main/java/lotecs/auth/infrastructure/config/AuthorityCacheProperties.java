@@ -0,0 +1,28 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 권한 확인용 사용자 역할 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.permission.cache")
+public class AuthorityCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 캐시에 보관할 최대 (tenant, user) 항목 수
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * 항목 생성 후 만료 시간
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,32 @@
+package lotecs.auth.infrastructure.config;
+
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationTransport;
+import lotecs.auth.infrastructure.cache.invalidation.RedisCacheInvalidationTransport;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 캐시 무효화 버스 Redis 전송 설정
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "auth.cache.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationConfig {
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    public CacheInvalidationTransport cacheInvalidationTransport(StringRedisTemplate stringRedisTemplate,
+                                                                 RedisMessageListenerContainer cacheInvalidationListenerContainer,
+                                                                 CacheInvalidationProperties properties) {
+        return new RedisCacheInvalidationTransport(stringRedisTemplate, cacheInvalidationListenerContainer, properties.getChannel());
+    }
+}
@@ -0,0 +1,28 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 노드 간 캐시 무효화 버스 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.cache.invalidation")
+public class CacheInvalidationProperties {
+
+    /**
+     * Redis pub/sub 전송 사용 여부 (false면 로컬 캐시만 사용)
+     */
+    private boolean enabled = true;
+
+    private String channel = "lotecs:auth:cache-invalidation";
+
+    /**
+     * 수신 이벤트 병합 주기
+     */
+    private Duration coalesceWindow = Duration.ofMillis(100);
+}
@@ -0,0 +1,33 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Keycloak(OIDC) SSO 클라이언트 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.sso.keycloak")
+public class KeycloakSsoProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Keycloak 서버 연결 타임아웃 (요청 타임아웃은 테넌트 readTimeoutMs 사용)
+     */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 알 수 없는 kid로 인한 JWKS 재조회 최소 간격
+     */
+    private Duration jwksMinRefreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * 토큰 검증 시 허용 시계 오차
+     */
+    private Duration clockSkew = Duration.ofSeconds(30);
+}
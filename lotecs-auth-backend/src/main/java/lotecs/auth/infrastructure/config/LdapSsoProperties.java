@@ -0,0 +1,48 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * LDAP SSO 커넥션 풀 설정 (테넌트별 풀에 동일하게 적용)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.sso.ldap")
+public class LdapSsoProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * LDAP 연결/요청 타임아웃
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * 테넌트별 최대 커넥션 수
+     */
+    private int maxTotal = 8;
+
+    /**
+     * 테넌트별 최대 유휴 커넥션 수
+     */
+    private int maxIdle = 4;
+
+    /**
+     * 풀이 고갈되었을 때 커넥션 대기 시간
+     */
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    /**
+     * 유휴 커넥션 정리 주기
+     */
+    private Duration evictionInterval = Duration.ofSeconds(30);
+
+    /**
+     * 이 시간 이상 유휴 상태인 커넥션은 정리 대상
+     */
+    private Duration minEvictableIdleTime = Duration.ofMinutes(5);
+}
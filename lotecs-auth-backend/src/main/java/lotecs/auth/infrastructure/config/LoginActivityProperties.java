@@ -0,0 +1,36 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 로그인 기록(마지막 로그인 시각/IP) write-behind 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.login.activity")
+public class LoginActivityProperties {
+
+    /**
+     * 비활성화하면 로그인마다 즉시 갱신한다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 모아 둔 기록을 DB에 반영하는 주기
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * JDBC batch 1회당 최대 행 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 대기 중인 사용자 수 상한. 넘으면 해당 기록은 즉시 갱신한다.
+     */
+    private int maxPending = 10_000;
+}
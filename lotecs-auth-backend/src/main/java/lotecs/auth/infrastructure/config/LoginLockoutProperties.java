@@ -0,0 +1,36 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 로그인 실패 횟수 제한/계정 잠금 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.login")
+public class LoginLockoutProperties {
+
+    /**
+     * failureWindow 안에서 이 횟수만큼 실패하면 계정을 잠근다.
+     */
+    private int maxFailedAttempts = 5;
+
+    /**
+     * 잠금 유지 시간(분). 0 이하이면 관리자가 해제할 때까지 유지한다.
+     */
+    private int lockDurationMinutes = 30;
+
+    /**
+     * 실패 횟수를 세는 sliding window
+     */
+    private Duration failureWindow = Duration.ofMinutes(15);
+
+    /**
+     * 실패 기록 Redis 키 접두사
+     */
+    private String failureKeyPrefix = "lotecs:auth:login-failures:";
+}
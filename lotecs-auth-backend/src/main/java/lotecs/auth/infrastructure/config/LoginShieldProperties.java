@@ -0,0 +1,53 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 인증 전 차단(credential stuffing 방어) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.login.shield")
+public class LoginShieldProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 실패 횟수를 세는 구간. 현재/직전 구간의 합으로 판단한다.
+     */
+    private Duration window = Duration.ofMinutes(1);
+
+    /**
+     * 구간 내 IP별 실패 허용 횟수
+     */
+    private int maxFailuresPerIp = 50;
+
+    /**
+     * 구간 내 (tenant, username)별 실패 허용 횟수
+     */
+    private int maxFailuresPerUsername = 20;
+
+    /**
+     * count-min sketch 행 수
+     */
+    private int sketchDepth = 4;
+
+    /**
+     * count-min sketch 행당 칸 수
+     */
+    private int sketchWidth = 16_384;
+
+    /**
+     * 존재하지 않는 사용자명 캐시 최대 항목 수
+     */
+    private long unknownUserMaxSize = 100_000;
+
+    /**
+     * 존재하지 않는 사용자명 캐시 유지 시간
+     */
+    private Duration unknownUserTtl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,31 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * SSO 폴백용 오프라인 자격증명 검증자 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.sso.offline-credential")
+public class OfflineCredentialProperties {
+
+    /**
+     * 기본 비활성화. 활성화하면 SSO 로그인 성공 시 검증자를 메모리에 보관한다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 캐시에 보관할 최대 (tenant, username) 항목 수
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * 마지막 SSO 로그인 성공 후 검증자를 유지하는 시간
+     */
+    private Duration ttl = Duration.ofHours(12);
+}
@@ -0,0 +1,75 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 알고리즘/비용 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.password")
+public class PasswordEncodingProperties {
+
+    /**
+     * 새 해시에 사용할 알고리즘
+     */
+    private Algorithm algorithm = Algorithm.BCRYPT;
+
+    /**
+     * BCrypt cost (calibration 비활성화 시 그대로 사용)
+     */
+    private int bcryptStrength = 10;
+
+    private Calibration calibration = new Calibration();
+
+    private Argon2 argon2 = new Argon2();
+
+    public enum Algorithm {
+        BCRYPT,
+        ARGON2ID
+    }
+
+    /**
+     * 기동 시 BCrypt cost 보정
+     */
+    @Getter
+    @Setter
+    public static class Calibration {
+
+        private boolean enabled = false;
+
+        /**
+         * 해시 1회 목표 소요 시간. 이 시간을 넘지 않는 가장 높은 cost를 고른다.
+         */
+        private Duration targetLatency = Duration.ofMillis(250);
+
+        private int minStrength = 10;
+
+        private int maxStrength = 14;
+    }
+
+    /**
+     * Argon2id 파라미터 (algorithm=ARGON2ID일 때 사용)
+     */
+    @Getter
+    @Setter
+    public static class Argon2 {
+
+        private int saltLength = 16;
+
+        private int hashLength = 32;
+
+        private int parallelism = 1;
+
+        /**
+         * 메모리 사용량 (KiB)
+         */
+        private int memory = 19_456;
+
+        private int iterations = 2;
+    }
+}
@@ -0,0 +1,31 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 전용 실행기 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.password.hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * 해시 작업 스레드 수 (0 이하이면 CPU 코어 수)
+     */
+    private int poolSize = 0;
+
+    /**
+     * 대기열 크기. 가득 차면 요청을 즉시 거절한다.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 대기열 대기 + 해시 계산을 포함한 최대 대기 시간
+     */
+    private Duration maxWait = Duration.ofSeconds(3);
+}
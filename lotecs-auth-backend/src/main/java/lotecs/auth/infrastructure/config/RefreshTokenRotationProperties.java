@@ -0,0 +1,40 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Refresh Token 교체(rotation)/재사용 탐지 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.token.refresh-rotation")
+public class RefreshTokenRotationProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Refresh Token 유효 시간 (JWT refresh-token-validity와 같게 설정)
+     */
+    private Duration validity = Duration.ofDays(7);
+
+    /**
+     * 교체된 토큰이 이 시간 안에 다시 제시되면 동시 갱신(여러 탭)으로 보고 패밀리를 회수하지 않고 거절만 한다.
+     * 0이면 항상 재사용으로 처리한다.
+     */
+    private Duration reuseGracePeriod = Duration.ofSeconds(10);
+
+    /**
+     * 최근 발급/교체된 토큰 해시 hot cache 최대 항목 수
+     */
+    private long hotCacheMaxSize = 100_000;
+
+    /**
+     * 저장되지 않은 토큰(도입 전 발급분)을 새 패밀리로 등록할지 여부.
+     * 도입 후 validity가 지나면 false로 바꾼다.
+     */
+    private boolean adoptUntracked = true;
+}
@@ -0,0 +1,46 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 토큰 폐기 스트림(WatchRevocations) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.token.revocation-feed")
+public class RevocationFeedProperties {
+
+    /**
+     * 폐기 기록 보관 기간 (Access Token 유효 시간 이상, 짧으면 만료 전 토큰이 snapshot에서 빠진다)
+     */
+    private Duration retention = Duration.ofSeconds(900);
+
+    /**
+     * 구독자에게 전체 snapshot(Bloom filter)을 보내는 주기
+     */
+    private Duration snapshotInterval = Duration.ofSeconds(60);
+
+    /**
+     * 재접속 시 since_version보다 이만큼 앞선 기록부터 다시 보낸다 (노드 간 이벤트 전파 지연 보정)
+     */
+    private Duration replaySlack = Duration.ofSeconds(5);
+
+    /**
+     * snapshot Bloom filter 목표 오탐률
+     */
+    private double falsePositiveRate = 0.001;
+
+    /**
+     * 구독자별 미전송 batch 최대 수. 넘치면 그 구독자를 끊고 재접속 시 다시 받게 한다.
+     */
+    private int subscriberQueueCapacity = 1_000;
+
+    /**
+     * 시작 시 Redis 폐기 목록 복원 대기 시간
+     */
+    private Duration seedTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,25 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 테넌트 SSO 설정 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.sso.config-cache")
+public class SsoConfigCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maxSize = 1_000;
+
+    /**
+     * 항목 생성 후 만료 시간 (다른 노드 변경 누락 시 상한)
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,31 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * HTTP 기반 SSO(REST_TOKEN, CAS, HTTP_FORM) 공용 HTTP 클라이언트 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.sso.http")
+public class SsoHttpProperties {
+
+    /**
+     * 연결 타임아웃 상한 (테넌트 readTimeoutMs가 더 짧으면 그 값을 사용)
+     */
+    private Duration connectTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 테넌트 readTimeoutMs가 없을 때의 응답 타임아웃
+     */
+    private Duration defaultReadTimeout = Duration.ofSeconds(5);
+
+    /**
+     * HTTP/2 사용 여부 (서버가 지원하지 않으면 HTTP/1.1로 동작)
+     */
+    private boolean http2Enabled = true;
+}
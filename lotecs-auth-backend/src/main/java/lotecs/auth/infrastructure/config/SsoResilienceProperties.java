@@ -0,0 +1,48 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 외부 SSO 호출 서킷브레이커/벌크헤드 설정 (테넌트별 인스턴스에 동일하게 적용)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.sso.resilience")
+public class SsoResilienceProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 실패율 판단에 사용하는 최근 호출 수
+     */
+    private int slidingWindowSize = 10;
+
+    /**
+     * 실패율을 계산하기 위한 최소 호출 수
+     */
+    private int minimumNumberOfCalls = 5;
+
+    /**
+     * OPEN으로 전환되는 실패율(%)
+     */
+    private int failureRateThreshold = 50;
+
+    /**
+     * OPEN 상태 유지 시간 (이후 HALF_OPEN에서 시험 호출)
+     */
+    private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+    /**
+     * HALF_OPEN 상태에서 허용하는 시험 호출 수
+     */
+    private int permittedCallsInHalfOpenState = 3;
+
+    /**
+     * 테넌트별 SSO 서버 동시 호출 한도
+     */
+    private int maxConcurrentCalls = 20;
+}
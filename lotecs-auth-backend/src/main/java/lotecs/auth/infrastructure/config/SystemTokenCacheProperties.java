@@ -0,0 +1,33 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * REST_TOKEN SSO 시스템 토큰 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.sso.system-token")
+public class SystemTokenCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 토큰 응답에 expires_in이 없을 때 사용할 유효 시간
+     */
+    private Duration defaultTtl = Duration.ofMinutes(10);
+
+    /**
+     * 유효 시간 중 이 비율이 지나면 백그라운드에서 미리 재발급
+     */
+    private double refreshRatio = 0.8;
+
+    /**
+     * 만료 시각보다 이만큼 먼저 만료된 것으로 취급 (SSO 서버와의 시계 오차 대비)
+     */
+    private Duration expirySkew = Duration.ofSeconds(10);
+}
@@ -0,0 +1,85 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Access Token 블랙리스트(로컬 shadow + Redis) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.token.blacklist")
+public class TokenBlacklistProperties {
+
+    /**
+     * 폐기 digest Redis 키 접두사
+     */
+    private String keyPrefix = "lotecs:auth:revoked:";
+
+    /**
+     * 다른 서비스가 읽는 lotecs-jwt 블랙리스트 키 접두사 (키 = 접두사 + Access Token). 비우면 기록하지 않는다.
+     */
+    private String sharedKeyPrefix = "lotecs:jwt:blacklist:";
+
+    /**
+     * 폐기 기록 유지 시간 (Access Token 유효 시간 이상)
+     */
+    private Duration ttl = Duration.ofSeconds(900);
+
+    /**
+     * 로컬 shadow 최대 항목 수
+     */
+    private long shadowMaxSize = 100_000;
+
+    /**
+     * Redis 조회/기록 대기 시간. 넘으면 장애로 보고 정책을 적용한다.
+     */
+    private Duration redisTimeout = Duration.ofMillis(50);
+
+    /**
+     * 응답을 기다리는 Redis 호출 최대 수. 넘으면 해당 호출에만 정책을 적용한다(서킷에는 반영하지 않음).
+     */
+    private int maxInFlight = 512;
+
+    /**
+     * 연속 실패가 이 횟수에 도달하면 openDuration 동안 Redis를 호출하지 않는다.
+     */
+    private int failureThreshold = 5;
+
+    private Duration openDuration = Duration.ofSeconds(10);
+
+    /**
+     * 장애 중 기록하지 못한 폐기 digest를 Redis에 다시 쓰는 주기
+     */
+    private Duration reconcileInterval = Duration.ofSeconds(5);
+
+    /**
+     * Redis를 확인할 수 없을 때의 기본 정책
+     */
+    private FailurePolicy failurePolicy = FailurePolicy.FAIL_OPEN;
+
+    /**
+     * 테넌트별 정책 (tenantId -> 정책)
+     */
+    private Map<String, FailurePolicy> tenantPolicies = new HashMap<>();
+
+    public FailurePolicy policyFor(String tenantId) {
+        return tenantId != null ? tenantPolicies.getOrDefault(tenantId, failurePolicy) : failurePolicy;
+    }
+
+    public enum FailurePolicy {
+        /**
+         * 로컬 shadow에 없으면 유효한 토큰으로 본다
+         */
+        FAIL_OPEN,
+        /**
+         * 로컬 shadow와 관계없이 거절한다
+         */
+        FAIL_CLOSED
+    }
+}
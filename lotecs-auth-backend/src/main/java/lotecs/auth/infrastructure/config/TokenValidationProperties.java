@@ -0,0 +1,61 @@
+package lotecs.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 토큰 검증(ValidateToken) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.token.validation")
+public class TokenValidationProperties {
+
+    /**
+     * CACHED_USER 모드용 사용자 캐시
+     */
+    private UserCache userCache = new UserCache();
+
+    /**
+     * 검증된 토큰 near cache (토큰 digest 단위)
+     */
+    private NearCache nearCache = new NearCache();
+
+    @Getter
+    @Setter
+    public static class UserCache {
+
+        private boolean enabled = true;
+
+        /**
+         * 캐시에 보관할 최대 (tenant, user) 항목 수
+         */
+        private long maxSize = 10_000;
+
+        /**
+         * 항목 생성 후 만료 시간 (무효화 이벤트가 없는 변경의 최대 반영 지연)
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class NearCache {
+
+        private boolean enabled = true;
+
+        /**
+         * 캐시에 보관할 최대 토큰 수
+         */
+        private long maxSize = 100_000;
+
+        /**
+         * 항목 최대 유지 시간. 토큰 만료(exp)가 더 빠르면 exp에 만료된다.
+         * 다른 경로로 블랙리스트에 등록된 토큰이 이 노드에서 유효로 응답될 수 있는 최대 시간이기도 하다.
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+}
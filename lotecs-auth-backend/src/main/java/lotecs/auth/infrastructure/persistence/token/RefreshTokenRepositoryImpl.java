@@ -0,0 +1,43 @@
+package lotecs.auth.infrastructure.persistence.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.token.model.RefreshToken;
+import lotecs.auth.domain.token.model.RefreshTokenRotation;
+import lotecs.auth.domain.token.model.RotationOutcome;
+import lotecs.auth.domain.token.repository.RefreshTokenRepository;
+import lotecs.auth.infrastructure.persistence.token.mapper.RefreshTokenMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Refresh Token Repository 구현체
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
+
+    private final RefreshTokenMapper refreshTokenMapper;
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        refreshTokenMapper.insert(refreshToken);
+    }
+
+    @Override
+    public RotationOutcome rotate(RefreshTokenRotation rotation) {
+        refreshTokenMapper.rotate(rotation);
+        log.debug("Refresh token rotation: outcome={}, family={}", rotation.getOutcome(), rotation.getTokenFamily());
+        return rotation.getRotationOutcome();
+    }
+
+    @Override
+    public void revokeFamily(String tokenFamily, String reason) {
+        refreshTokenMapper.revokeByFamily(tokenFamily, reason);
+    }
+
+    @Override
+    public void revokeAllByUserId(String userId, String reason) {
+        refreshTokenMapper.revokeAllByUserId(userId, reason);
+    }
+}
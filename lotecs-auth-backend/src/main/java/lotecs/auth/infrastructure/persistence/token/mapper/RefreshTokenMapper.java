@@ -1,6 +1,7 @@
 package lotecs.auth.infrastructure.persistence.token.mapper;
 
 import lotecs.auth.domain.token.model.RefreshToken;
+import lotecs.auth.domain.token.model.RefreshTokenRotation;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -55,6 +56,11 @@ public interface RefreshTokenMapper {
      */
     void revoke(@Param("tokenId") String tokenId, @Param("reason") String reason);
 
+    /**
+     * 토큰 교체의 회수 단계 (활성 토큰 회수, 재사용 시 패밀리 회수). 결과는 rotation의 outcome 등에 채워진다.
+     */
+    void rotate(RefreshTokenRotation rotation);
+
     /**
      * 토큰 패밀리 전체 회수
      */
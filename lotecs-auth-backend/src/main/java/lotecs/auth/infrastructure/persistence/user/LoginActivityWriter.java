@@ -0,0 +1,116 @@
+package lotecs.auth.infrastructure.persistence.user;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.user.model.LoginActivity;
+import lotecs.auth.domain.user.repository.UserRepository;
+import lotecs.auth.infrastructure.config.LoginActivityProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마지막 로그인 시각/IP write-behind 기록기.
+ *
+ * <p>로그인 성공 시 행 전체 UPDATE 대신 사용자별 최신 기록만 메모리에 모아 두고(같은 사용자는 병합),
+ * flushInterval마다 {@code LAST_LOGIN_AT}, {@code LAST_LOGIN_IP}만 JDBC batch로 갱신한다.
+ * 잠금과 관련된 실패 횟수는 여기서 다루지 않고 로그인 처리에서 즉시 반영한다.</p>
+ *
+ * <p>반영에 실패한 기록은 다음 flush에서 다시 시도한다. 반영 전 노드가 비정상 종료되면 마지막 flush 이후의 기록은
+ * 유실될 수 있다(정상 종료 시에는 남은 기록을 반영).</p>
+ */
+@Slf4j
+@Component
+public class LoginActivityWriter {
+
+    private final UserRepository userRepository;
+    private final LoginActivityProperties properties;
+    private final Map<String, LoginActivity> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public LoginActivityWriter(UserRepository userRepository, LoginActivityProperties properties) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "login-activity-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (properties.isEnabled()) {
+            long interval = properties.getFlushInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        log.debug("LoginActivityWriter initialized: enabled={}, flushInterval={}, batchSize={}",
+                properties.isEnabled(), properties.getFlushInterval(), properties.getBatchSize());
+    }
+
+    /**
+     * 로그인 성공 기록 (다음 flush에서 반영)
+     */
+    public void record(LoginActivity activity) {
+        if (!properties.isEnabled()
+                || (pending.size() >= properties.getMaxPending() && !pending.containsKey(activity.userId()))) {
+            userRepository.updateLastLogins(List.of(activity));
+            return;
+        }
+        pending.put(activity.userId(), activity);
+    }
+
+    /**
+     * 대기 중인 기록을 batch로 반영
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<LoginActivity> batch = new ArrayList<>(Math.min(pending.size(), properties.getBatchSize()));
+        for (String userId : pending.keySet()) {
+            LoginActivity activity = pending.remove(userId);
+            if (activity == null) {
+                continue;
+            }
+            batch.add(activity);
+            if (batch.size() >= properties.getBatchSize()) {
+                write(batch);
+                batch = new ArrayList<>(properties.getBatchSize());
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        flushSafely();
+    }
+
+    /**
+     * batch 반영. 실패하면 그 사이 더 새 기록이 없는 사용자만 다시 대기열에 넣는다.
+     */
+    private void write(List<LoginActivity> batch) {
+        try {
+            userRepository.updateLastLogins(batch);
+        } catch (RuntimeException e) {
+            batch.forEach(activity -> pending.putIfAbsent(activity.userId(), activity));
+            throw e;
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("[LOGIN-ACTIVITY] 마지막 로그인 기록 반영 실패: error={}", e.getMessage(), e);
+        }
+    }
+}
@@ -47,6 +47,12 @@ public class PermissionRepositoryImpl implements PermissionRepository {
         return permissionMapper.findByRoleId(roleId);
     }
 
+    @Override
+    public List<Permission> findGrantedByUserId(String userId) {
+        log.debug("Finding granted permissions by userId: {}", userId);
+        return permissionMapper.findGrantedByUserId(userId);
+    }
+
     @Override
     public Permission save(Permission permission) {
         if (permission.getPermissionId() == null) {
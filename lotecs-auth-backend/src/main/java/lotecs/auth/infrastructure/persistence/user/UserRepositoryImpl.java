@@ -2,11 +2,17 @@ package lotecs.auth.infrastructure.persistence.user;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.user.model.LoginActivity;
 import lotecs.auth.domain.user.model.User;
 import lotecs.auth.domain.user.repository.UserRepository;
 import lotecs.auth.infrastructure.persistence.user.mapper.UserMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +22,7 @@ import java.util.Optional;
 public class UserRepositoryImpl implements UserRepository {
 
     private final UserMapper userMapper;
+    private final SqlSessionFactory sqlSessionFactory;
 
     @Override
     public Optional<User> findById(String userId) {
@@ -26,8 +33,7 @@ public class UserRepositoryImpl implements UserRepository {
     @Override
     public Optional<User> findByIdAndTenantId(String userId, String tenantId) {
         log.debug("Finding user by id and tenantId: userId={}, tenantId={}", userId, tenantId);
-        return userMapper.findById(userId)
-                .filter(user -> tenantId.equals(user.getTenantId()));
+        return userMapper.findByIdAndTenantId(userId, tenantId);
     }
 
     @Override
@@ -60,4 +66,42 @@ public class UserRepositoryImpl implements UserRepository {
         log.debug("Deleting user: userId={}", userId);
         userMapper.delete(userId);
     }
+
+    @Override
+    public void updatePassword(String userId, String encodedPassword) {
+        log.debug("Updating password hash: userId={}", userId);
+        userMapper.updatePassword(userId, encodedPassword);
+    }
+
+    @Override
+    public void resetLoginFailures(String userId) {
+        log.debug("Resetting login failures: userId={}", userId);
+        userMapper.resetLoginFailures(userId);
+    }
+
+    @Override
+    public void incrementLoginFailures(String userId, int maxAttempts, LocalDateTime now, LocalDateTime lockExpiredBefore) {
+        log.debug("Incrementing login failures: userId={}", userId);
+        userMapper.incrementLoginFailures(userId, maxAttempts, now, lockExpiredBefore);
+    }
+
+    @Override
+    public boolean lockAccount(String userId, int failedAttempts, LocalDateTime lockedAt, LocalDateTime lockExpiredBefore) {
+        log.debug("Locking account: userId={}, failedAttempts={}", userId, failedAttempts);
+        return userMapper.lockAccount(userId, failedAttempts, lockedAt, lockExpiredBefore) > 0;
+    }
+
+    @Override
+    public void updateLastLogins(Collection<LoginActivity> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+        log.debug("Updating last logins (batch): count={}", activities.size());
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+            UserMapper batchMapper = session.getMapper(UserMapper.class);
+            activities.forEach(batchMapper::updateLastLogin);
+            session.flushStatements();
+            session.commit();
+        }
+    }
 }
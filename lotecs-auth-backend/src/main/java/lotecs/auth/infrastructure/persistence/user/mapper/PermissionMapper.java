@@ -35,6 +35,12 @@ public interface PermissionMapper {
      */
     List<Permission> findByRoleId(@Param("roleId") String roleId);
 
+    /**
+     * 사용자에게 부여된 권한 목록 조회 (역할 경유, 중복 제거)
+     * PERMISSION_NAME, RESOURCE_NAME, ACTION 컬럼만 조회한다.
+     */
+    List<Permission> findGrantedByUserId(@Param("userId") String userId);
+
     /**
      * 권한 등록
      */
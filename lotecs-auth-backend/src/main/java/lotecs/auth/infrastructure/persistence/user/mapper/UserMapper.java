@@ -1,9 +1,11 @@
 package lotecs.auth.infrastructure.persistence.user.mapper;
 
+import lotecs.auth.domain.user.model.LoginActivity;
 import lotecs.auth.domain.user.model.User;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,11 @@ public interface UserMapper {
      */
     Optional<User> findById(@Param("userId") String userId);
 
+    /**
+     * ID와 테넌트 ID로 사용자 조회
+     */
+    Optional<User> findByIdAndTenantId(@Param("userId") String userId, @Param("tenantId") String tenantId);
+
     /**
      * 사용자명과 테넌트 ID로 사용자 조회
      */
@@ -45,6 +52,37 @@ public interface UserMapper {
      */
     void update(User user);
 
+    /**
+     * 비밀번호 해시만 변경
+     */
+    void updatePassword(@Param("userId") String userId, @Param("password") String password);
+
+    /**
+     * 로그인 실패 횟수/잠금 초기화
+     */
+    int resetLoginFailures(@Param("userId") String userId);
+
+    /**
+     * 로그인 실패 횟수 원자적 증가 (임계값 도달 시 잠금, lockExpiredBefore 이전 잠금은 만료로 보고 다시 셈)
+     */
+    int incrementLoginFailures(@Param("userId") String userId,
+                               @Param("maxAttempts") int maxAttempts,
+                               @Param("now") LocalDateTime now,
+                               @Param("lockExpiredBefore") LocalDateTime lockExpiredBefore);
+
+    /**
+     * 계정 잠금 (잠기지 않았거나 lockExpiredBefore 이전에 잠긴 행만)
+     */
+    int lockAccount(@Param("userId") String userId,
+                    @Param("failedAttempts") int failedAttempts,
+                    @Param("lockedAt") LocalDateTime lockedAt,
+                    @Param("lockExpiredBefore") LocalDateTime lockExpiredBefore);
+
+    /**
+     * 마지막 로그인 시각/IP 변경 (batch 실행용)
+     */
+    void updateLastLogin(LoginActivity activity);
+
     /**
      * 사용자 삭제 (Soft Delete)
      */
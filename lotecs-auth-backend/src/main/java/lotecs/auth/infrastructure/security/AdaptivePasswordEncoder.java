@@ -0,0 +1,164 @@
+package lotecs.auth.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.infrastructure.config.PasswordEncodingProperties;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 알고리즘 식별자({@code {bcrypt}}, {@code {argon2}}) 기반 비밀번호 인코더.
+ *
+ * <p>새 해시는 설정된 알고리즘으로 만들고, 식별자가 없는 기존 해시는 BCrypt로 검증한다.
+ * {@link #upgradeEncoding(String)}은 저장된 해시의 알고리즘이 다르거나 BCrypt cost가 목표와 다르면 true를 반환하며,
+ * 로그인 성공 시 같은 비밀번호로 재해시하는 데 사용한다.
+ * 노드마다 보정 결과가 1 차이 나는 경우 재해시가 반복되지 않도록, 목표보다 높은 cost는 2 이상 차이 날 때만 낮춘다.</p>
+ */
+@Slf4j
+public final class AdaptivePasswordEncoder implements PasswordEncoder {
+
+    static final String BCRYPT_ID = "bcrypt";
+    static final String ARGON2_ID = "argon2";
+
+    private static final String CALIBRATION_SAMPLE = "calibration-sample-password";
+    private static final int CALIBRATION_RUNS = 3;
+
+    private final DelegatingPasswordEncoder delegate;
+    private final Argon2PasswordEncoder argon2Encoder;
+    private final String encodingId;
+    private final int bcryptStrength;
+
+    AdaptivePasswordEncoder(PasswordEncodingProperties.Algorithm algorithm,
+                            int bcryptStrength,
+                            PasswordEncodingProperties.Argon2 argon2) {
+        this.encodingId = algorithm == PasswordEncodingProperties.Algorithm.ARGON2ID ? ARGON2_ID : BCRYPT_ID;
+        this.bcryptStrength = bcryptStrength;
+        this.argon2Encoder = new Argon2PasswordEncoder(
+                argon2.getSaltLength(),
+                argon2.getHashLength(),
+                argon2.getParallelism(),
+                argon2.getMemory(),
+                argon2.getIterations()
+        );
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        this.delegate = new DelegatingPasswordEncoder(encodingId, Map.of(
+                BCRYPT_ID, bcrypt,
+                ARGON2_ID, argon2Encoder
+        ));
+        this.delegate.setDefaultPasswordEncoderForMatches(bcrypt);
+    }
+
+    /**
+     * 설정에 따라 인코더 생성 (calibration 활성화 시 BCrypt cost를 현재 하드웨어에서 측정해 결정)
+     */
+    public static AdaptivePasswordEncoder create(PasswordEncodingProperties properties) {
+        int strength = properties.getBcryptStrength();
+        if (properties.getCalibration().isEnabled()) {
+            strength = calibrate(properties.getCalibration(), AdaptivePasswordEncoder::measureBcrypt);
+        }
+
+        log.info("Password encoder initialized: algorithm={}, bcryptStrength={}, calibrated={}",
+                properties.getAlgorithm(), strength, properties.getCalibration().isEnabled());
+        return new AdaptivePasswordEncoder(properties.getAlgorithm(), strength, properties.getArgon2());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        String id = BCRYPT_ID;
+        String hash = encodedPassword;
+        if (encodedPassword.startsWith("{")) {
+            int end = encodedPassword.indexOf('}');
+            if (end < 0) {
+                return false;
+            }
+            id = encodedPassword.substring(1, end);
+            hash = encodedPassword.substring(end + 1);
+        }
+
+        if (!id.equals(encodingId)) {
+            return true;
+        }
+        if (ARGON2_ID.equals(id)) {
+            return argon2Encoder.upgradeEncoding(hash);
+        }
+
+        int cost = bcryptCost(hash);
+        return cost > 0 && (cost < bcryptStrength || cost > bcryptStrength + 1);
+    }
+
+    /**
+     * 목표 소요 시간 안에 드는 가장 높은 BCrypt cost 계산.
+     * minStrength에서 측정한 시간을 기준으로 cost가 1 오를 때마다 두 배가 된다고 보고 외삽한다.
+     *
+     * @param hashNanos cost별 해시 1회 소요 시간(ns) 측정 함수
+     */
+    static int calibrate(PasswordEncodingProperties.Calibration calibration, IntToLongFunction hashNanos) {
+        int min = calibration.getMinStrength();
+        int max = Math.max(min, calibration.getMaxStrength());
+        long target = calibration.getTargetLatency().toNanos();
+        long measured = Math.max(1, hashNanos.applyAsLong(min));
+
+        int strength = min;
+        long expected = measured;
+        while (strength < max && expected * 2 <= target) {
+            strength++;
+            expected *= 2;
+        }
+
+        if (measured > target) {
+            log.warn("[PASSWORD-HASH] 최소 cost도 목표 시간을 초과: minStrength={}, measured={}, target={}",
+                    min, Duration.ofNanos(measured), calibration.getTargetLatency());
+        } else {
+            log.info("[PASSWORD-HASH] BCrypt cost 보정: strength={}, measuredAtMin={}, expected={}, target={}",
+                    strength, Duration.ofNanos(measured), Duration.ofNanos(expected), calibration.getTargetLatency());
+        }
+        return strength;
+    }
+
+    private static long measureBcrypt(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(CALIBRATION_SAMPLE);
+
+        long[] samples = new long[CALIBRATION_RUNS];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_SAMPLE);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private static int bcryptCost(String hash) {
+        // $2a$10$... 형식
+        if (hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$' || hash.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package lotecs.auth.infrastructure.security;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 고정 크기 count-min sketch (lock-free).
+ *
+ * <p>depth개 행마다 독립된 seed로 해시한 칸을 원자적으로 증가시키고, 추정값은 행별 값의 최솟값이다.
+ * 추정값은 실제 값보다 작지 않다(과대 추정만 발생). seed는 인스턴스마다 무작위이므로 외부에서 충돌 키를 만들기 어렵다.</p>
+ */
+final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final long[] seeds;
+    private final AtomicIntegerArray counters;
+
+    CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        this.width = width;
+        this.seeds = new long[depth];
+        for (int i = 0; i < depth; i++) {
+            seeds[i] = ThreadLocalRandom.current().nextLong();
+        }
+        this.counters = new AtomicIntegerArray(depth * width);
+    }
+
+    private CountMinSketch(CountMinSketch template) {
+        this.depth = template.depth;
+        this.width = template.width;
+        this.seeds = template.seeds;
+        this.counters = new AtomicIntegerArray(depth * width);
+    }
+
+    /**
+     * 같은 seed를 쓰는 빈 sketch (세대 교체용)
+     */
+    CountMinSketch emptyCopy() {
+        return new CountMinSketch(this);
+    }
+
+    /**
+     * 1 증가 후 추정값 반환
+     */
+    int increment(String key) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int value = counters.incrementAndGet(index(row, key));
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    int estimate(String key) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(index(row, key)));
+        }
+        return min;
+    }
+
+    private int index(int row, String key) {
+        long hash = seeds[row];
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        // murmur3 fmix64
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return row * width + (int) Math.floorMod(hash, (long) width);
+    }
+}
@@ -0,0 +1,149 @@
+package lotecs.auth.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.user.model.User;
+import lotecs.auth.domain.user.repository.UserRepository;
+import lotecs.auth.infrastructure.config.LoginLockoutProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 로그인 실패 횟수 제한/계정 잠금.
+ *
+ * <p>실패 기록은 사용자별 Redis sorted set에 시각을 score로 쌓고, Lua 스크립트 하나로
+ * window 밖 기록 제거 → 추가 → TTL 갱신 → 개수 조회를 원자적으로 수행한다(sliding window).
+ * 실패마다 사용자 행을 UPDATE하지 않고, 임계값에 도달했을 때만 잠금 상태로 바꾼다(잠금이 유지 중인 행은 건드리지 않고,
+ * 잠금 유지 시간이 지난 행은 LOCKED_AT을 갱신해 다시 잠근다).</p>
+ *
+ * <p>Redis를 사용할 수 없으면 DB의 {@code FAILED_LOGIN_ATTEMPTS = FAILED_LOGIN_ATTEMPTS + 1} 원자적 증가로 대체한다.
+ * 이 경우 window 없이 누적되며 로그인 성공 시 초기화된다.</p>
+ */
+@Slf4j
+@Component
+public class LoginLockoutEngine {
+
+    /**
+     * KEYS[1]: 실패 기록 키, ARGV[1]: 현재 시각(ms), ARGV[2]: window(ms), ARGV[3]: 기록 ID
+     */
+    private static final RedisScript<Long> RECORD_FAILURE = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+            redis.call('ZADD', KEYS[1], now, ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], window)
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserRepository userRepository;
+    private final LoginLockoutProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public LoginLockoutEngine(StringRedisTemplate redisTemplate,
+                              UserRepository userRepository,
+                              LoginLockoutProperties properties) {
+        this(redisTemplate, userRepository, properties, Clock.systemDefaultZone());
+    }
+
+    LoginLockoutEngine(StringRedisTemplate redisTemplate,
+                       UserRepository userRepository,
+                       LoginLockoutProperties properties,
+                       Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 현재 잠금 상태 여부 (잠금 유지 시간이 지났으면 잠금 해제로 판단, DB 반영은 로그인 성공 시)
+     */
+    public boolean isLocked(User user) {
+        if (user.isAccountNonLocked()) {
+            return false;
+        }
+        if (properties.getLockDurationMinutes() <= 0 || user.getLockedAt() == null) {
+            return true;
+        }
+        return LocalDateTime.now(clock).isBefore(user.getLockedAt().plusMinutes(properties.getLockDurationMinutes()));
+    }
+
+    /**
+     * 비밀번호 불일치 기록
+     *
+     * @return 이번 실패로 잠금 임계값에 도달했으면 true
+     */
+    public boolean recordFailure(User user) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Long attempts = countFailure(user);
+
+        LocalDateTime lockExpiredBefore = lockExpiredBefore(now);
+
+        if (attempts == null) {
+            userRepository.incrementLoginFailures(user.getUserId(), properties.getMaxFailedAttempts(), now, lockExpiredBefore);
+            // 만료된 잠금은 DB에서 이번 실패부터 다시 센다
+            int previous = user.isAccountNonLocked() || isLocked(user) ? user.getFailedLoginAttempts() : 0;
+            return previous + 1 >= properties.getMaxFailedAttempts();
+        }
+
+        if (attempts < properties.getMaxFailedAttempts()) {
+            return false;
+        }
+
+        if (userRepository.lockAccount(user.getUserId(), attempts.intValue(), now, lockExpiredBefore)) {
+            log.warn("[LOGIN-LOCKOUT] 계정 잠금: userId={}, attempts={}, window={}",
+                    user.getUserId(), attempts, properties.getFailureWindow());
+        }
+        return true;
+    }
+
+    /**
+     * 로그인 성공 시 실패 기록 초기화
+     */
+    public void reset(User user) {
+        try {
+            redisTemplate.delete(failureKey(user));
+        } catch (Exception e) {
+            log.warn("[LOGIN-LOCKOUT] 실패 기록 초기화 실패: userId={}, error={}", user.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 이 시각 이전의 잠금은 만료된 것으로 본다 (잠금 유지 시간이 없으면 null, 만료 없음)
+     */
+    private LocalDateTime lockExpiredBefore(LocalDateTime now) {
+        if (properties.getLockDurationMinutes() <= 0) {
+            return null;
+        }
+        return now.minusMinutes(properties.getLockDurationMinutes());
+    }
+
+    private Long countFailure(User user) {
+        try {
+            return redisTemplate.execute(
+                    RECORD_FAILURE,
+                    List.of(failureKey(user)),
+                    String.valueOf(clock.millis()),
+                    String.valueOf(properties.getFailureWindow().toMillis()),
+                    UUID.randomUUID().toString()
+            );
+        } catch (Exception e) {
+            log.warn("[LOGIN-LOCKOUT] Redis 실패 기록 불가, DB 카운터 사용: userId={}, error={}",
+                    user.getUserId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private String failureKey(User user) {
+        return properties.getFailureKeyPrefix() + user.getTenantId() + ":" + user.getUserId();
+    }
+}
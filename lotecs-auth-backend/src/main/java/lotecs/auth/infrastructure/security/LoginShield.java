@@ -0,0 +1,193 @@
+package lotecs.auth.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.exception.auth.LoginThrottledException;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.config.LoginShieldProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 인증 전 차단 (credential stuffing 방어).
+ *
+ * <p>IP별, (tenant, username)별 로그인 실패 횟수를 노드 로컬 count-min sketch로 센다.
+ * window마다 sketch 세대를 교체하고 현재/직전 세대의 합으로 판단하므로, 메모리는 항목 수와 무관하게
+ * {@code 2 × depth × width × 4바이트}로 고정되고 요청마다 Redis 왕복이 없다.
+ * 추정값은 과대 추정만 하므로 임계값은 여유 있게 잡는다.</p>
+ *
+ * <p>INTERNAL 인증에서 존재하지 않는 사용자명은 negative cache에 넣어 TTL 동안 DB 조회 없이 거절한다.
+ * 사용자 생성 시 로컬 항목을 제거하고 {@link CacheInvalidationEvent.UserCreated}로 다른 노드에도 전파한다.</p>
+ */
+@Slf4j
+@Component
+public class LoginShield implements CacheInvalidationListener {
+
+    public static final String METRIC_PREFIX = "auth.login.shield";
+
+    private static final String IP_KEY_PREFIX = "ip:";
+    private static final String USER_KEY_PREFIX = "user:";
+
+    private final LoginShieldProperties properties;
+    private final Clock clock;
+    private final long windowMillis;
+    private final AtomicReference<Generation> generation;
+    private final Cache<UnknownUser, Boolean> unknownUsers;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByUsername;
+    private final Counter unknownUserHits;
+
+    @Autowired
+    public LoginShield(LoginShieldProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    LoginShield(LoginShieldProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.windowMillis = Math.max(1, properties.getWindow().toMillis());
+
+        CountMinSketch sketch = new CountMinSketch(properties.getSketchDepth(), properties.getSketchWidth());
+        this.generation = new AtomicReference<>(
+                new Generation(clock.millis() / windowMillis, sketch, sketch.emptyCopy()));
+        this.unknownUsers = Caffeine.newBuilder()
+                .maximumSize(properties.getUnknownUserMaxSize())
+                .expireAfterWrite(properties.getUnknownUserTtl())
+                .build();
+
+        this.rejectedByIp = Counter.builder(METRIC_PREFIX + ".rejected")
+                .tag("reason", "ip")
+                .description("IP별 실패 임계값 초과로 거절된 로그인 수")
+                .register(meterRegistry);
+        this.rejectedByUsername = Counter.builder(METRIC_PREFIX + ".rejected")
+                .tag("reason", "username")
+                .description("사용자명별 실패 임계값 초과로 거절된 로그인 수")
+                .register(meterRegistry);
+        this.unknownUserHits = Counter.builder(METRIC_PREFIX + ".unknown-user.hits")
+                .description("negative cache로 DB 조회 없이 거절된 로그인 수")
+                .register(meterRegistry);
+
+        log.info("LoginShield initialized: enabled={}, window={}, maxFailuresPerIp={}, maxFailuresPerUsername={}, sketch={}x{}",
+                properties.isEnabled(), properties.getWindow(), properties.getMaxFailuresPerIp(),
+                properties.getMaxFailuresPerUsername(), properties.getSketchDepth(), properties.getSketchWidth());
+    }
+
+    /**
+     * 실패 횟수가 임계값을 넘은 IP/사용자명의 로그인 시도 거절
+     *
+     * @throws LoginThrottledException 현재+직전 window의 실패 추정값이 임계값 이상인 경우
+     */
+    public void check(String tenantId, String username, String ipAddress) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Generation current = currentGeneration();
+        if (ipAddress != null && current.estimate(IP_KEY_PREFIX + ipAddress) >= properties.getMaxFailuresPerIp()) {
+            rejectedByIp.increment();
+            log.warn("[LOGIN-SHIELD] IP 실패 임계값 초과로 거절: ip={}, tenant={}", ipAddress, tenantId);
+            throw new LoginThrottledException();
+        }
+        if (current.estimate(userKey(tenantId, username)) >= properties.getMaxFailuresPerUsername()) {
+            rejectedByUsername.increment();
+            log.warn("[LOGIN-SHIELD] 사용자명 실패 임계값 초과로 거절: tenant={}, username={}", tenantId, username);
+            throw new LoginThrottledException();
+        }
+    }
+
+    /**
+     * 로그인 실패 기록 (IP, 사용자명 각각 1 증가)
+     */
+    public void recordFailure(String tenantId, String username, String ipAddress) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Generation current = currentGeneration();
+        if (ipAddress != null) {
+            current.current().increment(IP_KEY_PREFIX + ipAddress);
+        }
+        current.current().increment(userKey(tenantId, username));
+    }
+
+    /**
+     * 최근 존재하지 않는 것으로 확인된 사용자명인지 여부
+     */
+    public boolean isUnknownUser(String tenantId, String username) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        boolean unknown = unknownUsers.getIfPresent(new UnknownUser(tenantId, username)) != null;
+        if (unknown) {
+            unknownUserHits.increment();
+        }
+        return unknown;
+    }
+
+    /**
+     * 존재하지 않는 사용자명 기록
+     */
+    public void recordUnknownUser(String tenantId, String username) {
+        if (properties.isEnabled()) {
+            unknownUsers.put(new UnknownUser(tenantId, username), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 사용자 생성 시 negative cache 항목 제거
+     */
+    public void evictUnknownUser(String tenantId, String username) {
+        unknownUsers.invalidate(new UnknownUser(tenantId, username));
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.UserCreated created) {
+            evictUnknownUser(created.tenantId(), created.username());
+        } else if (event instanceof CacheInvalidationEvent.SsoConfigChanged
+                || event instanceof CacheInvalidationEvent.TenantChanged) {
+            unknownUsers.asMap().keySet().removeIf(key -> key.tenantId().equals(event.tenantId()));
+        }
+    }
+
+    /**
+     * 현재 window의 세대 반환. window가 바뀌었으면 CAS로 한 번만 교체한다.
+     * 바로 이전 window였던 세대는 직전 세대로 남기고, 그보다 오래됐으면 비운다.
+     */
+    private Generation currentGeneration() {
+        long epoch = clock.millis() / windowMillis;
+        Generation observed = generation.get();
+        while (observed.epoch() < epoch) {
+            CountMinSketch previous = observed.epoch() == epoch - 1
+                    ? observed.current()
+                    : observed.current().emptyCopy();
+            Generation next = new Generation(epoch, observed.current().emptyCopy(), previous);
+            if (generation.compareAndSet(observed, next)) {
+                return next;
+            }
+            observed = generation.get();
+        }
+        return observed;
+    }
+
+    private static String userKey(String tenantId, String username) {
+        return USER_KEY_PREFIX + tenantId + '\u0000' + username;
+    }
+
+    private record Generation(long epoch, CountMinSketch current, CountMinSketch previous) {
+
+        int estimate(String key) {
+            return current.estimate(key) + previous.estimate(key);
+        }
+    }
+
+    private record UnknownUser(String tenantId, String username) {
+    }
+}
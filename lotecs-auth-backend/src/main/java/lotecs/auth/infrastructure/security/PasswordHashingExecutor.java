@@ -0,0 +1,177 @@
+package lotecs.auth.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.exception.auth.PasswordHashingBusyException;
+import lotecs.auth.infrastructure.config.PasswordHashingProperties;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 실행기.
+ *
+ * <p>BCrypt 비교/생성은 CPU를 오래 점유하므로 gRPC/Tomcat 요청 스레드 대신 코어 수만큼의 전용 스레드에서 실행한다.
+ * 대기열이 가득 차거나 maxWait 안에 끝나지 않으면 {@link PasswordHashingBusyException}으로 즉시 거절한다(backpressure).
+ * 호출자는 DB 커넥션을 잡지 않은 상태에서 호출해야 한다.</p>
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    public static final String METRIC_PREFIX = "auth.password.hashing";
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+    private final PasswordEncoder boundedEncoder = new BoundedPasswordEncoder();
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   PasswordHashingProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+
+        int poolSize = properties.getPoolSize() > 0
+                ? properties.getPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder(METRIC_PREFIX + ".queue", executor, e -> e.getQueue().size())
+                .description("비밀번호 해시 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("대기열 포화/대기 시간 초과로 거절된 해시 요청 수")
+                .register(meterRegistry);
+
+        log.info("PasswordHashingExecutor initialized: poolSize={}, queueCapacity={}, maxWait={}",
+                poolSize, properties.getQueueCapacity(), properties.getMaxWait());
+    }
+
+    /**
+     * 평문 비밀번호와 저장된 해시 비교
+     *
+     * @throws PasswordHashingBusyException 실행기가 포화 상태인 경우
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 평문 비밀번호 해시 생성
+     *
+     * @throws PasswordHashingBusyException 실행기가 포화 상태인 경우
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 저장된 해시를 현재 알고리즘/비용으로 다시 만들어야 하는지 여부 (해시 계산 없음)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 이 실행기를 거치는 {@link PasswordEncoder} (PasswordEncoder를 받는 컴포넌트에 전달용)
+     */
+    public PasswordEncoder boundedEncoder() {
+        return boundedEncoder;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 임의의 해시 작업 실행 (PasswordEncoder 밖의 해시 계산도 같은 스레드/대기열 한도를 적용)
+     *
+     * @throws PasswordHashingBusyException 실행기가 포화 상태인 경우
+     */
+    public <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("[PASSWORD-HASH] 대기열 포화로 거절: queue={}, active={}",
+                    executor.getQueue().size(), executor.getActiveCount());
+            throw new PasswordHashingBusyException(e);
+        }
+
+        try {
+            return future.get(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            log.warn("[PASSWORD-HASH] 대기 시간 초과로 거절: maxWait={}", properties.getMaxWait());
+            throw new PasswordHashingBusyException(e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private final class BoundedPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return PasswordHashingExecutor.this.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return PasswordHashingExecutor.this.matches(rawPassword, encodedPassword);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return needsRehash(encodedPassword);
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package lotecs.auth.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.token.model.RefreshToken;
+import lotecs.auth.domain.token.model.RefreshTokenRotation;
+import lotecs.auth.domain.token.model.RotationOutcome;
+import lotecs.auth.domain.token.repository.RefreshTokenRepository;
+import lotecs.auth.exception.auth.RefreshTokenReuseException;
+import lotecs.auth.exception.auth.TokenRefreshException;
+import lotecs.auth.infrastructure.config.RefreshTokenRotationProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh Token 교체(rotation) 엔진 (ATH_REFRESH_TOKENS).
+ *
+ * <p>로그인 시 발급된 Refresh Token의 SHA-256 해시를 새 패밀리(Access Token의 tokenFamily 클레임과 같은 값)로 저장한다. 갱신은 두 단계다.
+ * 새 토큰을 발급하기 전에 {@link #consume}으로 제시된 토큰을 회수하고(회수/재사용 탐지는 {@link RefreshTokenRepository#rotate}의
+ * 한 번의 DB 호출), 회수에 성공했을 때만 새 토큰을 발급해 {@link #attach}로 같은 패밀리에 저장한다.
+ * 회수 후 발급이 실패하면 그 패밀리는 끊기고 다시 로그인해야 한다.</p>
+ *
+ * <p>교체로 회수된 토큰이 {@code reuse-grace-period} 이후에 다시 제시되면 탈취로 보고 패밀리 전체를 회수한다.
+ * 그 이내에 다시 제시되면(여러 탭의 동시 갱신) 거절만 하고 패밀리는 유지한다. 즉 정상 교체 직후 grace 이내의 재전송은
+ * 재사용으로 탐지되지 않는다.</p>
+ *
+ * <p>이 노드에서 발급/교체한 토큰 해시는 hot cache에 보관한다. 교체된 토큰이 다시 오면 DB 조회 없이 거절/패밀리 회수하고,
+ * 만료된 토큰은 DB 호출 없이 거절한다.</p>
+ */
+@Slf4j
+@Component
+public class RefreshTokenRotationEngine {
+
+    public static final String METRIC_PREFIX = "auth.token.refresh";
+
+    private static final String REUSE_DETECTED = "REUSE_DETECTED";
+    private static final String LOGOUT = "LOGOUT";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenRotationProperties properties;
+    private final Clock clock;
+    private final Cache<String, HotToken> hotTokens;
+    private final Counter reuseDetected;
+    private final Counter concurrent;
+
+    @Autowired
+    public RefreshTokenRotationEngine(RefreshTokenRepository refreshTokenRepository,
+                                      RefreshTokenRotationProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this(refreshTokenRepository, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    RefreshTokenRotationEngine(RefreshTokenRepository refreshTokenRepository,
+                               RefreshTokenRotationProperties properties,
+                               MeterRegistry meterRegistry,
+                               Clock clock) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.hotTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getHotCacheMaxSize())
+                .expireAfterWrite(properties.getValidity())
+                .build();
+        this.reuseDetected = Counter.builder(METRIC_PREFIX + ".reuse-detected")
+                .description("이미 교체된 Refresh Token 재사용으로 회수된 패밀리 수")
+                .register(meterRegistry);
+        this.concurrent = Counter.builder(METRIC_PREFIX + ".concurrent")
+                .description("reuse-grace-period 이내에 다시 제시되어 거절만 한 교체된 Refresh Token 수")
+                .register(meterRegistry);
+
+        log.info("RefreshTokenRotationEngine initialized: enabled={}, validity={}, reuseGracePeriod={}, adoptUntracked={}",
+                properties.isEnabled(), properties.getValidity(), properties.getReuseGracePeriod(),
+                properties.isAdoptUntracked());
+    }
+
+    /**
+     * 로그인 시 발급된 Refresh Token 저장 (새 패밀리)
+     *
+     * @param tokenFamily 로그인 시 만든 패밀리 ID (Access Token의 tokenFamily 클레임, 로그아웃 시 이 패밀리만 회수)
+     */
+    public void record(String refreshToken, String userId, String tenantId, String tokenFamily, String ipAddress) {
+        if (!properties.isEnabled() || refreshToken == null) {
+            return;
+        }
+
+        RefreshToken token = newToken(refreshToken, userId, tenantId, tokenFamily, null, ipAddress);
+        try {
+            refreshTokenRepository.save(token);
+        } catch (RuntimeException e) {
+            if (!properties.isAdoptUntracked()) {
+                throw e;
+            }
+            // 첫 갱신 때 새 패밀리로 등록된다
+            log.warn("[REFRESH-ROTATION] 토큰 저장 실패, 첫 갱신 시 등록: userId={}, error={}", userId, e.getMessage());
+            return;
+        }
+        hotTokens.put(token.getTokenHash(), HotToken.active(token.getTokenFamily(), expiresAtMillis()));
+    }
+
+    /**
+     * 새 토큰 발급 전에 제시된 Refresh Token 회수
+     *
+     * @param presentedToken 클라이언트가 제시한 Refresh Token
+     * @param userId 제시된 토큰 클레임의 사용자 ID (저장되지 않은 토큰 등록용, 없으면 null)
+     * @param tenantId 제시된 토큰 클레임의 테넌트 ID (저장되지 않은 토큰 등록용, 없으면 null)
+     * @return 회수된 토큰의 패밀리 (교체가 비활성화되어 있으면 null)
+     * @throws RefreshTokenReuseException 이미 교체된 토큰이 grace 이후에 다시 제시된 경우 (패밀리 전체 회수)
+     * @throws TokenRefreshException 만료/회수되었거나, 저장되지 않았거나, grace 이내에 다시 제시된 경우
+     */
+    public ConsumedToken consume(String presentedToken, String userId, String tenantId) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+
+        String tokenHash = TokenDigests.sha256Hex(presentedToken);
+        HotToken hot = hotTokens.getIfPresent(tokenHash);
+        if (hot != null && hot.rotated()) {
+            if (clock.millis() - hot.rotatedAtMillis() < properties.getReuseGracePeriod().toMillis()) {
+                throw concurrentRefresh(hot.tokenFamily());
+            }
+            if (hot.tokenFamily() != null) {
+                refreshTokenRepository.revokeFamily(hot.tokenFamily(), REUSE_DETECTED);
+            }
+            throw reuse(hot.tokenFamily(), userId);
+        }
+        if (hot != null && hot.expiresAtMillis() <= clock.millis()) {
+            throw new TokenRefreshException("Refresh token expired");
+        }
+
+        RefreshTokenRotation rotation = RefreshTokenRotation.builder()
+                .tokenHash(tokenHash)
+                .reuseGraceSeconds(properties.getReuseGracePeriod().toSeconds())
+                .build();
+        if (hot == null && properties.isAdoptUntracked() && userId != null && tenantId != null) {
+            rotation.setAdoptUserId(userId);
+            rotation.setAdoptTenantId(tenantId);
+            rotation.setAdoptTokenFamily(UUID.randomUUID().toString());
+            rotation.setAdoptTokenId(UUID.randomUUID().toString());
+            rotation.setAdoptExpiresAt(LocalDateTime.now(clock).plus(properties.getValidity()));
+        }
+
+        RotationOutcome outcome = refreshTokenRepository.rotate(rotation);
+        switch (outcome) {
+            case ROTATED, ADOPTED -> {
+                hotTokens.put(tokenHash, HotToken.rotated(rotation.getTokenFamily(), clock.millis()));
+                log.debug("[REFRESH-ROTATION] 토큰 회수: outcome={}, userId={}", outcome, rotation.getUserId());
+                return new ConsumedToken(rotation.getTokenFamily(), rotation.getUserId(),
+                        rotation.getTenantId(), rotation.getDeviceId());
+            }
+            case CONCURRENT -> throw concurrentRefresh(rotation.getTokenFamily());
+            case REUSED -> {
+                hotTokens.put(tokenHash, HotToken.rotated(rotation.getTokenFamily(), 0L));
+                throw reuse(rotation.getTokenFamily(), rotation.getUserId());
+            }
+            case EXPIRED -> throw new TokenRefreshException("Refresh token expired");
+            case REVOKED -> throw new TokenRefreshException("Refresh token revoked");
+            default -> throw new TokenRefreshException("Refresh token not recognized");
+        }
+    }
+
+    /**
+     * {@link #consume} 후 새로 발급된 Refresh Token을 같은 패밀리로 저장
+     *
+     * @param consumed {@link #consume}의 결과 (null이면 아무것도 하지 않음)
+     * @param newToken 새로 발급된 Refresh Token
+     */
+    public void attach(ConsumedToken consumed, String newToken, String ipAddress) {
+        if (consumed == null || newToken == null) {
+            return;
+        }
+
+        RefreshToken token = newToken(newToken, consumed.userId(), consumed.tenantId(),
+                consumed.tokenFamily(), consumed.deviceId(), ipAddress);
+        refreshTokenRepository.save(token);
+        hotTokens.put(token.getTokenHash(), HotToken.active(token.getTokenFamily(), expiresAtMillis()));
+    }
+
+    /**
+     * 로그아웃 시 해당 세션(패밀리)의 Refresh Token만 회수
+     */
+    public void revokeFamily(String tokenFamily) {
+        if (!properties.isEnabled() || tokenFamily == null) {
+            return;
+        }
+
+        refreshTokenRepository.revokeFamily(tokenFamily, LOGOUT);
+        log.debug("[REFRESH-ROTATION] 로그아웃, 패밀리 회수: family={}", tokenFamily);
+    }
+
+    /**
+     * 로그아웃 시 사용자의 모든 Refresh Token 회수 (패밀리 클레임이 없는 토큰용)
+     */
+    public void revokeAll(String userId) {
+        if (!properties.isEnabled() || userId == null) {
+            return;
+        }
+
+        refreshTokenRepository.revokeAllByUserId(userId, LOGOUT);
+        log.debug("[REFRESH-ROTATION] 로그아웃, 사용자 토큰 전체 회수: userId={}", userId);
+    }
+
+    private RefreshToken newToken(String refreshToken, String userId, String tenantId,
+                                  String tokenFamily, String deviceId, String ipAddress) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return RefreshToken.builder()
+                .tokenId(UUID.randomUUID().toString())
+                .userId(userId)
+                .tenantId(tenantId)
+                .tokenHash(TokenDigests.sha256Hex(refreshToken))
+                .tokenFamily(tokenFamily)
+                .issuedAt(now)
+                .expiresAt(now.plus(properties.getValidity()))
+                .ipAddress(ipAddress)
+                .deviceId(deviceId)
+                .usedCount(0)
+                .build();
+    }
+
+    private TokenRefreshException concurrentRefresh(String tokenFamily) {
+        concurrent.increment();
+        log.debug("[REFRESH-ROTATION] grace 이내 재제시, 패밀리 유지: family={}", tokenFamily);
+        return new TokenRefreshException("Refresh token already rotated");
+    }
+
+    private RefreshTokenReuseException reuse(String tokenFamily, String userId) {
+        reuseDetected.increment();
+        log.warn("[REFRESH-ROTATION] 교체된 토큰 재사용, 패밀리 회수: family={}, userId={}", tokenFamily, userId);
+        return new RefreshTokenReuseException();
+    }
+
+    private long expiresAtMillis() {
+        return clock.millis() + properties.getValidity().toMillis();
+    }
+
+    /**
+     * {@link #consume}으로 회수된 토큰의 패밀리 (새 토큰을 같은 패밀리로 저장할 때 사용)
+     */
+    public record ConsumedToken(String tokenFamily, String userId, String tenantId, String deviceId) {
+    }
+
+    /**
+     * @param rotatedAtMillis 교체로 회수된 시각 (0이면 활성 토큰 또는 grace 없이 재사용으로 판정된 토큰)
+     */
+    private record HotToken(String tokenFamily, long expiresAtMillis, boolean rotated, long rotatedAtMillis) {
+
+        static HotToken active(String tokenFamily, long expiresAtMillis) {
+            return new HotToken(tokenFamily, expiresAtMillis, false, 0L);
+        }
+
+        static HotToken rotated(String tokenFamily, long rotatedAtMillis) {
+            return new HotToken(tokenFamily, Long.MAX_VALUE, true, rotatedAtMillis);
+        }
+    }
+}
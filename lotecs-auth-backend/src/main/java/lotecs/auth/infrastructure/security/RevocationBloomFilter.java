@@ -0,0 +1,76 @@
+package lotecs.auth.infrastructure.security;
+
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * 폐기 토큰 digest Bloom filter (WatchRevocations snapshot).
+ *
+ * <p>digest는 이미 균등 분포인 SHA-256 앞 128비트이므로 별도 해시 없이 앞 64비트 h1, 뒤 64비트 h2로
+ * i번째 비트 위치를 {@code unsigned(h1 + i * h2) mod bitCount}로 정한다. SDK도 같은 규칙으로 조회한다.</p>
+ */
+public final class RevocationBloomFilter {
+
+    private static final int MIN_BITS = 64;
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    private RevocationBloomFilter(long[] bits, int bitCount, int hashCount) {
+        this.bits = bits;
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 목표 오탐률에 맞춰 크기를 정하고 digest를 모두 넣는다.
+     */
+    public static RevocationBloomFilter of(Collection<String> digests, double falsePositiveRate) {
+        int n = Math.max(1, digests.size());
+        double ln2 = Math.log(2);
+        int bitCount = (int) Math.max(MIN_BITS, Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * ln2));
+
+        RevocationBloomFilter filter = new RevocationBloomFilter(new long[(bitCount + 63) / 64], bitCount, hashCount);
+        digests.forEach(filter::add);
+        return filter;
+    }
+
+    public boolean mightContain(String digest) {
+        long h1 = HexFormat.fromHexDigitsToLong(digest, 0, 16);
+        long h2 = HexFormat.fromHexDigitsToLong(digest, 16, 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1, h2, i);
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long[] getBits() {
+        return bits.clone();
+    }
+
+    public int getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private void add(String digest) {
+        long h1 = HexFormat.fromHexDigitsToLong(digest, 0, 16);
+        long h2 = HexFormat.fromHexDigitsToLong(digest, 16, 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1, h2, i);
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    private int index(long h1, long h2, int i) {
+        return (int) Long.remainderUnsigned(h1 + i * h2, bitCount);
+    }
+}
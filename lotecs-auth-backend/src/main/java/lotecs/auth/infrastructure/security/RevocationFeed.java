@@ -0,0 +1,301 @@
+package lotecs.auth.infrastructure.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.config.RevocationFeedProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 폐기 스트림 (WatchRevocations).
+ *
+ * <p>로그아웃으로 폐기된 Access Token digest를 Access Token 유효 시간(retention) 동안 version 순으로 보관하고,
+ * 구독자(SDK의 로컬 검증기)에게 변경분을 즉시 push한다. version은 단조 증가하는 epoch 밀리초다.
+ * 구독자가 retention보다 오래 끊겼거나 처음 접속하면 전체 목록을 Bloom filter snapshot으로 보내고,
+ * 연결 중인 구독자에게도 snapshot-interval마다 snapshot을 보내 누락된 변경분을 보정한다.</p>
+ *
+ * <p>전송은 구독자별 대기열(subscriber-queue-capacity)을 거친다. 기록은 잠금 안에서 대기열에 넣기만 하고,
+ * 실제 전송은 잠금 밖에서 구독자가 받을 수 있을 때({@link Sink#isReady()})만 하며 나머지는
+ * {@link Subscription#drain()}(gRPC onReady)에서 보낸다. snapshot은 이전 변경분을 모두 포함하므로 대기열을 비우고 들어간다.
+ * 대기열이 넘치면 그 구독자만 끊고({@link Sink#close(String)}), 구독자는 마지막 version으로 재접속해 변경분이나 snapshot을 다시 받는다.</p>
+ *
+ * <p>다른 노드의 로그아웃은 {@link CacheInvalidationEvent.TokenRevoked}로 전달받아 함께 기록한다.
+ * 기록은 메모리에만 있으므로 시작 시 {@link TokenBlacklist}의 Redis 폐기 키로 복원한다. 복원에 실패하면
+ * 불완전한 snapshot이 SDK의 폐기 목록을 대체하지 않도록 retention이 지날 때까지 주기 snapshot을 보내지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class RevocationFeed implements CacheInvalidationListener {
+
+    private final RevocationFeedProperties properties;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private final Object lock = new Object();
+    private final NavigableMap<Long, String> revocations = new TreeMap<>();
+    private long lastVersion;
+    private long snapshotsCompleteAt;
+
+    @Autowired
+    public RevocationFeed(RevocationFeedProperties properties, TokenBlacklist tokenBlacklist) {
+        this(properties, Clock.systemUTC());
+        Map<String, Duration> revoked = tokenBlacklist.loadRevoked(properties.getSeedTimeout());
+        if (revoked != null) {
+            seed(revoked);
+        } else {
+            snapshotsCompleteAt = clock.millis() + properties.getRetention().toMillis();
+            log.warn("[REVOCATION-FEED] Redis 폐기 목록 복원 실패, {} 동안 주기 snapshot 보류", properties.getRetention());
+        }
+        long intervalMillis = properties.getSnapshotInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::publishSnapshot, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    RevocationFeed(RevocationFeedProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "revocation-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("RevocationFeed initialized: retention={}, snapshotInterval={}, falsePositiveRate={}, subscriberQueueCapacity={}",
+                properties.getRetention(), properties.getSnapshotInterval(), properties.getFalsePositiveRate(),
+                properties.getSubscriberQueueCapacity());
+    }
+
+    /**
+     * 폐기된 토큰 digest 기록 및 구독자에게 전송
+     */
+    public void record(String tokenDigest) {
+        List<Subscriber> targets;
+        synchronized (lock) {
+            long version = nextVersion();
+            revocations.put(version, tokenDigest);
+            targets = enqueue(new RevocationBatch(version, List.of(tokenDigest), null));
+        }
+        targets.forEach(Subscriber::drain);
+    }
+
+    /**
+     * 폐기 스트림 구독.
+     * sinceVersion이 0 이하이거나 retention보다 오래됐으면 snapshot을, 아니면 그 이후 변경분(없으면 빈 목록)을 먼저 보낸다.
+     *
+     * @return 구독 (onReady 시 {@link Subscription#drain()}, 취소 시 {@link Subscription#cancel()} 호출)
+     */
+    public Subscription subscribe(long sinceVersion, Sink sink) {
+        Subscriber subscriber = new Subscriber(sink);
+        synchronized (lock) {
+            prune();
+            if (sinceVersion <= 0 || sinceVersion < clock.millis() - properties.getRetention().toMillis()) {
+                subscriber.offer(snapshot());
+            } else {
+                long replayFrom = sinceVersion - properties.getReplaySlack().toMillis();
+                List<String> replay = new ArrayList<>(revocations.tailMap(replayFrom, false).values());
+                // 변경분이 없어도 보내 구독자가 연결 성립을 알 수 있게 한다
+                subscriber.offer(new RevocationBatch(lastVersion, replay, null));
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.drain();
+        log.debug("[REVOCATION-FEED] 구독 시작: since={}, subscribers={}", sinceVersion, subscribers.size());
+        return subscriber;
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.TokenRevoked tokenRevoked) {
+            record(tokenRevoked.tokenDigest());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 시작 시 Redis에 남아 있는 폐기 기록 복원
+     *
+     * @param revoked digest -> 폐기 후 경과 시간
+     */
+    void seed(Map<String, Duration> revoked) {
+        synchronized (lock) {
+            long now = clock.millis();
+            revoked.forEach((digest, elapsed) -> {
+                long version = Math.min(now, now - elapsed.toMillis());
+                while (revocations.containsKey(version)) {
+                    version++;
+                }
+                revocations.put(version, digest);
+                lastVersion = Math.max(lastVersion, version);
+            });
+            prune();
+        }
+        log.info("[REVOCATION-FEED] Redis 폐기 목록 복원: count={}", revoked.size());
+    }
+
+    /**
+     * 만료된 기록을 정리하고 구독자 전체에 snapshot 전송
+     */
+    void publishSnapshot() {
+        try {
+            List<Subscriber> targets;
+            synchronized (lock) {
+                prune();
+                if (subscribers.isEmpty() || clock.millis() < snapshotsCompleteAt) {
+                    return;
+                }
+                targets = enqueue(snapshot());
+            }
+            targets.forEach(Subscriber::drain);
+        } catch (RuntimeException e) {
+            log.warn("[REVOCATION-FEED] snapshot 전송 실패", e);
+        }
+    }
+
+    private RevocationBatch snapshot() {
+        RevocationBloomFilter filter = RevocationBloomFilter.of(revocations.values(), properties.getFalsePositiveRate());
+        return new RevocationBatch(nextVersion(), List.of(), filter);
+    }
+
+    /**
+     * 모든 구독자 대기열에 추가 (잠금 안에서 호출, 전송은 반환된 구독자의 drain으로 잠금 밖에서)
+     */
+    private List<Subscriber> enqueue(RevocationBatch batch) {
+        List<Subscriber> targets = new ArrayList<>(subscribers);
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(batch);
+        }
+        return targets;
+    }
+
+    private void prune() {
+        revocations.headMap(clock.millis() - properties.getRetention().toMillis()).clear();
+    }
+
+    private long nextVersion() {
+        lastVersion = Math.max(lastVersion + 1, clock.millis());
+        return lastVersion;
+    }
+
+    /**
+     * 구독자에게 보내는 단위. snapshot이 있으면 version 이전의 폐기 목록 전체를 대체한다.
+     */
+    public record RevocationBatch(long version, List<String> tokenDigests, RevocationBloomFilter snapshot) {
+    }
+
+    /**
+     * 구독자 전송 대상 (gRPC ServerCallStreamObserver 어댑터)
+     */
+    public interface Sink {
+
+        /**
+         * 지금 보내도 전송 버퍼가 넘치지 않는지 여부
+         */
+        boolean isReady();
+
+        void send(RevocationBatch batch);
+
+        /**
+         * 대기열이 넘쳐 구독을 끊을 때 호출 (구독자는 마지막 version으로 재접속한다)
+         */
+        void close(String reason);
+    }
+
+    /**
+     * 구독 핸들
+     */
+    public interface Subscription {
+
+        /**
+         * 대기열에 쌓인 batch를 받을 수 있는 만큼 전송 (구독자가 다시 받을 수 있게 되었을 때 호출)
+         */
+        void drain();
+
+        /**
+         * 구독 해지
+         */
+        void cancel();
+    }
+
+    private final class Subscriber implements Subscription {
+
+        private final Sink sink;
+        private final Deque<RevocationBatch> queue = new ArrayDeque<>();
+        private boolean overflowed;
+        private boolean closed;
+
+        Subscriber(Sink sink) {
+            this.sink = sink;
+        }
+
+        synchronized void offer(RevocationBatch batch) {
+            if (closed || overflowed) {
+                return;
+            }
+            if (batch.snapshot() != null) {
+                // snapshot은 이전 변경분을 모두 포함한다
+                queue.clear();
+            } else if (queue.size() >= properties.getSubscriberQueueCapacity()) {
+                overflowed = true;
+                queue.clear();
+                return;
+            }
+            queue.addLast(batch);
+        }
+
+        @Override
+        public synchronized void drain() {
+            if (closed) {
+                return;
+            }
+            if (overflowed) {
+                close();
+                log.warn("[REVOCATION-FEED] 구독자 대기열 초과, 구독 해지: capacity={}", properties.getSubscriberQueueCapacity());
+                try {
+                    sink.close("revocation queue overflow");
+                } catch (RuntimeException e) {
+                    log.debug("[REVOCATION-FEED] 구독자 종료 실패: {}", e.getMessage());
+                }
+                return;
+            }
+            try {
+                while (!queue.isEmpty() && sink.isReady()) {
+                    sink.send(queue.pollFirst());
+                }
+            } catch (RuntimeException e) {
+                log.debug("[REVOCATION-FEED] 구독자 전송 실패, 구독 해지: {}", e.getMessage());
+                close();
+            }
+        }
+
+        @Override
+        public synchronized void cancel() {
+            close();
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+            subscribers.remove(this);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package lotecs.auth.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.config.TokenBlacklistProperties;
+import lotecs.auth.infrastructure.config.TokenBlacklistProperties.FailurePolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Access Token 블랙리스트 (로컬 shadow + Redis).
+ *
+ * <p>폐기된 토큰 digest를 노드 로컬 shadow에 먼저 기록하고 Redis에 TTL과 함께 저장한다.
+ * 다른 노드의 폐기는 {@link CacheInvalidationEvent.TokenRevoked}로 shadow에 반영하므로, 조회는 shadow에서 먼저 끝나고
+ * shadow에 없을 때만 Redis를 확인한다.</p>
+ *
+ * <p>Redis 호출은 Lettuce 비동기 API(reactive template)로 보내고 redisTimeout까지만 기다려 검증 지연의 상한을 둔다.
+ * 별도 스레드를 거치지 않으며, 응답 대기 중인 호출 수는 maxInFlight로 제한한다.
+ * 연속 실패가 failureThreshold에 도달하면 openDuration 동안 Redis를 호출하지 않고(서킷 OPEN) 테넌트별 정책을 적용한다.
+ * FAIL_OPEN은 shadow에 없는 토큰을 허용하고, FAIL_CLOSED는 거절한다.
+ * maxInFlight를 넘은 호출은 Redis 장애가 아니므로 서킷에 반영하지 않고 해당 호출에만 정책을 적용한다.
+ * 장애 중 Redis에 쓰지 못한 폐기는 보관했다가 reconcileInterval마다 다시 쓴다.</p>
+ *
+ * <p>다른 서비스는 lotecs-jwt 블랙리스트 키(sharedKeyPrefix + Access Token)를 읽으므로 폐기 시 그 키도 함께 기록한다.
+ * 이 서비스의 조회는 digest 키만 사용한다.</p>
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements CacheInvalidationListener {
+
+    public static final String METRIC_PREFIX = "auth.token.blacklist";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final TokenBlacklistProperties properties;
+    private final LongSupplier nanoTime;
+    private final Cache<String, Boolean> shadow;
+    private final Map<String, Long> pendingWrites = new ConcurrentHashMap<>();
+    private final Semaphore inFlight;
+    private final ScheduledExecutorService reconciler;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probing = new AtomicBoolean();
+    private volatile long openedAt;
+    private volatile boolean open;
+
+    private final Counter failOpen;
+    private final Counter failClosed;
+    private final Counter saturated;
+
+    @Autowired
+    public TokenBlacklist(ReactiveStringRedisTemplate redisTemplate,
+                          TokenBlacklistProperties properties,
+                          MeterRegistry meterRegistry) {
+        this(redisTemplate, properties, meterRegistry, System::nanoTime);
+        long intervalMillis = properties.getReconcileInterval().toMillis();
+        reconciler.scheduleWithFixedDelay(this::reconcile, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    TokenBlacklist(ReactiveStringRedisTemplate redisTemplate,
+                   TokenBlacklistProperties properties,
+                   MeterRegistry meterRegistry,
+                   LongSupplier nanoTime) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.nanoTime = nanoTime;
+        this.shadow = Caffeine.newBuilder()
+                .maximumSize(properties.getShadowMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        this.inFlight = new Semaphore(properties.getMaxInFlight());
+        this.reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-blacklist-reconcile");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder(METRIC_PREFIX + ".circuit.open", this, blacklist -> blacklist.open ? 1 : 0)
+                .description("Redis 블랙리스트 서킷 OPEN 여부")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pending", pendingWrites, Map::size)
+                .description("Redis에 아직 기록하지 못한 폐기 수")
+                .register(meterRegistry);
+        this.failOpen = Counter.builder(METRIC_PREFIX + ".fallback")
+                .tag("policy", "fail-open")
+                .description("Redis를 확인하지 못해 허용한 검증 수")
+                .register(meterRegistry);
+        this.failClosed = Counter.builder(METRIC_PREFIX + ".fallback")
+                .tag("policy", "fail-closed")
+                .description("Redis를 확인하지 못해 거절한 검증 수")
+                .register(meterRegistry);
+        this.saturated = Counter.builder(METRIC_PREFIX + ".saturated")
+                .description("maxInFlight 초과로 Redis를 호출하지 않은 수 (서킷에 반영하지 않음)")
+                .register(meterRegistry);
+
+        log.info("TokenBlacklist initialized: redisTimeout={}, maxInFlight={}, failureThreshold={}, openDuration={}, policy={}, tenantPolicies={}",
+                properties.getRedisTimeout(), properties.getMaxInFlight(), properties.getFailureThreshold(), properties.getOpenDuration(),
+                properties.getFailurePolicy(), properties.getTenantPolicies());
+    }
+
+    /**
+     * 폐기 여부 확인. Redis를 확인할 수 없으면 테넌트 정책에 따른다.
+     *
+     * @param tenantId 토큰의 테넌트 (정책 선택용, null이면 기본 정책)
+     * @param tokenDigest {@link TokenDigests#of(String)}
+     */
+    public boolean isRevoked(String tenantId, String tokenDigest) {
+        if (shadow.getIfPresent(tokenDigest) != null) {
+            return true;
+        }
+
+        Boolean exists = callRedis(() -> redisTemplate.hasKey(key(tokenDigest)));
+        if (exists != null) {
+            if (exists) {
+                shadow.put(tokenDigest, Boolean.TRUE);
+            }
+            return exists;
+        }
+
+        if (properties.policyFor(tenantId) == FailurePolicy.FAIL_CLOSED) {
+            failClosed.increment();
+            return true;
+        }
+        failOpen.increment();
+        return false;
+    }
+
+    /**
+     * 토큰 폐기 기록 (digest 키 + 다른 서비스용 공유 키). Redis 기록에 실패하면 복구 후 다시 쓴다.
+     *
+     * @param tokenDigest {@link TokenDigests#of(String)}
+     * @param accessToken 공유 키(lotecs-jwt 블랙리스트 형식)용 원본 토큰
+     */
+    public void revoke(String tokenDigest, String accessToken) {
+        shadow.put(tokenDigest, Boolean.TRUE);
+        long expiresAt = nanoTime.getAsLong() + properties.getTtl().toNanos();
+        writeOrDefer(key(tokenDigest), expiresAt);
+        if (StringUtils.hasText(properties.getSharedKeyPrefix()) && accessToken != null) {
+            writeOrDefer(properties.getSharedKeyPrefix() + accessToken, expiresAt);
+        }
+    }
+
+    /**
+     * Redis에 남아 있는 폐기 digest 전체 (시작 시 {@link RevocationFeed} 복원용, SCAN으로 조회)
+     *
+     * @return digest -> 폐기 후 경과 시간 (ttl - 남은 TTL), 조회에 실패하면 null
+     */
+    public Map<String, Duration> loadRevoked(Duration timeout) {
+        String prefix = properties.getKeyPrefix();
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1_000).build();
+        try {
+            return redisTemplate.scan(options)
+                    .flatMap(key -> redisTemplate.getExpire(key)
+                            .filter(remaining -> remaining.isPositive())
+                            .map(remaining -> Map.entry(key.substring(prefix.length()),
+                                    properties.getTtl().minus(remaining))), 64)
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .block(timeout);
+        } catch (RuntimeException e) {
+            log.warn("[TOKEN-BLACKLIST] Redis 폐기 목록 조회 실패: {}", e.toString());
+            return null;
+        }
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.TokenRevoked tokenRevoked) {
+            shadow.put(tokenRevoked.tokenDigest(), Boolean.TRUE);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconciler.shutdownNow();
+    }
+
+    /**
+     * 장애 중 기록하지 못한 폐기를 Redis에 다시 쓴다. 실패하면 다음 주기로 미룬다.
+     */
+    void reconcile() {
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+        long now = nanoTime.getAsLong();
+        int written = 0;
+        Iterator<Map.Entry<String, Long>> iterator = pendingWrites.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            if (entry.getValue() - now <= 0) {
+                iterator.remove();
+            } else if (write(entry.getKey())) {
+                iterator.remove();
+                written++;
+            } else {
+                break;
+            }
+        }
+        if (written > 0) {
+            log.info("[TOKEN-BLACKLIST] 보류된 폐기 재기록: written={}, remaining={}", written, pendingWrites.size());
+        }
+    }
+
+    private void writeOrDefer(String key, long expiresAt) {
+        if (!write(key)) {
+            pendingWrites.put(key, expiresAt);
+            log.warn("[TOKEN-BLACKLIST] Redis 기록 실패, 복구 후 재기록: pending={}", pendingWrites.size());
+        }
+    }
+
+    private boolean write(String key) {
+        Boolean result = callRedis(() -> redisTemplate.opsForValue().set(key, "1", properties.getTtl()));
+        return Boolean.TRUE.equals(result);
+    }
+
+    /**
+     * redisTimeout 안에 끝난 Redis 호출 결과. 서킷이 열려 있거나 maxInFlight 초과, 실패/시간 초과면 null.
+     */
+    private <T> T callRedis(Supplier<Mono<T>> call) {
+        boolean probe = false;
+        if (open) {
+            if (nanoTime.getAsLong() - openedAt < properties.getOpenDuration().toNanos()
+                    || !probing.compareAndSet(false, true)) {
+                return null;
+            }
+            probe = true;
+        }
+
+        try {
+            // 포화는 Redis 장애가 아니므로 서킷에 반영하지 않는다
+            if (!inFlight.tryAcquire()) {
+                saturated.increment();
+                return null;
+            }
+            CompletableFuture<T> future = null;
+            try {
+                future = call.get().toFuture();
+                T result = future.get(properties.getRedisTimeout().toMillis(), TimeUnit.MILLISECONDS);
+                onSuccess();
+                return result;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                onFailure(e);
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                onFailure(e.getCause());
+            } catch (RuntimeException e) {
+                onFailure(e);
+            } finally {
+                inFlight.release();
+            }
+            return null;
+        } finally {
+            if (probe) {
+                probing.set(false);
+            }
+        }
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (open) {
+            open = false;
+            log.info("[TOKEN-BLACKLIST] Redis 복구, 서킷 CLOSED: pending={}", pendingWrites.size());
+        }
+    }
+
+    private void onFailure(Throwable cause) {
+        if (open) {
+            openedAt = nanoTime.getAsLong();
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= properties.getFailureThreshold()) {
+            openedAt = nanoTime.getAsLong();
+            open = true;
+            log.warn("[TOKEN-BLACKLIST] Redis 연속 실패로 서킷 OPEN: openDuration={}, cause={}",
+                    properties.getOpenDuration(), cause.toString());
+        } else {
+            log.debug("[TOKEN-BLACKLIST] Redis 호출 실패: {}", cause.toString());
+        }
+    }
+
+    private String key(String tokenDigest) {
+        return properties.getKeyPrefix() + tokenDigest;
+    }
+}
@@ -0,0 +1,47 @@
+package lotecs.auth.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 SHA-256 해시.
+ *
+ * <p>{@link #of(String)}는 앞 128비트(32자리 hex)로, 블랙리스트/검증 캐시/폐기 스트림/SDK가 같은 형식을 사용한다.
+ * {@link #sha256Hex(String)}는 전체 256비트(64자리 hex)로, ATH_REFRESH_TOKENS.TOKEN_HASH에 저장한다.</p>
+ */
+public final class TokenDigests {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private TokenDigests() {
+    }
+
+    /**
+     * SHA-256 앞 128비트 (32자리 hex)
+     */
+    public static String of(String token) {
+        return HexFormat.of().formatHex(sha256(token), 0, 16);
+    }
+
+    /**
+     * SHA-256 전체 (64자리 hex)
+     */
+    public static String sha256Hex(String token) {
+        return HexFormat.of().formatHex(sha256(token));
+    }
+
+    /**
+     * SHA-256 원본 바이트 (32바이트)
+     */
+    public static byte[] sha256(String token) {
+        return SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+}
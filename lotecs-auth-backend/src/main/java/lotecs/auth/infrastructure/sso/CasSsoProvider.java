@@ -6,27 +6,24 @@ import lotecs.auth.domain.sso.SsoAuthResult;
 import lotecs.auth.domain.sso.SsoProvider;
 import lotecs.auth.domain.sso.SsoType;
 import lotecs.auth.domain.sso.model.TenantSsoConfig;
-import lotecs.auth.domain.sso.repository.TenantSsoConfigRepository;
 import org.springframework.stereotype.Component;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
 import lotecs.auth.domain.sso.exception.SsoConnectionException;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 
@@ -37,14 +34,12 @@ import java.util.Map;
 @Component("cas")
 public class CasSsoProvider implements SsoProvider {
 
-    private final TenantSsoConfigRepository ssoConfigRepository;
-    private final HttpClient httpClient;
+    private final TenantSsoConfigCache ssoConfigCache;
+    private final SsoHttpTransport httpTransport;
 
-    public CasSsoProvider(TenantSsoConfigRepository ssoConfigRepository) {
-        this.ssoConfigRepository = ssoConfigRepository;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .build();
+    public CasSsoProvider(TenantSsoConfigCache ssoConfigCache, SsoHttpTransport httpTransport) {
+        this.ssoConfigCache = ssoConfigCache;
+        this.httpTransport = httpTransport;
         log.debug("CasSsoProvider initialized");
     }
 
@@ -53,7 +48,7 @@ public class CasSsoProvider implements SsoProvider {
         log.debug("CAS SSO authentication for user: {} in tenant: {}", request.getUsername(), request.getTenantId());
 
         try {
-            TenantSsoConfig config = ssoConfigRepository.findByTenantId(request.getTenantId())
+            TenantSsoConfig config = ssoConfigCache.resolve(request)
                     .orElseThrow(() -> new IllegalStateException("SSO configuration not found for tenant: " + request.getTenantId()));
 
             if (config.getSsoServerUrl() == null || config.getSsoServerUrl().isBlank()) {
@@ -87,29 +82,25 @@ public class CasSsoProvider implements SsoProvider {
             String validateUrl = buildValidateUrl(ticket, config);
             log.debug("Validating CAS ticket with URL: {}", validateUrl);
 
-            int timeout = config.getReadTimeoutMs() != null ? config.getReadTimeoutMs() : 5000;
-
-            HttpRequest request = HttpRequest.newBuilder()
+            HttpRequest.Builder request = HttpRequest.newBuilder()
                     .uri(URI.create(validateUrl))
-                    .timeout(Duration.ofMillis(timeout))
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() >= 500) {
-                throw SsoConnectionException.serverError(
-                        "CAS 서버 오류: HTTP " + response.statusCode(),
-                        response.statusCode()
-                );
-            }
+                    .GET();
+
+            return httpTransport.send(config, request, (status, body) -> {
+                if (status >= 500) {
+                    throw SsoConnectionException.serverError(
+                            "CAS 서버 오류: HTTP " + status,
+                            status
+                    );
+                }
 
-            if (response.statusCode() != 200) {
-                log.warn("CAS validation failed with status: {}", response.statusCode());
-                return SsoAuthResult.failure("TOKEN_INVALID", "CAS 토큰 검증 실패");
-            }
+                if (status != 200) {
+                    log.warn("CAS validation failed with status: {}", status);
+                    return SsoAuthResult.failure("TOKEN_INVALID", "CAS 토큰 검증 실패");
+                }
 
-            return parseValidationResponse(response.body());
+                return parseValidationResponse(body);
+            });
 
         } catch (HttpTimeoutException e) {
             throw SsoConnectionException.timeout("CAS 서버 연결 타임아웃: " + e.getMessage(), e);
@@ -140,9 +131,7 @@ public class CasSsoProvider implements SsoProvider {
         return config.getSsoServerUrl() + validateEndpoint + "?ticket=" + ticket + "&service=" + encodedService;
     }
 
-    private SsoAuthResult parseValidationResponse(String responseBody) {
-        log.debug("Parsing CAS response: {}", responseBody);
-
+    private SsoAuthResult parseValidationResponse(InputStream responseBody) {
         try {
             DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
             factory.setNamespaceAware(true);
@@ -152,7 +141,7 @@ public class CasSsoProvider implements SsoProvider {
             factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
 
             DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(new ByteArrayInputStream(responseBody.getBytes(StandardCharsets.UTF_8)));
+            Document doc = builder.parse(responseBody);
 
             // CAS 인증 성공 확인
             NodeList successNodes = doc.getElementsByTagNameNS("*", "authenticationSuccess");
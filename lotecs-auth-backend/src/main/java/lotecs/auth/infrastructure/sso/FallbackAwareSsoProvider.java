@@ -11,10 +11,13 @@ import lotecs.auth.domain.user.model.User;
 import lotecs.auth.domain.user.model.UserProfile;
 import lotecs.auth.domain.user.repository.UserProfileRepository;
 import lotecs.auth.domain.user.repository.UserRepository;
+import lotecs.auth.infrastructure.cache.OfflineCredentialCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * SSO Provider 데코레이터 - Fallback 기능을 제공한다.
@@ -33,6 +36,9 @@ import java.util.Map;
  *   <li>DB에 없는 사용자는 로그인 실패</li>
  *   <li>저장된 프로필 데이터를 additionalData로 제공</li>
  * </ul>
+ *
+ * <p>{@link OfflineCredentialCache}가 활성화되어 있으면 SSO 로그인 성공 시 검증자를 저장해 두고,
+ * 폴백 시 검증자가 일치하면 DB 조회와 비밀번호 해시 비교 없이 마지막 SSO 응답의 사용자 정보로 인증한다.</p>
  */
 @Slf4j
 public class FallbackAwareSsoProvider implements SsoProvider {
@@ -42,6 +48,7 @@ public class FallbackAwareSsoProvider implements SsoProvider {
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
     private final PasswordEncoder passwordEncoder;
+    private final OfflineCredentialCache offlineCredentialCache;
 
     public FallbackAwareSsoProvider(
             SsoProvider delegate,
@@ -49,19 +56,33 @@ public class FallbackAwareSsoProvider implements SsoProvider {
             UserRepository userRepository,
             UserProfileRepository userProfileRepository,
             PasswordEncoder passwordEncoder
+    ) {
+        this(delegate, ssoConfig, userRepository, userProfileRepository, passwordEncoder, null);
+    }
+
+    public FallbackAwareSsoProvider(
+            SsoProvider delegate,
+            TenantSsoConfig ssoConfig,
+            UserRepository userRepository,
+            UserProfileRepository userProfileRepository,
+            PasswordEncoder passwordEncoder,
+            OfflineCredentialCache offlineCredentialCache
     ) {
         this.delegate = delegate;
         this.ssoConfig = ssoConfig;
         this.userRepository = userRepository;
         this.userProfileRepository = userProfileRepository;
         this.passwordEncoder = passwordEncoder;
+        this.offlineCredentialCache = offlineCredentialCache;
     }
 
     @Override
     public SsoAuthResult authenticate(SsoAuthRequest request) {
         try {
             // 1. 원래 SSO Provider로 인증 시도
-            return delegate.authenticate(request);
+            SsoAuthResult result = delegate.authenticate(request);
+            rememberCredential(request, result);
+            return result;
 
         } catch (SsoConnectionException e) {
             // 2. Fallback 가능한 예외인지 확인
@@ -90,6 +111,11 @@ public class FallbackAwareSsoProvider implements SsoProvider {
      * Internal DB로 폴백하여 인증
      */
     private SsoAuthResult fallbackToInternal(SsoAuthRequest request, SsoConnectionException originalException) {
+        Optional<SsoAuthResult> offlineResult = fallbackToOfflineCredential(request, originalException);
+        if (offlineResult.isPresent()) {
+            return offlineResult.get();
+        }
+
         try {
             // 1. 사용자 조회 (기존에 동기화된 사용자만)
             User user = userRepository
@@ -152,6 +178,61 @@ public class FallbackAwareSsoProvider implements SsoProvider {
         }
     }
 
+    /**
+     * 오프라인 검증자 캐시로 폴백 인증 (비밀번호 검증이 필요한 경우만)
+     */
+    private Optional<SsoAuthResult> fallbackToOfflineCredential(SsoAuthRequest request,
+                                                                SsoConnectionException originalException) {
+        if (!isOfflineCredentialEnabled()) {
+            return Optional.empty();
+        }
+
+        return offlineCredentialCache
+                .verify(request.getTenantId(), request.getUsername(), request.getPassword())
+                .map(identity -> {
+                    Map<String, Object> additionalData = new HashMap<>(identity.additionalData());
+                    additionalData.put("_fallback", true);
+                    additionalData.put("_fallbackReason", originalException.getErrorType().name());
+                    additionalData.put("_fallbackSource", "OFFLINE_CREDENTIAL");
+                    if (originalException.getHttpStatusCode() != null) {
+                        additionalData.put("_fallbackHttpStatus", originalException.getHttpStatusCode());
+                    }
+
+                    log.info("[FALLBACK] 오프라인 검증자 인증 성공: tenant={}, username={}",
+                            request.getTenantId(), request.getUsername());
+
+                    return SsoAuthResult.success(
+                            identity.externalUserId(),
+                            request.getUsername(),
+                            identity.email(),
+                            identity.fullName(),
+                            identity.roles(),
+                            additionalData
+                    );
+                });
+    }
+
+    /**
+     * SSO 응답에 따라 오프라인 검증자 저장/제거
+     */
+    private void rememberCredential(SsoAuthRequest request, SsoAuthResult result) {
+        if (!isOfflineCredentialEnabled() || result == null) {
+            return;
+        }
+
+        if (result.isSuccess()) {
+            offlineCredentialCache.store(request.getTenantId(), request.getUsername(), request.getPassword(), result);
+        } else {
+            offlineCredentialCache.invalidate(request.getTenantId(), request.getUsername());
+        }
+    }
+
+    private boolean isOfflineCredentialEnabled() {
+        return offlineCredentialCache != null
+                && offlineCredentialCache.isEnabled()
+                && ssoConfig.isFallbackPasswordRequired();
+    }
+
     /**
      * 저장된 프로필 데이터 로드
      */
@@ -174,7 +255,7 @@ public class FallbackAwareSsoProvider implements SsoProvider {
             log.warn("[FALLBACK] 프로필 데이터 로드 실패: userId={}, tenantId={}, error={}",
                     userId, tenantId, e.getMessage());
         }
-        return new java.util.HashMap<>();
+        return new HashMap<>();
     }
 
     @Override
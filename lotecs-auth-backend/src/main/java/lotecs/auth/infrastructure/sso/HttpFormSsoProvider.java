@@ -7,21 +7,19 @@ import lotecs.auth.domain.sso.SsoAuthResult;
 import lotecs.auth.domain.sso.SsoProvider;
 import lotecs.auth.domain.sso.SsoType;
 import lotecs.auth.domain.sso.model.TenantSsoConfig;
-import lotecs.auth.domain.sso.repository.TenantSsoConfigRepository;
 import org.springframework.stereotype.Component;
 
 import lotecs.auth.domain.sso.exception.SsoConnectionException;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 
@@ -33,16 +31,14 @@ import java.util.Map;
 @Component("http_form")
 public class HttpFormSsoProvider implements SsoProvider {
 
-    private final TenantSsoConfigRepository ssoConfigRepository;
-    private final HttpClient httpClient;
+    private final TenantSsoConfigCache ssoConfigCache;
+    private final SsoHttpTransport httpTransport;
     private final ObjectMapper objectMapper;
 
-    public HttpFormSsoProvider(TenantSsoConfigRepository ssoConfigRepository, ObjectMapper objectMapper) {
-        this.ssoConfigRepository = ssoConfigRepository;
+    public HttpFormSsoProvider(TenantSsoConfigCache ssoConfigCache, SsoHttpTransport httpTransport, ObjectMapper objectMapper) {
+        this.ssoConfigCache = ssoConfigCache;
+        this.httpTransport = httpTransport;
         this.objectMapper = objectMapper;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .build();
         log.debug("HttpFormSsoProvider initialized");
     }
 
@@ -51,7 +47,7 @@ public class HttpFormSsoProvider implements SsoProvider {
         log.debug("HTTP_FORM SSO authentication for user: {} in tenant: {}", request.getUsername(), request.getTenantId());
 
         try {
-            TenantSsoConfig config = ssoConfigRepository.findByTenantId(request.getTenantId())
+            TenantSsoConfig config = ssoConfigCache.resolve(request)
                     .orElseThrow(() -> new IllegalStateException("SSO configuration not found for tenant: " + request.getTenantId()));
 
             if (config.getSsoServerUrl() == null || config.getSsoServerUrl().isBlank()) {
@@ -92,29 +88,25 @@ public class HttpFormSsoProvider implements SsoProvider {
         String url = buildConfirmUrl(request, config);
         log.debug("SSO confirm URL: {}", url);
 
-        int timeout = config.getReadTimeoutMs() != null ? config.getReadTimeoutMs() : 5000;
-
-        HttpRequest httpRequest = HttpRequest.newBuilder()
+        HttpRequest.Builder httpRequest = HttpRequest.newBuilder()
                 .uri(URI.create(url))
-                .timeout(Duration.ofMillis(timeout))
-                .GET()
-                .build();
-
-        HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+                .GET();
 
-        if (response.statusCode() >= 500) {
-            throw SsoConnectionException.serverError(
-                    "SSO 서버 오류: HTTP " + response.statusCode(),
-                    response.statusCode()
-            );
-        }
+        return httpTransport.send(config, httpRequest, (status, body) -> {
+            if (status >= 500) {
+                throw SsoConnectionException.serverError(
+                        "SSO 서버 오류: HTTP " + status,
+                        status
+                );
+            }
 
-        if (response.statusCode() != 200) {
-            log.warn("SSO server returned status: {}", response.statusCode());
-            return SsoAuthResult.failure("HTTP_ERROR", "SSO 서버 응답 오류: " + response.statusCode());
-        }
+            if (status != 200) {
+                log.warn("SSO server returned status: {}", status);
+                return SsoAuthResult.failure("HTTP_ERROR", "SSO 서버 응답 오류: " + status);
+            }
 
-        return parseResponse(response.body(), request.getUsername());
+            return parseResponse(body, request.getUsername());
+        });
     }
 
     private String buildConfirmUrl(SsoAuthRequest request, TenantSsoConfig config) {
@@ -156,14 +148,17 @@ public class HttpFormSsoProvider implements SsoProvider {
         return urlBuilder.toString();
     }
 
-    private SsoAuthResult parseResponse(String responseBody, String userId) {
+    private SsoAuthResult parseResponse(InputStream responseStream, String userId) {
         try {
+            // userInfo에 원본 응답을 그대로 넘기므로 한 번만 읽고, JSON은 같은 바이트 배열에서 파싱
+            byte[] bytes = responseStream.readAllBytes();
+            String responseBody = new String(bytes, StandardCharsets.UTF_8);
             log.debug("SSO response: {}", responseBody);
 
             // JSON 응답인 경우
-            if (responseBody.trim().startsWith("{")) {
+            if (responseBody.stripLeading().startsWith("{")) {
                 @SuppressWarnings("unchecked")
-                Map<String, Object> result = objectMapper.readValue(responseBody, Map.class);
+                Map<String, Object> result = objectMapper.readValue(bytes, Map.class);
 
                 // 성공 여부 확인 (학교별로 응답 형식이 다를 수 있음)
                 String resultCode = (String) result.get("result");
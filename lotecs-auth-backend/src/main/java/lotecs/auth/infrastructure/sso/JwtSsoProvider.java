@@ -1,6 +1,8 @@
 package lotecs.auth.infrastructure.sso;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -9,7 +11,9 @@ import lotecs.auth.domain.sso.SsoAuthResult;
 import lotecs.auth.domain.sso.SsoProvider;
 import lotecs.auth.domain.sso.SsoType;
 import lotecs.auth.domain.sso.model.TenantSsoConfig;
-import lotecs.auth.domain.sso.repository.TenantSsoConfigRepository;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -19,20 +23,25 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JWT 토큰 기반 SSO 제공자.
  * 자체 JWT를 생성하여 외부 SSO 서버와 연동한다.
+ *
+ * <p>테넌트별 서명 키와 검증용 {@link JwtParser}는 한 번 만들어 재사용한다(둘 다 불변, 스레드 안전).
+ * JJWT의 JwtBuilder는 가변 객체라 공유하지 않고 요청마다 생성한다.
+ * 비밀키가 바뀌면 다음 요청에서 다시 만들고, SSO 설정/테넌트 변경 이벤트를 받으면 제거한다.</p>
  */
 @Slf4j
 @Component("jwt_sso")
-public class JwtSsoProvider implements SsoProvider {
+public class JwtSsoProvider implements SsoProvider, CacheInvalidationListener {
 
-    private final TenantSsoConfigRepository ssoConfigRepository;
-    private final Map<String, SecretKey> keyCache = new HashMap<>();
+    private final TenantSsoConfigCache ssoConfigCache;
+    private final Map<String, SigningMaterial> signingMaterials = new ConcurrentHashMap<>();
 
-    public JwtSsoProvider(TenantSsoConfigRepository ssoConfigRepository) {
-        this.ssoConfigRepository = ssoConfigRepository;
+    public JwtSsoProvider(TenantSsoConfigCache ssoConfigCache) {
+        this.ssoConfigCache = ssoConfigCache;
         log.debug("JwtSsoProvider initialized");
     }
 
@@ -41,7 +50,7 @@ public class JwtSsoProvider implements SsoProvider {
         log.debug("JWT SSO authentication for user: {} in tenant: {}", request.getUsername(), request.getTenantId());
 
         try {
-            TenantSsoConfig config = ssoConfigRepository.findByTenantId(request.getTenantId())
+            TenantSsoConfig config = ssoConfigCache.resolve(request)
                     .orElseThrow(() -> new IllegalStateException("SSO configuration not found for tenant: " + request.getTenantId()));
 
             if (config.getJwtSecretKey() == null || config.getJwtSecretKey().isBlank()) {
@@ -79,11 +88,7 @@ public class JwtSsoProvider implements SsoProvider {
 
     private SsoAuthResult validateToken(String ssoToken, TenantSsoConfig config) {
         try {
-            SecretKey key = getOrCreateSignKey(config.getTenantId(), config.getJwtSecretKey());
-
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
+            Claims claims = signingMaterial(config).parser()
                     .parseSignedClaims(ssoToken)
                     .getPayload();
 
@@ -109,6 +114,8 @@ public class JwtSsoProvider implements SsoProvider {
                     Map.of("userType", userType != null ? userType : "", "department", department != null ? department : "")
             );
 
+        } catch (ExpiredJwtException e) {
+            return SsoAuthResult.failure("TOKEN_EXPIRED", "JWT 토큰이 만료되었습니다");
         } catch (Exception e) {
             log.error("JWT validation failed", e);
             return SsoAuthResult.failure("TOKEN_INVALID", "JWT 토큰 검증 실패: " + e.getMessage());
@@ -116,7 +123,7 @@ public class JwtSsoProvider implements SsoProvider {
     }
 
     private String createJwtToken(SsoAuthRequest request, TenantSsoConfig config) {
-        SecretKey key = getOrCreateSignKey(config.getTenantId(), config.getJwtSecretKey());
+        SecretKey key = signingMaterial(config).key();
 
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", request.getUsername());
@@ -140,9 +147,22 @@ public class JwtSsoProvider implements SsoProvider {
                 .compact();
     }
 
-    private SecretKey getOrCreateSignKey(String tenantId, String secretKey) {
-        return keyCache.computeIfAbsent(tenantId, k ->
-                Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)));
+    private SigningMaterial signingMaterial(TenantSsoConfig config) {
+        String secret = config.getJwtSecretKey();
+        SigningMaterial current = signingMaterials.get(config.getTenantId());
+        if (current != null && current.secret().equals(secret)) {
+            return current;
+        }
+        return signingMaterials.compute(config.getTenantId(), (tenantId, existing) ->
+                existing != null && existing.secret().equals(secret) ? existing : SigningMaterial.of(secret));
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.SsoConfigChanged
+                || event instanceof CacheInvalidationEvent.TenantChanged) {
+            signingMaterials.remove(event.tenantId());
+        }
     }
 
     @Override
@@ -162,4 +182,21 @@ public class JwtSsoProvider implements SsoProvider {
     public SsoType getSsoType() {
         return SsoType.JWT_SSO;
     }
+
+    /**
+     * 테넌트 비밀키에서 파생한 서명 키와 검증 파서
+     */
+    private record SigningMaterial(String secret, SecretKey key, JwtParser parser) {
+
+        static SigningMaterial of(String secret) {
+            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            return new SigningMaterial(secret, key, Jwts.parser().verifyWith(key).build());
+        }
+
+        // 비밀키가 로그에 남지 않도록 제외
+        @Override
+        public String toString() {
+            return "SigningMaterial[algorithm=" + key.getAlgorithm() + "]";
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package lotecs.auth.infrastructure.sso;
+
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.sso.model.TenantSsoConfig;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.config.KeycloakSsoProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테넌트별 {@link KeycloakTokenClient} 보관소.
+ *
+ * <p>모든 테넌트가 하나의 HttpClient(커넥션 풀, keep-alive)를 공유하고, 테넌트마다 토큰 엔드포인트/JWKS 키를 유지한다.
+ * SSO 설정 값(서버 URL, realm, client)이 바뀌면 다음 요청에서 클라이언트를 새로 만들고,
+ * SSO 설정/테넌트 변경 이벤트를 받으면 해당 테넌트 클라이언트를 제거한다.</p>
+ */
+@Slf4j
+@Component
+public class KeycloakClientRegistry implements CacheInvalidationListener {
+
+    private final KeycloakSsoProperties properties;
+    private final HttpClient httpClient;
+    private final Map<String, Entry> clients = new ConcurrentHashMap<>();
+
+    public KeycloakClientRegistry(KeycloakSsoProperties properties) {
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    KeycloakTokenClient get(TenantSsoConfig config) {
+        Fingerprint fingerprint = Fingerprint.of(config);
+        Entry entry = clients.compute(config.getTenantId(), (tenantId, current) -> {
+            if (current != null && current.fingerprint().equals(fingerprint)) {
+                return current;
+            }
+            log.info("[KEYCLOAK-CLIENT] 클라이언트 생성: tenantId={}, realm={}", tenantId, config.getSsoRealm());
+            return new Entry(fingerprint, createClient(config));
+        });
+        return entry.client();
+    }
+
+    public void evict(String tenantId) {
+        if (clients.remove(tenantId) != null) {
+            log.debug("[KEYCLOAK-CLIENT] 클라이언트 제거: tenantId={}", tenantId);
+        }
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.SsoConfigChanged
+                || event instanceof CacheInvalidationEvent.TenantChanged) {
+            evict(event.tenantId());
+        }
+    }
+
+    private KeycloakTokenClient createClient(TenantSsoConfig config) {
+        Duration requestTimeout = Duration.ofMillis(config.getReadTimeoutMs() != null ? config.getReadTimeoutMs() : 5000);
+        return new KeycloakTokenClient(httpClient, config.getSsoServerUrl(), config.getSsoRealm(),
+                config.getSsoClientId(), config.getSsoClientSecret(), requestTimeout,
+                properties.getJwksMinRefreshInterval(), properties.getClockSkew());
+    }
+
+    private record Entry(Fingerprint fingerprint, KeycloakTokenClient client) {
+    }
+
+    private record Fingerprint(String serverUrl, String realm, String clientId, int clientSecretHash, Integer readTimeoutMs) {
+
+        static Fingerprint of(TenantSsoConfig config) {
+            return new Fingerprint(config.getSsoServerUrl(), config.getSsoRealm(), config.getSsoClientId(),
+                    Objects.hashCode(config.getSsoClientSecret()), config.getReadTimeoutMs());
+        }
+    }
+}
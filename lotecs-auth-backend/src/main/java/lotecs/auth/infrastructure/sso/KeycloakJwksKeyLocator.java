@@ -0,0 +1,103 @@
+package lotecs.auth.infrastructure.sso;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.KeyException;
+import io.jsonwebtoken.security.Jwks;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.sso.exception.SsoConnectionException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.security.Key;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keycloak realm JWKS 기반 서명 키 조회.
+ *
+ * <p>kid별 공개키를 보관하고, 모르는 kid가 오면 최소 간격을 두고 JWKS를 다시 조회한다(키 롤오버 대응).</p>
+ */
+@Slf4j
+class KeycloakJwksKeyLocator extends LocatorAdapter<Key> {
+
+    private final HttpClient httpClient;
+    private final URI jwksUri;
+    private final Duration requestTimeout;
+    private final long minRefreshIntervalNanos;
+
+    private volatile Map<String, Key> keys = Map.of();
+    private volatile long lastRefreshNanos;
+
+    KeycloakJwksKeyLocator(HttpClient httpClient, URI jwksUri, Duration requestTimeout, Duration minRefreshInterval) {
+        this.httpClient = httpClient;
+        this.jwksUri = jwksUri;
+        this.requestTimeout = requestTimeout;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        Key key = keys.get(kid);
+        if (key != null) {
+            return key;
+        }
+        refreshIfAllowed();
+        key = keys.get(kid);
+        if (key == null) {
+            throw new KeyException("Unknown signing key id: " + kid);
+        }
+        return key;
+    }
+
+    private synchronized void refreshIfAllowed() {
+        long now = System.nanoTime();
+        if (!keys.isEmpty() && now - lastRefreshNanos < minRefreshIntervalNanos) {
+            return;
+        }
+        lastRefreshNanos = now;
+        keys = fetchKeys();
+        log.debug("Keycloak JWKS loaded: uri={}, keys={}", jwksUri, keys.keySet());
+    }
+
+    private Map<String, Key> fetchKeys() {
+        HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 500) {
+                throw SsoConnectionException.serverError("Keycloak JWKS 조회 오류: HTTP " + response.statusCode(), response.statusCode());
+            }
+            if (response.statusCode() != 200) {
+                throw SsoConnectionException.responseError("Keycloak JWKS 조회 실패: HTTP " + response.statusCode());
+            }
+
+            JwkSet jwkSet = Jwks.setParser().build().parse(response.body());
+            Map<String, Key> loaded = new HashMap<>();
+            for (Jwk<?> jwk : jwkSet.getKeys()) {
+                if (jwk.getId() != null) {
+                    loaded.put(jwk.getId(), jwk.toKey());
+                }
+            }
+            return Map.copyOf(loaded);
+        } catch (HttpTimeoutException e) {
+            throw SsoConnectionException.timeout("Keycloak JWKS 조회 타임아웃: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw SsoConnectionException.networkError("Keycloak JWKS 조회 실패: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SsoConnectionException.networkError("Keycloak JWKS 조회 중단됨", e);
+        }
+    }
+}
@@ -1,35 +1,34 @@
 package lotecs.auth.infrastructure.sso;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lotecs.auth.domain.sso.model.TenantSsoConfig;
-import lotecs.auth.domain.sso.repository.TenantSsoConfigRepository;
 import lotecs.auth.domain.sso.SsoAuthRequest;
 import lotecs.auth.domain.sso.SsoAuthResult;
 import lotecs.auth.domain.sso.SsoProvider;
-import org.keycloak.admin.client.Keycloak;
-import org.keycloak.admin.client.KeycloakBuilder;
-import org.keycloak.representations.AccessTokenResponse;
+import lotecs.auth.domain.sso.SsoType;
+import lotecs.auth.domain.sso.exception.SsoConnectionException;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component("keycloak")
 @RequiredArgsConstructor
 public class KeycloakSsoProvider implements SsoProvider {
 
-    private final TenantSsoConfigRepository ssoConfigRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TenantSsoConfigCache ssoConfigCache;
+    private final KeycloakClientRegistry clientRegistry;
 
     @Override
     public SsoAuthResult authenticate(SsoAuthRequest request) {
         try {
-            TenantSsoConfig config = ssoConfigRepository.findByTenantId(request.getTenantId())
+            TenantSsoConfig config = ssoConfigCache.resolve(request)
                     .orElseThrow(() -> new IllegalStateException("SSO configuration not found for tenant: " + request.getTenantId()));
 
             if (config.getSsoServerUrl() == null || config.getSsoRealm() == null || config.getSsoClientId() == null) {
@@ -39,62 +38,58 @@ public class KeycloakSsoProvider implements SsoProvider {
 
             log.debug("Authenticating user {} via Keycloak for tenant {}", request.getUsername(), request.getTenantId());
 
-            // Build Keycloak client with Password Grant
-            Keycloak keycloak = KeycloakBuilder.builder()
-                    .serverUrl(config.getSsoServerUrl())
-                    .realm(config.getSsoRealm())
-                    .clientId(config.getSsoClientId())
-                    .clientSecret(config.getSsoClientSecret())
-                    .username(request.getUsername())
-                    .password(request.getPassword())
-                    .build();
+            // 테넌트별로 재사용되는 클라이언트로 토큰 발급 + JWKS 서명 검증
+            Claims claims = clientRegistry.get(config).obtainVerifiedClaims(request.getUsername(), request.getPassword());
 
-            // Obtain Access Token
-            AccessTokenResponse tokenResponse;
-            try {
-                tokenResponse = keycloak.tokenManager().getAccessToken();
-            } catch (Exception e) {
-                log.error("Failed to obtain access token from Keycloak: {}", e.getMessage());
-                return SsoAuthResult.failure("INVALID_CREDENTIALS", "Authentication failed: " + e.getMessage());
+            String externalUserId = claims.getSubject();
+            String username = claims.get("preferred_username", String.class);
+            if (username == null) {
+                username = request.getUsername();
             }
-
-            // Parse Access Token to extract user information
-            String accessToken = tokenResponse.getToken();
-            String[] tokenParts = accessToken.split("\\.");
-            if (tokenParts.length < 2) {
-                log.error("Invalid access token format");
-                return SsoAuthResult.failure("CONFIG_ERROR", "Invalid access token format");
+            String email = claims.get("email", String.class);
+            String fullName = claims.get("name", String.class);
+            if (fullName == null) {
+                fullName = username;
             }
 
-            // Decode JWT payload (base64url)
-            String payload = new String(Base64.getUrlDecoder().decode(tokenParts[1]));
-            JsonNode claims = objectMapper.readTree(payload);
-
-            // Extract user information from claims
-            String externalUserId = claims.has("sub") ? claims.get("sub").asText() : null;
-            String username = claims.has("preferred_username") ? claims.get("preferred_username").asText() : request.getUsername();
-            String email = claims.has("email") ? claims.get("email").asText() : null;
-            String fullName = claims.has("name") ? claims.get("name").asText() : username;
-
-            // Extract roles from token claims
             // TODO: Role mapping configuration should be externalized
-            List<String> roles = new ArrayList<>();
-            if (claims.has("realm_access") && claims.get("realm_access").has("roles")) {
-                JsonNode rolesNode = claims.get("realm_access").get("roles");
-                rolesNode.forEach(role -> roles.add(role.asText()));
-            }
+            List<String> roles = extractRealmRoles(claims);
 
             log.info("Successfully authenticated user {} via Keycloak for tenant {}", username, request.getTenantId());
 
             return SsoAuthResult.success(externalUserId, username, email, fullName, roles, null);
 
+        } catch (KeycloakTokenClient.InvalidGrantException e) {
+            log.warn("Keycloak rejected credentials for user {} in tenant {}: {}",
+                    request.getUsername(), request.getTenantId(), e.getError());
+            return SsoAuthResult.failure("INVALID_CREDENTIALS", "Authentication failed: " + e.getMessage());
+        } catch (JwtException e) {
+            log.error("Keycloak access token verification failed for tenant {}: {}", request.getTenantId(), e.getMessage());
+            return SsoAuthResult.failure("AUTH_ERROR", "Invalid Keycloak access token");
         } catch (IllegalStateException e) {
             log.error("Configuration error: {}", e.getMessage());
             return SsoAuthResult.failure("CONFIG_ERROR", e.getMessage());
+        } catch (SsoConnectionException e) {
+            // 연결 오류 - 상위로 전파하여 Fallback 처리
+            throw e;
         } catch (Exception e) {
             log.error("Keycloak authentication failed for user {} in tenant {}: {}",
                     request.getUsername(), request.getTenantId(), e.getMessage(), e);
             return SsoAuthResult.failure("CONNECTION_ERROR", "Connection to Keycloak failed: " + e.getMessage());
         }
     }
+
+    private List<String> extractRealmRoles(Claims claims) {
+        List<String> roles = new ArrayList<>();
+        if (claims.get("realm_access") instanceof Map<?, ?> realmAccess
+                && realmAccess.get("roles") instanceof List<?> roleValues) {
+            roleValues.forEach(role -> roles.add(String.valueOf(role)));
+        }
+        return roles;
+    }
+
+    @Override
+    public SsoType getSsoType() {
+        return SsoType.KEYCLOAK;
+    }
 }
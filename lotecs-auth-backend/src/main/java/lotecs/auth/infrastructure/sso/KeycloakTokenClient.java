@@ -0,0 +1,147 @@
+package lotecs.auth.infrastructure.sso;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.sso.exception.SsoConnectionException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 테넌트 단위 Keycloak OIDC 토큰 클라이언트.
+ *
+ * <p>Resource Owner Password Grant로 토큰을 발급받고, realm JWKS로 access token 서명을 로컬 검증한다.
+ * HttpClient(커넥션 풀)와 JWKS 키는 인스턴스 수명 동안 재사용되며, 인스턴스는 {@link KeycloakClientRegistry}가 관리한다.</p>
+ */
+@Slf4j
+class KeycloakTokenClient {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final URI tokenUri;
+    private final String clientId;
+    private final String clientSecret;
+    private final Duration requestTimeout;
+    private final JwtParser jwtParser;
+
+    KeycloakTokenClient(HttpClient httpClient, String serverUrl, String realm, String clientId, String clientSecret,
+                        Duration requestTimeout, Duration jwksMinRefreshInterval, Duration clockSkew) {
+        String issuer = stripTrailingSlash(serverUrl) + "/realms/" + realm;
+        this.httpClient = httpClient;
+        this.tokenUri = URI.create(issuer + "/protocol/openid-connect/token");
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.requestTimeout = requestTimeout;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new KeycloakJwksKeyLocator(httpClient, URI.create(issuer + "/protocol/openid-connect/certs"),
+                        requestTimeout, jwksMinRefreshInterval))
+                .requireIssuer(issuer)
+                .clockSkewSeconds(clockSkew.toSeconds())
+                .build();
+    }
+
+    /**
+     * 사용자 자격 증명으로 토큰을 발급받아 검증된 access token claims를 반환한다.
+     *
+     * @throws InvalidGrantException 자격 증명이 거부된 경우
+     * @throws SsoConnectionException Keycloak 연결/서버 오류
+     * @throws io.jsonwebtoken.JwtException access token 검증 실패
+     */
+    Claims obtainVerifiedClaims(String username, String password) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("grant_type", "password");
+        form.put("client_id", clientId);
+        if (clientSecret != null && !clientSecret.isBlank()) {
+            form.put("client_secret", clientSecret);
+        }
+        form.put("username", username);
+        form.put("password", password);
+        form.put("scope", "openid");
+
+        HttpRequest request = HttpRequest.newBuilder(tokenUri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(encodeForm(form)))
+                .build();
+
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (HttpTimeoutException e) {
+            throw SsoConnectionException.timeout("Keycloak 토큰 요청 타임아웃: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw SsoConnectionException.networkError("Keycloak 서버 연결 실패: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SsoConnectionException.networkError("Keycloak 토큰 요청 중단됨", e);
+        }
+
+        int status = response.statusCode();
+        if (status >= 500) {
+            throw SsoConnectionException.serverError("Keycloak 서버 오류: HTTP " + status, status);
+        }
+
+        JsonNode body = readBody(response.body());
+        if (status == 400 || status == 401) {
+            String error = body.path("error").asText("invalid_grant");
+            throw new InvalidGrantException(error, body.path("error_description").asText(error));
+        }
+        if (status != 200 || !body.hasNonNull("access_token")) {
+            throw SsoConnectionException.responseError("Keycloak 토큰 응답 오류: HTTP " + status);
+        }
+
+        return jwtParser.parseSignedClaims(body.get("access_token").asText()).getPayload();
+    }
+
+    private static JsonNode readBody(String body) {
+        try {
+            return OBJECT_MAPPER.readTree(body == null || body.isBlank() ? "{}" : body);
+        } catch (IOException e) {
+            throw SsoConnectionException.responseError("Keycloak 응답 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static String encodeForm(Map<String, String> form) {
+        return form.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(e.getValue() == null ? "" : e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    /**
+     * Keycloak이 자격 증명을 거부한 경우 (invalid_grant 등)
+     */
+    static class InvalidGrantException extends RuntimeException {
+
+        private final String error;
+
+        InvalidGrantException(String error, String description) {
+            super(description);
+            this.error = error;
+        }
+
+        String getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package lotecs.auth.infrastructure.sso;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.sso.model.TenantSsoConfig;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.config.LdapSsoProperties;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.apache.directory.api.ldap.model.exception.LdapException;
+import org.apache.directory.ldap.client.api.DefaultLdapConnectionFactory;
+import org.apache.directory.ldap.client.api.LdapConnection;
+import org.apache.directory.ldap.client.api.LdapConnectionConfig;
+import org.apache.directory.ldap.client.api.LdapConnectionPool;
+import org.apache.directory.ldap.client.api.ValidatingPoolableLdapConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테넌트별 LDAP 커넥션 풀 보관소.
+ *
+ * <p>커넥션은 서비스 계정(bind_dn, 없으면 익명)으로 바인드된 상태로 풀에 보관된다.
+ * {@link ValidatingPoolableLdapConnectionFactory}가 대여 시 커넥션을 검증하고,
+ * 사용자 바인드로 바뀐 커넥션은 반납 시 서비스 계정으로 다시 바인드한다.
+ * LDAP 설정이 바뀌면 다음 요청에서 풀을 새로 만들고, SSO 설정/테넌트 변경 이벤트를 받으면 풀을 내린다.</p>
+ *
+ * <p>교체/제거된 풀은 바로 닫지 않는다. 먼저 새 풀로 바꿔 끼운 뒤 이전 풀은 퇴역 목록에 두고,
+ * 대여 중인 커넥션이 모두 반납되면 닫는다. 교체 직전에 이전 풀을 잡은 요청이 닫힌 풀에서 대여하려 하면
+ * 현재 풀에서 다시 빌린다.</p>
+ */
+@Slf4j
+@Component
+public class LdapConnectionPoolRegistry implements CacheInvalidationListener {
+
+    static final String LDAP_URL = "ldap_url";
+    static final String BIND_DN = "bind_dn";
+    static final String BIND_PASSWORD = "bind_password";
+
+    private final LdapSsoProperties properties;
+    private final Map<String, Entry> pools = new ConcurrentHashMap<>();
+    private final Set<LdapConnectionPool> retiring = ConcurrentHashMap.newKeySet();
+
+    public LdapConnectionPoolRegistry(LdapSsoProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 테넌트 LDAP 설정에 해당하는 풀에서 커넥션 대여 (반납은 {@link #release(Lease)})
+     */
+    Lease borrow(TenantSsoConfig config) throws LdapException {
+        while (true) {
+            LdapConnectionPool pool = get(config);
+            try {
+                return new Lease(pool, pool.getConnection());
+            } catch (IllegalStateException e) {
+                // 대여 직전에 교체되어 닫힌 풀이면 현재 풀에서 다시 빌린다
+                if (!pool.isClosed()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 커넥션 반납. 퇴역한 풀이면 마지막 커넥션이 돌아왔을 때 닫는다.
+     */
+    void release(Lease lease) throws LdapException {
+        try {
+            lease.pool().releaseConnection(lease.connection());
+        } finally {
+            if (retiring.contains(lease.pool())) {
+                closeIfDrained(lease.pool());
+            }
+        }
+    }
+
+    /**
+     * 테넌트 LDAP 설정에 해당하는 커넥션 풀 조회 (없거나 설정이 바뀌었으면 생성)
+     */
+    LdapConnectionPool get(TenantSsoConfig config) {
+        Fingerprint fingerprint = Fingerprint.of(config);
+        Entry current = pools.get(config.getTenantId());
+        if (current != null && current.fingerprint().equals(fingerprint)) {
+            return current.pool();
+        }
+
+        // bin lock 안에서는 교체만 하고, 이전 풀 정리는 밖에서 한다
+        Entry[] replaced = new Entry[1];
+        Entry entry = pools.compute(config.getTenantId(), (tenantId, existing) -> {
+            if (existing != null && existing.fingerprint().equals(fingerprint)) {
+                return existing;
+            }
+            replaced[0] = existing;
+            log.info("[LDAP-POOL] 커넥션 풀 생성: tenantId={}, url={}", tenantId, fingerprint.ldapUrl());
+            return new Entry(fingerprint, createPool(fingerprint));
+        });
+        if (replaced[0] != null) {
+            retire(replaced[0].pool());
+        }
+        return entry.pool();
+    }
+
+    public void evict(String tenantId) {
+        Entry removed = pools.remove(tenantId);
+        if (removed != null) {
+            retire(removed.pool());
+            log.debug("[LDAP-POOL] 커넥션 풀 제거: tenantId={}", tenantId);
+        }
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.SsoConfigChanged
+                || event instanceof CacheInvalidationEvent.TenantChanged) {
+            evict(event.tenantId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pools.keySet().forEach(this::evict);
+        retiring.forEach(this::closeQuietly);
+        retiring.clear();
+    }
+
+    /**
+     * 대여 중인 커넥션이 없으면 바로 닫고, 있으면 마지막 반납 때 닫는다
+     */
+    private void retire(LdapConnectionPool pool) {
+        retiring.add(pool);
+        closeIfDrained(pool);
+    }
+
+    private void closeIfDrained(LdapConnectionPool pool) {
+        // 닫은 뒤 대여된 커넥션은 반납 시 풀이 폐기하므로 확인과 종료 사이의 대여도 안전하다
+        if (pool.getNumActive() == 0 && retiring.remove(pool)) {
+            closeQuietly(pool);
+            log.debug("[LDAP-POOL] 퇴역한 커넥션 풀 종료");
+        }
+    }
+
+    private LdapConnectionPool createPool(Fingerprint fingerprint) {
+        URI uri = URI.create(fingerprint.ldapUrl());
+        boolean useSsl = "ldaps".equalsIgnoreCase(uri.getScheme());
+
+        LdapConnectionConfig connectionConfig = new LdapConnectionConfig();
+        connectionConfig.setLdapHost(uri.getHost());
+        connectionConfig.setLdapPort(uri.getPort() > 0 ? uri.getPort() : (useSsl ? 636 : 389));
+        connectionConfig.setUseSsl(useSsl);
+        connectionConfig.setTimeout(properties.getTimeout().toMillis());
+        if (fingerprint.bindDn() != null) {
+            connectionConfig.setName(fingerprint.bindDn());
+            connectionConfig.setCredentials(fingerprint.bindPassword());
+        }
+
+        DefaultLdapConnectionFactory connectionFactory = new DefaultLdapConnectionFactory(connectionConfig);
+        connectionFactory.setTimeOut(properties.getTimeout().toMillis());
+
+        GenericObjectPoolConfig<LdapConnection> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(properties.getMaxTotal());
+        poolConfig.setMaxIdle(properties.getMaxIdle());
+        poolConfig.setMinIdle(0);
+        poolConfig.setMaxWait(properties.getMaxWait());
+        poolConfig.setTestOnBorrow(true);
+        poolConfig.setTimeBetweenEvictionRuns(properties.getEvictionInterval());
+        poolConfig.setMinEvictableIdleTime(properties.getMinEvictableIdleTime());
+
+        return new LdapConnectionPool(new ValidatingPoolableLdapConnectionFactory(connectionFactory), poolConfig);
+    }
+
+    private void closeQuietly(LdapConnectionPool pool) {
+        try {
+            pool.close();
+        } catch (Exception e) {
+            log.warn("[LDAP-POOL] 커넥션 풀 종료 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대여한 커넥션과 그 커넥션을 빌려 준 풀
+     */
+    record Lease(LdapConnectionPool pool, LdapConnection connection) {
+    }
+
+    private record Entry(Fingerprint fingerprint, LdapConnectionPool pool) {
+    }
+
+    private record Fingerprint(String ldapUrl, String bindDn, String bindPassword) {
+
+        static Fingerprint of(TenantSsoConfig config) {
+            return new Fingerprint(config.getAdditionalConfigValue(LDAP_URL),
+                    config.getAdditionalConfigValue(BIND_DN),
+                    config.getAdditionalConfigValue(BIND_PASSWORD));
+        }
+
+        // bind 비밀번호가 로그에 남지 않도록 제외
+        @Override
+        public String toString() {
+            return "Fingerprint[ldapUrl=" + ldapUrl + ", bindDn=" + bindDn + "]";
+        }
+    }
+}
@@ -1,40 +1,62 @@
 package lotecs.auth.infrastructure.sso;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lotecs.auth.domain.sso.model.TenantSsoConfig;
-import lotecs.auth.domain.sso.repository.TenantSsoConfigRepository;
 import lotecs.auth.domain.sso.SsoAuthRequest;
 import lotecs.auth.domain.sso.SsoAuthResult;
 import lotecs.auth.domain.sso.SsoProvider;
+import lotecs.auth.domain.sso.SsoType;
+import lotecs.auth.domain.sso.exception.SsoConnectionException;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
 import org.apache.directory.api.ldap.model.cursor.EntryCursor;
+import org.apache.directory.api.ldap.model.entry.Attribute;
 import org.apache.directory.api.ldap.model.entry.Entry;
+import org.apache.directory.api.ldap.model.entry.Value;
+import org.apache.directory.api.ldap.model.exception.LdapAuthenticationException;
 import org.apache.directory.api.ldap.model.exception.LdapException;
+import org.apache.directory.api.ldap.model.exception.LdapInvalidAttributeValueException;
+import org.apache.directory.api.ldap.model.exception.LdapInvalidDnException;
+import org.apache.directory.api.ldap.model.filter.FilterEncoder;
 import org.apache.directory.api.ldap.model.message.SearchScope;
+import org.apache.directory.api.ldap.model.name.Dn;
 import org.apache.directory.ldap.client.api.LdapConnection;
-import org.apache.directory.ldap.client.api.LdapNetworkConnection;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
-import java.net.URI;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LDAP 기반 SSO 제공자.
+ *
+ * <p>additionalConfig 설정:</p>
+ * <ul>
+ *   <li>ldap_url, base_dn (필수)</li>
+ *   <li>bind_dn, bind_password: 사용자 검색용 서비스 계정 (없으면 익명 바인드)</li>
+ *   <li>user_search_filter: 사용자 검색 필터, {0}은 이스케이프된 사용자명 (기본값 {@code (uid={0})})</li>
+ *   <li>group_attribute: 그룹 멤버십 속성 (기본값 memberOf)</li>
+ *   <li>group_role_mapping: 그룹(DN 또는 CN) → 역할명 매핑. 매핑에 있는 그룹만 역할로 인정한다(허용 목록)</li>
+ *   <li>group_cn_as_role: true이면 매핑이 없는 그룹도 CN을 그대로 역할명으로 사용 (기본값 false)</li>
+ * </ul>
+ */
 @Slf4j
 @Component("ldap")
 @RequiredArgsConstructor
 public class LdapSsoProvider implements SsoProvider {
 
-    private final TenantSsoConfigRepository ssoConfigRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String DEFAULT_SEARCH_FILTER = "(uid={0})";
+    private static final String DEFAULT_GROUP_ATTRIBUTE = "memberOf";
+
+    private final TenantSsoConfigCache ssoConfigCache;
+    private final LdapConnectionPoolRegistry poolRegistry;
 
     @Override
     public SsoAuthResult authenticate(SsoAuthRequest request) {
-        LdapConnection connection = null;
         try {
-            TenantSsoConfig config = ssoConfigRepository.findByTenantId(request.getTenantId())
+            TenantSsoConfig config = ssoConfigCache.resolve(request)
                     .orElseThrow(() -> new IllegalStateException("SSO configuration not found for tenant: " + request.getTenantId()));
 
             if (config.getAdditionalConfig() == null) {
@@ -42,10 +64,9 @@ public class LdapSsoProvider implements SsoProvider {
                 return SsoAuthResult.failure("CONFIG_ERROR", "LDAP configuration is missing");
             }
 
-            // Parse additionalConfig JSON for ldap_url and base_dn
-            JsonNode additionalConfig = objectMapper.readTree(config.getAdditionalConfig());
-            String ldapUrl = additionalConfig.has("ldap_url") ? additionalConfig.get("ldap_url").asText() : null;
-            String baseDn = additionalConfig.has("base_dn") ? additionalConfig.get("base_dn").asText() : null;
+            // additionalConfig의 ldap_url, base_dn (TenantSsoConfig에서 파싱된 값 재사용)
+            String ldapUrl = config.getAdditionalConfigValue(LdapConnectionPoolRegistry.LDAP_URL);
+            String baseDn = config.getAdditionalConfigValue("base_dn");
 
             if (ldapUrl == null || baseDn == null) {
                 log.error("LDAP configuration is incomplete (ldap_url or base_dn missing) for tenant: {}", request.getTenantId());
@@ -54,103 +75,156 @@ public class LdapSsoProvider implements SsoProvider {
 
             log.debug("Authenticating user {} via LDAP for tenant {}", request.getUsername(), request.getTenantId());
 
-            // Parse LDAP URL
-            URI uri = new URI(ldapUrl);
-            String host = uri.getHost();
-            int port = uri.getPort() > 0 ? uri.getPort() : (uri.getScheme().equals("ldaps") ? 636 : 389);
-            boolean useSsl = uri.getScheme().equals("ldaps");
-
-            // TODO: Add support for LDAP connection pooling
             // TODO: Add support for StartTLS
-            // Connect to LDAP server
-            connection = new LdapNetworkConnection(host, port, useSsl);
-            connection.setTimeOut(10000); // 10 second timeout
-
-            // Search for user DN by username
-            // TODO: Make search filter configurable (currently hardcoded to uid)
-            String searchFilter = String.format("(uid=%s)", request.getUsername());
-            String userDn = null;
-
-            try {
-                connection.bind();
-                EntryCursor cursor = connection.search(baseDn, searchFilter, SearchScope.SUBTREE);
-
-                if (cursor.next()) {
-                    Entry entry = cursor.get();
-                    userDn = entry.getDn().getName();
-                } else {
-                    log.warn("User {} not found in LDAP for tenant {}", request.getUsername(), request.getTenantId());
-                    connection.unBind();
-                    return SsoAuthResult.failure("USER_NOT_FOUND", "User not found in LDAP directory");
-                }
-
-                cursor.close();
-                connection.unBind();
-            } catch (Exception e) {
-                log.error("LDAP search failed for user {}: {}", request.getUsername(), e.getMessage());
-                return SsoAuthResult.failure("CONNECTION_ERROR", "LDAP search failed: " + e.getMessage());
-            }
-
-            // Authenticate by binding with user DN and password
+            LdapConnectionPoolRegistry.Lease lease = borrow(config);
             try {
-                connection.bind(userDn, request.getPassword());
-                log.info("Successfully authenticated user {} via LDAP for tenant {}", request.getUsername(), request.getTenantId());
-            } catch (LdapException e) {
-                log.warn("LDAP authentication failed for user {}: {}", request.getUsername(), e.getMessage());
-                return SsoAuthResult.failure("INVALID_CREDENTIALS", "Invalid username or password");
+                return authenticate(lease.connection(), config, baseDn, request);
+            } finally {
+                release(lease);
             }
 
-            // Retrieve user attributes
-            String email = null;
-            String fullName = null;
-            // TODO: Add support for group-based role mapping
-            List<String> roles = new ArrayList<>();
-
-            try {
-                EntryCursor cursor = connection.search(userDn, "(objectClass=*)", SearchScope.OBJECT, "mail", "cn", "displayName");
-
-                if (cursor.next()) {
-                    Entry entry = cursor.get();
-
-                    if (entry.get("mail") != null) {
-                        email = entry.get("mail").getString();
-                    }
-
-                    if (entry.get("displayName") != null) {
-                        fullName = entry.get("displayName").getString();
-                    } else if (entry.get("cn") != null) {
-                        fullName = entry.get("cn").getString();
-                    }
-                }
-
-                cursor.close();
-            } catch (Exception e) {
-                log.error("Failed to retrieve LDAP user attributes for user {}: {}", request.getUsername(), e.getMessage());
-                // Continue with authentication even if attribute retrieval fails
-            }
-
-            // Use username as external user ID (LDAP DN could be used instead)
-            String externalUserId = userDn;
-
-            return SsoAuthResult.success(externalUserId, request.getUsername(), email, fullName, roles, null);
-
-        } catch (IllegalStateException e) {
+        } catch (IllegalStateException | IllegalArgumentException e) {
             log.error("Configuration error: {}", e.getMessage());
             return SsoAuthResult.failure("CONFIG_ERROR", e.getMessage());
+        } catch (SsoConnectionException e) {
+            // 커넥션 확보 실패 - 상위로 전파하여 Fallback 처리
+            throw e;
         } catch (Exception e) {
             log.error("LDAP authentication failed for user {} in tenant {}: {}",
                     request.getUsername(), request.getTenantId(), e.getMessage(), e);
             return SsoAuthResult.failure("CONNECTION_ERROR", "Connection to LDAP failed: " + e.getMessage());
-        } finally {
-            // Close connection
-            if (connection != null && connection.isConnected()) {
-                try {
-                    connection.unBind();
-                    connection.close();
-                } catch (IOException | LdapException e) {
-                    log.warn("Failed to close LDAP connection: {}", e.getMessage());
-                }
+        }
+    }
+
+    private SsoAuthResult authenticate(LdapConnection connection, TenantSsoConfig config, String baseDn,
+                                       SsoAuthRequest request) {
+        String groupAttribute = valueOrDefault(config.getAdditionalConfigValue("group_attribute"), DEFAULT_GROUP_ATTRIBUTE);
+
+        // 사용자 DN 검색 시 필요한 속성을 함께 조회하여 추가 왕복을 없앤다
+        Entry entry;
+        try {
+            entry = findUser(connection, baseDn, buildSearchFilter(config, request.getUsername()), groupAttribute);
+        } catch (Exception e) {
+            log.error("LDAP search failed for user {}: {}", request.getUsername(), e.getMessage());
+            return SsoAuthResult.failure("CONNECTION_ERROR", "LDAP search failed: " + e.getMessage());
+        }
+
+        if (entry == null) {
+            log.warn("User {} not found in LDAP for tenant {}", request.getUsername(), request.getTenantId());
+            return SsoAuthResult.failure("USER_NOT_FOUND", "User not found in LDAP directory");
+        }
+
+        String userDn = entry.getDn().getName();
+
+        // 사용자 DN과 비밀번호로 바인드하여 인증 (반납 시 풀이 서비스 계정으로 다시 바인드)
+        try {
+            connection.bind(userDn, request.getPassword());
+        } catch (LdapAuthenticationException e) {
+            log.warn("LDAP authentication failed for user {}: {}", request.getUsername(), e.getMessage());
+            return SsoAuthResult.failure("INVALID_CREDENTIALS", "Invalid username or password");
+        } catch (LdapException e) {
+            log.error("LDAP bind failed for user {}: {}", request.getUsername(), e.getMessage());
+            return SsoAuthResult.failure("CONNECTION_ERROR", "LDAP bind failed: " + e.getMessage());
+        }
+
+        log.info("Successfully authenticated user {} via LDAP for tenant {}", request.getUsername(), request.getTenantId());
+
+        String email = stringValue(entry, "mail");
+        String fullName = stringValue(entry, "displayName");
+        if (fullName == null) {
+            fullName = stringValue(entry, "cn");
+        }
+        List<String> roles = mapGroupsToRoles(entry.get(groupAttribute), config);
+
+        // Use LDAP DN as external user ID
+        return SsoAuthResult.success(userDn, request.getUsername(), email, fullName, roles, null);
+    }
+
+    private Entry findUser(LdapConnection connection, String baseDn, String filter, String groupAttribute) throws Exception {
+        try (EntryCursor cursor = connection.search(baseDn, filter, SearchScope.SUBTREE,
+                "mail", "cn", "displayName", groupAttribute)) {
+            return cursor.next() ? cursor.get() : null;
+        }
+    }
+
+    /**
+     * 설정된 검색 필터의 {0}을 RFC 4515 규칙으로 이스케이프한 사용자명으로 치환
+     */
+    static String buildSearchFilter(TenantSsoConfig config, String username) {
+        String template = valueOrDefault(config.getAdditionalConfigValue("user_search_filter"), DEFAULT_SEARCH_FILTER);
+        if (!template.contains("{0}")) {
+            throw new IllegalArgumentException("LDAP user_search_filter must contain {0} placeholder");
+        }
+        return template.replace("{0}", FilterEncoder.encodeFilterValue(username));
+    }
+
+    private List<String> mapGroupsToRoles(Attribute groups, TenantSsoConfig config) {
+        if (groups == null) {
+            return new ArrayList<>();
+        }
+
+        // 디렉터리의 모든 그룹이 역할이 되지 않도록 매핑에 있는 그룹만 인정한다
+        Map<?, ?> mapping = config.getAdditionalConfigAsMap().get("group_role_mapping") instanceof Map<?, ?> m ? m : Map.of();
+        boolean cnAsRole = Boolean.parseBoolean(config.getAdditionalConfigValue("group_cn_as_role"));
+        Set<String> roles = new LinkedHashSet<>();
+        for (Value value : groups) {
+            String groupDn = value.getString();
+            String groupName = groupName(groupDn);
+            Object role = mapping.containsKey(groupDn) ? mapping.get(groupDn) : mapping.get(groupName);
+            if (role != null) {
+                roles.add(role.toString());
+            } else if (cnAsRole) {
+                roles.add(groupName);
             }
         }
+        return new ArrayList<>(roles);
+    }
+
+    private String groupName(String groupDn) {
+        try {
+            Dn dn = new Dn(groupDn);
+            return dn.isEmpty() ? groupDn : dn.getRdn().getValue();
+        } catch (LdapInvalidDnException e) {
+            return groupDn;
+        }
+    }
+
+    private LdapConnectionPoolRegistry.Lease borrow(TenantSsoConfig config) {
+        try {
+            return poolRegistry.borrow(config);
+        } catch (LdapException e) {
+            log.error("Failed to obtain LDAP connection for tenant {}: {}", config.getTenantId(), e.getMessage());
+            throw SsoConnectionException.networkError("LDAP 서버 연결 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void release(LdapConnectionPoolRegistry.Lease lease) {
+        try {
+            poolRegistry.release(lease);
+        } catch (LdapException e) {
+            log.warn("Failed to release LDAP connection: {}", e.getMessage());
+        }
+    }
+
+    private static String stringValue(Entry entry, String attribute) {
+        Attribute value = entry.get(attribute);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.getString();
+        } catch (LdapInvalidAttributeValueException e) {
+            log.warn("Failed to read LDAP attribute {}: {}", attribute, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String valueOrDefault(String value, String defaultValue) {
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+
+    @Override
+    public SsoType getSsoType() {
+        return SsoType.LDAP;
     }
 }
@@ -0,0 +1,70 @@
+package lotecs.auth.infrastructure.sso;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lotecs.auth.domain.sso.SsoAuthRequest;
+import lotecs.auth.domain.sso.SsoAuthResult;
+import lotecs.auth.domain.sso.SsoProvider;
+import lotecs.auth.domain.sso.SsoType;
+
+/**
+ * SSO Provider 데코레이터 - 인증 소요 시간과 결과를 메트릭으로 기록한다.
+ *
+ * <p>auth.sso.authenticate{tenant, sso_type, outcome}: outcome은 success, fallback, failure, error 중 하나</p>
+ */
+public class MeteredSsoProvider implements SsoProvider {
+
+    static final String METRIC_NAME = "auth.sso.authenticate";
+
+    private final SsoProvider delegate;
+    private final String tenantId;
+    private final MeterRegistry meterRegistry;
+
+    public MeteredSsoProvider(SsoProvider delegate, String tenantId, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.tenantId = tenantId;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public SsoAuthResult authenticate(SsoAuthRequest request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            SsoAuthResult result = delegate.authenticate(request);
+            outcome = outcome(result);
+            return result;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("외부 SSO 인증 소요 시간")
+                    .tag("tenant", tenantId)
+                    .tag("sso_type", getSsoType().name())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private String outcome(SsoAuthResult result) {
+        if (!result.isSuccess()) {
+            return "failure";
+        }
+        boolean fallback = result.getAdditionalData() != null
+                && Boolean.TRUE.equals(result.getAdditionalData().get("_fallback"));
+        return fallback ? "fallback" : "success";
+    }
+
+    @Override
+    public String buildLoginUrl(String callbackUrl) {
+        return delegate.buildLoginUrl(callbackUrl);
+    }
+
+    @Override
+    public String buildLogoutUrl(String callbackUrl) {
+        return delegate.buildLogoutUrl(callbackUrl);
+    }
+
+    @Override
+    public SsoType getSsoType() {
+        return delegate.getSsoType();
+    }
+}
@@ -0,0 +1,87 @@
+package lotecs.auth.infrastructure.sso;
+
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.sso.SsoAuthRequest;
+import lotecs.auth.domain.sso.SsoAuthResult;
+import lotecs.auth.domain.sso.SsoProvider;
+import lotecs.auth.domain.sso.SsoType;
+import lotecs.auth.domain.sso.exception.SsoConnectionException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * SSO Provider 데코레이터 - 테넌트별 서킷브레이커와 벌크헤드를 적용한다.
+ *
+ * <p>서킷이 OPEN이거나 동시 호출 한도를 넘으면 SSO 서버를 호출하지 않고 즉시
+ * {@link SsoConnectionException}(CIRCUIT_OPEN / BULKHEAD_FULL)을 던진다.
+ * 바깥의 {@link FallbackAwareSsoProvider}는 이를 연결 실패로 보고 바로 Internal DB로 폴백한다.</p>
+ *
+ * <p>실패로 기록하는 것은 fallback 가능한 {@link SsoConnectionException}뿐이며,
+ * 자격 증명 오류 등 SSO 서버가 응답한 실패 결과는 성공 호출로 기록한다.</p>
+ */
+@Slf4j
+public class ResilientSsoProvider implements SsoProvider {
+
+    private final SsoProvider delegate;
+    private final String tenantId;
+    private final SsoCircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final SsoResilienceRegistry.Rejections rejections;
+
+    ResilientSsoProvider(SsoProvider delegate, String tenantId, SsoCircuitBreaker circuitBreaker,
+                         Semaphore bulkhead, SsoResilienceRegistry.Rejections rejections) {
+        this.delegate = delegate;
+        this.tenantId = tenantId;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.rejections = rejections;
+    }
+
+    @Override
+    public SsoAuthResult authenticate(SsoAuthRequest request) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            rejections.circuitOpen();
+            log.debug("[SSO-CIRCUIT] 서킷 OPEN - SSO 호출 생략: tenant={}", tenantId);
+            throw SsoConnectionException.circuitOpen("SSO 서버 서킷 OPEN: tenant=" + tenantId);
+        }
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.releasePermission();
+            rejections.bulkheadFull();
+            log.warn("[SSO-CIRCUIT] 동시 호출 한도 초과 - SSO 호출 생략: tenant={}", tenantId);
+            throw SsoConnectionException.bulkheadFull("SSO 동시 호출 한도 초과: tenant=" + tenantId);
+        }
+
+        try {
+            SsoAuthResult result = delegate.authenticate(request);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (SsoConnectionException e) {
+            if (e.isFallbackable()) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.releasePermission();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    @Override
+    public String buildLoginUrl(String callbackUrl) {
+        return delegate.buildLoginUrl(callbackUrl);
+    }
+
+    @Override
+    public String buildLogoutUrl(String callbackUrl) {
+        return delegate.buildLogoutUrl(callbackUrl);
+    }
+
+    @Override
+    public SsoType getSsoType() {
+        return delegate.getSsoType();
+    }
+}
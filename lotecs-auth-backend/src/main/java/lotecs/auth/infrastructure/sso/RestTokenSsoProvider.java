@@ -7,19 +7,20 @@ import lotecs.auth.domain.sso.SsoAuthResult;
 import lotecs.auth.domain.sso.SsoProvider;
 import lotecs.auth.domain.sso.SsoType;
 import lotecs.auth.domain.sso.model.TenantSsoConfig;
-import lotecs.auth.domain.sso.repository.TenantSsoConfigRepository;
 import lotecs.auth.exception.sso.SsoServerException;
 import org.springframework.stereotype.Component;
 
 import lotecs.auth.domain.sso.exception.SsoConnectionException;
+import lotecs.auth.infrastructure.cache.SystemTokenCache;
+import lotecs.auth.infrastructure.cache.SystemTokenCache.SystemToken;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
 
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
@@ -36,16 +37,19 @@ import java.util.StringJoiner;
 @Component("rest_token")
 public class RestTokenSsoProvider implements SsoProvider {
 
-    private final TenantSsoConfigRepository ssoConfigRepository;
-    private final HttpClient httpClient;
+    private static final String INVALID_TOKEN = "invalid_token";
+
+    private final TenantSsoConfigCache ssoConfigCache;
+    private final SystemTokenCache systemTokenCache;
+    private final SsoHttpTransport httpTransport;
     private final ObjectMapper objectMapper;
 
-    public RestTokenSsoProvider(TenantSsoConfigRepository ssoConfigRepository, ObjectMapper objectMapper) {
-        this.ssoConfigRepository = ssoConfigRepository;
+    public RestTokenSsoProvider(TenantSsoConfigCache ssoConfigCache, SystemTokenCache systemTokenCache,
+                                SsoHttpTransport httpTransport, ObjectMapper objectMapper) {
+        this.ssoConfigCache = ssoConfigCache;
+        this.systemTokenCache = systemTokenCache;
+        this.httpTransport = httpTransport;
         this.objectMapper = objectMapper;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .build();
         log.debug("RestTokenSsoProvider initialized");
     }
 
@@ -54,7 +58,7 @@ public class RestTokenSsoProvider implements SsoProvider {
         log.debug("REST_TOKEN SSO authentication for user: {} in tenant: {}", request.getUsername(), request.getTenantId());
 
         try {
-            TenantSsoConfig config = ssoConfigRepository.findByTenantId(request.getTenantId())
+            TenantSsoConfig config = ssoConfigCache.resolve(request)
                     .orElseThrow(() -> new IllegalStateException("SSO configuration not found for tenant: " + request.getTenantId()));
 
             if (config.getSsoServerUrl() == null || config.getSsoServerUrl().isBlank()) {
@@ -67,18 +71,29 @@ public class RestTokenSsoProvider implements SsoProvider {
                 return SsoAuthResult.failure("CONFIG_ERROR", "SSO client credentials are not configured");
             }
 
-            // 시스템 토큰 발급
-            String accessToken = request.getSsoToken();
-            if (accessToken == null || accessToken.isBlank()) {
-                accessToken = getSystemToken(config);
+            // 요청에 토큰이 있으면 그대로 사용
+            if (request.getSsoToken() != null && !request.getSsoToken().isBlank()) {
+                return authenticateUser(request, config, request.getSsoToken());
             }
 
-            // 사용자 인증
-            return authenticateUser(request, config, accessToken);
+            // 캐시된 시스템 토큰 사용, SSO 서버가 access_token을 거부(401 invalid_token)하면 한 번만 재발급 후 재시도
+            String fingerprint = config.getSsoServerUrl() + "|" + config.getSsoClientId() + "|" + config.getSsoClientSecret().hashCode();
+            String systemToken = systemTokenCache.get(request.getTenantId(), fingerprint, () -> getSystemToken(config));
+            try {
+                return authenticateUser(request, config, systemToken);
+            } catch (SystemTokenRejectedException e) {
+                log.info("System token rejected by SSO server, refreshing: tenantId={}", request.getTenantId());
+                systemTokenCache.invalidate(request.getTenantId(), systemToken);
+                systemToken = systemTokenCache.get(request.getTenantId(), fingerprint, () -> getSystemToken(config));
+                return authenticateUser(request, config, systemToken);
+            }
 
         } catch (IllegalStateException e) {
             log.error("Configuration error: {}", e.getMessage());
             return SsoAuthResult.failure("CONFIG_ERROR", e.getMessage());
+        } catch (SystemTokenRejectedException e) {
+            log.warn("SSO server rejected access token for user {} in tenant {}", request.getUsername(), request.getTenantId());
+            return SsoAuthResult.failure("TOKEN_INVALID", "SSO 토큰이 거부되었습니다");
         } catch (SsoConnectionException e) {
             // 연결 오류는 그대로 전파 (Fallback 처리용)
             throw e;
@@ -106,7 +121,7 @@ public class RestTokenSsoProvider implements SsoProvider {
         }
     }
 
-    private String getSystemToken(TenantSsoConfig config) throws Exception {
+    private SystemToken getSystemToken(TenantSsoConfig config) throws Exception {
         log.debug("Requesting system token from SSO server");
 
         String tokenEndpoint = config.getRestTokenEndpoint() != null
@@ -122,38 +137,48 @@ public class RestTokenSsoProvider implements SsoProvider {
                 "secret_key", config.getSsoClientSecret()
         ));
 
-        int timeout = config.getReadTimeoutMs() != null ? config.getReadTimeoutMs() : 5000;
-
-        HttpRequest request = HttpRequest.newBuilder()
+        HttpRequest.Builder request = HttpRequest.newBuilder()
                 .uri(URI.create(url))
-                .timeout(Duration.ofMillis(timeout))
                 .header("Content-Type", "application/x-www-form-urlencoded")
-                .POST(HttpRequest.BodyPublishers.ofString(formData))
-                .build();
-
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() >= 500) {
-            throw SsoConnectionException.serverError(
-                    "SSO 서버 오류 (토큰 발급): HTTP " + response.statusCode(),
-                    response.statusCode()
-            );
-        }
+                .POST(HttpRequest.BodyPublishers.ofString(formData));
+
+        SystemToken systemToken = httpTransport.send(config, request, (status, body) -> {
+            if (status >= 500) {
+                throw SsoConnectionException.serverError(
+                        "SSO 서버 오류 (토큰 발급): HTTP " + status,
+                        status
+                );
+            }
 
-        if (response.statusCode() != 200) {
-            throw new RuntimeException("SSO server returned status: " + response.statusCode());
-        }
+            if (status != 200) {
+                throw new RuntimeException("SSO server returned status: " + status);
+            }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> result = objectMapper.readValue(response.body(), Map.class);
-        String accessToken = (String) result.get("access_token");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> result = objectMapper.readValue(body, Map.class);
+            return new SystemToken((String) result.get("access_token"), parseExpiresIn(result.get("expires_in")));
+        });
 
-        if (accessToken == null || accessToken.isBlank()) {
+        if (systemToken.value() == null || systemToken.value().isBlank()) {
             throw new RuntimeException("No access_token in response");
         }
 
         log.debug("System token acquired successfully");
-        return accessToken;
+        return systemToken;
+    }
+
+    private Duration parseExpiresIn(Object expiresIn) {
+        if (expiresIn instanceof Number seconds) {
+            return Duration.ofSeconds(seconds.longValue());
+        }
+        if (expiresIn instanceof String seconds && !seconds.isBlank()) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(seconds.trim()));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring non-numeric expires_in: {}", seconds);
+            }
+        }
+        return null;
     }
 
     private SsoAuthResult authenticateUser(SsoAuthRequest request, TenantSsoConfig config, String accessToken) throws Exception {
@@ -186,26 +211,34 @@ public class RestTokenSsoProvider implements SsoProvider {
         }
 
         String formData = buildFormData(params);
-        int timeout = config.getReadTimeoutMs() != null ? config.getReadTimeoutMs() : 5000;
 
-        HttpRequest httpRequest = HttpRequest.newBuilder()
+        HttpRequest.Builder httpRequest = HttpRequest.newBuilder()
                 .uri(URI.create(url))
-                .timeout(Duration.ofMillis(timeout))
                 .header("Content-Type", "application/x-www-form-urlencoded")
-                .POST(HttpRequest.BodyPublishers.ofString(formData))
-                .build();
-
-        HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+                .POST(HttpRequest.BodyPublishers.ofString(formData));
+
+        Map<String, Object> result = httpTransport.send(config, httpRequest, (status, headers, body) -> {
+            if (status >= 500) {
+                throw SsoConnectionException.serverError(
+                        "SSO 서버 오류 (사용자 인증): HTTP " + status,
+                        status
+                );
+            }
 
-        if (response.statusCode() >= 500) {
-            throw SsoConnectionException.serverError(
-                    "SSO 서버 오류 (사용자 인증): HTTP " + response.statusCode(),
-                    response.statusCode()
-            );
-        }
+            if (status == 401) {
+                byte[] content = body.readAllBytes();
+                if (isAccessTokenRejected(headers, content)) {
+                    throw new SystemTokenRejectedException();
+                }
+                // access_token이 아니라 사용자 자격 증명이 거부된 경우
+                log.debug("SSO server rejected user credentials: user={}", request.getUsername());
+                return Map.of();
+            }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> result = objectMapper.readValue(response.body(), Map.class);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> parsed = objectMapper.readValue(body, Map.class);
+            return parsed;
+        });
 
         String userInfo = (String) result.get("user_info");
         if (userInfo == null || userInfo.isBlank()) {
@@ -228,6 +261,27 @@ public class RestTokenSsoProvider implements SsoProvider {
         );
     }
 
+    /**
+     * 401 응답이 access_token 거부인지 판단 (RFC 6750 WWW-Authenticate 또는 본문의 error 코드가 invalid_token)
+     */
+    private boolean isAccessTokenRejected(HttpHeaders headers, byte[] content) {
+        boolean challenged = headers.allValues("WWW-Authenticate").stream()
+                .anyMatch(value -> value.contains("error=\"" + INVALID_TOKEN + "\""));
+        if (challenged) {
+            return true;
+        }
+        if (content.length == 0) {
+            return false;
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> error = objectMapper.readValue(content, Map.class);
+            return INVALID_TOKEN.equals(error.get("error")) || INVALID_TOKEN.equals(error.get("error_code"));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     private String mapUserDivision(String userDivision, String univUserDivision, TenantSsoConfig config) {
         if (userDivision == null) {
             return null;
@@ -266,6 +320,16 @@ public class RestTokenSsoProvider implements SsoProvider {
         return joiner.toString();
     }
 
+    /**
+     * SSO 서버가 사용자 검증 요청의 access_token을 거부(401 invalid_token)한 경우
+     */
+    private static class SystemTokenRejectedException extends RuntimeException {
+
+        SystemTokenRejectedException() {
+            super("SSO server rejected access token", null, false, false);
+        }
+    }
+
     @Override
     public String buildLoginUrl(String callbackUrl) {
         String encodedCallback = URLEncoder.encode(callbackUrl, StandardCharsets.UTF_8);
@@ -0,0 +1,137 @@
+package lotecs.auth.infrastructure.sso;
+
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.infrastructure.config.SsoResilienceProperties;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 횟수 기반 슬라이딩 윈도우 서킷브레이커.
+ *
+ * <p>CLOSED에서 최근 slidingWindowSize건 중 실패율이 임계치를 넘으면 OPEN,
+ * waitDurationInOpenState가 지나면 HALF_OPEN으로 전환하여 permittedCallsInHalfOpenState건을 시험 호출한다.
+ * 시험 호출이 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN이 된다.
+ * 호출 빈도가 SSO 로그인 수준이므로 단순하게 인스턴스 락으로 동기화한다.</p>
+ */
+@Slf4j
+class SsoCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int minimumNumberOfCalls;
+    private final int failureRateThreshold;
+    private final int permittedCallsInHalfOpenState;
+    private final long waitDurationInOpenStateNanos;
+    private final LongSupplier nanoTime;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    SsoCircuitBreaker(String name, SsoResilienceProperties properties) {
+        this(name, properties, System::nanoTime);
+    }
+
+    SsoCircuitBreaker(String name, SsoResilienceProperties properties, LongSupplier nanoTime) {
+        this.name = name;
+        this.window = new boolean[Math.max(1, properties.getSlidingWindowSize())];
+        this.minimumNumberOfCalls = Math.max(1, Math.min(properties.getMinimumNumberOfCalls(), window.length));
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.permittedCallsInHalfOpenState = Math.max(1, properties.getPermittedCallsInHalfOpenState());
+        this.waitDurationInOpenStateNanos = properties.getWaitDurationInOpenState().toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 호출 허용 여부. true를 받은 호출은 반드시 onSuccess/onFailure/releasePermission 중 하나로 끝내야 한다.
+     */
+    synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoTime.getAsLong() - openedAt < waitDurationInOpenStateNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= permittedCallsInHalfOpenState) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= permittedCallsInHalfOpenState) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumNumberOfCalls && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 결과를 기록하지 않고 허가만 반환 (SSO 서버 상태와 무관한 오류)
+     */
+    synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == window.length) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        windowIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoTime.getAsLong();
+            log.warn("[SSO-CIRCUIT] {} 상태 변경: {} -> {}", name, previous, next);
+        } else {
+            log.info("[SSO-CIRCUIT] {} 상태 변경: {} -> {}", name, previous, next);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package lotecs.auth.infrastructure.sso;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.sso.model.TenantSsoConfig;
+import lotecs.auth.infrastructure.config.SsoHttpProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP 기반 SSO 제공자 공용 전송 계층.
+ *
+ * <p>가상 스레드 executor를 쓰는 HttpClient를 공유하여 SSO 서버별 커넥션을 재사용한다.
+ * 연결 타임아웃은 HttpClient 단위 설정이므로 타임아웃 값별로 클라이언트를 하나씩 두고(실제로는 몇 개 수준),
+ * 응답 타임아웃은 요청마다 테넌트 readTimeoutMs를 적용한다.
+ * 응답 본문은 InputStream으로 넘겨 문자열 복사 없이 바로 파싱하며, 호스트별 요청 시간/결과를 메트릭으로 기록한다.</p>
+ */
+@Slf4j
+@Component
+public class SsoHttpTransport {
+
+    static final String METRIC_NAME = "auth.sso.http.client.requests";
+
+    private final SsoHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Duration, HttpClient> clients = new ConcurrentHashMap<>();
+
+    public SsoHttpTransport(SsoHttpProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 테넌트 타임아웃을 적용하여 요청을 보내고 응답 본문 스트림을 handler에 넘긴다.
+     *
+     * @throws HttpTimeoutException 연결/응답 타임아웃
+     * @throws IOException 통신 오류 또는 handler의 파싱 오류
+     */
+    public <T> T send(TenantSsoConfig config, HttpRequest.Builder requestBuilder, ResponseHandler<T> handler)
+            throws IOException, InterruptedException {
+        return send(config, requestBuilder, (status, headers, body) -> handler.handle(status, body));
+    }
+
+    /**
+     * 응답 헤더가 필요한 경우 (예: WWW-Authenticate)
+     *
+     * @throws HttpTimeoutException 연결/응답 타임아웃
+     * @throws IOException 통신 오류 또는 handler의 파싱 오류
+     */
+    public <T> T send(TenantSsoConfig config, HttpRequest.Builder requestBuilder, HeaderAwareResponseHandler<T> handler)
+            throws IOException, InterruptedException {
+        Duration readTimeout = readTimeout(config);
+        HttpRequest request = requestBuilder.timeout(readTimeout).build();
+        String host = request.uri().getHost();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "IO_ERROR";
+        HttpResponse<InputStream> response;
+        try {
+            response = client(readTimeout).send(request, HttpResponse.BodyHandlers.ofInputStream());
+            outcome = (response.statusCode() / 100) + "xx";
+        } catch (HttpTimeoutException e) {
+            outcome = "TIMEOUT";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("SSO 서버 HTTP 요청 시간")
+                    .tag("host", host != null ? host : "unknown")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+
+        try (InputStream body = response.body()) {
+            // 파서가 스트림을 닫더라도 남은 본문을 비운 뒤 닫아야 커넥션이 풀로 반환된다
+            T result = handler.handle(response.statusCode(), response.headers(), new FilterInputStream(body) {
+                @Override
+                public void close() {
+                }
+            });
+            body.transferTo(OutputStream.nullOutputStream());
+            return result;
+        }
+    }
+
+    Duration readTimeout(TenantSsoConfig config) {
+        return config.getReadTimeoutMs() != null && config.getReadTimeoutMs() > 0
+                ? Duration.ofMillis(config.getReadTimeoutMs())
+                : properties.getDefaultReadTimeout();
+    }
+
+    private HttpClient client(Duration readTimeout) {
+        Duration connectTimeout = readTimeout.compareTo(properties.getConnectTimeout()) < 0
+                ? readTimeout
+                : properties.getConnectTimeout();
+        return clients.computeIfAbsent(connectTimeout, timeout -> {
+            log.debug("[SSO-HTTP] HttpClient 생성: connectTimeout={}", timeout);
+            return HttpClient.newBuilder()
+                    .version(properties.isHttp2Enabled() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(timeout)
+                    .executor(executor)
+                    .build();
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clients.values().forEach(HttpClient::close);
+        clients.clear();
+        executor.shutdownNow();
+    }
+
+    /**
+     * 응답 상태 코드와 본문 스트림 처리 (스트림은 전송 계층이 닫는다)
+     */
+    @FunctionalInterface
+    public interface ResponseHandler<T> {
+
+        T handle(int statusCode, InputStream body) throws IOException;
+    }
+
+    /**
+     * 응답 상태 코드, 헤더와 본문 스트림 처리 (스트림은 전송 계층이 닫는다)
+     */
+    @FunctionalInterface
+    public interface HeaderAwareResponseHandler<T> {
+
+        T handle(int statusCode, HttpHeaders headers, InputStream body) throws IOException;
+    }
+}
@@ -1,6 +1,6 @@
 package lotecs.auth.infrastructure.sso;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import lotecs.auth.domain.sso.SsoProvider;
 import lotecs.auth.domain.sso.SsoType;
@@ -9,71 +9,146 @@ import lotecs.auth.domain.user.repository.UserProfileRepository;
 import lotecs.auth.domain.user.repository.UserRepository;
 import lotecs.auth.exception.sso.SsoProviderNotFoundException;
 import lotecs.auth.exception.sso.SsoTypeUnsupportedException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lotecs.auth.infrastructure.cache.OfflineCredentialCache;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.security.PasswordHashingExecutor;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * SSO Provider 조회 및 테넌트별 Provider 체인 조립.
+ *
+ * <p>체인 구성: 기본 Provider → 서킷브레이커/벌크헤드 → Fallback(설정 시) → 메트릭.
+ * 조립된 체인은 테넌트별로 보관하며, {@link TenantSsoConfig} 내용(updatedAt 포함)이 바뀌었을 때만 다시 조립한다.
+ * 설정 캐시는 호출마다 복사본을 돌려주므로 비교는 값(equals)으로 하고, 체인은 조립 시점 설정의 자체 복사본을 보관한다.</p>
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class SsoProviderFactory {
+public class SsoProviderFactory implements CacheInvalidationListener {
 
-    private final Map<String, SsoProvider> providers;
+    private final Map<SsoType, SsoProvider> providersByType = new EnumMap<>(SsoType.class);
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final SsoResilienceRegistry resilienceRegistry;
+    private final OfflineCredentialCache offlineCredentialCache;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ProviderChain> chains = new ConcurrentHashMap<>();
+
+    public SsoProviderFactory(Map<String, SsoProvider> providers,
+                              UserRepository userRepository,
+                              UserProfileRepository userProfileRepository,
+                              PasswordHashingExecutor passwordHashingExecutor,
+                              SsoResilienceRegistry resilienceRegistry,
+                              OfflineCredentialCache offlineCredentialCache,
+                              MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.resilienceRegistry = resilienceRegistry;
+        this.offlineCredentialCache = offlineCredentialCache;
+        this.meterRegistry = meterRegistry;
+
+        for (SsoType ssoType : SsoType.values()) {
+            String beanName = beanName(ssoType);
+            if (beanName != null && providers.get(beanName) != null) {
+                providersByType.put(ssoType, providers.get(beanName));
+            }
+        }
+    }
 
     /**
      * SSO 타입에 해당하는 Provider를 반환한다.
      * Fallback 기능이 필요한 경우 getProviderWithFallback을 사용한다.
      */
     public SsoProvider getProvider(SsoType ssoType) {
-        log.debug("Retrieving SSO provider for type: {}", ssoType);
-
-        SsoProvider provider = switch (ssoType) {
-            case KEYCLOAK -> providers.get("keycloak");
-            case LDAP -> providers.get("ldap");
-            case JWT_SSO -> providers.get("jwt_sso");
-            case CAS -> providers.get("cas");
-            case REST_TOKEN -> providers.get("rest_token");
-            case HTTP_FORM -> providers.get("http_form");
-            case INTERNAL -> throw SsoTypeUnsupportedException.internal();
-        };
+        if (ssoType == SsoType.INTERNAL) {
+            throw SsoTypeUnsupportedException.internal();
+        }
 
+        SsoProvider provider = providersByType.get(ssoType);
         if (provider == null) {
             log.error("No provider found for SSO type: {}", ssoType);
             throw new SsoProviderNotFoundException(ssoType.name());
         }
-
-        log.debug("Successfully retrieved provider: {} for SSO type: {}", provider.getClass().getSimpleName(), ssoType);
         return provider;
     }
 
     /**
      * Fallback 기능이 적용된 SSO Provider를 반환한다.
-     * SSO 서버 연결 실패 시 Internal DB로 폴백하여 인증을 시도한다.
+     * 테넌트별 서킷브레이커/벌크헤드를 적용하고, 서킷 OPEN 또는 SSO 서버 연결 실패 시 Internal DB로 폴백하여 인증을 시도한다.
      *
      * @param ssoConfig 테넌트 SSO 설정 (fallbackEnabled 여부 포함)
      * @return Fallback이 적용된 SsoProvider
      */
     public SsoProvider getProviderWithFallback(TenantSsoConfig ssoConfig) {
-        SsoProvider baseProvider = getProvider(ssoConfig.getSsoType());
+        ProviderChain chain = chains.get(ssoConfig.getTenantId());
+        if (chain != null && chain.isBuiltFrom(ssoConfig)) {
+            return chain.provider();
+        }
+        return chains.compute(ssoConfig.getTenantId(), (tenantId, current) ->
+                current != null && current.isBuiltFrom(ssoConfig) ? current : buildChain(ssoConfig)).provider();
+    }
+
+    public void evict(String tenantId) {
+        chains.remove(tenantId);
+    }
 
-        // Fallback이 비활성화되어 있으면 기본 Provider 반환
-        if (!ssoConfig.isFallbackEnabled()) {
-            log.debug("Fallback disabled for tenant: {}, returning base provider", ssoConfig.getTenantId());
-            return baseProvider;
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.SsoConfigChanged
+                || event instanceof CacheInvalidationEvent.TenantChanged) {
+            evict(event.tenantId());
         }
+    }
+
+    private ProviderChain buildChain(TenantSsoConfig requested) {
+        // 호출자가 받은 인스턴스를 수정해도 체인의 설정/비교 기준이 바뀌지 않도록 복사본 사용
+        TenantSsoConfig ssoConfig = requested.copy();
+        String tenantId = ssoConfig.getTenantId();
+        SsoProvider provider = resilienceRegistry.decorate(getProvider(ssoConfig.getSsoType()), tenantId);
 
-        // Fallback이 활성화되어 있으면 FallbackAwareSsoProvider로 래핑
-        log.debug("Fallback enabled for tenant: {}, wrapping with FallbackAwareSsoProvider", ssoConfig.getTenantId());
-        return new FallbackAwareSsoProvider(
-                baseProvider,
-                ssoConfig,
-                userRepository,
-                userProfileRepository,
-                passwordEncoder
-        );
+        if (ssoConfig.isFallbackEnabled()) {
+            provider = new FallbackAwareSsoProvider(
+                    provider,
+                    ssoConfig,
+                    userRepository,
+                    userProfileRepository,
+                    passwordHashingExecutor.boundedEncoder(),
+                    offlineCredentialCache
+            );
+        }
+
+        provider = new MeteredSsoProvider(provider, tenantId, meterRegistry);
+
+        log.debug("SSO provider chain built: tenant={}, ssoType={}, fallbackEnabled={}",
+                tenantId, ssoConfig.getSsoType(), ssoConfig.isFallbackEnabled());
+        return new ProviderChain(ssoConfig, provider);
+    }
+
+    private static String beanName(SsoType ssoType) {
+        return switch (ssoType) {
+            case KEYCLOAK -> "keycloak";
+            case LDAP -> "ldap";
+            case JWT_SSO -> "jwt_sso";
+            case CAS -> "cas";
+            case REST_TOKEN -> "rest_token";
+            case HTTP_FORM -> "http_form";
+            case INTERNAL -> null;
+        };
+    }
+
+    /**
+     * 조립된 Provider 체인과 조립에 사용한 설정
+     */
+    private record ProviderChain(TenantSsoConfig config, SsoProvider provider) {
+
+        boolean isBuiltFrom(TenantSsoConfig ssoConfig) {
+            return config == ssoConfig || config.equals(ssoConfig);
+        }
     }
 }
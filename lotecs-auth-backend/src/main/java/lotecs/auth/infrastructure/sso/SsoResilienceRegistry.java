@@ -0,0 +1,127 @@
+package lotecs.auth.infrastructure.sso;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.domain.sso.SsoProvider;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationListener;
+import lotecs.auth.infrastructure.config.SsoResilienceProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 테넌트별 SSO 서킷브레이커/벌크헤드 보관소.
+ *
+ * <p>메트릭:</p>
+ * <ul>
+ *   <li>auth.sso.circuit.state{tenant, state}: 현재 상태면 1, 아니면 0</li>
+ *   <li>auth.sso.bulkhead.available{tenant}: 남은 동시 호출 수</li>
+ *   <li>auth.sso.circuit.rejected{tenant, reason}: 호출 없이 거부된 건수</li>
+ * </ul>
+ *
+ * <p>SSO 설정/테넌트 변경 이벤트를 받으면 해당 테넌트 상태를 초기화한다(서버 주소가 바뀌었을 수 있으므로).</p>
+ */
+@Slf4j
+@Component
+public class SsoResilienceRegistry implements CacheInvalidationListener {
+
+    private final SsoResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Resilience> tenants = new ConcurrentHashMap<>();
+
+    public SsoResilienceRegistry(SsoResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 테넌트 서킷브레이커/벌크헤드를 적용한 Provider 반환 (비활성화 시 원본 반환)
+     */
+    public SsoProvider decorate(SsoProvider delegate, String tenantId) {
+        if (!properties.isEnabled()) {
+            return delegate;
+        }
+        Resilience resilience = tenants.computeIfAbsent(tenantId, this::create);
+        return new ResilientSsoProvider(delegate, tenantId, resilience.circuitBreaker(), resilience.bulkhead(),
+                resilience.rejections());
+    }
+
+    public void evict(String tenantId) {
+        Resilience removed = tenants.remove(tenantId);
+        if (removed != null) {
+            removed.meterIds().forEach(meterRegistry::remove);
+            log.debug("[SSO-CIRCUIT] 서킷 상태 초기화: tenant={}", tenantId);
+        }
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event instanceof CacheInvalidationEvent.SsoConfigChanged
+                || event instanceof CacheInvalidationEvent.TenantChanged) {
+            evict(event.tenantId());
+        }
+    }
+
+    private Resilience create(String tenantId) {
+        SsoCircuitBreaker circuitBreaker = new SsoCircuitBreaker("sso:" + tenantId, properties);
+        Semaphore bulkhead = new Semaphore(properties.getMaxConcurrentCalls());
+
+        List<Meter.Id> stateGauges = Arrays.stream(SsoCircuitBreaker.State.values())
+                .map(state -> Gauge.builder("auth.sso.circuit.state", circuitBreaker, cb -> cb.getState() == state ? 1 : 0)
+                        .description("SSO 서킷브레이커 상태")
+                        .tag("tenant", tenantId)
+                        .tag("state", state.name())
+                        .register(meterRegistry)
+                        .getId())
+                .toList();
+        Meter.Id bulkheadGauge = Gauge.builder("auth.sso.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("SSO 벌크헤드 잔여 동시 호출 수")
+                .tag("tenant", tenantId)
+                .register(meterRegistry)
+                .getId();
+        Counter circuitOpen = rejectionCounter(tenantId, "circuit_open");
+        Counter bulkheadFull = rejectionCounter(tenantId, "bulkhead_full");
+
+        List<Meter.Id> meterIds = new ArrayList<>(stateGauges);
+        meterIds.add(bulkheadGauge);
+        meterIds.add(circuitOpen.getId());
+        meterIds.add(bulkheadFull.getId());
+
+        return new Resilience(circuitBreaker, bulkhead, new Rejections(circuitOpen, bulkheadFull), List.copyOf(meterIds));
+    }
+
+    private Counter rejectionCounter(String tenantId, String reason) {
+        return Counter.builder("auth.sso.circuit.rejected")
+                .description("서킷 OPEN/벌크헤드 초과로 SSO 호출 없이 거부된 건수")
+                .tag("tenant", tenantId)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private record Resilience(SsoCircuitBreaker circuitBreaker, Semaphore bulkhead, Rejections rejections,
+                              List<Meter.Id> meterIds) {
+    }
+
+    /**
+     * 호출 거부 카운터
+     */
+    record Rejections(Counter circuitOpenCounter, Counter bulkheadFullCounter) {
+
+        void circuitOpen() {
+            circuitOpenCounter.increment();
+        }
+
+        void bulkheadFull() {
+            bulkheadFullCounter.increment();
+        }
+    }
+}
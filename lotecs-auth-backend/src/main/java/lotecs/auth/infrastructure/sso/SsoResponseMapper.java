@@ -26,9 +26,6 @@ import java.util.Map;
 @Component
 public class SsoResponseMapper {
 
-    private static final String RESPONSE_MAPPING_KEY = "responseMapping";
-    private static final String CUSTOM_FIELDS_KEY = "customFields";
-
     /**
      * SSO 응답 데이터를 표준 필드로 매핑
      *
@@ -41,11 +38,10 @@ public class SsoResponseMapper {
             return new HashMap<>();
         }
 
-        Map<String, Object> additionalConfig = ssoConfig.getAdditionalConfigAsMap();
         Map<String, Object> result = new HashMap<>();
 
-        // 1. 응답 매핑 적용
-        Map<String, String> responseMapping = getResponseMapping(additionalConfig);
+        // 1. 응답 매핑 적용 (TenantSsoConfig에서 파싱된 값 재사용)
+        Map<String, String> responseMapping = ssoConfig.getResponseMapping();
         if (!responseMapping.isEmpty()) {
             for (Map.Entry<String, String> entry : responseMapping.entrySet()) {
                 String standardKey = entry.getKey();    // 표준 키 (예: studentId)
@@ -67,7 +63,7 @@ public class SsoResponseMapper {
         }
 
         // 3. 커스텀 정적 필드 추가
-        Map<String, Object> customFields = getCustomFields(additionalConfig);
+        Map<String, Object> customFields = ssoConfig.getCustomFields();
         if (!customFields.isEmpty()) {
             result.putAll(customFields);
         }
@@ -130,28 +126,6 @@ public class SsoResponseMapper {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, String> getResponseMapping(Map<String, Object> additionalConfig) {
-        Object mapping = additionalConfig.get(RESPONSE_MAPPING_KEY);
-        if (mapping instanceof Map) {
-            Map<String, String> result = new HashMap<>();
-            for (Map.Entry<?, ?> entry : ((Map<?, ?>) mapping).entrySet()) {
-                result.put(entry.getKey().toString(), entry.getValue().toString());
-            }
-            return result;
-        }
-        return new HashMap<>();
-    }
-
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> getCustomFields(Map<String, Object> additionalConfig) {
-        Object fields = additionalConfig.get(CUSTOM_FIELDS_KEY);
-        if (fields instanceof Map) {
-            return new HashMap<>((Map<String, Object>) fields);
-        }
-        return new HashMap<>();
-    }
-
     private boolean isSourceKey(String key, Map<String, String> responseMapping) {
         return responseMapping.containsValue(key);
     }
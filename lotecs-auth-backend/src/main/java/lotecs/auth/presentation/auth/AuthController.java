@@ -65,7 +65,7 @@ public class AuthController {
      */
     @PostMapping("/validate")
     public CommonResponse<ValidateTokenResponse> validate(@Valid @RequestBody ValidateTokenRequest request) {
-        ValidateTokenResponse response = authService.validate(request.getAccessToken());
+        ValidateTokenResponse response = authService.validate(request.getAccessToken(), request.getMode());
         return CommonResponse.success(response);
     }
 }
@@ -2,21 +2,33 @@ package lotecs.auth.presentation.grpc.service.auth;
 
 import com.google.protobuf.Struct;
 import com.lotecs.auth.grpc.*;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lotecs.auth.application.auth.dto.LoginRequest;
 import lotecs.auth.application.auth.dto.LoginResponse;
+import lotecs.auth.application.auth.dto.TokenValidationMode;
 import lotecs.auth.application.auth.dto.ValidateTokenResponse;
 import lotecs.auth.application.auth.service.AuthService;
+import lotecs.auth.application.permission.dto.PermissionCheck;
+import lotecs.auth.application.permission.dto.PermissionCheckMode;
+import lotecs.auth.application.permission.dto.PermissionCheckResult;
 import lotecs.auth.application.permission.service.PermissionAppService;
 import lotecs.auth.application.user.dto.CreateUserRequest;
 import lotecs.auth.application.user.dto.UpdateUserRequest;
 import lotecs.auth.application.user.dto.UserDto;
 import lotecs.auth.application.user.service.UserService;
+import lotecs.auth.exception.auth.LoginThrottledException;
+import lotecs.auth.exception.auth.PasswordHashingBusyException;
+import lotecs.auth.exception.auth.RefreshTokenReuseException;
+import lotecs.auth.exception.auth.TokenRefreshException;
+import lotecs.auth.infrastructure.security.RevocationBloomFilter;
+import lotecs.auth.infrastructure.security.RevocationFeed;
 import lotecs.framework.common.grpc.core.util.StructConverter;
 import net.devh.boot.grpc.server.service.GrpcService;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -64,6 +76,16 @@ public class AuthGrpcServiceImpl extends AuthServiceGrpc.AuthServiceImplBase {
             responseObserver.onNext(grpcResponseBuilder.build());
             responseObserver.onCompleted();
 
+        } catch (PasswordHashingBusyException e) {
+            log.warn("[gRPC] login 거절 (비밀번호 해시 실행기 포화): {}", e.getMessage());
+            responseObserver.onError(io.grpc.Status.RESOURCE_EXHAUSTED
+                    .withDescription(e.getMessage())
+                    .asRuntimeException());
+        } catch (LoginThrottledException e) {
+            log.warn("[gRPC] login 거절 (로그인 실패 임계값 초과): {}", e.getMessage());
+            responseObserver.onError(io.grpc.Status.RESOURCE_EXHAUSTED
+                    .withDescription(e.getMessage())
+                    .asRuntimeException());
         } catch (Exception e) {
             log.error("[gRPC] login 실패: {}", e.getMessage(), e);
             responseObserver.onError(io.grpc.Status.INTERNAL
@@ -121,6 +143,11 @@ public class AuthGrpcServiceImpl extends AuthServiceGrpc.AuthServiceImplBase {
             responseObserver.onNext(grpcResponse);
             responseObserver.onCompleted();
 
+        } catch (RefreshTokenReuseException | TokenRefreshException e) {
+            log.warn("[gRPC] refreshToken 거절: {}", e.getMessage());
+            responseObserver.onError(io.grpc.Status.UNAUTHENTICATED
+                    .withDescription(e.getMessage())
+                    .asRuntimeException());
         } catch (Exception e) {
             log.error("[gRPC] refreshToken 실패: {}", e.getMessage(), e);
             responseObserver.onError(io.grpc.Status.INTERNAL
@@ -138,7 +165,8 @@ public class AuthGrpcServiceImpl extends AuthServiceGrpc.AuthServiceImplBase {
 
         try {
             // 토큰 검증
-            ValidateTokenResponse validateResponse = authService.validate(request.getAccessToken());
+            ValidateTokenResponse validateResponse = authService.validate(
+                    request.getAccessToken(), toTokenValidationMode(request.getMode()));
 
             // gRPC 응답 생성
             com.lotecs.auth.grpc.ValidateTokenResponse.Builder grpcResponseBuilder = com.lotecs.auth.grpc.ValidateTokenResponse.newBuilder()
@@ -163,6 +191,49 @@ public class AuthGrpcServiceImpl extends AuthServiceGrpc.AuthServiceImplBase {
         }
     }
 
+    /**
+     * 토큰 폐기 스트림 (server streaming)
+     * 스트림은 클라이언트가 취소할 때까지 유지된다. 전송은 RevocationFeed의 구독자별 대기열을 거쳐 isReady일 때만 하고,
+     * 전송 버퍼가 비면(onReady) 밀린 batch를 이어서 보낸다. 대기열이 넘치면 RESOURCE_EXHAUSTED로 끊어 재접속하게 한다.
+     */
+    @Override
+    public void watchRevocations(WatchRevocationsRequest request, StreamObserver<RevocationEvent> responseObserver) {
+        log.debug("[gRPC] watchRevocations 호출: sinceVersion={}", request.getSinceVersion());
+
+        ServerCallStreamObserver<RevocationEvent> serverObserver = (ServerCallStreamObserver<RevocationEvent>) responseObserver;
+        try {
+            RevocationFeed.Subscription subscription = authService.watchRevocations(request.getSinceVersion(),
+                    new RevocationFeed.Sink() {
+                        @Override
+                        public boolean isReady() {
+                            return serverObserver.isReady();
+                        }
+
+                        @Override
+                        public void send(RevocationFeed.RevocationBatch batch) {
+                            serverObserver.onNext(toRevocationEvent(batch));
+                        }
+
+                        @Override
+                        public void close(String reason) {
+                            serverObserver.onError(io.grpc.Status.RESOURCE_EXHAUSTED
+                                    .withDescription(reason)
+                                    .asRuntimeException());
+                        }
+                    });
+            serverObserver.setOnReadyHandler(subscription::drain);
+            serverObserver.setOnCancelHandler(subscription::cancel);
+            if (serverObserver.isCancelled()) {
+                subscription.cancel();
+            }
+        } catch (Exception e) {
+            log.error("[gRPC] watchRevocations 실패: {}", e.getMessage(), e);
+            responseObserver.onError(io.grpc.Status.INTERNAL
+                    .withDescription(e.getMessage())
+                    .asRuntimeException());
+        }
+    }
+
     /**
      * 사용자 조회 (ID)
      */
@@ -376,6 +447,63 @@ public class AuthGrpcServiceImpl extends AuthServiceGrpc.AuthServiceImplBase {
         }
     }
 
+    /**
+     * 다건 권한 확인 (ANY/ALL/EACH)
+     */
+    @Override
+    public void checkPermissions(CheckPermissionsRequest request, StreamObserver<CheckPermissionsResponse> responseObserver) {
+        log.debug("[gRPC] checkPermissions 호출: userId={}, tenantId={}, mode={}, codes={}, checks={}",
+                request.getUserId(), request.getTenantId(), request.getMode(),
+                request.getPermissionCodesCount(), request.getChecksCount());
+
+        try {
+            List<PermissionCheck> checks = new ArrayList<>(request.getPermissionCodesCount() + request.getChecksCount());
+            for (String permissionCode : request.getPermissionCodesList()) {
+                checks.add(PermissionCheck.of(request.getUserId(), permissionCode));
+            }
+            for (PermissionCheckItem item : request.getChecksList()) {
+                String userId = item.getUserId().isEmpty() ? request.getUserId() : item.getUserId();
+                checks.add(PermissionCheck.of(userId, item.getPermissionCode()));
+            }
+
+            PermissionCheckResult result = permissionAppService.checkPermissions(
+                    checks,
+                    toPermissionCheckMode(request.getMode()),
+                    request.getTenantId()
+            );
+
+            CheckPermissionsResponse grpcResponse = CheckPermissionsResponse.newBuilder()
+                    .setGranted(result.isGranted())
+                    .addAllResults(result.getResults())
+                    .build();
+
+            responseObserver.onNext(grpcResponse);
+            responseObserver.onCompleted();
+
+        } catch (Exception e) {
+            log.error("[gRPC] checkPermissions 실패: {}", e.getMessage(), e);
+            responseObserver.onError(io.grpc.Status.INTERNAL
+                    .withDescription(e.getMessage())
+                    .asRuntimeException());
+        }
+    }
+
+    private TokenValidationMode toTokenValidationMode(com.lotecs.auth.grpc.TokenValidationMode mode) {
+        return switch (mode) {
+            case TOKEN_VALIDATION_MODE_CACHED_USER -> TokenValidationMode.CACHED_USER;
+            case TOKEN_VALIDATION_MODE_FRESH_USER -> TokenValidationMode.FRESH_USER;
+            default -> TokenValidationMode.CLAIMS_ONLY;
+        };
+    }
+
+    private PermissionCheckMode toPermissionCheckMode(com.lotecs.auth.grpc.PermissionCheckMode mode) {
+        return switch (mode) {
+            case PERMISSION_CHECK_MODE_ANY -> PermissionCheckMode.ANY;
+            case PERMISSION_CHECK_MODE_ALL -> PermissionCheckMode.ALL;
+            default -> PermissionCheckMode.EACH;
+        };
+    }
+
     // Role Management APIs
 
     /**
@@ -560,6 +688,11 @@ public class AuthGrpcServiceImpl extends AuthServiceGrpc.AuthServiceImplBase {
             responseObserver.onNext(grpcResponse);
             responseObserver.onCompleted();
 
+        } catch (PasswordHashingBusyException e) {
+            log.warn("[gRPC] changePassword 거절 (비밀번호 해시 실행기 포화): {}", e.getMessage());
+            responseObserver.onError(io.grpc.Status.RESOURCE_EXHAUSTED
+                    .withDescription(e.getMessage())
+                    .asRuntimeException());
         } catch (Exception e) {
             log.error("[gRPC] changePassword 실패: {}", e.getMessage(), e);
             responseObserver.onError(io.grpc.Status.INTERNAL
@@ -589,6 +722,9 @@ public class AuthGrpcServiceImpl extends AuthServiceGrpc.AuthServiceImplBase {
         if (user.getRoles() != null) {
             builder.addAllRoles(user.getRoles());
         }
+        if (user.getPermissions() != null) {
+            builder.addAllPermissions(user.getPermissions());
+        }
         if (user.getExternalUserId() != null) {
             builder.setExternalUserId(user.getExternalUserId());
         }
@@ -598,4 +734,26 @@ public class AuthGrpcServiceImpl extends AuthServiceGrpc.AuthServiceImplBase {
 
         return builder.build();
     }
+
+    /**
+     * RevocationBatch -> RevocationEvent 변환
+     */
+    private RevocationEvent toRevocationEvent(RevocationFeed.RevocationBatch batch) {
+        RevocationEvent.Builder builder = RevocationEvent.newBuilder()
+                .setVersion(batch.version())
+                .addAllTokenDigests(batch.tokenDigests());
+
+        RevocationBloomFilter snapshot = batch.snapshot();
+        if (snapshot != null) {
+            RevocationSnapshot.Builder snapshotBuilder = RevocationSnapshot.newBuilder()
+                    .setBitCount(snapshot.getBitCount())
+                    .setHashCount(snapshot.getHashCount());
+            for (long word : snapshot.getBits()) {
+                snapshotBuilder.addBits(word);
+            }
+            builder.setSnapshot(snapshotBuilder);
+        }
+
+        return builder.build();
+    }
 }
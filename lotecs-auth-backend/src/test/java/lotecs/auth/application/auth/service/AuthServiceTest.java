@@ -0,0 +1,291 @@
+package lotecs.auth.application.auth.service;
+
+import lotecs.auth.application.auth.dto.LoginRequest;
+import lotecs.auth.application.auth.dto.LoginResponse;
+import lotecs.auth.application.auth.dto.TokenValidationMode;
+import lotecs.auth.application.auth.dto.ValidateTokenResponse;
+import lotecs.auth.application.user.mapper.UserDtoMapper;
+import lotecs.auth.application.user.service.UserProfileService;
+import lotecs.auth.application.user.service.UserSyncService;
+import lotecs.auth.domain.user.model.Permission;
+import lotecs.auth.domain.user.model.Role;
+import lotecs.auth.domain.user.model.User;
+import lotecs.auth.domain.user.model.UserStatus;
+import lotecs.auth.domain.user.repository.UserRepository;
+import lotecs.auth.exception.auth.RefreshTokenReuseException;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
+import lotecs.auth.infrastructure.cache.UserSnapshotCache;
+import lotecs.auth.infrastructure.cache.ValidatedTokenCache;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationBus;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.persistence.user.LoginActivityWriter;
+import lotecs.auth.infrastructure.persistence.user.mapper.PermissionMapper;
+import lotecs.auth.infrastructure.security.LoginLockoutEngine;
+import lotecs.auth.infrastructure.security.LoginShield;
+import lotecs.auth.infrastructure.security.PasswordHashingExecutor;
+import lotecs.auth.infrastructure.security.RefreshTokenRotationEngine;
+import lotecs.auth.infrastructure.security.RevocationFeed;
+import lotecs.auth.infrastructure.security.TokenBlacklist;
+import lotecs.auth.infrastructure.sso.SsoProviderFactory;
+import lotecs.framework.common.jwt.model.JwtResult;
+import lotecs.framework.common.jwt.model.JwtTokenResponse;
+import lotecs.framework.common.jwt.service.facade.JwtAuthenticationService;
+import lotecs.framework.common.jwt.service.facade.JwtRefreshService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthService 단위 테스트")
+class AuthServiceTest {
+
+    @Mock
+    private TenantSsoConfigCache ssoConfigCache;
+    @Mock
+    private SsoProviderFactory ssoProviderFactory;
+    @Mock
+    private UserSyncService userSyncService;
+    @Mock
+    private UserProfileService userProfileService;
+    @Mock
+    private JwtAuthenticationService jwtAuthenticationService;
+    @Mock
+    private JwtRefreshService jwtRefreshService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+    @Mock
+    private UserDtoMapper userDtoMapper;
+    @Mock
+    private PermissionMapper permissionMapper;
+    @Mock
+    private LoginActivityWriter loginActivityWriter;
+    @Mock
+    private LoginLockoutEngine loginLockoutEngine;
+    @Mock
+    private LoginShield loginShield;
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+    @Mock
+    private ValidatedTokenCache validatedTokenCache;
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+    @Mock
+    private RevocationFeed revocationFeed;
+    @Mock
+    private TokenBlacklist tokenBlacklist;
+    @Mock
+    private RefreshTokenRotationEngine refreshTokenRotationEngine;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @Nested
+    @DisplayName("로그인 후 토큰 검증")
+    class LoginThenValidate {
+
+        @Test
+        @DisplayName("로그인 토큰의 roles 클레임이 CLAIMS_ONLY 검증 결과의 역할 목록으로 돌아온다")
+        void rolesRoundTrip() {
+            User user = User.builder()
+                    .userId("U1")
+                    .tenantId("T1")
+                    .username("user01")
+                    .password("{argon2}hash")
+                    .status(UserStatus.ACTIVE)
+                    .accountNonLocked(true)
+                    .credentialsNonExpired(true)
+                    .enabled(true)
+                    .roles(new ArrayList<>(List.of(
+                            Role.builder().roleName("ADMIN").build(),
+                            Role.builder().roleName("USER").build())))
+                    .build();
+            JwtTokenResponse minted = mock(JwtTokenResponse.class);
+            given(minted.getAccessToken()).willReturn("access-1");
+            given(minted.getRefreshToken()).willReturn("refresh-1");
+            given(ssoConfigCache.get("T1")).willReturn(Optional.empty());
+            given(userRepository.findByUsernameAndTenantId("user01", "T1")).willReturn(Optional.of(user));
+            given(passwordHashingExecutor.matches("password", "{argon2}hash")).willReturn(true);
+            given(permissionMapper.findGrantedByUserId("U1")).willReturn(List.of(
+                    Permission.builder().permissionName("USER_READ").resource("USER").action("READ").build()));
+            given(jwtAuthenticationService.loginWithClaims(eq("user01"), anyString(), anyMap())).willReturn(minted);
+
+            authService.login(loginRequest());
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Map<String, Object>> claims = ArgumentCaptor.forClass(Map.class);
+            then(jwtAuthenticationService).should().loginWithClaims(eq("user01"), anyString(), claims.capture());
+            assertThat(claims.getValue()).containsEntry("roles", List.of("ADMIN", "USER"));
+            Object tokenFamily = claims.getValue().get("tokenFamily");
+            assertThat(tokenFamily).isNotNull();
+            then(refreshTokenRotationEngine).should()
+                    .record("refresh-1", "U1", "T1", tokenFamily.toString(), "127.0.0.1");
+
+            given(jwtAuthenticationService.validateToken("access-1")).willReturn(jwtResult(claims.getValue()));
+            given(tokenBlacklist.isRevoked(eq("T1"), anyString())).willReturn(false);
+
+            ValidateTokenResponse response = authService.validate("access-1", TokenValidationMode.CLAIMS_ONLY);
+
+            assertThat(response.getValid()).isTrue();
+            assertThat(response.getUser().getRoles()).containsExactly("ADMIN", "USER");
+            assertThat(response.getUser().getPermissions()).containsExactly("USER:READ");
+        }
+
+        private LoginRequest loginRequest() {
+            LoginRequest request = new LoginRequest();
+            request.setTenantId("T1");
+            request.setUsername("user01");
+            request.setPassword("password");
+            request.setIpAddress("127.0.0.1");
+            return request;
+        }
+    }
+
+    @Nested
+    @DisplayName("로그아웃")
+    class Logout {
+
+        @Test
+        @DisplayName("Access Token의 패밀리 클레임이 있으면 그 패밀리만 회수하고 다른 세션은 유지한다")
+        void revokesOnlyTokenFamily() {
+            given(jwtAuthenticationService.validateToken("access-1"))
+                    .willReturn(jwtResult(Map.of("userId", "U1", "tenantId", "T1", "tokenFamily", "F1")));
+            given(validatedTokenCache.revoke("access-1"))
+                    .willReturn(new CacheInvalidationEvent.TokenRevoked("T1", "digest-1"));
+
+            authService.logout("access-1", "U1");
+
+            then(refreshTokenRotationEngine).should().revokeFamily("F1");
+            then(refreshTokenRotationEngine).should(never()).revokeAll(anyString());
+        }
+
+        @Test
+        @DisplayName("패밀리 클레임이 없는 토큰은 Access Token 클레임의 사용자로 Refresh Token을 모두 회수한다")
+        void revokesRefreshTokensOfTokenOwner() {
+            given(jwtAuthenticationService.validateToken("access-1"))
+                    .willReturn(jwtResult(Map.of("userId", "U1", "tenantId", "T1")));
+            given(validatedTokenCache.revoke("access-1"))
+                    .willReturn(new CacheInvalidationEvent.TokenRevoked("T1", "digest-1"));
+
+            authService.logout("access-1", "U1");
+
+            then(jwtAuthenticationService).should().logout("access-1", "U1");
+            then(tokenBlacklist).should().revoke("digest-1", "access-1");
+            then(refreshTokenRotationEngine).should().revokeAll("U1");
+        }
+
+        @Test
+        @DisplayName("요청의 userId가 토큰 주인과 달라도 토큰 주인의 Refresh Token만 회수한다")
+        void ignoresRequestedUserId() {
+            given(jwtAuthenticationService.validateToken("access-1"))
+                    .willReturn(jwtResult(Map.of("userId", "U1", "tenantId", "T1")));
+            given(validatedTokenCache.revoke("access-1"))
+                    .willReturn(new CacheInvalidationEvent.TokenRevoked("T1", "digest-1"));
+
+            authService.logout("access-1", "U2");
+
+            then(refreshTokenRotationEngine).should().revokeAll("U1");
+            then(refreshTokenRotationEngine).should(never()).revokeAll("U2");
+        }
+    }
+
+    @Nested
+    @DisplayName("토큰 갱신")
+    class Refresh {
+
+        @Test
+        @DisplayName("제시된 Refresh Token을 먼저 회수한 뒤 새 토큰을 발급하고 같은 패밀리로 저장한다")
+        void consumesBeforeMinting() {
+            RefreshTokenRotationEngine.ConsumedToken consumed =
+                    new RefreshTokenRotationEngine.ConsumedToken("F1", "U1", "T1", null);
+            JwtTokenResponse minted = mock(JwtTokenResponse.class);
+            given(minted.getAccessToken()).willReturn("access-2");
+            given(minted.getRefreshToken()).willReturn("refresh-2");
+            given(jwtAuthenticationService.validateToken("refresh-1"))
+                    .willReturn(jwtResult(Map.of("userId", "U1", "tenantId", "T1")));
+            given(jwtAuthenticationService.validateToken("access-2"))
+                    .willReturn(jwtResult(Map.of("userId", "U1", "tenantId", "T1", "username", "user01", "tokenFamily", "F1")));
+            given(refreshTokenRotationEngine.consume("refresh-1", "U1", "T1")).willReturn(consumed);
+            given(jwtRefreshService.refreshToken("refresh-1")).willReturn(minted);
+
+            LoginResponse response = authService.refresh("refresh-1");
+
+            InOrder inOrder = inOrder(refreshTokenRotationEngine, jwtRefreshService);
+            inOrder.verify(refreshTokenRotationEngine).consume("refresh-1", "U1", "T1");
+            inOrder.verify(jwtRefreshService).refreshToken("refresh-1");
+            inOrder.verify(refreshTokenRotationEngine).attach(consumed, "refresh-2", null);
+            assertThat(response.getRefreshToken()).isEqualTo("refresh-2");
+            then(jwtAuthenticationService).should(never()).loginWithClaims(anyString(), anyString(), anyMap());
+        }
+
+        @Test
+        @DisplayName("새 Access Token에 패밀리 클레임이 없으면 회수된 토큰의 패밀리를 넣어 다시 발급한다")
+        void reissuesWithConsumedFamily() {
+            RefreshTokenRotationEngine.ConsumedToken consumed =
+                    new RefreshTokenRotationEngine.ConsumedToken("F1", "U1", "T1", null);
+            JwtTokenResponse minted = mock(JwtTokenResponse.class);
+            given(minted.getAccessToken()).willReturn("access-2");
+            JwtTokenResponse reissued = mock(JwtTokenResponse.class);
+            given(reissued.getAccessToken()).willReturn("access-3");
+            given(reissued.getRefreshToken()).willReturn("refresh-3");
+            given(jwtAuthenticationService.validateToken("refresh-1"))
+                    .willReturn(jwtResult(Map.of("userId", "U1", "tenantId", "T1")));
+            given(jwtAuthenticationService.validateToken("access-2"))
+                    .willReturn(jwtResult(Map.of("userId", "U1", "tenantId", "T1", "username", "user01",
+                            "roles", List.of("ADMIN", "USER"), "exp", 1_700_000_000L)));
+            given(refreshTokenRotationEngine.consume("refresh-1", "U1", "T1")).willReturn(consumed);
+            given(jwtRefreshService.refreshToken("refresh-1")).willReturn(minted);
+            given(jwtAuthenticationService.loginWithClaims(eq("user01"), eq("ADMIN,USER"), anyMap())).willReturn(reissued);
+
+            LoginResponse response = authService.refresh("refresh-1");
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Map<String, Object>> claims = ArgumentCaptor.forClass(Map.class);
+            then(jwtAuthenticationService).should().loginWithClaims(eq("user01"), eq("ADMIN,USER"), claims.capture());
+            assertThat(claims.getValue())
+                    .containsEntry("tokenFamily", "F1")
+                    .containsEntry("userId", "U1")
+                    .doesNotContainKey("exp");
+            then(refreshTokenRotationEngine).should().attach(consumed, "refresh-3", null);
+            assertThat(response.getAccessToken()).isEqualTo("access-3");
+            assertThat(response.getRefreshToken()).isEqualTo("refresh-3");
+        }
+
+        @Test
+        @DisplayName("재사용이 탐지되면 새 토큰을 발급하지 않는다")
+        void doesNotMintOnReuse() {
+            given(jwtAuthenticationService.validateToken("refresh-1"))
+                    .willReturn(jwtResult(Map.of("userId", "U1", "tenantId", "T1")));
+            given(refreshTokenRotationEngine.consume("refresh-1", "U1", "T1"))
+                    .willThrow(new RefreshTokenReuseException());
+
+            assertThatThrownBy(() -> authService.refresh("refresh-1"))
+                    .isInstanceOf(RefreshTokenReuseException.class);
+
+            then(jwtRefreshService).should(never()).refreshToken(anyString());
+        }
+    }
+
+    private static JwtResult jwtResult(Map<String, Object> claims) {
+        JwtResult result = mock(JwtResult.class);
+        lenient().when(result.isSuccess()).thenReturn(true);
+        lenient().when(result.getClaims()).thenReturn(claims);
+        return result;
+    }
+}
@@ -0,0 +1,179 @@
+package lotecs.auth.application.permission.service;
+
+import lotecs.auth.application.permission.dto.PermissionCheck;
+import lotecs.auth.application.permission.dto.PermissionCheckMode;
+import lotecs.auth.application.permission.dto.PermissionCheckResult;
+import lotecs.auth.application.permission.dto.UpdatePermissionRequest;
+import lotecs.auth.application.permission.mapper.PermissionDtoMapper;
+import lotecs.auth.domain.user.model.Permission;
+import lotecs.auth.domain.user.model.Role;
+import lotecs.auth.domain.user.model.RolePermission;
+import lotecs.auth.domain.user.repository.PermissionRepository;
+import lotecs.auth.domain.user.repository.RoleRepository;
+import lotecs.auth.infrastructure.cache.RbacSnapshot;
+import lotecs.auth.infrastructure.cache.RbacSnapshotRegistry;
+import lotecs.auth.infrastructure.cache.UserRoleCache;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationBus;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.persistence.user.mapper.RolePermissionMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionAppService 단위 테스트")
+class PermissionAppServiceTest {
+
+    private static final String TENANT_ID = "T1";
+
+    @Mock
+    private PermissionRepository permissionRepository;
+    @Mock
+    private RoleRepository roleRepository;
+    @Mock
+    private RolePermissionMapper rolePermissionMapper;
+    @Mock
+    private PermissionDtoMapper permissionDtoMapper;
+    @Mock
+    private UserRoleCache userRoleCache;
+    @Mock
+    private RbacSnapshotRegistry rbacSnapshotRegistry;
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @InjectMocks
+    private PermissionAppService permissionAppService;
+
+    @Nested
+    @DisplayName("updatePermission")
+    class UpdatePermission {
+
+        @Test
+        @DisplayName("권한 수정 후 테넌트 RBAC 스냅샷을 다시 만들고 다른 노드에 변경을 알린다")
+        void refreshesSnapshot() {
+            Permission permission = Permission.builder()
+                    .permissionId("P1")
+                    .tenantId(TENANT_ID)
+                    .permissionName("USER_READ")
+                    .resource("USER")
+                    .action("READ")
+                    .build();
+            given(permissionRepository.findById("P1")).willReturn(Optional.of(permission));
+            given(permissionRepository.save(any(Permission.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            permissionAppService.updatePermission(UpdatePermissionRequest.builder()
+                    .permissionId("P1")
+                    .tenantId(TENANT_ID)
+                    .description("사용자 조회")
+                    .updatedBy("admin")
+                    .build());
+
+            then(rbacSnapshotRegistry).should().refresh(TENANT_ID);
+            then(cacheInvalidationBus).should()
+                    .publish(new CacheInvalidationEvent.PermissionChanged(TENANT_ID, "P1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("checkPermissions")
+    class CheckPermissions {
+
+        private final List<PermissionCheck> mixed = List.of(
+                PermissionCheck.of("U1", "user:read"),
+                PermissionCheck.of("U1", "user:write"),
+                PermissionCheck.of("U2", "USER_WRITE"));
+
+        @BeforeEach
+        void setUp() {
+            given(rbacSnapshotRegistry.get(TENANT_ID)).willReturn(snapshot());
+            given(userRoleCache.get(eq(TENANT_ID), eq("U1"), any())).willReturn(Set.of("role-viewer"));
+            lenient().when(userRoleCache.get(eq(TENANT_ID), eq("U2"), any())).thenReturn(Set.of("role-editor"));
+        }
+
+        @Test
+        @DisplayName("EACH는 허용/거부가 섞인 항목을 요청 순서대로 돌려주고, 하나라도 거부면 granted=false")
+        void eachWithMixedResults() {
+            PermissionCheckResult result = permissionAppService.checkPermissions(mixed, PermissionCheckMode.EACH, TENANT_ID);
+
+            assertThat(result.getResults()).containsExactly(true, false, true);
+            assertThat(result.isGranted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("사용자별 역할은 요청당 한 번만 조회한다")
+        void loadsEachUserOnce() {
+            permissionAppService.checkPermissions(mixed, PermissionCheckMode.EACH, TENANT_ID);
+
+            then(userRoleCache).should(times(1)).get(eq(TENANT_ID), eq("U1"), any());
+            then(userRoleCache).should(times(1)).get(eq(TENANT_ID), eq("U2"), any());
+        }
+
+        @Test
+        @DisplayName("ANY는 하나라도 허용이면, ALL은 모두 허용이어야 granted=true")
+        void anyAndAllWithMixedResults() {
+            assertThat(permissionAppService.checkPermissions(mixed, PermissionCheckMode.ANY, TENANT_ID).isGranted()).isTrue();
+            assertThat(permissionAppService.checkPermissions(mixed, PermissionCheckMode.ALL, TENANT_ID).isGranted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 권한 코드는 예외 없이 거부로 평가한다")
+        void unknownPermissionIsDenied() {
+            List<PermissionCheck> checks = List.of(
+                    PermissionCheck.of("U1", "unknown:code"),
+                    PermissionCheck.of("U1", "NO_SUCH_PERMISSION"));
+
+            PermissionCheckResult each = permissionAppService.checkPermissions(checks, PermissionCheckMode.EACH, TENANT_ID);
+            PermissionCheckResult any = permissionAppService.checkPermissions(checks, PermissionCheckMode.ANY, TENANT_ID);
+
+            assertThat(each.getResults()).containsExactly(false, false);
+            assertThat(each.isGranted()).isFalse();
+            assertThat(any.isGranted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("보유 권한과 존재하지 않는 권한이 섞이면 ALL은 거부, ANY는 허용")
+        void unknownMixedWithGranted() {
+            List<PermissionCheck> checks = List.of(
+                    PermissionCheck.of("U1", "user:read"),
+                    PermissionCheck.of("U1", "unknown:code"));
+
+            assertThat(permissionAppService.checkPermissions(checks, PermissionCheckMode.ALL, TENANT_ID).getResults())
+                    .containsExactly(true, false);
+            assertThat(permissionAppService.checkPermissions(checks, PermissionCheckMode.ALL, TENANT_ID).isGranted()).isFalse();
+            assertThat(permissionAppService.checkPermissions(checks, PermissionCheckMode.ANY, TENANT_ID).isGranted()).isTrue();
+        }
+
+        private RbacSnapshot snapshot() {
+            return RbacSnapshot.build(TENANT_ID, 1L,
+                    List.of(permission("perm-1", "USER_READ", "user", "read"),
+                            permission("perm-2", "USER_WRITE", "user", "write")),
+                    List.of(Role.builder().roleId("role-viewer").tenantId(TENANT_ID).roleName("VIEWER").build(),
+                            Role.builder().roleId("role-editor").tenantId(TENANT_ID).roleName("EDITOR").build()),
+                    List.of(RolePermission.grant("role-viewer", "perm-1", TENANT_ID, "admin"),
+                            RolePermission.grant("role-editor", "perm-2", TENANT_ID, "admin")));
+        }
+
+        private Permission permission(String permissionId, String name, String resource, String action) {
+            return Permission.builder()
+                    .permissionId(permissionId)
+                    .tenantId(TENANT_ID)
+                    .permissionName(name)
+                    .resource(resource)
+                    .action(action)
+                    .build();
+        }
+    }
+}
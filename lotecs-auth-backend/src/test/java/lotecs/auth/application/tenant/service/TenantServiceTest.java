@@ -8,6 +8,7 @@ import lotecs.auth.domain.tenant.repository.TenantRepository;
 import lotecs.auth.exception.tenant.TenantAlreadyExistsException;
 import lotecs.auth.exception.tenant.TenantNotFoundException;
 import lotecs.auth.exception.tenant.TenantStateException;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationBus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -36,6 +37,9 @@ class TenantServiceTest {
     @Mock
     private TenantDtoMapper tenantDtoMapper;
 
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
     @InjectMocks
     private TenantService tenantService;
 
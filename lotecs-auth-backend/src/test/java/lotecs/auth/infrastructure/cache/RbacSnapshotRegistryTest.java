@@ -0,0 +1,125 @@
+package lotecs.auth.infrastructure.cache;
+
+import lotecs.auth.domain.user.model.Permission;
+import lotecs.auth.domain.user.repository.PermissionRepository;
+import lotecs.auth.domain.user.repository.RoleRepository;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.persistence.user.mapper.RolePermissionMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("RbacSnapshotRegistry 단위 테스트")
+class RbacSnapshotRegistryTest {
+
+    private static final String TENANT_ID = "tenant-001";
+
+    private PermissionRepository permissionRepository;
+    private RoleRepository roleRepository;
+    private RolePermissionMapper rolePermissionMapper;
+    private RbacSnapshotRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        permissionRepository = mock(PermissionRepository.class);
+        roleRepository = mock(RoleRepository.class);
+        rolePermissionMapper = mock(RolePermissionMapper.class);
+        given(roleRepository.findByTenantId(TENANT_ID)).willReturn(List.of());
+        given(rolePermissionMapper.findByTenantId(TENANT_ID)).willReturn(List.of());
+        registry = new RbacSnapshotRegistry(permissionRepository, roleRepository, rolePermissionMapper);
+    }
+
+    @Test
+    @DisplayName("적재한 스냅샷은 다음 조회부터 재사용한다")
+    void reusesLoadedSnapshot() {
+        given(permissionRepository.findByTenantId(TENANT_ID)).willReturn(List.of());
+
+        RbacSnapshot first = registry.get(TENANT_ID);
+        RbacSnapshot second = registry.get(TENANT_ID);
+
+        assertThat(second).isSameAs(first);
+        verify(permissionRepository, times(1)).findByTenantId(TENANT_ID);
+    }
+
+    @Test
+    @DisplayName("적재 중에 다른 테넌트 조회와 제거가 막히지 않는다")
+    void loadDoesNotHoldMapLock() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(permissionRepository.findByTenantId(TENANT_ID)).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(permission());
+        });
+        given(permissionRepository.findByTenantId("tenant-002")).willReturn(List.of());
+        given(roleRepository.findByTenantId("tenant-002")).willReturn(List.of());
+        given(rolePermissionMapper.findByTenantId("tenant-002")).willReturn(List.of());
+
+        CompletableFuture<RbacSnapshot> slow = CompletableFuture.supplyAsync(() -> registry.get(TENANT_ID));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(CompletableFuture.supplyAsync(() -> registry.get("tenant-002")).get(5, TimeUnit.SECONDS)).isNotNull();
+        CompletableFuture.runAsync(() -> registry.evict(TENANT_ID)).get(5, TimeUnit.SECONDS);
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS).getPermissionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제거 이전에 시작된 적재본은 보관하지 않고 다음 조회에서 다시 적재한다")
+    void discardsLoadStartedBeforeEvict() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(permissionRepository.findByTenantId(TENANT_ID))
+                .willAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of();
+                })
+                .willReturn(List.of(permission()));
+
+        CompletableFuture<RbacSnapshot> stale = CompletableFuture.supplyAsync(() -> registry.get(TENANT_ID));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        registry.onInvalidation(new CacheInvalidationEvent.PermissionChanged(TENANT_ID, "perm-1"));
+        release.countDown();
+
+        assertThat(stale.get(5, TimeUnit.SECONDS).getPermissionCount()).isZero();
+        assertThat(registry.get(TENANT_ID).getPermissionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재생성하면 더 새 버전의 스냅샷으로 교체한다")
+    void rebuildReplacesWithNewerVersion() {
+        given(permissionRepository.findByTenantId(TENANT_ID))
+                .willReturn(List.of())
+                .willReturn(List.of(permission()));
+
+        RbacSnapshot before = registry.get(TENANT_ID);
+        registry.refresh(TENANT_ID);
+        RbacSnapshot after = registry.get(TENANT_ID);
+
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        assertThat(after.getPermissionCount()).isEqualTo(1);
+    }
+
+    private static Permission permission() {
+        return Permission.builder()
+                .permissionId("perm-1")
+                .tenantId(TENANT_ID)
+                .permissionName("USER_READ")
+                .resource("user")
+                .action("read")
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package lotecs.auth.infrastructure.cache;
+
+import lotecs.auth.domain.user.model.Permission;
+import lotecs.auth.domain.user.model.Role;
+import lotecs.auth.domain.user.model.RolePermission;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RbacSnapshot 단위 테스트")
+class RbacSnapshotTest {
+
+    private static final String TENANT_ID = "tenant-001";
+
+    private RbacSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        List<Permission> permissions = List.of(
+                permission("perm-1", "USER_READ", "user", "read"),
+                permission("perm-2", "USER_WRITE", "user", "write"),
+                permission("perm-3", "ROLE_READ", "role", "read")
+        );
+        List<Role> roles = List.of(
+                Role.builder().roleId("role-viewer").tenantId(TENANT_ID).roleName("VIEWER").build(),
+                Role.builder().roleId("role-editor").tenantId(TENANT_ID).roleName("EDITOR").build()
+        );
+        List<RolePermission> rolePermissions = List.of(
+                RolePermission.grant("role-viewer", "perm-1", TENANT_ID, "admin"),
+                RolePermission.grant("role-viewer", "perm-3", TENANT_ID, "admin"),
+                RolePermission.grant("role-editor", "perm-2", TENANT_ID, "admin"),
+                // 삭제된 역할/권한을 가리키는 매핑은 무시
+                RolePermission.grant("role-deleted", "perm-2", TENANT_ID, "admin"),
+                RolePermission.grant("role-editor", "perm-deleted", TENANT_ID, "admin")
+        );
+
+        snapshot = RbacSnapshot.build(TENANT_ID, 1L, permissions, roles, rolePermissions);
+    }
+
+    @Test
+    @DisplayName("역할 권한의 합집합으로 resource:action 과 permissionName 을 모두 확인한다")
+    void shouldCheckAuthorityAndPermissionName() {
+        BitSet granted = snapshot.grantedBits(Set.of("role-viewer"));
+
+        assertThat(snapshot.isGranted(granted, "user:read")).isTrue();
+        assertThat(snapshot.isGranted(granted, "USER_READ")).isTrue();
+        assertThat(snapshot.isGranted(granted, "user:write")).isFalse();
+        assertThat(snapshot.isGranted(granted, "unknown:code")).isFalse();
+    }
+
+    @Test
+    @DisplayName("ANY/ALL 확인은 비트 연산으로 평가한다")
+    void shouldEvaluateAnyAndAll() {
+        BitSet granted = snapshot.grantedBits(Set.of("role-viewer", "role-editor"));
+
+        assertThat(snapshot.isGrantedAll(granted, List.of("user:read", "user:write", "ROLE_READ"))).isTrue();
+        assertThat(snapshot.isGrantedAll(granted, List.of("user:read", "unknown:code"))).isFalse();
+        assertThat(snapshot.isGrantedAny(snapshot.grantedBits(Set.of("role-editor")), List.of("user:read", "user:write"))).isTrue();
+        assertThat(snapshot.isGrantedAny(snapshot.grantedBits(Set.of("role-deleted")), List.of("user:write"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("비트 집합을 authority 문자열 집합으로 변환한다")
+    void shouldConvertBitsToAuthorities() {
+        Set<String> authorities = snapshot.authorities(snapshot.grantedBits(Set.of("role-editor")));
+
+        assertThat(authorities).containsExactlyInAnyOrder("user:write", "USER_WRITE");
+        assertThat(snapshot.getPermissionCount()).isEqualTo(3);
+        assertThat(snapshot.getRoleCount()).isEqualTo(2);
+    }
+
+    private Permission permission(String permissionId, String name, String resource, String action) {
+        return Permission.builder()
+                .permissionId(permissionId)
+                .tenantId(TENANT_ID)
+                .permissionName(name)
+                .resource(resource)
+                .action(action)
+                .build();
+    }
+}
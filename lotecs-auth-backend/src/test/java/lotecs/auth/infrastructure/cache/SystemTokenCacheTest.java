@@ -0,0 +1,154 @@
+package lotecs.auth.infrastructure.cache;
+
+import lotecs.auth.infrastructure.cache.SystemTokenCache.SystemToken;
+import lotecs.auth.infrastructure.config.SystemTokenCacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SystemTokenCache 단위 테스트")
+class SystemTokenCacheTest {
+
+    private static final String TENANT_ID = "tenant-001";
+    private static final String FINGERPRINT = "https://sso.example.com|client";
+
+    private MutableClock clock;
+    private SystemTokenCache cache;
+    private AtomicInteger issued;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        SystemTokenCacheProperties properties = new SystemTokenCacheProperties();
+        properties.setExpirySkew(Duration.ZERO);
+        cache = new SystemTokenCache(properties, clock);
+        issued = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    @DisplayName("만료 전에는 발급된 토큰을 재사용한다")
+    void get_reusesTokenUntilRefreshPoint() throws Exception {
+        assertThat(cache.get(TENANT_ID, FINGERPRINT, this::issue)).isEqualTo("token-1");
+
+        clock.advance(Duration.ofSeconds(70));
+
+        assertThat(cache.get(TENANT_ID, FINGERPRINT, this::issue)).isEqualTo("token-1");
+        assertThat(issued).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("재발급 시점이 지나면 기존 토큰을 돌려주고 백그라운드에서 재발급한다")
+    void get_refreshesAheadOfExpiry() throws Exception {
+        cache.get(TENANT_ID, FINGERPRINT, this::issue);
+        clock.advance(Duration.ofSeconds(85));
+
+        assertThat(cache.get(TENANT_ID, FINGERPRINT, this::issue)).isEqualTo("token-1");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (issued.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+        assertThat(cache.get(TENANT_ID, FINGERPRINT, this::issue)).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 사용하지 않고 새로 발급받는다")
+    void get_reloadsExpiredToken() throws Exception {
+        cache.get(TENANT_ID, FINGERPRINT, this::issue);
+        clock.advance(Duration.ofSeconds(101));
+
+        assertThat(cache.get(TENANT_ID, FINGERPRINT, this::issue)).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("동시 요청은 하나의 발급 요청을 공유한다")
+    void get_singleFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get(TENANT_ID, FINGERPRINT, () -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return issue();
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+            }
+            assertThat(issued).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("거부된 토큰만 무효화하고 이미 교체된 토큰은 유지한다")
+    void invalidate_onlyRejectedToken() throws Exception {
+        cache.get(TENANT_ID, FINGERPRINT, this::issue);
+
+        cache.invalidate(TENANT_ID, "stale-token");
+        assertThat(cache.get(TENANT_ID, FINGERPRINT, this::issue)).isEqualTo("token-1");
+
+        cache.invalidate(TENANT_ID, "token-1");
+        assertThat(cache.get(TENANT_ID, FINGERPRINT, this::issue)).isEqualTo("token-2");
+    }
+
+    private SystemToken issue() {
+        return new SystemToken("token-" + issued.incrementAndGet(), Duration.ofSeconds(100));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
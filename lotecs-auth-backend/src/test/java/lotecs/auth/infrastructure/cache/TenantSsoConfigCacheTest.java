@@ -0,0 +1,164 @@
+package lotecs.auth.infrastructure.cache;
+
+import lotecs.auth.domain.sso.SsoType;
+import lotecs.auth.domain.sso.model.TenantSsoConfig;
+import lotecs.auth.domain.sso.repository.TenantSsoConfigRepository;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.config.SsoConfigCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TenantSsoConfigCache 단위 테스트")
+class TenantSsoConfigCacheTest {
+
+    private static final String TENANT_ID = "tenant-001";
+
+    @Mock
+    private TenantSsoConfigRepository repository;
+
+    private TenantSsoConfigCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TenantSsoConfigCache(repository, new SsoConfigCacheProperties());
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Get {
+
+        @Test
+        @DisplayName("처음 조회는 DB에서 적재하고, 이후 조회는 캐시에서 같은 값을 돌려준다")
+        void loadsOnceThenHits() {
+            given(repository.findByTenantId(TENANT_ID)).willReturn(Optional.of(config()));
+
+            TenantSsoConfig first = cache.get(TENANT_ID).orElseThrow();
+            TenantSsoConfig second = cache.get(TENANT_ID).orElseThrow();
+
+            assertThat(second).isEqualTo(first);
+            verify(repository, times(1)).findByTenantId(TENANT_ID);
+        }
+
+        @Test
+        @DisplayName("설정이 없는 테넌트도 빈 값으로 캐시해 DB를 반복 조회하지 않는다")
+        void cachesMissingConfig() {
+            given(repository.findByTenantId(TENANT_ID)).willReturn(Optional.empty());
+
+            assertThat(cache.get(TENANT_ID)).isEmpty();
+            assertThat(cache.get(TENANT_ID)).isEmpty();
+
+            verify(repository, times(1)).findByTenantId(TENANT_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("공유 인스턴스 보호")
+    class DefensiveCopy {
+
+        @Test
+        @DisplayName("조회한 인스턴스를 수정해도 캐시 원본과 다른 조회 결과는 바뀌지 않는다")
+        void mutationDoesNotLeak() {
+            given(repository.findByTenantId(TENANT_ID)).willReturn(Optional.of(config()));
+
+            TenantSsoConfig first = cache.get(TENANT_ID).orElseThrow();
+            first.setSsoServerUrl("https://evil.example.com");
+            first.setAdditionalConfig("{}");
+
+            TenantSsoConfig second = cache.get(TENANT_ID).orElseThrow();
+            assertThat(second).isNotSameAs(first);
+            assertThat(second.getSsoServerUrl()).isEqualTo("https://sso.example.com");
+            assertThat(second.getUserDivisionMapping()).containsEntry("S", "STUDENT");
+        }
+
+        @Test
+        @DisplayName("additionalConfig 파싱 결과는 중첩된 Map/List까지 수정할 수 없다")
+        void parsedConfigIsDeeplyImmutable() {
+            given(repository.findByTenantId(TENANT_ID)).willReturn(Optional.of(config()));
+
+            TenantSsoConfig config = cache.get(TENANT_ID).orElseThrow();
+            @SuppressWarnings("unchecked")
+            Map<String, Object> nested = (Map<String, Object>) config.getCustomFields().get("nested");
+            @SuppressWarnings("unchecked")
+            List<Object> list = (List<Object>) config.getAdditionalConfigAsMap().get("list");
+
+            assertThatThrownBy(() -> config.getUserDivisionMapping().put("E", "EMPLOYEE"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> nested.put("key", "changed"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> list.add("c"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화")
+    class Invalidation {
+
+        @Test
+        @DisplayName("SSO 설정 변경 이벤트를 받으면 다음 조회에서 다시 적재한다")
+        void evictsOnSsoConfigChanged() {
+            given(repository.findByTenantId(TENANT_ID)).willReturn(Optional.of(config()));
+            cache.get(TENANT_ID);
+
+            cache.onInvalidation(new CacheInvalidationEvent.SsoConfigChanged(TENANT_ID));
+            cache.get(TENANT_ID);
+
+            verify(repository, times(2)).findByTenantId(TENANT_ID);
+        }
+
+        @Test
+        @DisplayName("테넌트 변경 이벤트로 빈 값 캐시도 제거된다")
+        void evictsNegativeEntryOnTenantChanged() {
+            given(repository.findByTenantId(TENANT_ID))
+                    .willReturn(Optional.empty())
+                    .willReturn(Optional.of(config()));
+            assertThat(cache.get(TENANT_ID)).isEmpty();
+
+            cache.onInvalidation(new CacheInvalidationEvent.TenantChanged(TENANT_ID));
+
+            assertThat(cache.get(TENANT_ID)).isPresent();
+        }
+
+        @Test
+        @DisplayName("다른 테넌트 이벤트는 캐시를 유지한다")
+        void keepsOtherTenants() {
+            given(repository.findByTenantId(TENANT_ID)).willReturn(Optional.of(config()));
+            cache.get(TENANT_ID);
+
+            cache.onInvalidation(new CacheInvalidationEvent.SsoConfigChanged("tenant-002"));
+            cache.get(TENANT_ID);
+
+            verify(repository, times(1)).findByTenantId(TENANT_ID);
+        }
+    }
+
+    private static TenantSsoConfig config() {
+        return TenantSsoConfig.builder()
+                .tenantId(TENANT_ID)
+                .ssoType(SsoType.REST_TOKEN)
+                .ssoEnabled(true)
+                .ssoServerUrl("https://sso.example.com")
+                .additionalConfig("""
+                        {"userDivisionMapping":{"S":"STUDENT"},
+                         "customFields":{"nested":{"key":"value"}},
+                         "list":["a","b"]}
+                        """)
+                .build();
+    }
+}
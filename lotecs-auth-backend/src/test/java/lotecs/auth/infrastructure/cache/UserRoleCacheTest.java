@@ -0,0 +1,159 @@
+package lotecs.auth.infrastructure.cache;
+
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.config.AuthorityCacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UserRoleCache 단위 테스트")
+class UserRoleCacheTest {
+
+    private static final String TENANT_ID = "tenant-001";
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private UserRoleCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserRoleCache(new AuthorityCacheProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Get {
+
+        @Test
+        @DisplayName("처음 조회만 적재하고 이후 조회는 캐시에서 돌려준다")
+        void loadsOnceThenHits() {
+            Set<String> first = cache.get(TENANT_ID, "U1", loader("role-a"));
+            Set<String> second = cache.get(TENANT_ID, "U1", loader("role-b"));
+
+            assertThat(first).containsExactly("role-a");
+            assertThat(second).isSameAs(first);
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("테넌트가 다르면 같은 사용자 ID라도 따로 적재한다")
+        void keyedByTenantAndUser() {
+            cache.get(TENANT_ID, "U1", loader("role-a"));
+
+            assertThat(cache.get("tenant-002", "U1", loader("role-b"))).containsExactly("role-b");
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("적재 결과를 불변 복사본으로 보관해 원본 변경이 캐시에 영향을 주지 않는다")
+        void storesImmutableCopy() {
+            Set<String> loaded = new HashSet<>(Set.of("role-a"));
+
+            Set<String> cached = cache.get(TENANT_ID, "U1", () -> loaded);
+            loaded.add("role-b");
+
+            assertThat(cache.get(TENANT_ID, "U1", loader("role-c"))).containsExactly("role-a");
+            assertThatThrownBy(() -> cached.add("role-d")).isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        @DisplayName("비활성화하면 매번 적재한다")
+        void disabled() {
+            AuthorityCacheProperties properties = new AuthorityCacheProperties();
+            properties.setEnabled(false);
+            UserRoleCache disabled = new UserRoleCache(properties);
+
+            disabled.get(TENANT_ID, "U1", loader("role-a"));
+            disabled.get(TENANT_ID, "U1", loader("role-a"));
+
+            assertThat(loads).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화")
+    class Invalidate {
+
+        @Test
+        @DisplayName("단일 사용자 무효화 후 다시 적재한다")
+        void single() {
+            cache.get(TENANT_ID, "U1", loader("role-a"));
+            cache.get(TENANT_ID, "U2", loader("role-a"));
+
+            cache.invalidate(TENANT_ID, "U1");
+
+            assertThat(cache.get(TENANT_ID, "U1", loader("role-b"))).containsExactly("role-b");
+            assertThat(cache.get(TENANT_ID, "U2", loader("role-b"))).containsExactly("role-a");
+        }
+
+        @Test
+        @DisplayName("여러 사용자를 한 번에 무효화한다")
+        void many() {
+            cache.get(TENANT_ID, "U1", loader("role-a"));
+            cache.get(TENANT_ID, "U2", loader("role-a"));
+
+            cache.invalidateAll(TENANT_ID, List.of("U1", "U2"));
+
+            assertThat(cache.get(TENANT_ID, "U1", loader("role-b"))).containsExactly("role-b");
+            assertThat(cache.get(TENANT_ID, "U2", loader("role-b"))).containsExactly("role-b");
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서는 커밋 전에 다시 적재된 이전 데이터를 커밋 후 한 번 더 무효화한다")
+        void invalidatesAgainAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+            cache.get(TENANT_ID, "U1", loader("role-a"));
+
+            cache.invalidate(TENANT_ID, "U1");
+            // 커밋 전 다른 스레드가 이전 데이터를 다시 적재
+            cache.get(TENANT_ID, "U1", loader("role-a"));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            assertThat(cache.get(TENANT_ID, "U1", loader("role-b"))).containsExactly("role-b");
+        }
+
+        @Test
+        @DisplayName("다른 노드의 사용자 역할 변경은 해당 사용자만, 테넌트 변경은 테넌트 전체를 무효화한다")
+        void onInvalidation() {
+            cache.get(TENANT_ID, "U1", loader("role-a"));
+            cache.get(TENANT_ID, "U2", loader("role-a"));
+            cache.get("tenant-002", "U1", loader("role-a"));
+
+            cache.onInvalidation(new CacheInvalidationEvent.UserRolesChanged(TENANT_ID, "U1"));
+
+            assertThat(cache.get(TENANT_ID, "U1", loader("role-b"))).containsExactly("role-b");
+            assertThat(cache.get(TENANT_ID, "U2", loader("role-b"))).containsExactly("role-a");
+
+            cache.onInvalidation(new CacheInvalidationEvent.TenantChanged(TENANT_ID));
+
+            assertThat(cache.get(TENANT_ID, "U2", loader("role-c"))).containsExactly("role-c");
+            assertThat(cache.get("tenant-002", "U1", loader("role-c"))).containsExactly("role-a");
+        }
+    }
+
+    private Supplier<Set<String>> loader(String... roleIds) {
+        return () -> {
+            loads.incrementAndGet();
+            return Set.of(roleIds);
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package lotecs.auth.infrastructure.cache;
+
+import lotecs.auth.domain.user.model.User;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.config.TokenValidationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserSnapshotCache 단위 테스트")
+class UserSnapshotCacheTest {
+
+    private UserSnapshotCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserSnapshotCache(new TokenValidationProperties());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("적재된 사용자는 다시 조회하지 않는다")
+    void get_reusesLoadedUser() {
+        cache.get("T1", "U1", () -> load("U1"));
+        Optional<User> user = cache.get("T1", "U1", () -> load("U1"));
+
+        assertThat(user).map(User::getUserId).contains("U1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐시하지 않는다")
+    void get_doesNotCacheMissingUser() {
+        cache.get("T1", "U1", this::loadMissing);
+        cache.get("T1", "U1", this::loadMissing);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("사용자 변경/역할 변경/테넌트 변경 이벤트를 받으면 다시 적재한다")
+    void onInvalidation_evicts() {
+        cache.get("T1", "U1", () -> load("U1"));
+        cache.onInvalidation(new CacheInvalidationEvent.UserChanged("T1", "U1"));
+        cache.get("T1", "U1", () -> load("U1"));
+
+        cache.onInvalidation(new CacheInvalidationEvent.UserRolesChanged("T1", "U1"));
+        cache.get("T1", "U1", () -> load("U1"));
+
+        cache.onInvalidation(new CacheInvalidationEvent.TenantChanged("T1"));
+        cache.get("T1", "U1", () -> load("U1"));
+
+        assertThat(loads).hasValue(4);
+    }
+
+    private Optional<User> load(String userId) {
+        loads.incrementAndGet();
+        return Optional.of(User.builder().userId(userId).tenantId("T1").username("user").build());
+    }
+
+    private Optional<User> loadMissing() {
+        loads.incrementAndGet();
+        return Optional.empty();
+    }
+}
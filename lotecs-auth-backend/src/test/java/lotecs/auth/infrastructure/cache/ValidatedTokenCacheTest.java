@@ -0,0 +1,143 @@
+package lotecs.auth.infrastructure.cache;
+
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.config.TokenValidationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ValidatedTokenCache 단위 테스트")
+class ValidatedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final String TOKEN = "header.payload.signature";
+
+    private MutableClock clock;
+    private ValidatedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        TokenValidationProperties properties = new TokenValidationProperties();
+        properties.getNearCache().setTtl(Duration.ofSeconds(30));
+        clock = new MutableClock(NOW);
+        cache = new ValidatedTokenCache(properties, clock);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 만료된다")
+    void expiresAfterTtl() {
+        cache.put(TOKEN, claims(NOW.plusSeconds(900)));
+        assertThat(cache.get(TOKEN)).containsEntry("userId", "U1");
+
+        clock.advance(Duration.ofSeconds(31));
+
+        assertThat(cache.get(TOKEN)).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 exp가 TTL보다 빠르면 exp에 만료된다")
+    void expiresAtTokenExp() {
+        cache.put(TOKEN, claims(NOW.plusSeconds(10)));
+
+        clock.advance(Duration.ofSeconds(11));
+
+        assertThat(cache.get(TOKEN)).isNull();
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 제거되고 다시 저장되지 않는다")
+    void revoke_evictsAndBlocksReinsert() {
+        cache.put(TOKEN, claims(NOW.plusSeconds(900)));
+
+        CacheInvalidationEvent.TokenRevoked event = cache.revoke(TOKEN);
+        cache.put(TOKEN, claims(NOW.plusSeconds(900)));
+
+        assertThat(cache.get(TOKEN)).isNull();
+        assertThat(event.tenantId()).isEqualTo("T1");
+        assertThat(event.tokenDigest()).hasSize(32).doesNotContain(TOKEN);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기 이벤트를 받으면 같은 digest의 항목을 제거한다")
+    void onInvalidation_evictsByDigest() {
+        ValidatedTokenCache otherNode = new ValidatedTokenCache(new TokenValidationProperties(), clock);
+        cache.put(TOKEN, claims(NOW.plusSeconds(900)));
+
+        cache.onInvalidation(otherNode.revoke(TOKEN));
+
+        assertThat(cache.get(TOKEN)).isNull();
+    }
+
+    @Test
+    @DisplayName("폐기와 저장이 동시에 실행되어도 폐기된 토큰은 캐시에 남지 않는다")
+    void revokeAndPutInterleaved() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 2_000; i++) {
+                String token = TOKEN + "." + i;
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> put = executor.submit(() -> {
+                    barrier.await();
+                    cache.put(token, claims(NOW.plusSeconds(900)));
+                    return null;
+                });
+                Future<?> revoke = executor.submit(() -> {
+                    barrier.await();
+                    return cache.revoke(token);
+                });
+                put.get(5, TimeUnit.SECONDS);
+                revoke.get(5, TimeUnit.SECONDS);
+
+                assertThat(cache.get(token)).as("iteration %d", i).isNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<String, Object> claims(Instant exp) {
+        return Map.of("userId", "U1", "tenantId", "T1", "exp", exp.getEpochSecond());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
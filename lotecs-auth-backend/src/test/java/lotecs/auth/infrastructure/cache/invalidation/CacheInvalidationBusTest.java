@@ -0,0 +1,123 @@
+package lotecs.auth.infrastructure.cache.invalidation;
+
+import lotecs.auth.infrastructure.config.CacheInvalidationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheInvalidationBus 단위 테스트")
+class CacheInvalidationBusTest {
+
+    private InMemoryTransport transport;
+    private List<CacheInvalidationEvent> receivedA;
+    private List<CacheInvalidationEvent> receivedB;
+    private CacheInvalidationBus nodeA;
+    private CacheInvalidationBus nodeB;
+
+    @BeforeEach
+    void setUp() {
+        CacheInvalidationProperties properties = new CacheInvalidationProperties();
+        // 자동 flush가 테스트에 끼어들지 않도록 병합 주기를 길게 두고 수동으로 flush
+        properties.setCoalesceWindow(Duration.ofMinutes(1));
+
+        transport = new InMemoryTransport();
+        receivedA = new CopyOnWriteArrayList<>();
+        receivedB = new CopyOnWriteArrayList<>();
+        nodeA = new CacheInvalidationBus(properties, transport, () -> List.<CacheInvalidationListener>of(receivedA::add));
+        nodeB = new CacheInvalidationBus(properties, transport, () -> List.<CacheInvalidationListener>of(receivedB::add));
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 노드에만 이벤트가 전달되고 자기 메시지는 무시한다")
+    void shouldDeliverToOtherNodesOnly() {
+        nodeA.publish(new CacheInvalidationEvent.RoleChanged("T1", "R1"));
+
+        nodeA.flush();
+        nodeB.flush();
+
+        assertThat(receivedA).isEmpty();
+        assertThat(receivedB).containsExactly(new CacheInvalidationEvent.RoleChanged("T1", "R1"));
+    }
+
+    @Test
+    @DisplayName("병합 주기 내 같은 이벤트는 한 번만 전달한다")
+    void shouldCoalesceDuplicateEvents() {
+        nodeA.publish(new CacheInvalidationEvent.UserRolesChanged("T1", "U1"));
+        nodeA.publish(new CacheInvalidationEvent.UserRolesChanged("T1", "U1"));
+        nodeA.publish(new CacheInvalidationEvent.TenantChanged("T1"));
+
+        nodeB.flush();
+
+        assertThat(receivedB).containsExactly(
+                new CacheInvalidationEvent.UserRolesChanged("T1", "U1"),
+                new CacheInvalidationEvent.TenantChanged("T1"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 발행한 이벤트는 커밋 후 한 번만 전송한다")
+    void shouldSendAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            nodeA.publish(new CacheInvalidationEvent.PermissionChanged("T1", "P1"));
+            nodeA.publish(new CacheInvalidationEvent.PermissionChanged("T1", "P1"));
+            assertThat(transport.sent).isEmpty();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(transport.sent).hasSize(1);
+        nodeB.flush();
+        assertThat(receivedB).containsExactly(new CacheInvalidationEvent.PermissionChanged("T1", "P1"));
+    }
+
+    @Test
+    @DisplayName("잘못된 메시지는 무시한다")
+    void shouldIgnoreMalformedPayload() {
+        transport.send("not-json");
+
+        nodeB.flush();
+
+        assertThat(receivedB).isEmpty();
+    }
+
+    /**
+     * Redis pub/sub 대체용 인메모리 전송 (모든 구독자에게 동기 전달)
+     */
+    private static class InMemoryTransport implements CacheInvalidationTransport {
+
+        private final List<Consumer<String>> handlers = new ArrayList<>();
+        private final List<String> sent = new ArrayList<>();
+
+        @Override
+        public void send(String payload) {
+            sent.add(payload);
+            handlers.forEach(handler -> handler.accept(payload));
+        }
+
+        @Override
+        public void subscribe(Consumer<String> handler) {
+            handlers.add(handler);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package lotecs.auth.infrastructure.persistence.user;
+
+import lotecs.auth.domain.user.model.LoginActivity;
+import lotecs.auth.domain.user.repository.UserRepository;
+import lotecs.auth.infrastructure.config.LoginActivityProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginActivityWriter 단위 테스트")
+class LoginActivityWriterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Mock
+    private UserRepository userRepository;
+
+    private LoginActivityWriter writer;
+    private final List<List<LoginActivity>> batches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        LoginActivityProperties properties = new LoginActivityProperties();
+        properties.setFlushInterval(Duration.ofHours(1));
+        properties.setBatchSize(2);
+        properties.setMaxPending(3);
+        writer = new LoginActivityWriter(userRepository, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 기록은 최신 것만 남기고 batchSize 단위로 나누어 반영한다")
+    void flush_coalescesAndBatches() {
+        captureBatches();
+        writer.record(new LoginActivity("user-1", NOW, "10.0.0.1"));
+        writer.record(new LoginActivity("user-1", NOW.plusMinutes(1), "10.0.0.2"));
+        writer.record(new LoginActivity("user-2", NOW, "10.0.0.3"));
+        writer.record(new LoginActivity("user-3", NOW, "10.0.0.4"));
+        verify(userRepository, never()).updateLastLogins(anyCollection());
+
+        writer.flush();
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).hasSize(2);
+        assertThat(batches.stream().flatMap(List::stream))
+                .extracting(LoginActivity::userId, LoginActivity::ipAddress)
+                .containsExactlyInAnyOrder(
+                        tuple("user-1", "10.0.0.2"),
+                        tuple("user-2", "10.0.0.3"),
+                        tuple("user-3", "10.0.0.4"));
+    }
+
+    @Test
+    @DisplayName("대기 중인 사용자 수가 상한이면 즉시 반영한다")
+    void record_writesThroughWhenFull() {
+        writer.record(new LoginActivity("user-1", NOW, "ip"));
+        writer.record(new LoginActivity("user-2", NOW, "ip"));
+        writer.record(new LoginActivity("user-3", NOW, "ip"));
+
+        LoginActivity overflow = new LoginActivity("user-4", NOW, "ip");
+        writer.record(overflow);
+
+        verify(userRepository).updateLastLogins(List.of(overflow));
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 기록은 다음 flush에서 다시 시도한다")
+    void flush_retriesFailedBatch() {
+        writer.record(new LoginActivity("user-1", NOW, "ip"));
+        willThrow(new IllegalStateException("db down")).given(userRepository).updateLastLogins(anyCollection());
+        assertThatThrownBy(() -> writer.flush()).isInstanceOf(IllegalStateException.class);
+
+        captureBatches();
+        writer.flush();
+
+        assertThat(batches).singleElement().satisfies(batch ->
+                assertThat(batch).extracting(LoginActivity::userId).containsExactly("user-1"));
+    }
+
+    private void captureBatches() {
+        willAnswer(invocation -> {
+            Collection<LoginActivity> batch = invocation.getArgument(0);
+            batches.add(List.copyOf(batch));
+            return null;
+        }).given(userRepository).updateLastLogins(anyCollection());
+    }
+}
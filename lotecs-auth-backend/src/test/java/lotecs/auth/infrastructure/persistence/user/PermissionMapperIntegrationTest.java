@@ -0,0 +1,128 @@
+package lotecs.auth.infrastructure.persistence.user;
+
+import lotecs.auth.domain.user.model.Permission;
+import lotecs.auth.domain.user.model.Role;
+import lotecs.auth.domain.user.model.RolePermission;
+import lotecs.auth.domain.user.model.UserRole;
+import lotecs.auth.infrastructure.persistence.user.mapper.PermissionMapper;
+import lotecs.auth.infrastructure.persistence.user.mapper.RoleMapper;
+import lotecs.auth.infrastructure.persistence.user.mapper.RolePermissionMapper;
+import lotecs.auth.infrastructure.persistence.user.mapper.UserRoleMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("PermissionMapper 통합 테스트")
+class PermissionMapperIntegrationTest {
+
+    private static final String TENANT_ID = "TEST-TENANT";
+
+    @Autowired
+    private PermissionMapper permissionMapper;
+
+    @Autowired
+    private RoleMapper roleMapper;
+
+    @Autowired
+    private UserRoleMapper userRoleMapper;
+
+    @Autowired
+    private RolePermissionMapper rolePermissionMapper;
+
+    @Nested
+    @DisplayName("findGrantedByUserId")
+    class FindGrantedByUserId {
+
+        @Test
+        @DisplayName("여러 역할의 권한을 중복 없이 resource, action 순으로 한 번에 조회한다")
+        void unionOfRolePermissions() {
+            Permission userRead = permission("USER_READ", "USER", "READ");
+            Permission userWrite = permission("USER_WRITE", "USER", "WRITE");
+            Permission roleRead = permission("ROLE_READ", "ROLE", "READ");
+            Role viewer = role("VIEWER", userRead, userWrite);
+            Role editor = role("EDITOR", userWrite, roleRead);
+            assign("U1", viewer);
+            assign("U1", editor);
+
+            List<Permission> granted = permissionMapper.findGrantedByUserId("U1");
+
+            assertThat(granted)
+                    .extracting(Permission::getPermissionName, Permission::getResource, Permission::getAction)
+                    .containsExactly(
+                            tuple("ROLE_READ", "ROLE", "READ"),
+                            tuple("USER_READ", "USER", "READ"),
+                            tuple("USER_WRITE", "USER", "WRITE"));
+        }
+
+        @Test
+        @DisplayName("회수된 역할 할당, 삭제된 역할, 삭제된 권한은 제외한다")
+        void excludesRevokedAndDeleted() {
+            Permission kept = permission("USER_READ", "USER", "READ");
+            Permission deletedPermission = permission("USER_DELETE", "USER", "DELETE");
+            Permission viaDeletedRole = permission("ROLE_WRITE", "ROLE", "WRITE");
+            Permission viaRevokedRole = permission("TENANT_READ", "TENANT", "READ");
+            Role active = role("ACTIVE_ROLE", kept, deletedPermission);
+            Role deleted = role("DELETED_ROLE", viaDeletedRole);
+            Role revoked = role("REVOKED_ROLE", viaRevokedRole);
+            assign("U1", active);
+            assign("U1", deleted);
+            assign("U1", revoked);
+
+            permissionMapper.delete(deletedPermission.getPermissionId());
+            roleMapper.delete(deleted.getRoleId());
+            userRoleMapper.revoke("U1", revoked.getRoleId(), "admin");
+
+            assertThat(permissionMapper.findGrantedByUserId("U1"))
+                    .extracting(Permission::getPermissionName)
+                    .containsExactly("USER_READ");
+        }
+
+        @Test
+        @DisplayName("역할이 없는 사용자는 빈 목록을 돌려준다")
+        void userWithoutRoles() {
+            role("VIEWER", permission("USER_READ", "USER", "READ"));
+
+            assertThat(permissionMapper.findGrantedByUserId("NO-ROLE-USER")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("권한이 없는 역할만 가진 사용자는 빈 목록을 돌려준다")
+        void roleWithoutPermissions() {
+            assign("U1", role("EMPTY"));
+
+            assertThat(permissionMapper.findGrantedByUserId("U1")).isEmpty();
+        }
+    }
+
+    private Permission permission(String name, String resource, String action) {
+        Permission permission = Permission.create(TENANT_ID, name, resource, action, null, "admin");
+        permissionMapper.insert(permission);
+        return permission;
+    }
+
+    private Role role(String name, Permission... permissions) {
+        Role role = Role.create(TENANT_ID, name, name, null, 10, "admin");
+        roleMapper.insert(role);
+        for (Permission permission : permissions) {
+            rolePermissionMapper.insert(
+                    RolePermission.grant(role.getRoleId(), permission.getPermissionId(), TENANT_ID, "admin"));
+        }
+        return role;
+    }
+
+    private void assign(String userId, Role role) {
+        userRoleMapper.insert(UserRole.assign(userId, role.getRoleId(), TENANT_ID, "admin"));
+    }
+}
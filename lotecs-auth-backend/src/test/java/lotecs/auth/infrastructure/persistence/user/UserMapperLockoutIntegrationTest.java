@@ -0,0 +1,136 @@
+package lotecs.auth.infrastructure.persistence.user;
+
+import lotecs.auth.domain.user.model.User;
+import lotecs.auth.domain.user.model.UserStatus;
+import lotecs.auth.infrastructure.persistence.user.mapper.UserMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("UserMapper 로그인 잠금 통합 테스트")
+class UserMapperLockoutIntegrationTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int LOCK_MINUTES = 30;
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Autowired
+    private UserMapper userMapper;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID().toString();
+        userMapper.insert(User.builder()
+                .userId(userId)
+                .tenantId("TEST-TENANT")
+                .username("lockout-" + userId)
+                .password("{noop}password")
+                .email(userId + "@example.com")
+                .status(UserStatus.ACTIVE)
+                .accountNonLocked(true)
+                .credentialsNonExpired(true)
+                .enabled(true)
+                .createdAt(T0)
+                .build());
+    }
+
+    @Nested
+    @DisplayName("lockAccount")
+    class LockAccount {
+
+        @Test
+        @DisplayName("잠금 유지 중에는 다시 잠그지 않고, 만료 후에는 LOCKED_AT을 갱신해 다시 잠근다")
+        void relocksAfterExpiry() {
+            assertThat(userMapper.lockAccount(userId, MAX_ATTEMPTS, T0, null)).isEqualTo(1);
+
+            LocalDateTime duringLock = T0.plusMinutes(10);
+            assertThat(userMapper.lockAccount(userId, MAX_ATTEMPTS, duringLock, cutoff(duringLock))).isZero();
+            assertThat(reload().getLockedAt()).isEqualTo(T0);
+
+            LocalDateTime afterExpiry = T0.plusMinutes(LOCK_MINUTES + 1);
+            assertThat(userMapper.lockAccount(userId, MAX_ATTEMPTS, afterExpiry, cutoff(afterExpiry))).isEqualTo(1);
+
+            User relocked = reload();
+            assertThat(relocked.isAccountNonLocked()).isFalse();
+            assertThat(relocked.getLockedAt()).isEqualTo(afterExpiry);
+        }
+
+        @Test
+        @DisplayName("잠금 유지 시간이 없으면(null 기준) 잠긴 계정을 다시 잠그지 않는다")
+        void permanentLockIsNotRelocked() {
+            userMapper.lockAccount(userId, MAX_ATTEMPTS, T0, null);
+
+            assertThat(userMapper.lockAccount(userId, MAX_ATTEMPTS, T0.plusDays(1), null)).isZero();
+            assertThat(reload().getLockedAt()).isEqualTo(T0);
+        }
+    }
+
+    @Nested
+    @DisplayName("incrementLoginFailures")
+    class IncrementLoginFailures {
+
+        @Test
+        @DisplayName("임계값에 도달하면 잠그고, 만료 후에는 실패를 처음부터 다시 세어 임계값에서 다시 잠근다")
+        void lockExpireRelock() {
+            failAt(T0, MAX_ATTEMPTS);
+            User locked = reload();
+            assertThat(locked.isAccountNonLocked()).isFalse();
+            assertThat(locked.getLockedAt()).isEqualTo(T0);
+            assertThat(locked.getFailedLoginAttempts()).isEqualTo(MAX_ATTEMPTS);
+
+            LocalDateTime afterExpiry = T0.plusMinutes(LOCK_MINUTES + 1);
+            failAt(afterExpiry, 1);
+            User expired = reload();
+            assertThat(expired.isAccountNonLocked()).isTrue();
+            assertThat(expired.getLockedAt()).isNull();
+            assertThat(expired.getFailedLoginAttempts()).isEqualTo(1);
+
+            failAt(afterExpiry, MAX_ATTEMPTS - 1);
+            User relocked = reload();
+            assertThat(relocked.isAccountNonLocked()).isFalse();
+            assertThat(relocked.getLockedAt()).isEqualTo(afterExpiry);
+            assertThat(relocked.getFailedLoginAttempts()).isEqualTo(MAX_ATTEMPTS);
+        }
+
+        @Test
+        @DisplayName("잠금 유지 중의 실패는 LOCKED_AT을 바꾸지 않는다")
+        void keepsLockedAtDuringLock() {
+            failAt(T0, MAX_ATTEMPTS);
+
+            failAt(T0.plusMinutes(10), 1);
+
+            User locked = reload();
+            assertThat(locked.isAccountNonLocked()).isFalse();
+            assertThat(locked.getLockedAt()).isEqualTo(T0);
+        }
+    }
+
+    private void failAt(LocalDateTime now, int times) {
+        for (int i = 0; i < times; i++) {
+            userMapper.incrementLoginFailures(userId, MAX_ATTEMPTS, now, cutoff(now));
+        }
+    }
+
+    private static LocalDateTime cutoff(LocalDateTime now) {
+        return now.minusMinutes(LOCK_MINUTES);
+    }
+
+    private User reload() {
+        return userMapper.findById(userId).orElseThrow();
+    }
+}
@@ -0,0 +1,101 @@
+package lotecs.auth.infrastructure.security;
+
+import lotecs.auth.infrastructure.config.PasswordEncodingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptivePasswordEncoder 단위 테스트")
+class AdaptivePasswordEncoderTest {
+
+    private static final String RAW = "password123";
+
+    private final PasswordEncodingProperties.Argon2 argon2 = lightArgon2();
+
+    @Nested
+    @DisplayName("재해시 판단")
+    class UpgradeEncoding {
+
+        private final AdaptivePasswordEncoder encoder =
+                new AdaptivePasswordEncoder(PasswordEncodingProperties.Algorithm.BCRYPT, 5, argon2);
+
+        @Test
+        @DisplayName("식별자 없는 기존 BCrypt 해시도 검증하고, cost가 같으면 재해시하지 않는다")
+        void legacyHash() {
+            String legacy = new BCryptPasswordEncoder(5).encode(RAW);
+
+            assertThat(encoder.matches(RAW, legacy)).isTrue();
+            assertThat(encoder.upgradeEncoding(legacy)).isFalse();
+        }
+
+        @Test
+        @DisplayName("cost가 낮거나 2 이상 높으면 재해시한다")
+        void costDiffers() {
+            assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode(RAW))).isTrue();
+            assertThat(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(6).encode(RAW))).isFalse();
+            assertThat(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(7).encode(RAW))).isTrue();
+        }
+
+        @Test
+        @DisplayName("알고리즘이 바뀌면 기존 해시를 검증한 뒤 재해시 대상으로 본다")
+        void algorithmChanged() {
+            AdaptivePasswordEncoder argon2Encoder =
+                    new AdaptivePasswordEncoder(PasswordEncodingProperties.Algorithm.ARGON2ID, 5, argon2);
+            String bcryptHash = encoder.encode(RAW);
+            String argon2Hash = argon2Encoder.encode(RAW);
+
+            assertThat(argon2Hash).startsWith("{argon2}");
+            assertThat(argon2Encoder.matches(RAW, bcryptHash)).isTrue();
+            assertThat(argon2Encoder.upgradeEncoding(bcryptHash)).isTrue();
+            assertThat(argon2Encoder.upgradeEncoding(argon2Hash)).isFalse();
+            assertThat(encoder.matches(RAW, argon2Hash)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("cost 보정")
+    class Calibrate {
+
+        @Test
+        @DisplayName("최소 cost 측정값을 두 배씩 외삽해 목표 시간 안의 가장 높은 cost를 고른다")
+        void picksHighestCostWithinTarget() {
+            PasswordEncodingProperties.Calibration calibration = calibration(Duration.ofMillis(250), 10, 14);
+
+            // cost 10 = 40ms → 11 = 80ms, 12 = 160ms, 13 = 320ms
+            assertThat(AdaptivePasswordEncoder.calibrate(calibration, strength -> Duration.ofMillis(40).toNanos()))
+                    .isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("min/max 범위를 벗어나지 않는다")
+        void clampsToRange() {
+            PasswordEncodingProperties.Calibration calibration = calibration(Duration.ofMillis(250), 10, 14);
+
+            assertThat(AdaptivePasswordEncoder.calibrate(calibration, strength -> Duration.ofMillis(1).toNanos()))
+                    .isEqualTo(14);
+            assertThat(AdaptivePasswordEncoder.calibrate(calibration, strength -> Duration.ofMillis(500).toNanos()))
+                    .isEqualTo(10);
+        }
+
+        private PasswordEncodingProperties.Calibration calibration(Duration target, int min, int max) {
+            PasswordEncodingProperties.Calibration calibration = new PasswordEncodingProperties.Calibration();
+            calibration.setEnabled(true);
+            calibration.setTargetLatency(target);
+            calibration.setMinStrength(min);
+            calibration.setMaxStrength(max);
+            return calibration;
+        }
+    }
+
+    private static PasswordEncodingProperties.Argon2 lightArgon2() {
+        PasswordEncodingProperties.Argon2 argon2 = new PasswordEncodingProperties.Argon2();
+        argon2.setMemory(1024);
+        argon2.setIterations(1);
+        return argon2;
+    }
+}
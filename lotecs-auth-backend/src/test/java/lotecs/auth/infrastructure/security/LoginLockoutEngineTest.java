@@ -0,0 +1,117 @@
+package lotecs.auth.infrastructure.security;
+
+import lotecs.auth.domain.user.model.User;
+import lotecs.auth.domain.user.repository.UserRepository;
+import lotecs.auth.infrastructure.config.LoginLockoutProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginLockoutEngine 단위 테스트")
+class LoginLockoutEngineTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private LoginLockoutEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        LoginLockoutProperties properties = new LoginLockoutProperties();
+        properties.setMaxFailedAttempts(3);
+        properties.setLockDurationMinutes(30);
+        Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+        engine = new LoginLockoutEngine(redisTemplate, userRepository, properties, clock);
+    }
+
+    @Test
+    @DisplayName("window 내 실패 횟수가 임계값 미만이면 DB를 갱신하지 않는다")
+    void recordFailure_belowThreshold() {
+        givenRedisCount(2L);
+
+        assertThat(engine.recordFailure(user())).isFalse();
+
+        verify(userRepository, never()).lockAccount(anyString(), anyInt(), any(), any());
+        verify(userRepository, never()).incrementLoginFailures(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("임계값에 도달하면 계정을 잠근다")
+    void recordFailure_locksAtThreshold() {
+        givenRedisCount(3L);
+        given(userRepository.lockAccount("user-1", 3, NOW, NOW.minusMinutes(30))).willReturn(true);
+
+        assertThat(engine.recordFailure(user())).isTrue();
+
+        verify(userRepository).lockAccount("user-1", 3, NOW, NOW.minusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Redis를 사용할 수 없으면 DB 원자적 증가로 대체한다")
+    void recordFailure_fallsBackToDatabase() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        engine.recordFailure(user());
+
+        verify(userRepository).incrementLoginFailures("user-1", 3, NOW, NOW.minusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("잠금 유지 시간이 지나면 잠금 해제로 판단한다")
+    void isLocked_expiresAfterLockDuration() {
+        User locked = user();
+        locked.setAccountNonLocked(false);
+        locked.setLockedAt(NOW.minusMinutes(10));
+        User expired = user();
+        expired.setAccountNonLocked(false);
+        expired.setLockedAt(NOW.minusMinutes(31));
+
+        assertThat(engine.isLocked(locked)).isTrue();
+        assertThat(engine.isLocked(expired)).isFalse();
+        assertThat(engine.isLocked(user())).isFalse();
+    }
+
+    private void givenRedisCount(long count) {
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("lotecs:auth:login-failures:tenant-1:user-1")),
+                anyString(), anyString(), anyString()))
+                .willReturn(count);
+    }
+
+    private User user() {
+        return User.builder()
+                .userId("user-1")
+                .tenantId("tenant-1")
+                .username("testuser")
+                .accountNonLocked(true)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package lotecs.auth.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotecs.auth.exception.auth.LoginThrottledException;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.config.LoginShieldProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LoginShield 단위 테스트")
+class LoginShieldTest {
+
+    private MutableClock clock;
+    private LoginShield shield;
+
+    @BeforeEach
+    void setUp() {
+        LoginShieldProperties properties = new LoginShieldProperties();
+        properties.setWindow(Duration.ofMinutes(1));
+        properties.setMaxFailuresPerIp(5);
+        properties.setMaxFailuresPerUsername(3);
+        properties.setSketchWidth(1024);
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        shield = new LoginShield(properties, new SimpleMeterRegistry(), clock);
+    }
+
+    @Nested
+    @DisplayName("실패 임계값")
+    class Threshold {
+
+        @Test
+        @DisplayName("같은 IP의 실패가 임계값에 도달하면 다른 사용자명도 거절한다")
+        void rejectsByIp() {
+            for (int i = 0; i < 5; i++) {
+                shield.recordFailure("T1", "user" + i, "10.0.0.1");
+            }
+
+            assertThatThrownBy(() -> shield.check("T1", "other", "10.0.0.1"))
+                    .isInstanceOf(LoginThrottledException.class);
+            assertThatCode(() -> shield.check("T1", "other", "10.0.0.2"))
+                    .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("같은 사용자명의 실패가 임계값에 도달하면 IP와 무관하게 거절한다")
+        void rejectsByUsername() {
+            for (int i = 0; i < 3; i++) {
+                shield.recordFailure("T1", "admin", "10.0.0." + i);
+            }
+
+            assertThatThrownBy(() -> shield.check("T1", "admin", "10.0.1.1"))
+                    .isInstanceOf(LoginThrottledException.class);
+            assertThatCode(() -> shield.check("T2", "admin", "10.0.1.1"))
+                    .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("직전 window의 실패는 합산하고, 두 window가 지나면 사라진다")
+        void decaysAfterTwoWindows() {
+            shield.recordFailure("T1", "admin", null);
+            shield.recordFailure("T1", "admin", null);
+            clock.advance(Duration.ofMinutes(1));
+            shield.recordFailure("T1", "admin", null);
+
+            assertThatThrownBy(() -> shield.check("T1", "admin", null))
+                    .isInstanceOf(LoginThrottledException.class);
+
+            clock.advance(Duration.ofMinutes(2));
+            assertThatCode(() -> shield.check("T1", "admin", null))
+                    .doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("존재하지 않는 사용자명 캐시")
+    class UnknownUser {
+
+        @Test
+        @DisplayName("기록된 사용자명은 사용자 생성 이벤트로 제거된다")
+        void evictedOnUserCreated() {
+            shield.recordUnknownUser("T1", "ghost");
+            assertThat(shield.isUnknownUser("T1", "ghost")).isTrue();
+            assertThat(shield.isUnknownUser("T2", "ghost")).isFalse();
+
+            shield.onInvalidation(new CacheInvalidationEvent.UserCreated("T1", "ghost"));
+
+            assertThat(shield.isUnknownUser("T1", "ghost")).isFalse();
+        }
+
+        @Test
+        @DisplayName("테넌트 변경 이벤트는 해당 테넌트 항목만 제거한다")
+        void evictedOnTenantChanged() {
+            shield.recordUnknownUser("T1", "ghost");
+            shield.recordUnknownUser("T2", "ghost");
+
+            shield.onInvalidation(new CacheInvalidationEvent.TenantChanged("T1"));
+
+            assertThat(shield.isUnknownUser("T1", "ghost")).isFalse();
+            assertThat(shield.isUnknownUser("T2", "ghost")).isTrue();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
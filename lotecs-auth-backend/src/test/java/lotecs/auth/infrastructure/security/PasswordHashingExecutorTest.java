@@ -0,0 +1,100 @@
+package lotecs.auth.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotecs.auth.exception.auth.PasswordHashingBusyException;
+import lotecs.auth.infrastructure.config.PasswordHashingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordHashingExecutor 단위 테스트")
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        properties.setMaxWait(Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(new BlockingEncoder(), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시 작업은 호출 스레드가 아닌 전용 스레드에서 실행된다")
+    void matches_runsOnHashingThread() {
+        release.countDown();
+
+        assertThat(executor.encode("secret")).startsWith("password-hash-");
+        assertThat(executor.matches("secret", "password-hash-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절하고 거절 수를 기록한다")
+    void matches_rejectsWhenQueueFull() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.encode("b"));
+        awaitQueued();
+
+        assertThatThrownBy(() -> executor.matches("c", "encoded"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get(PasswordHashingExecutor.METRIC_PREFIX + ".rejected").counter().count())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isNotBlank();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotBlank();
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(PasswordHashingExecutor.METRIC_PREFIX + ".queue").gauge().value() < 1
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 실행 스레드 이름을 해시 값으로 돌려주고, release 전까지 대기하는 인코더
+     */
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return Thread.currentThread().getName().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package lotecs.auth.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotecs.auth.domain.token.model.RefreshToken;
+import lotecs.auth.domain.token.model.RefreshTokenRotation;
+import lotecs.auth.domain.token.model.RotationOutcome;
+import lotecs.auth.domain.token.repository.RefreshTokenRepository;
+import lotecs.auth.exception.auth.RefreshTokenReuseException;
+import lotecs.auth.exception.auth.TokenRefreshException;
+import lotecs.auth.infrastructure.config.RefreshTokenRotationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenRotationEngine 단위 테스트")
+class RefreshTokenRotationEngineTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenRotationEngine engine;
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        engine = new RefreshTokenRotationEngine(
+                refreshTokenRepository, new RefreshTokenRotationProperties(), new SimpleMeterRegistry(), clock);
+    }
+
+    @Nested
+    @DisplayName("교체")
+    class Rotate {
+
+        @Test
+        @DisplayName("로그인 시 저장한 토큰은 등록 정보 없이 해시로 회수하고, 새 토큰은 같은 패밀리로 저장한다")
+        void rotatesRecordedToken() {
+            engine.record("refresh-1", "U1", "T1", "F1", "10.0.0.1");
+            ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenRepository).save(saved.capture());
+            String family = saved.getValue().getTokenFamily();
+            assertThat(family).isEqualTo("F1");
+            givenOutcome(RotationOutcome.ROTATED, family);
+
+            RefreshTokenRotationEngine.ConsumedToken consumed = engine.consume("refresh-1", "U1", "T1");
+            engine.attach(consumed, "refresh-2", null);
+
+            ArgumentCaptor<RefreshTokenRotation> rotation = ArgumentCaptor.forClass(RefreshTokenRotation.class);
+            verify(refreshTokenRepository).rotate(rotation.capture());
+            assertThat(rotation.getValue().getTokenHash()).isEqualTo(saved.getValue().getTokenHash());
+            assertThat(rotation.getValue().getAdoptUserId()).isNull();
+
+            verify(refreshTokenRepository, times(2)).save(saved.capture());
+            RefreshToken attached = saved.getValue();
+            assertThat(attached.getTokenFamily()).isEqualTo(family);
+            assertThat(attached.getTokenHash()).isEqualTo(TokenDigests.sha256Hex("refresh-2")).hasSize(64);
+        }
+
+        @Test
+        @DisplayName("저장되지 않은 토큰은 클레임의 사용자로 새 패밀리 등록을 요청한다")
+        void adoptsUntrackedToken() {
+            givenOutcome(RotationOutcome.ADOPTED, "F1");
+
+            engine.consume("legacy", "U1", "T1");
+
+            ArgumentCaptor<RefreshTokenRotation> rotation = ArgumentCaptor.forClass(RefreshTokenRotation.class);
+            verify(refreshTokenRepository).rotate(rotation.capture());
+            assertThat(rotation.getValue().getAdoptUserId()).isEqualTo("U1");
+            assertThat(rotation.getValue().getAdoptTenantId()).isEqualTo("T1");
+            assertThat(rotation.getValue().getAdoptTokenFamily()).isNotNull();
+            assertThat(rotation.getValue().getAdoptExpiresAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("저장되지 않은 토큰을 등록하지 않으면 거절한다")
+        void rejectsUnknownToken() {
+            given(refreshTokenRepository.rotate(any())).willReturn(RotationOutcome.UNKNOWN);
+
+            assertThatThrownBy(() -> engine.consume("unknown", null, null))
+                    .isInstanceOf(TokenRefreshException.class);
+        }
+
+        @Test
+        @DisplayName("로그아웃 등으로 회수된 토큰은 패밀리 회수 없이 거절한다")
+        void rejectsRevokedToken() {
+            givenOutcome(RotationOutcome.REVOKED, "F1");
+
+            assertThatThrownBy(() -> engine.consume("refresh-1", "U1", "T1"))
+                    .isInstanceOf(TokenRefreshException.class)
+                    .isNotInstanceOf(RefreshTokenReuseException.class);
+
+            verify(refreshTokenRepository, never()).revokeFamily(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("재사용 탐지")
+    class Reuse {
+
+        @Test
+        @DisplayName("이 노드에서 교체한 토큰이 grace 이후에 다시 오면 DB 교체 호출 없이 패밀리를 회수한다")
+        void revokesFamilyFromHotCache() {
+            givenOutcome(RotationOutcome.ROTATED, "F1");
+            engine.consume("refresh-1", "U1", "T1");
+            clock.advance(Duration.ofSeconds(11));
+
+            assertThatThrownBy(() -> engine.consume("refresh-1", "U1", "T1"))
+                    .isInstanceOf(RefreshTokenReuseException.class);
+
+            verify(refreshTokenRepository, times(1)).rotate(any());
+            verify(refreshTokenRepository).revokeFamily("F1", "REUSE_DETECTED");
+        }
+
+        @Test
+        @DisplayName("grace 이내에 다시 오면(동시 갱신) 거절만 하고 패밀리는 유지한다")
+        void concurrentRefreshKeepsFamily() {
+            givenOutcome(RotationOutcome.ROTATED, "F1");
+            engine.consume("refresh-1", "U1", "T1");
+            clock.advance(Duration.ofSeconds(2));
+
+            assertThatThrownBy(() -> engine.consume("refresh-1", "U1", "T1"))
+                    .isInstanceOf(TokenRefreshException.class)
+                    .isNotInstanceOf(RefreshTokenReuseException.class);
+
+            verify(refreshTokenRepository, times(1)).rotate(any());
+            verify(refreshTokenRepository, never()).revokeFamily(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("다른 노드에서 교체된 토큰의 grace 판정은 DB 결과(CONCURRENT)를 따른다")
+        void concurrentRefreshDetectedByDatabase() {
+            givenOutcome(RotationOutcome.CONCURRENT, "F1");
+
+            assertThatThrownBy(() -> engine.consume("refresh-1", "U1", "T1"))
+                    .isInstanceOf(TokenRefreshException.class)
+                    .isNotInstanceOf(RefreshTokenReuseException.class);
+
+            ArgumentCaptor<RefreshTokenRotation> rotation = ArgumentCaptor.forClass(RefreshTokenRotation.class);
+            verify(refreshTokenRepository).rotate(rotation.capture());
+            assertThat(rotation.getValue().getReuseGraceSeconds()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("DB에서 재사용이 탐지되면 예외를 던지고 추가 회수는 하지 않는다")
+        void reuseDetectedByDatabase() {
+            givenOutcome(RotationOutcome.REUSED, "F1");
+
+            assertThatThrownBy(() -> engine.consume("refresh-1", "U1", "T1"))
+                    .isInstanceOf(RefreshTokenReuseException.class);
+
+            verify(refreshTokenRepository, never()).revokeFamily(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("로그아웃")
+    class Logout {
+
+        @Test
+        @DisplayName("패밀리를 지정하면 그 패밀리만 LOGOUT 사유로 회수한다")
+        void revokesFamily() {
+            engine.revokeFamily("F1");
+
+            verify(refreshTokenRepository).revokeFamily("F1", "LOGOUT");
+            verify(refreshTokenRepository, never()).revokeAllByUserId(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("사용자의 모든 토큰을 LOGOUT 사유로 회수한다")
+        void revokesAllUserTokens() {
+            engine.revokeAll("U1");
+
+            verify(refreshTokenRepository).revokeAllByUserId("U1", "LOGOUT");
+        }
+    }
+
+    private void givenOutcome(RotationOutcome outcome, String tokenFamily) {
+        given(refreshTokenRepository.rotate(any())).willAnswer(invocation -> {
+            RefreshTokenRotation rotation = invocation.getArgument(0);
+            rotation.setOutcome(outcome.name());
+            rotation.setTokenFamily(tokenFamily);
+            rotation.setUserId("U1");
+            rotation.setTenantId("T1");
+            return outcome;
+        });
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package lotecs.auth.infrastructure.security;
+
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.config.RevocationFeedProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RevocationFeed 단위 테스트")
+class RevocationFeedTest {
+
+    private static final String DIGEST_A = "0123456789abcdef0123456789abcdef";
+    private static final String DIGEST_B = "fedcba9876543210fedcba9876543210";
+
+    private MutableClock clock;
+    private RevocationFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        RevocationFeedProperties properties = new RevocationFeedProperties();
+        properties.setRetention(Duration.ofSeconds(300));
+        properties.setReplaySlack(Duration.ofSeconds(5));
+        properties.setSubscriberQueueCapacity(3);
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        feed = new RevocationFeed(properties, clock);
+    }
+
+    @Nested
+    @DisplayName("구독")
+    class Subscribe {
+
+        @Test
+        @DisplayName("최초 구독은 기존 폐기 목록을 담은 snapshot을 받고, 이후 변경분을 즉시 받는다")
+        void sendsSnapshotThenDeltas() {
+            feed.record(DIGEST_A);
+            TestSink sink = new TestSink();
+
+            feed.subscribe(0, sink);
+            clock.advance(Duration.ofMillis(10));
+            feed.record(DIGEST_B);
+
+            List<RevocationFeed.RevocationBatch> received = sink.received;
+            assertThat(received).hasSize(2);
+            assertThat(received.get(0).snapshot().mightContain(DIGEST_A)).isTrue();
+            assertThat(received.get(1).tokenDigests()).containsExactly(DIGEST_B);
+            assertThat(received.get(1).version()).isGreaterThan(received.get(0).version());
+        }
+
+        @Test
+        @DisplayName("재접속하면 since_version 이후 변경분을 다시 보낸다")
+        void replaysSinceVersion() {
+            TestSink firstSink = new TestSink();
+            feed.subscribe(0, firstSink).cancel();
+            List<RevocationFeed.RevocationBatch> first = firstSink.received;
+            long since = first.get(0).version();
+
+            clock.advance(Duration.ofSeconds(10));
+            feed.record(DIGEST_A);
+            TestSink resumedSink = new TestSink();
+            feed.subscribe(since, resumedSink);
+            List<RevocationFeed.RevocationBatch> resumed = resumedSink.received;
+
+            assertThat(first).hasSize(1);
+            assertThat(resumed).hasSize(1);
+            assertThat(resumed.get(0).snapshot()).isNull();
+            assertThat(resumed.get(0).tokenDigests()).containsExactly(DIGEST_A);
+        }
+
+        @Test
+        @DisplayName("retention보다 오래 끊긴 구독자는 snapshot을 받고, 만료된 기록은 빠진다")
+        void sendsSnapshotWhenTooOld() {
+            feed.record(DIGEST_A);
+            long since = clock.millis();
+            clock.advance(Duration.ofSeconds(301));
+            feed.record(DIGEST_B);
+
+            TestSink sink = new TestSink();
+            feed.subscribe(since, sink);
+
+            RevocationBloomFilter snapshot = sink.received.get(0).snapshot();
+            assertThat(snapshot).isNotNull();
+            assertThat(snapshot.mightContain(DIGEST_B)).isTrue();
+            assertThat(snapshot.mightContain(DIGEST_A)).isFalse();
+        }
+
+        @Test
+        @DisplayName("발급 직후 폐기된 토큰은 만료 직전까지 snapshot에 남는다")
+        void keepsRevocationUntilTokenExpiry() {
+            Duration accessTokenValidity = Duration.ofSeconds(900);
+            RevocationFeedProperties properties = new RevocationFeedProperties();
+            properties.setRetention(accessTokenValidity);
+            RevocationFeed tokenLifetimeFeed = new RevocationFeed(properties, clock);
+            Instant expiresAt = clock.instant().plus(accessTokenValidity);
+
+            tokenLifetimeFeed.record(DIGEST_A);
+            clock.advance(Duration.between(clock.instant(), expiresAt).minusSeconds(1));
+            TestSink sink = new TestSink();
+            tokenLifetimeFeed.subscribe(0, sink);
+
+            assertThat(sink.received.get(0).snapshot().mightContain(DIGEST_A)).isTrue();
+        }
+
+        @Test
+        @DisplayName("기본 보관 기간은 Access Token 유효 시간(900초) 이상이다")
+        void defaultRetentionCoversAccessTokenLifetime() {
+            assertThat(new RevocationFeedProperties().getRetention()).isGreaterThanOrEqualTo(Duration.ofSeconds(900));
+        }
+
+        @Test
+        @DisplayName("전송에 실패한 구독자는 해지된다")
+        void removesFailingSubscriber() {
+            TestSink sink = new TestSink();
+            sink.failOnDelta = true;
+            feed.subscribe(0, sink);
+
+            feed.record(DIGEST_A);
+            feed.record(DIGEST_B);
+
+            assertThat(sink.received).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("다른 노드의 TokenRevoked 이벤트도 구독자에게 전달한다")
+        void relaysRemoteRevocation() {
+            TestSink sink = new TestSink();
+            feed.subscribe(0, sink);
+
+            feed.onInvalidation(new CacheInvalidationEvent.TokenRevoked("T1", DIGEST_A));
+
+            assertThat(sink.received).last()
+                    .extracting(RevocationFeed.RevocationBatch::tokenDigests)
+                    .isEqualTo(List.of(DIGEST_A));
+        }
+    }
+
+    @Nested
+    @DisplayName("흐름 제어")
+    class Backpressure {
+
+        @Test
+        @DisplayName("구독자가 받을 수 없으면 대기열에 두었다가 drain(onReady) 시 순서대로 보낸다")
+        void queuesUntilReady() {
+            TestSink sink = new TestSink();
+            RevocationFeed.Subscription subscription = feed.subscribe(0, sink);
+            sink.ready = false;
+
+            feed.record(DIGEST_A);
+            feed.record(DIGEST_B);
+            assertThat(sink.received).hasSize(1);
+
+            sink.ready = true;
+            subscription.drain();
+
+            assertThat(sink.received).hasSize(3);
+            assertThat(sink.received.get(1).tokenDigests()).containsExactly(DIGEST_A);
+            assertThat(sink.received.get(2).tokenDigests()).containsExactly(DIGEST_B);
+        }
+
+        @Test
+        @DisplayName("대기열이 넘치면 그 구독자만 끊고, 다른 구독자는 계속 받는다")
+        void closesOverflowingSubscriber() {
+            TestSink slow = new TestSink();
+            TestSink fast = new TestSink();
+            feed.subscribe(0, slow);
+            feed.subscribe(0, fast);
+            slow.ready = false;
+
+            IntStream.range(0, 4).forEach(i -> feed.record(digest(i)));
+            feed.record(DIGEST_A);
+
+            assertThat(slow.closedReason).isNotNull();
+            assertThat(slow.received).hasSize(1);
+            assertThat(fast.closedReason).isNull();
+            assertThat(fast.received).hasSize(6);
+        }
+
+        @Test
+        @DisplayName("snapshot은 밀린 변경분을 대체하므로 대기열을 비우고 들어간다")
+        void snapshotReplacesQueuedDeltas() {
+            TestSink sink = new TestSink();
+            RevocationFeed.Subscription subscription = feed.subscribe(0, sink);
+            sink.ready = false;
+
+            feed.record(DIGEST_A);
+            feed.record(DIGEST_B);
+            feed.publishSnapshot();
+            sink.ready = true;
+            subscription.drain();
+
+            assertThat(sink.closedReason).isNull();
+            assertThat(sink.received).hasSize(2);
+            RevocationBloomFilter snapshot = sink.received.get(1).snapshot();
+            assertThat(snapshot.mightContain(DIGEST_A)).isTrue();
+            assertThat(snapshot.mightContain(DIGEST_B)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("재시작 복원")
+    class Seed {
+
+        @Test
+        @DisplayName("Redis에서 복원한 폐기 기록은 snapshot에 포함되고, retention이 지나면 빠진다")
+        void seededRevocationsAppearInSnapshot() {
+            feed.seed(Map.of(DIGEST_A, Duration.ofSeconds(100), DIGEST_B, Duration.ofSeconds(100)));
+
+            TestSink sink = new TestSink();
+            feed.subscribe(0, sink);
+            clock.advance(Duration.ofSeconds(201));
+            TestSink later = new TestSink();
+            feed.subscribe(0, later);
+
+            RevocationBloomFilter snapshot = sink.received.get(0).snapshot();
+            assertThat(snapshot.mightContain(DIGEST_A)).isTrue();
+            assertThat(snapshot.mightContain(DIGEST_B)).isTrue();
+            assertThat(later.received.get(0).snapshot().mightContain(DIGEST_A)).isFalse();
+        }
+
+        @Test
+        @DisplayName("복원한 기록도 재접속 구독자에게 since_version 이후 변경분으로 다시 보낸다")
+        void seededRevocationsAreReplayed() {
+            long since = clock.millis() - Duration.ofSeconds(30).toMillis();
+            feed.seed(Map.of(DIGEST_A, Duration.ofSeconds(10)));
+
+            TestSink sink = new TestSink();
+            feed.subscribe(since, sink);
+
+            assertThat(sink.received.get(0).tokenDigests()).containsExactly(DIGEST_A);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bloom filter snapshot")
+    class Snapshot {
+
+        @Test
+        @DisplayName("넣은 digest는 모두 포함하고 오탐률은 목표 근처다")
+        void falsePositiveRate() {
+            List<String> revoked = IntStream.range(0, 1000).mapToObj(RevocationFeedTest::digest).toList();
+            RevocationBloomFilter filter = RevocationBloomFilter.of(revoked, 0.01);
+
+            assertThat(revoked).allMatch(filter::mightContain);
+            long falsePositives = IntStream.range(1000, 11000)
+                    .mapToObj(RevocationFeedTest::digest)
+                    .filter(filter::mightContain)
+                    .count();
+            assertThat(falsePositives).isLessThan(300);
+        }
+    }
+
+    private static String digest(int i) {
+        long h1 = i * 0x9E3779B97F4A7C15L;
+        long h2 = Long.rotateLeft(h1, 31) * 0xC2B2AE3D27D4EB4FL;
+        return String.format("%016x%016x", h1, h2);
+    }
+
+    private static final class TestSink implements RevocationFeed.Sink {
+
+        private final List<RevocationFeed.RevocationBatch> received = new ArrayList<>();
+        private volatile boolean ready = true;
+        private boolean failOnDelta;
+        private String closedReason;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void send(RevocationFeed.RevocationBatch batch) {
+            received.add(batch);
+            if (failOnDelta && batch.snapshot() == null) {
+                throw new IllegalStateException("cancelled");
+            }
+        }
+
+        @Override
+        public void close(String reason) {
+            closedReason = reason;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
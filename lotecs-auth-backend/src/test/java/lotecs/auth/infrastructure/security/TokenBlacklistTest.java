@@ -0,0 +1,221 @@
+package lotecs.auth.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.config.TokenBlacklistProperties;
+import lotecs.auth.infrastructure.config.TokenBlacklistProperties.FailurePolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenBlacklist 단위 테스트")
+class TokenBlacklistTest {
+
+    private static final String DIGEST = "0123456789abcdef0123456789abcdef";
+    private static final String KEY = "lotecs:auth:revoked:" + DIGEST;
+    private static final String ACCESS_TOKEN = "access-token";
+    private static final String SHARED_KEY = "lotecs:jwt:blacklist:" + ACCESS_TOKEN;
+
+    @Mock
+    private ReactiveStringRedisTemplate redisTemplate;
+
+    @Mock
+    private ReactiveValueOperations<String, String> valueOperations;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private TokenBlacklistProperties properties;
+    private TokenBlacklist blacklist;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TokenBlacklistProperties();
+        properties.setFailureThreshold(2);
+        properties.setOpenDuration(Duration.ofSeconds(10));
+        properties.setRedisTimeout(Duration.ofSeconds(1));
+        properties.setTenantPolicies(Map.of("STRICT", FailurePolicy.FAIL_CLOSED));
+        blacklist = new TokenBlacklist(redisTemplate, properties, new SimpleMeterRegistry(), nanoTime::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blacklist.shutdown();
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class IsRevoked {
+
+        @Test
+        @DisplayName("로컬 shadow에 있으면 Redis를 조회하지 않는다")
+        void shadowHit() {
+            blacklist.onInvalidation(new CacheInvalidationEvent.TokenRevoked("T1", DIGEST));
+
+            assertThat(blacklist.isRevoked("T1", DIGEST)).isTrue();
+            verify(redisTemplate, never()).hasKey(anyString());
+        }
+
+        @Test
+        @DisplayName("shadow에 없으면 Redis 결과를 따른다")
+        void redisLookup() {
+            given(redisTemplate.hasKey(KEY)).willReturn(Mono.just(true));
+
+            assertThat(blacklist.isRevoked("T1", DIGEST)).isTrue();
+            assertThat(blacklist.isRevoked("T1", DIGEST)).isTrue();
+            verify(redisTemplate, times(1)).hasKey(KEY);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 기본 정책(FAIL_OPEN)은 허용하고, FAIL_CLOSED 테넌트는 거절한다")
+        void appliesTenantPolicy() {
+            given(redisTemplate.hasKey(KEY)).willReturn(Mono.error(new RedisConnectionFailureException("down")));
+
+            assertThat(blacklist.isRevoked("T1", DIGEST)).isFalse();
+            assertThat(blacklist.isRevoked("STRICT", DIGEST)).isTrue();
+        }
+
+        @Test
+        @DisplayName("연속 실패가 임계값에 도달하면 openDuration 동안 Redis를 호출하지 않는다")
+        void opensCircuit() {
+            given(redisTemplate.hasKey(KEY)).willReturn(Mono.error(new RedisConnectionFailureException("down")));
+
+            blacklist.isRevoked("T1", DIGEST);
+            blacklist.isRevoked("T1", DIGEST);
+            blacklist.isRevoked("T1", DIGEST);
+            verify(redisTemplate, times(2)).hasKey(KEY);
+
+            nanoTime.addAndGet(Duration.ofSeconds(11).toNanos());
+            blacklist.isRevoked("T1", DIGEST);
+            verify(redisTemplate, times(3)).hasKey(KEY);
+        }
+
+        @Test
+        @DisplayName("maxInFlight 초과는 해당 호출에만 정책을 적용하고 서킷을 열지 않는다")
+        void saturationDoesNotOpenCircuit() {
+            properties.setMaxInFlight(0);
+            SimpleMeterRegistry saturatedRegistry = new SimpleMeterRegistry();
+            TokenBlacklist saturated = new TokenBlacklist(redisTemplate, properties, saturatedRegistry, nanoTime::get);
+
+            for (int i = 0; i < 10; i++) {
+                assertThat(saturated.isRevoked("T1", DIGEST)).isFalse();
+                assertThat(saturated.isRevoked("STRICT", DIGEST)).isTrue();
+            }
+
+            verify(redisTemplate, never()).hasKey(anyString());
+            assertThat(saturatedRegistry.get(TokenBlacklist.METRIC_PREFIX + ".circuit.open").gauge().value()).isZero();
+            assertThat(saturatedRegistry.get(TokenBlacklist.METRIC_PREFIX + ".saturated").counter().count())
+                    .isEqualTo(20);
+            saturated.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("폐기 기록")
+    class Revoke {
+
+        @Test
+        @DisplayName("Redis 기록에 실패한 폐기는 shadow로 거절하고, 복구 후 다시 기록한다")
+        void reconcilesAfterRecovery() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.set(eq(KEY), eq("1"), any(Duration.class)))
+                    .willReturn(Mono.error(new RedisConnectionFailureException("down")))
+                    .willReturn(Mono.just(true));
+            given(valueOperations.set(eq(SHARED_KEY), eq("1"), any(Duration.class)))
+                    .willReturn(Mono.error(new RedisConnectionFailureException("down")))
+                    .willReturn(Mono.just(true));
+
+            blacklist.revoke(DIGEST, ACCESS_TOKEN);
+            assertThat(blacklist.isRevoked("T1", DIGEST)).isTrue();
+
+            blacklist.reconcile();
+
+            verify(valueOperations, times(2)).set(eq(KEY), eq("1"), any(Duration.class));
+            verify(valueOperations, times(2)).set(eq(SHARED_KEY), eq("1"), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("Redis 기록에 성공하면 재기록하지 않는다")
+        void writesOnce() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.set(anyString(), eq("1"), any(Duration.class))).willReturn(Mono.just(true));
+
+            blacklist.revoke(DIGEST, ACCESS_TOKEN);
+            blacklist.reconcile();
+
+            verify(valueOperations, times(1)).set(eq(KEY), eq("1"), any(Duration.class));
+            verify(valueOperations, times(1)).set(eq(SHARED_KEY), eq("1"), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("다른 서비스가 읽는 lotecs-jwt 블랙리스트 키(접두사 + Access Token)에 Access Token 유효 시간만큼 기록한다")
+        void writesSharedKey() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.set(anyString(), eq("1"), any(Duration.class))).willReturn(Mono.just(true));
+
+            blacklist.revoke(DIGEST, ACCESS_TOKEN);
+
+            verify(valueOperations).set(SHARED_KEY, "1", properties.getTtl());
+        }
+
+        @Test
+        @DisplayName("공유 키 접두사를 비우면 digest 키만 기록한다")
+        void sharedKeyDisabled() {
+            properties.setSharedKeyPrefix("");
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.set(eq(KEY), eq("1"), any(Duration.class))).willReturn(Mono.just(true));
+
+            blacklist.revoke(DIGEST, ACCESS_TOKEN);
+
+            verify(valueOperations, times(1)).set(anyString(), eq("1"), any(Duration.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("폐기 목록 조회")
+    class LoadRevoked {
+
+        @Test
+        @DisplayName("SCAN한 폐기 키의 digest와 폐기 후 경과 시간(ttl - 남은 TTL)을 돌려준다")
+        void loadsDigestsWithElapsed() {
+            given(redisTemplate.scan(any(ScanOptions.class))).willReturn(Flux.just(KEY));
+            given(redisTemplate.getExpire(KEY)).willReturn(Mono.just(Duration.ofSeconds(600)));
+
+            Map<String, Duration> revoked = blacklist.loadRevoked(Duration.ofSeconds(1));
+
+            assertThat(revoked).containsExactly(Map.entry(DIGEST, Duration.ofSeconds(300)));
+        }
+
+        @Test
+        @DisplayName("Redis를 조회할 수 없으면 null을 돌려준다")
+        void returnsNullOnFailure() {
+            given(redisTemplate.scan(any(ScanOptions.class)))
+                    .willReturn(Flux.error(new RedisConnectionFailureException("down")));
+
+            assertThat(blacklist.loadRevoked(Duration.ofSeconds(1))).isNull();
+        }
+    }
+}
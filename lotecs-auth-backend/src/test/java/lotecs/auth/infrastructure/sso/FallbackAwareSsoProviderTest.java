@@ -1,5 +1,6 @@
 package lotecs.auth.infrastructure.sso;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lotecs.auth.domain.sso.SsoAuthRequest;
 import lotecs.auth.domain.sso.SsoAuthResult;
 import lotecs.auth.domain.sso.SsoProvider;
@@ -13,6 +14,12 @@ import lotecs.auth.domain.user.model.ProfileSource;
 import lotecs.auth.domain.user.model.UserProfile;
 import lotecs.auth.domain.user.repository.UserProfileRepository;
 import lotecs.auth.domain.user.repository.UserRepository;
+import lotecs.auth.infrastructure.cache.OfflineCredentialCache;
+import lotecs.auth.infrastructure.config.OfflineCredentialProperties;
+import lotecs.auth.infrastructure.config.PasswordEncodingProperties;
+import lotecs.auth.infrastructure.config.PasswordHashingProperties;
+import lotecs.auth.infrastructure.security.PasswordHashingExecutor;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -404,6 +411,91 @@ class FallbackAwareSsoProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("오프라인 검증자 캐시")
+    class OfflineCredential {
+
+        private OfflineCredentialCache offlineCredentialCache;
+        private PasswordHashingExecutor hashingExecutor;
+
+        @BeforeEach
+        void setUp() {
+            OfflineCredentialProperties properties = new OfflineCredentialProperties();
+            properties.setEnabled(true);
+            PasswordEncodingProperties encodingProperties = new PasswordEncodingProperties();
+            encodingProperties.getArgon2().setMemory(1024);
+            encodingProperties.getArgon2().setIterations(1);
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            hashingExecutor = new PasswordHashingExecutor(passwordEncoder, new PasswordHashingProperties(), meterRegistry);
+            offlineCredentialCache = new OfflineCredentialCache(properties, encodingProperties, hashingExecutor);
+
+            fallbackProvider = new FallbackAwareSsoProvider(
+                    delegateProvider,
+                    ssoConfig,
+                    userRepository,
+                    userProfileRepository,
+                    passwordEncoder,
+                    offlineCredentialCache
+            );
+        }
+
+        @AfterEach
+        void tearDown() {
+            hashingExecutor.shutdown();
+        }
+
+        @Test
+        @DisplayName("SSO 로그인 성공 후 폴백 시 DB 조회와 비밀번호 해시 비교 없이 인증한다")
+        void shouldAuthenticateFromOfflineCredential() {
+            // given
+            SsoAuthRequest request = createAuthRequest();
+            when(delegateProvider.authenticate(request))
+                    .thenReturn(SsoAuthResult.success("user123", "홍길동", "test@example.com", "홍길동",
+                            Collections.emptyList(), Map.of("userType", "학생")))
+                    .thenThrow(SsoConnectionException.timeout("Connection timeout", new RuntimeException()));
+            fallbackProvider.authenticate(request);
+
+            // when
+            SsoAuthResult result = fallbackProvider.authenticate(request);
+
+            // then
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getUsername()).isEqualTo("testuser");
+            assertThat(result.getAdditionalData())
+                    .containsEntry("userType", "학생")
+                    .containsEntry("_fallback", true)
+                    .containsEntry("_fallbackSource", "OFFLINE_CREDENTIAL");
+            verify(userRepository, never()).findByUsernameAndTenantId(anyString(), anyString());
+            verify(passwordEncoder, never()).matches(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("비밀번호가 다르거나 SSO가 자격증명을 거부했으면 DB 검증으로 진행한다")
+        void shouldFallThroughToDatabase() {
+            // given
+            SsoAuthRequest request = createAuthRequest();
+            SsoAuthRequest wrongPassword = createAuthRequest();
+            wrongPassword.setPassword("wrong-password");
+            when(delegateProvider.authenticate(any()))
+                    .thenReturn(SsoAuthResult.success("user123", "홍길동", null, "홍길동", null, null))
+                    .thenThrow(SsoConnectionException.timeout("Connection timeout", new RuntimeException()))
+                    .thenReturn(SsoAuthResult.failure("INVALID_CREDENTIALS", "비밀번호 불일치"))
+                    .thenThrow(SsoConnectionException.timeout("Connection timeout", new RuntimeException()));
+            when(userRepository.findByUsernameAndTenantId("testuser", "test-tenant")).thenReturn(Optional.empty());
+            fallbackProvider.authenticate(request);
+
+            // when
+            SsoAuthResult mismatch = fallbackProvider.authenticate(wrongPassword);
+            fallbackProvider.authenticate(request);
+            SsoAuthResult afterRejection = fallbackProvider.authenticate(request);
+
+            // then
+            assertThat(mismatch.getErrorCode()).isEqualTo("FALLBACK_USER_NOT_FOUND");
+            assertThat(afterRejection.getErrorCode()).isEqualTo("FALLBACK_USER_NOT_FOUND");
+            verify(userRepository, times(2)).findByUsernameAndTenantId("testuser", "test-tenant");
+        }
+    }
+
     @Nested
     @DisplayName("SsoProvider 인터페이스 위임")
     class ProviderDelegation {
@@ -0,0 +1,118 @@
+package lotecs.auth.infrastructure.sso;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotecs.auth.domain.sso.SsoAuthRequest;
+import lotecs.auth.domain.sso.SsoAuthResult;
+import lotecs.auth.domain.sso.SsoType;
+import lotecs.auth.domain.sso.model.TenantSsoConfig;
+import lotecs.auth.domain.sso.repository.TenantSsoConfigRepository;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
+import lotecs.auth.infrastructure.config.SsoConfigCacheProperties;
+import lotecs.auth.infrastructure.config.SsoHttpProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("HttpFormSsoProvider 단위 테스트")
+class HttpFormSsoProviderTest {
+
+    private HttpServer server;
+    private SsoHttpTransport transport;
+    private HttpFormSsoProvider provider;
+
+    private final AtomicReference<String> confirmResponse = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/confirm", exchange -> respond(exchange, confirmResponse.get()));
+        server.start();
+
+        transport = new SsoHttpTransport(new SsoHttpProperties(), new SimpleMeterRegistry());
+        TenantSsoConfigCache configCache = new TenantSsoConfigCache(
+                mock(TenantSsoConfigRepository.class), new SsoConfigCacheProperties());
+        provider = new HttpFormSsoProvider(configCache, transport, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.shutdown();
+        server.stop(0);
+    }
+
+    @Nested
+    @DisplayName("JSON 응답")
+    class JsonResponse {
+
+        @Test
+        @DisplayName("userInfo에는 다시 직렬화하지 않은 원본 응답을 그대로 담는다")
+        void keepsRawResponseAsUserInfo() {
+            String body = "{ \"result\": \"Y\", \"userName\": \"홍길동\", \"gpa\": 4.50, \"department\": \"CS\" }";
+            confirmResponse.set(body);
+
+            SsoAuthResult result = provider.authenticate(request());
+
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getAdditionalData())
+                    .containsEntry("userInfo", body)
+                    .containsEntry("department", "CS");
+        }
+
+        @Test
+        @DisplayName("실패 응답이면 message를 오류 메시지로 돌려준다")
+        void failure() {
+            confirmResponse.set("{\"result\":\"N\",\"message\":\"비밀번호 오류\"}");
+
+            SsoAuthResult result = provider.authenticate(request());
+
+            assertThat(result.isSuccess()).isFalse();
+            assertThat(result.getErrorCode()).isEqualTo("LOGIN_FAILED");
+            assertThat(result.getErrorMessage()).isEqualTo("비밀번호 오류");
+        }
+    }
+
+    @Test
+    @DisplayName("텍스트 Y 응답은 성공으로 본다")
+    void textResponse() {
+        confirmResponse.set("  Y\n");
+
+        assertThat(provider.authenticate(request()).isSuccess()).isTrue();
+    }
+
+    private SsoAuthRequest request() {
+        TenantSsoConfig config = TenantSsoConfig.builder()
+                .tenantId("tenant-001")
+                .ssoType(SsoType.HTTP_FORM)
+                .ssoEnabled(true)
+                .ssoServerUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+        return SsoAuthRequest.builder()
+                .tenantId("tenant-001")
+                .username("user01")
+                .password("password")
+                .ssoConfig(config)
+                .build();
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
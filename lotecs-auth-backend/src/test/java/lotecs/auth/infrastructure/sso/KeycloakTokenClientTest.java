@@ -0,0 +1,169 @@
+package lotecs.auth.infrastructure.sso;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import lotecs.auth.domain.sso.exception.SsoConnectionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KeycloakTokenClient 단위 테스트 (로컬 스텁 OIDC 서버 사용)
+ */
+@DisplayName("KeycloakTokenClient 단위 테스트")
+class KeycloakTokenClientTest {
+
+    private static final String REALM = "lotecs";
+    private static final String KID = "test-key";
+
+    private HttpServer server;
+    private String serverUrl;
+    private KeyPair signingKey;
+    private volatile String tokenResponse;
+    private volatile int tokenStatus;
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        signingKey = generator.generateKeyPair();
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/realms/" + REALM + "/protocol/openid-connect/token",
+                exchange -> respond(exchange, tokenStatus, tokenResponse));
+        server.createContext("/realms/" + REALM + "/protocol/openid-connect/certs", exchange -> {
+            jwksRequests.incrementAndGet();
+            respond(exchange, 200, jwks((RSAPublicKey) signingKey.getPublic()));
+        });
+        server.start();
+        serverUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("발급된 access token을 JWKS로 검증하고 claims를 반환한다")
+    void obtainVerifiedClaims_success() {
+        givenToken(signedToken(signingKey, serverUrl + "/realms/" + REALM));
+        KeycloakTokenClient client = newClient();
+
+        Claims first = client.obtainVerifiedClaims("hong", "secret");
+        Claims second = client.obtainVerifiedClaims("hong", "secret");
+
+        assertThat(first.getSubject()).isEqualTo("user-1");
+        assertThat(first.get("preferred_username", String.class)).isEqualTo("hong");
+        assertThat(second.getSubject()).isEqualTo("user-1");
+        assertThat(jwksRequests).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("자격 증명이 거부되면 InvalidGrantException이 발생한다")
+    void obtainVerifiedClaims_invalidGrant() {
+        tokenStatus = 401;
+        tokenResponse = "{\"error\":\"invalid_grant\",\"error_description\":\"Invalid user credentials\"}";
+
+        assertThatThrownBy(() -> newClient().obtainVerifiedClaims("hong", "wrong"))
+                .isInstanceOf(KeycloakTokenClient.InvalidGrantException.class)
+                .hasMessage("Invalid user credentials");
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 검증에 실패한다")
+    void obtainVerifiedClaims_badSignature() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair otherKey = generator.generateKeyPair();
+        givenToken(signedToken(otherKey, serverUrl + "/realms/" + REALM));
+
+        assertThatThrownBy(() -> newClient().obtainVerifiedClaims("hong", "secret"))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Keycloak 서버 오류는 SsoConnectionException으로 변환된다")
+    void obtainVerifiedClaims_serverError() {
+        tokenStatus = 503;
+        tokenResponse = "";
+
+        assertThatThrownBy(() -> newClient().obtainVerifiedClaims("hong", "secret"))
+                .isInstanceOf(SsoConnectionException.class);
+    }
+
+    private KeycloakTokenClient newClient() {
+        return new KeycloakTokenClient(HttpClient.newHttpClient(), serverUrl, REALM, "auth-client", "client-secret",
+                Duration.ofSeconds(2), Duration.ofSeconds(30), Duration.ofSeconds(30));
+    }
+
+    private void givenToken(String accessToken) {
+        tokenStatus = 200;
+        tokenResponse = "{\"access_token\":\"" + accessToken + "\",\"token_type\":\"Bearer\"}";
+    }
+
+    private static String signedToken(KeyPair keyPair, String issuer) {
+        return Jwts.builder()
+                .header().keyId(KID).and()
+                .issuer(issuer)
+                .subject("user-1")
+                .claim("preferred_username", "hong")
+                .claim("realm_access", Map.of("roles", List.of("student")))
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+
+    private static String jwks(RSAPublicKey publicKey) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String n = encoder.encodeToString(unsigned(publicKey.getModulus().toByteArray()));
+        String e = encoder.encodeToString(unsigned(publicKey.getPublicExponent().toByteArray()));
+        return "{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"" + KID + "\",\"use\":\"sig\",\"alg\":\"RS256\",\"n\":\""
+                + n + "\",\"e\":\"" + e + "\"}]}";
+    }
+
+    private static byte[] unsigned(byte[] bytes) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } else {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package lotecs.auth.infrastructure.sso;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import lotecs.auth.domain.sso.SsoAuthRequest;
+import lotecs.auth.domain.sso.SsoAuthResult;
+import lotecs.auth.domain.sso.SsoType;
+import lotecs.auth.domain.sso.model.TenantSsoConfig;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
+import lotecs.auth.infrastructure.config.LdapSsoProperties;
+import org.apache.directory.ldap.client.api.LdapConnectionPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * LdapSsoProvider 단위 테스트 (인메모리 LDAP 서버 사용)
+ */
+@DisplayName("LdapSsoProvider 단위 테스트")
+class LdapSsoProviderTest {
+
+    private static final String BASE_DN = "dc=lotecs,dc=kr";
+
+    private InMemoryDirectoryServer server;
+    private LdapConnectionPoolRegistry poolRegistry;
+    private TenantSsoConfigCache ssoConfigCache;
+    private LdapSsoProvider provider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        InMemoryDirectoryServerConfig serverConfig = new InMemoryDirectoryServerConfig(BASE_DN);
+        serverConfig.addAdditionalBindCredentials("cn=admin," + BASE_DN, "admin");
+        serverConfig.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("default", 0));
+        serverConfig.setSchema(null);
+        server = new InMemoryDirectoryServer(serverConfig);
+        server.startListening();
+
+        server.add("dn: " + BASE_DN, "objectClass: domain", "dc: lotecs");
+        server.add("dn: ou=people," + BASE_DN, "objectClass: organizationalUnit", "ou: people");
+        server.add("dn: uid=hong,ou=people," + BASE_DN,
+                "objectClass: inetOrgPerson",
+                "uid: hong",
+                "cn: Hong Gildong",
+                "sn: Hong",
+                "mail: hong@lotecs.kr",
+                "userPassword: secret",
+                "memberOf: cn=professors,ou=groups," + BASE_DN,
+                "memberOf: cn=staff,ou=groups," + BASE_DN);
+
+        poolRegistry = new LdapConnectionPoolRegistry(new LdapSsoProperties());
+        ssoConfigCache = mock(TenantSsoConfigCache.class);
+        provider = new LdapSsoProvider(ssoConfigCache, poolRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        poolRegistry.shutdown();
+        server.shutDown(true);
+    }
+
+    @Test
+    @DisplayName("검색 한 번으로 사용자 속성과 그룹 매핑 역할을 반환한다")
+    void authenticate_success() {
+        givenConfig("\"group_role_mapping\":{\"professors\":\"PROFESSOR\"}");
+
+        SsoAuthResult result = provider.authenticate(request("hong", "secret"));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getExternalUserId()).isEqualTo("uid=hong,ou=people," + BASE_DN);
+        assertThat(result.getEmail()).isEqualTo("hong@lotecs.kr");
+        assertThat(result.getFullName()).isEqualTo("Hong Gildong");
+        assertThat(result.getRoles()).containsExactly("PROFESSOR");
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀린 뒤에도 풀의 커넥션으로 다음 인증이 성공한다")
+    void authenticate_invalidPasswordThenReuse() {
+        givenConfig(null);
+
+        SsoAuthResult failed = provider.authenticate(request("hong", "wrong"));
+        SsoAuthResult succeeded = provider.authenticate(request("hong", "secret"));
+
+        assertThat(failed.getErrorCode()).isEqualTo("INVALID_CREDENTIALS");
+        assertThat(succeeded.isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("그룹 매핑이 없으면 그룹을 역할로 부여하지 않는다")
+    void authenticate_noMappingGrantsNoGroupRoles() {
+        givenConfig(null);
+
+        SsoAuthResult result = provider.authenticate(request("hong", "secret"));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getRoles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("group_cn_as_role이면 매핑에 없는 그룹은 CN을 역할명으로 사용한다")
+    void authenticate_groupCnAsRole() {
+        givenConfig("\"group_cn_as_role\":true,\"group_role_mapping\":{\"professors\":\"PROFESSOR\"}");
+
+        SsoAuthResult result = provider.authenticate(request("hong", "secret"));
+
+        assertThat(result.getRoles()).containsExactly("PROFESSOR", "staff");
+    }
+
+    @Test
+    @DisplayName("설정이 바뀌어 풀이 교체되어도 대여 중인 커넥션이 반납될 때까지 이전 풀을 닫지 않는다")
+    void poolSwapWaitsForBorrowedConnections() throws Exception {
+        TenantSsoConfig before = config("", null);
+        TenantSsoConfig after = config("/", null);
+
+        LdapConnectionPoolRegistry.Lease lease = poolRegistry.borrow(before);
+        LdapConnectionPool replaced = lease.pool();
+
+        LdapConnectionPool current = poolRegistry.get(after);
+
+        assertThat(current).isNotSameAs(replaced);
+        assertThat(replaced.isClosed()).isFalse();
+        assertThat(lease.connection().isConnected()).isTrue();
+
+        poolRegistry.release(lease);
+
+        assertThat(replaced.isClosed()).isTrue();
+        assertThat(current.isClosed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대여 중인 커넥션이 없는 풀은 제거 즉시 닫고, 다음 대여는 새 풀에서 한다")
+    void idlePoolClosedOnEvict() throws Exception {
+        TenantSsoConfig config = config("", null);
+        LdapConnectionPool stale = poolRegistry.get(config);
+        poolRegistry.evict("tenant-1");
+        assertThat(stale.isClosed()).isTrue();
+
+        LdapConnectionPoolRegistry.Lease lease = poolRegistry.borrow(config);
+
+        assertThat(lease.pool()).isNotSameAs(stale);
+        assertThat(lease.connection().isConnected()).isTrue();
+        poolRegistry.release(lease);
+    }
+
+    @Test
+    @DisplayName("사용자명의 필터 특수문자는 이스케이프된다")
+    void authenticate_escapesFilterValue() {
+        givenConfig(null);
+
+        SsoAuthResult result = provider.authenticate(request("*", "secret"));
+
+        assertThat(result.getErrorCode()).isEqualTo("USER_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("설정된 검색 필터로 사용자를 찾는다")
+    void authenticate_customSearchFilter() {
+        givenConfig("\"user_search_filter\":\"(&(objectClass=inetOrgPerson)(mail={0}))\"");
+
+        SsoAuthResult result = provider.authenticate(request("hong@lotecs.kr", "secret"));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getExternalUserId()).isEqualTo("uid=hong,ou=people," + BASE_DN);
+    }
+
+    private void givenConfig(String extraJson) {
+        given(ssoConfigCache.resolve(any())).willReturn(Optional.of(config("", extraJson)));
+    }
+
+    private TenantSsoConfig config(String urlSuffix, String extraJson) {
+        String additionalConfig = "{\"ldap_url\":\"ldap://127.0.0.1:" + server.getListenPort() + urlSuffix + "\","
+                + "\"base_dn\":\"" + BASE_DN + "\","
+                + "\"bind_dn\":\"cn=admin," + BASE_DN + "\","
+                + "\"bind_password\":\"admin\""
+                + (extraJson != null ? "," + extraJson : "") + "}";
+        return TenantSsoConfig.builder()
+                .tenantId("tenant-1")
+                .ssoType(SsoType.LDAP)
+                .ssoEnabled(true)
+                .additionalConfig(additionalConfig)
+                .build();
+    }
+
+    private SsoAuthRequest request(String username, String password) {
+        return SsoAuthRequest.builder()
+                .tenantId("tenant-1")
+                .username(username)
+                .password(password)
+                .build();
+    }
+}
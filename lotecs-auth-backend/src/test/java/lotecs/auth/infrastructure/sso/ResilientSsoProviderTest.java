@@ -0,0 +1,128 @@
+package lotecs.auth.infrastructure.sso;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotecs.auth.domain.sso.SsoAuthRequest;
+import lotecs.auth.domain.sso.SsoAuthResult;
+import lotecs.auth.domain.sso.SsoProvider;
+import lotecs.auth.domain.sso.exception.SsoConnectionErrorType;
+import lotecs.auth.domain.sso.exception.SsoConnectionException;
+import lotecs.auth.infrastructure.config.SsoResilienceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResilientSsoProvider 단위 테스트")
+class ResilientSsoProviderTest {
+
+    private static final String TENANT_ID = "tenant-001";
+
+    @Mock
+    private SsoProvider delegate;
+
+    private final AtomicLong now = new AtomicLong();
+    private SsoCircuitBreaker circuitBreaker;
+    private ResilientSsoProvider provider;
+    private SsoAuthRequest request;
+
+    @BeforeEach
+    void setUp() {
+        SsoResilienceProperties properties = new SsoResilienceProperties();
+        properties.setSlidingWindowSize(4);
+        properties.setMinimumNumberOfCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setWaitDurationInOpenState(Duration.ofSeconds(30));
+        properties.setPermittedCallsInHalfOpenState(2);
+
+        circuitBreaker = new SsoCircuitBreaker("sso:" + TENANT_ID, properties, now::get);
+        provider = newProvider(new Semaphore(10));
+        request = SsoAuthRequest.builder().tenantId(TENANT_ID).username("user").password("pw").build();
+    }
+
+    @Nested
+    @DisplayName("서킷브레이커")
+    class CircuitBreakerTest {
+
+        @Test
+        @DisplayName("실패율이 임계치를 넘으면 OPEN되고 SSO를 호출하지 않는다")
+        void opensAndFailsFast() {
+            willThrow(SsoConnectionException.timeout("timeout")).given(delegate).authenticate(any());
+            for (int i = 0; i < 4; i++) {
+                assertThatThrownBy(() -> provider.authenticate(request)).isInstanceOf(SsoConnectionException.class);
+            }
+            assertThat(circuitBreaker.getState()).isEqualTo(SsoCircuitBreaker.State.OPEN);
+
+            assertThatThrownBy(() -> provider.authenticate(request))
+                    .isInstanceOfSatisfying(SsoConnectionException.class,
+                            e -> assertThat(e.getErrorType()).isEqualTo(SsoConnectionErrorType.CIRCUIT_OPEN));
+            verify(delegate, times(4)).authenticate(any());
+        }
+
+        @Test
+        @DisplayName("대기 시간이 지나면 HALF_OPEN에서 시험 호출 후 CLOSED로 돌아온다")
+        void halfOpenThenClose() {
+            willThrow(SsoConnectionException.networkError("down")).given(delegate).authenticate(any());
+            for (int i = 0; i < 4; i++) {
+                assertThatThrownBy(() -> provider.authenticate(request)).isInstanceOf(SsoConnectionException.class);
+            }
+
+            now.addAndGet(Duration.ofSeconds(31).toNanos());
+            willReturn(SsoAuthResult.failure("INVALID_CREDENTIALS", "bad")).given(delegate).authenticate(any());
+
+            provider.authenticate(request);
+            assertThat(circuitBreaker.getState()).isEqualTo(SsoCircuitBreaker.State.HALF_OPEN);
+            provider.authenticate(request);
+            assertThat(circuitBreaker.getState()).isEqualTo(SsoCircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN된다")
+        void halfOpenFailureReopens() {
+            willThrow(SsoConnectionException.serverError("503", 503)).given(delegate).authenticate(any());
+            for (int i = 0; i < 4; i++) {
+                assertThatThrownBy(() -> provider.authenticate(request)).isInstanceOf(SsoConnectionException.class);
+            }
+
+            now.addAndGet(Duration.ofSeconds(31).toNanos());
+            assertThatThrownBy(() -> provider.authenticate(request))
+                    .isInstanceOfSatisfying(SsoConnectionException.class,
+                            e -> assertThat(e.getErrorType()).isEqualTo(SsoConnectionErrorType.SERVER_ERROR));
+
+            assertThat(circuitBreaker.getState()).isEqualTo(SsoCircuitBreaker.State.OPEN);
+        }
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 SSO를 호출하지 않고 BULKHEAD_FULL을 던진다")
+    void bulkheadFull() {
+        provider = newProvider(new Semaphore(0));
+
+        assertThatThrownBy(() -> provider.authenticate(request))
+                .isInstanceOfSatisfying(SsoConnectionException.class,
+                        e -> assertThat(e.getErrorType()).isEqualTo(SsoConnectionErrorType.BULKHEAD_FULL));
+        verify(delegate, never()).authenticate(any());
+    }
+
+    private ResilientSsoProvider newProvider(Semaphore bulkhead) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new ResilientSsoProvider(delegate, TENANT_ID, circuitBreaker, bulkhead,
+                new SsoResilienceRegistry.Rejections(meterRegistry.counter("circuit_open"), meterRegistry.counter("bulkhead_full")));
+    }
+}
@@ -0,0 +1,148 @@
+package lotecs.auth.infrastructure.sso;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotecs.auth.domain.sso.SsoAuthRequest;
+import lotecs.auth.domain.sso.SsoAuthResult;
+import lotecs.auth.domain.sso.SsoType;
+import lotecs.auth.domain.sso.model.TenantSsoConfig;
+import lotecs.auth.domain.sso.repository.TenantSsoConfigRepository;
+import lotecs.auth.infrastructure.cache.SystemTokenCache;
+import lotecs.auth.infrastructure.cache.TenantSsoConfigCache;
+import lotecs.auth.infrastructure.config.SsoConfigCacheProperties;
+import lotecs.auth.infrastructure.config.SsoHttpProperties;
+import lotecs.auth.infrastructure.config.SystemTokenCacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("RestTokenSsoProvider 단위 테스트")
+class RestTokenSsoProviderTest {
+
+    private HttpServer server;
+    private SsoHttpTransport transport;
+    private SystemTokenCache systemTokenCache;
+    private RestTokenSsoProvider provider;
+
+    private final AtomicInteger issued = new AtomicInteger();
+    private final AtomicInteger verified = new AtomicInteger();
+    private final AtomicReference<VerifyResponse> verifyResponse = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/token", exchange -> {
+            String form = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (form.contains("state=create")) {
+                respond(exchange, 200, "{\"access_token\":\"system-" + issued.incrementAndGet() + "\",\"expires_in\":3600}");
+                return;
+            }
+            verified.incrementAndGet();
+            VerifyResponse response = verifyResponse.get();
+            if (response.wwwAuthenticate() != null) {
+                exchange.getResponseHeaders().add("WWW-Authenticate", response.wwwAuthenticate());
+            }
+            respond(exchange, response.status(), response.body());
+        });
+        server.start();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        transport = new SsoHttpTransport(new SsoHttpProperties(), new SimpleMeterRegistry());
+        systemTokenCache = new SystemTokenCache(new SystemTokenCacheProperties());
+        TenantSsoConfigCache configCache = new TenantSsoConfigCache(
+                mock(TenantSsoConfigRepository.class), new SsoConfigCacheProperties());
+        provider = new RestTokenSsoProvider(configCache, systemTokenCache, transport, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.shutdown();
+        systemTokenCache.shutdown();
+        server.stop(0);
+    }
+
+    @Nested
+    @DisplayName("사용자 검증 401 응답")
+    class Unauthorized {
+
+        @Test
+        @DisplayName("access_token 거부(WWW-Authenticate invalid_token)면 시스템 토큰을 재발급해 한 번 재시도한다")
+        void refreshesSystemTokenOnInvalidToken() {
+            verifyResponse.set(new VerifyResponse(401, "", "Bearer error=\"invalid_token\""));
+
+            SsoAuthResult result = provider.authenticate(request());
+
+            assertThat(result.isSuccess()).isFalse();
+            assertThat(result.getErrorCode()).isEqualTo("TOKEN_INVALID");
+            assertThat(issued).hasValue(2);
+            assertThat(verified).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("본문의 error 코드가 invalid_token이어도 access_token 거부로 본다")
+        void refreshesSystemTokenOnInvalidTokenBody() {
+            verifyResponse.set(new VerifyResponse(401, "{\"error\":\"invalid_token\"}", null));
+
+            SsoAuthResult result = provider.authenticate(request());
+
+            assertThat(result.getErrorCode()).isEqualTo("TOKEN_INVALID");
+            assertThat(issued).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("사용자 비밀번호 거부면 시스템 토큰을 유지하고 LOGIN_FAILED로 응답한다")
+        void keepsSystemTokenOnCredentialFailure() {
+            verifyResponse.set(new VerifyResponse(401, "{\"error\":\"invalid_password\"}", null));
+
+            SsoAuthResult first = provider.authenticate(request());
+            SsoAuthResult second = provider.authenticate(request());
+
+            assertThat(first.getErrorCode()).isEqualTo("LOGIN_FAILED");
+            assertThat(second.getErrorCode()).isEqualTo("LOGIN_FAILED");
+            assertThat(issued).hasValue(1);
+            assertThat(verified).hasValue(2);
+        }
+    }
+
+    private SsoAuthRequest request() {
+        TenantSsoConfig config = TenantSsoConfig.builder()
+                .tenantId("tenant-001")
+                .ssoType(SsoType.REST_TOKEN)
+                .ssoEnabled(true)
+                .ssoServerUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .ssoClientId("client")
+                .ssoClientSecret("secret")
+                .build();
+        return SsoAuthRequest.builder()
+                .tenantId("tenant-001")
+                .username("user01")
+                .password("wrong-password")
+                .ssoConfig(config)
+                .build();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private record VerifyResponse(int status, String body, String wwwAuthenticate) {
+    }
+}
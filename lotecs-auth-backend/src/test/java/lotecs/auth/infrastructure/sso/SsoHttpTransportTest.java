@@ -0,0 +1,100 @@
+package lotecs.auth.infrastructure.sso;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotecs.auth.domain.sso.model.TenantSsoConfig;
+import lotecs.auth.infrastructure.config.SsoHttpProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SsoHttpTransport 단위 테스트
+ */
+@DisplayName("SsoHttpTransport 단위 테스트")
+class SsoHttpTransportTest {
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private SsoHttpTransport transport;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "{\"result\":\"Y\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        transport = new SsoHttpTransport(new SsoHttpProperties(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("응답 본문 스트림을 handler에 넘기고 호스트별 메트릭을 기록한다")
+    void send_streamsBodyAndRecordsMetrics() throws Exception {
+        String body = transport.send(config(2_000), request("/ok"),
+                (status, in) -> status + ":" + new String(in.readAllBytes(), StandardCharsets.UTF_8));
+
+        assertThat(body).isEqualTo("200:{\"result\":\"Y\"}");
+        Timer timer = meterRegistry.find(SsoHttpTransport.METRIC_NAME)
+                .tag("host", "127.0.0.1")
+                .tag("outcome", "2xx")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("테넌트 readTimeoutMs를 응답 타임아웃으로 적용한다")
+    void send_appliesTenantReadTimeout() {
+        assertThatThrownBy(() -> transport.send(config(200), request("/slow"), (status, in) -> status))
+                .isInstanceOf(HttpTimeoutException.class);
+
+        assertThat(meterRegistry.find(SsoHttpTransport.METRIC_NAME).tag("outcome", "TIMEOUT").timer()).isNotNull();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path))
+                .GET();
+    }
+
+    private TenantSsoConfig config(int readTimeoutMs) {
+        return TenantSsoConfig.builder()
+                .tenantId("tenant-1")
+                .readTimeoutMs(readTimeoutMs)
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package lotecs.auth.infrastructure.sso;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotecs.auth.domain.sso.SsoProvider;
+import lotecs.auth.domain.sso.SsoType;
+import lotecs.auth.domain.sso.model.TenantSsoConfig;
+import lotecs.auth.domain.user.repository.UserProfileRepository;
+import lotecs.auth.domain.user.repository.UserRepository;
+import lotecs.auth.exception.sso.SsoTypeUnsupportedException;
+import lotecs.auth.infrastructure.cache.OfflineCredentialCache;
+import lotecs.auth.infrastructure.cache.invalidation.CacheInvalidationEvent;
+import lotecs.auth.infrastructure.config.OfflineCredentialProperties;
+import lotecs.auth.infrastructure.config.PasswordEncodingProperties;
+import lotecs.auth.infrastructure.config.PasswordHashingProperties;
+import lotecs.auth.infrastructure.config.SsoResilienceProperties;
+import lotecs.auth.infrastructure.security.PasswordHashingExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SsoProviderFactory 단위 테스트")
+class SsoProviderFactoryTest {
+
+    @Mock
+    private SsoProvider casProvider;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private SsoProviderFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingExecutor hashingExecutor =
+                new PasswordHashingExecutor(passwordEncoder, new PasswordHashingProperties(), meterRegistry);
+        factory = new SsoProviderFactory(
+                Map.of("cas", casProvider),
+                userRepository,
+                userProfileRepository,
+                hashingExecutor,
+                new SsoResilienceRegistry(new SsoResilienceProperties(), meterRegistry),
+                new OfflineCredentialCache(new OfflineCredentialProperties(), new PasswordEncodingProperties(), hashingExecutor),
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("같은 설정이면 조립된 체인을 재사용한다")
+    void getProviderWithFallback_reusesChain() {
+        SsoProvider first = factory.getProviderWithFallback(config(LocalDateTime.of(2026, 1, 1, 0, 0)));
+        SsoProvider second = factory.getProviderWithFallback(config(LocalDateTime.of(2026, 1, 1, 0, 0)));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).isInstanceOf(MeteredSsoProvider.class);
+    }
+
+    @Test
+    @DisplayName("설정이 바뀌거나 변경 이벤트를 받으면 체인을 다시 조립한다")
+    void getProviderWithFallback_rebuildsOnChange() {
+        SsoProvider first = factory.getProviderWithFallback(config(LocalDateTime.of(2026, 1, 1, 0, 0)));
+        SsoProvider updated = factory.getProviderWithFallback(config(LocalDateTime.of(2026, 1, 2, 0, 0)));
+
+        factory.onInvalidation(new CacheInvalidationEvent.SsoConfigChanged("tenant-001"));
+        SsoProvider afterEvent = factory.getProviderWithFallback(config(LocalDateTime.of(2026, 1, 2, 0, 0)));
+
+        assertThat(updated).isNotSameAs(first);
+        assertThat(afterEvent).isNotSameAs(updated);
+    }
+
+    @Test
+    @DisplayName("조립에 쓴 설정 인스턴스를 호출자가 수정해도 체인의 비교 기준은 바뀌지 않는다")
+    void getProviderWithFallback_keepsOwnCopy() {
+        TenantSsoConfig requested = config(LocalDateTime.of(2026, 1, 1, 0, 0));
+        SsoProvider first = factory.getProviderWithFallback(requested);
+
+        requested.setUpdatedAt(LocalDateTime.of(2026, 1, 2, 0, 0));
+        SsoProvider original = factory.getProviderWithFallback(config(LocalDateTime.of(2026, 1, 1, 0, 0)));
+
+        assertThat(original).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("INTERNAL 타입은 지원하지 않는다")
+    void getProvider_internal() {
+        assertThatThrownBy(() -> factory.getProvider(SsoType.INTERNAL))
+                .isInstanceOf(SsoTypeUnsupportedException.class);
+    }
+
+    private TenantSsoConfig config(LocalDateTime updatedAt) {
+        return TenantSsoConfig.builder()
+                .tenantId("tenant-001")
+                .ssoType(SsoType.CAS)
+                .ssoEnabled(true)
+                .fallbackEnabled(true)
+                .ssoServerUrl("https://cas.example.com")
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
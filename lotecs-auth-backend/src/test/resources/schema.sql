@@ -275,6 +275,103 @@ CREATE TABLE IF NOT EXISTS AUTH_USER_PROFILES (
 CREATE INDEX IF NOT EXISTS IDX_AUTH_USER_PROFILES_TENANT ON AUTH_USER_PROFILES(TENANT_ID);
 CREATE INDEX IF NOT EXISTS IDX_AUTH_USER_PROFILES_SOURCE ON AUTH_USER_PROFILES(SOURCE);
 
+-- 14. ATH_USERS 테이블 (MyBatis UserMapper 대상)
+CREATE TABLE IF NOT EXISTS ATH_USERS (
+    USER_ID VARCHAR2(36) NOT NULL,
+    TENANT_ID VARCHAR2(50) NOT NULL,
+    USERNAME VARCHAR2(100) NOT NULL,
+    PASSWORD VARCHAR2(255) NOT NULL,
+    EMAIL VARCHAR2(255) NOT NULL,
+    PHONE_NUMBER VARCHAR2(100),
+    FULL_NAME VARCHAR2(100),
+    STATUS VARCHAR2(20) DEFAULT 'ACTIVE' NOT NULL,
+    ACCOUNT_NON_LOCKED NUMBER(1) DEFAULT 1 NOT NULL,
+    CREDENTIALS_NON_EXPIRED NUMBER(1) DEFAULT 1 NOT NULL,
+    ENABLED NUMBER(1) DEFAULT 1 NOT NULL,
+    LAST_LOGIN_AT TIMESTAMP,
+    LAST_LOGIN_IP VARCHAR2(45),
+    FAILED_LOGIN_ATTEMPTS NUMBER(3) DEFAULT 0,
+    LOCKED_AT TIMESTAMP,
+    PASSWORD_CHANGED_AT TIMESTAMP,
+    CREATED_BY VARCHAR2(36),
+    CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_BY VARCHAR2(36),
+    UPDATED_AT TIMESTAMP,
+    DELETED_AT TIMESTAMP,
+    PRIMARY KEY (USER_ID)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS UK_ATH_USERS_TENANT_USERNAME ON ATH_USERS(TENANT_ID, USERNAME);
+
+-- 15. ATH_ROLES 테이블 (MyBatis RoleMapper 대상)
+CREATE TABLE IF NOT EXISTS ATH_ROLES (
+    ROLE_ID VARCHAR2(36) NOT NULL,
+    TENANT_ID VARCHAR2(50) NOT NULL,
+    ROLE_NAME VARCHAR2(50) NOT NULL,
+    DISPLAY_NAME VARCHAR2(100),
+    DESCRIPTION VARCHAR2(500),
+    PRIORITY NUMBER(3) NOT NULL,
+    CREATED_BY VARCHAR2(36),
+    CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_BY VARCHAR2(36),
+    UPDATED_AT TIMESTAMP,
+    DELETED_AT TIMESTAMP,
+    PRIMARY KEY (ROLE_ID)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS UK_ATH_ROLES_TENANT_NAME ON ATH_ROLES(TENANT_ID, ROLE_NAME);
+
+-- 16. ATH_USER_ROLES 테이블
+CREATE TABLE IF NOT EXISTS ATH_USER_ROLES (
+    USER_ID VARCHAR2(36) NOT NULL,
+    ROLE_ID VARCHAR2(36) NOT NULL,
+    TENANT_ID VARCHAR2(50) NOT NULL,
+    STATUS_CODE VARCHAR2(50) DEFAULT 'ACTIVE' NOT NULL,
+    STATUS_CHANGED_AT TIMESTAMP,
+    STATUS_CHANGED_BY VARCHAR2(36),
+    STATUS_REASON VARCHAR2(1000),
+    VALID_FROM TIMESTAMP,
+    VALID_UNTIL TIMESTAMP,
+    ASSIGNED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    ASSIGNED_BY VARCHAR2(36),
+    REVOKED_AT TIMESTAMP,
+    REVOKED_BY VARCHAR2(36),
+    PRIMARY KEY (USER_ID, ROLE_ID)
+);
+
+CREATE INDEX IF NOT EXISTS IDX_ATH_USER_ROLES_USER ON ATH_USER_ROLES(USER_ID);
+
+-- 17. ATH_PERMISSIONS 테이블 (MyBatis PermissionMapper 대상)
+CREATE TABLE IF NOT EXISTS ATH_PERMISSIONS (
+    PERMISSION_ID VARCHAR2(36) NOT NULL,
+    TENANT_ID VARCHAR2(50) NOT NULL,
+    PERMISSION_NAME VARCHAR2(100) NOT NULL,
+    RESOURCE_NAME VARCHAR2(50) NOT NULL,
+    ACTION VARCHAR2(50) NOT NULL,
+    DESCRIPTION VARCHAR2(500),
+    CREATED_BY VARCHAR2(36),
+    CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_BY VARCHAR2(36),
+    UPDATED_AT TIMESTAMP,
+    DELETED_AT TIMESTAMP,
+    PRIMARY KEY (PERMISSION_ID)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS UK_ATH_PERMISSIONS_RESOURCE_ACTION ON ATH_PERMISSIONS(TENANT_ID, RESOURCE_NAME, ACTION);
+CREATE UNIQUE INDEX IF NOT EXISTS UK_ATH_PERMISSIONS_TENANT_NAME ON ATH_PERMISSIONS(TENANT_ID, PERMISSION_NAME);
+
+-- 18. ATH_ROLE_PERMISSIONS 테이블
+CREATE TABLE IF NOT EXISTS ATH_ROLE_PERMISSIONS (
+    ROLE_ID VARCHAR2(36) NOT NULL,
+    PERMISSION_ID VARCHAR2(36) NOT NULL,
+    TENANT_ID VARCHAR2(50) NOT NULL,
+    GRANTED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    GRANTED_BY VARCHAR2(36),
+    PRIMARY KEY (ROLE_ID, PERMISSION_ID)
+);
+
+CREATE INDEX IF NOT EXISTS IDX_ATH_ROLE_PERMISSIONS_ROLE ON ATH_ROLE_PERMISSIONS(ROLE_ID);
+
 -- Sequence 생성
 CREATE SEQUENCE IF NOT EXISTS SEQ_AUTH_USERS START WITH 1 INCREMENT BY 1;
 CREATE SEQUENCE IF NOT EXISTS SEQ_AUTH_ROLES START WITH 1 INCREMENT BY 1;
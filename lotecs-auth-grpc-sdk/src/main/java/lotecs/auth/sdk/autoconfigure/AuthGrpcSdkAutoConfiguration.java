@@ -2,10 +2,16 @@ package lotecs.auth.sdk.autoconfigure;
 
 import lombok.extern.slf4j.Slf4j;
 import lotecs.auth.sdk.client.*;
+import lotecs.auth.sdk.verifier.LocalTokenVerifier;
+import lotecs.auth.sdk.verifier.RevocationChecker;
+import lotecs.auth.sdk.verifier.RevocationWatcher;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 
 @Slf4j
@@ -25,4 +31,24 @@ public class AuthGrpcSdkAutoConfiguration {
     public AuthGrpcSdkAutoConfiguration() {
         log.debug("AuthGrpcSdkAutoConfiguration loaded");
     }
+
+    @Bean
+    @ConditionalOnMissingBean(RevocationChecker.class)
+    @ConditionalOnProperty(prefix = "lotecs.auth.grpc.revocation-watch", name = "enabled", havingValue = "true")
+    public RevocationWatcher revocationWatcher(AuthGrpcSdkProperties properties) {
+        return new RevocationWatcher(properties.getRevocationWatch());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "lotecs.auth.grpc.local-verification", name = "enabled", havingValue = "true")
+    public LocalTokenVerifier localTokenVerifier(AuthGrpcSdkProperties properties,
+                                                 ObjectProvider<RevocationChecker> revocationChecker,
+                                                 AuthServiceClient authServiceClient) {
+        return new LocalTokenVerifier(
+                properties.getLocalVerification(),
+                revocationChecker.getIfAvailable(() -> RevocationChecker.NONE),
+                authServiceClient
+        );
+    }
 }
@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "lotecs.auth.grpc")
@@ -20,4 +22,68 @@ public class AuthGrpcSdkProperties {
     private boolean enableRetry = false;
 
     private int maxRetryAttempts = 3;
+
+    private LocalVerification localVerification = new LocalVerification();
+
+    private RevocationWatch revocationWatch = new RevocationWatch();
+
+    /**
+     * 인증 서버 호출 없이 JWKS 공개키로 토큰을 검증하는 {@code LocalTokenVerifier} 설정
+     */
+    @Getter
+    @Setter
+    public static class LocalVerification {
+
+        private boolean enabled = false;
+
+        /**
+         * 서명 공개키 JWKS 주소 (비대칭 서명 키만 사용 가능)
+         */
+        private String jwksUri;
+
+        private String issuer = "lotecs-platform";
+
+        private String audience = "lotecs-services";
+
+        private Duration clockSkew = Duration.ofSeconds(30);
+
+        /**
+         * JWKS 정기 재조회 간격
+         */
+        private Duration jwksRefreshInterval = Duration.ofMinutes(10);
+
+        /**
+         * 알 수 없는 kid 수신/조회 실패 시 JWKS 재조회 최소 간격
+         */
+        private Duration jwksMinRefreshInterval = Duration.ofSeconds(30);
+
+        private Duration jwksRequestTimeout = Duration.ofSeconds(3);
+
+        /**
+         * 폐기됐을 수 있는 토큰을 인증 서버 ValidateToken으로 재확인할지 여부
+         */
+        private boolean remoteFallback = true;
+    }
+
+    /**
+     * 인증 서버 WatchRevocations 스트림으로 폐기 토큰 목록을 받는 {@code RevocationWatcher} 설정
+     */
+    @Getter
+    @Setter
+    public static class RevocationWatch {
+
+        private boolean enabled = false;
+
+        /**
+         * 스트림 재접속 초기 대기 시간 (실패할 때마다 두 배, 최대 maxReconnectDelay)
+         */
+        private Duration reconnectDelay = Duration.ofSeconds(1);
+
+        private Duration maxReconnectDelay = Duration.ofSeconds(30);
+
+        /**
+         * 스트림이 이 시간 이상 끊겨 있으면 모든 토큰을 폐기됐을 수 있는 것으로 보고 원격 확인한다
+         */
+        private Duration maxStaleness = Duration.ofSeconds(30);
+    }
 }
@@ -137,6 +137,18 @@ public class AuthServiceClient {
         }
     }
 
+    public CheckPermissionsResponse checkPermissions(CheckPermissionsRequest request) {
+        try {
+            log.debug("gRPC checkPermissions request: userId={}, tenantId={}, mode={}",
+                    request.getUserId(), request.getTenantId(), request.getMode());
+            com.lotecs.auth.grpc.CheckPermissionsResponse response = authServiceStub.checkPermissions(request.toProto());
+            return CheckPermissionsResponse.fromProto(response);
+        } catch (StatusRuntimeException e) {
+            log.error("gRPC checkPermissions failed: {}", e.getStatus(), e);
+            throw AuthGrpcException.fromStatusRuntimeException(e);
+        }
+    }
+
     // Role Management APIs
 
     public AssignRoleResponse assignRole(AssignRoleRequest request) {
@@ -0,0 +1,37 @@
+package lotecs.auth.sdk.dto.auth;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 다건 권한 확인 요청
+ * userId + permissionCodes (단일 사용자) 또는 checks (사용자별 항목)를 사용한다.
+ * 결과는 permissionCodes, checks 순서로 반환된다.
+ */
+@Getter
+@Builder
+public class CheckPermissionsRequest {
+    private String tenantId;
+    private String userId;
+    private List<String> permissionCodes;
+    private List<PermissionCheckItem> checks;
+    @Builder.Default
+    private PermissionCheckMode mode = PermissionCheckMode.EACH;
+
+    public com.lotecs.auth.grpc.CheckPermissionsRequest toProto() {
+        com.lotecs.auth.grpc.CheckPermissionsRequest.Builder builder = com.lotecs.auth.grpc.CheckPermissionsRequest.newBuilder()
+                .setTenantId(tenantId != null ? tenantId : "")
+                .setUserId(userId != null ? userId : "")
+                .setMode(mode != null ? mode.toProto() : com.lotecs.auth.grpc.PermissionCheckMode.PERMISSION_CHECK_MODE_EACH);
+
+        if (permissionCodes != null) {
+            builder.addAllPermissionCodes(permissionCodes);
+        }
+        if (checks != null) {
+            checks.forEach(check -> builder.addChecks(check.toProto()));
+        }
+
+        return builder.build();
+    }
+}
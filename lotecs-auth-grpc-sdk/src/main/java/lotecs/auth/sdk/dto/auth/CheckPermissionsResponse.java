@@ -0,0 +1,19 @@
+package lotecs.auth.sdk.dto.auth;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CheckPermissionsResponse {
+    private boolean granted;
+    private List<Boolean> results;
+
+    public static CheckPermissionsResponse fromProto(com.lotecs.auth.grpc.CheckPermissionsResponse proto) {
+        return CheckPermissionsResponse.builder()
+                .granted(proto.getGranted())
+                .results(List.copyOf(proto.getResultsList()))
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package lotecs.auth.sdk.dto.auth;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PermissionCheckItem {
+    private String userId;
+    private String permissionCode;
+
+    public com.lotecs.auth.grpc.PermissionCheckItem toProto() {
+        return com.lotecs.auth.grpc.PermissionCheckItem.newBuilder()
+                .setUserId(userId != null ? userId : "")
+                .setPermissionCode(permissionCode != null ? permissionCode : "")
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package lotecs.auth.sdk.dto.auth;
+
+public enum PermissionCheckMode {
+    EACH,
+    ANY,
+    ALL;
+
+    public com.lotecs.auth.grpc.PermissionCheckMode toProto() {
+        return switch (this) {
+            case ANY -> com.lotecs.auth.grpc.PermissionCheckMode.PERMISSION_CHECK_MODE_ANY;
+            case ALL -> com.lotecs.auth.grpc.PermissionCheckMode.PERMISSION_CHECK_MODE_ALL;
+            case EACH -> com.lotecs.auth.grpc.PermissionCheckMode.PERMISSION_CHECK_MODE_EACH;
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package lotecs.auth.sdk.dto.auth;
+
+public enum TokenValidationMode {
+    CLAIMS_ONLY,
+    CACHED_USER,
+    FRESH_USER;
+
+    public com.lotecs.auth.grpc.TokenValidationMode toProto() {
+        return switch (this) {
+            case CLAIMS_ONLY -> com.lotecs.auth.grpc.TokenValidationMode.TOKEN_VALIDATION_MODE_CLAIMS_ONLY;
+            case CACHED_USER -> com.lotecs.auth.grpc.TokenValidationMode.TOKEN_VALIDATION_MODE_CACHED_USER;
+            case FRESH_USER -> com.lotecs.auth.grpc.TokenValidationMode.TOKEN_VALIDATION_MODE_FRESH_USER;
+        };
+    }
+}
@@ -3,14 +3,21 @@ package lotecs.auth.sdk.dto.auth;
 import lombok.Builder;
 import lombok.Getter;
 
+/**
+ * 토큰 검증 요청
+ * mode 기본값은 CLAIMS_ONLY (DB 조회 없이 클레임으로 사용자 정보 구성)
+ */
 @Getter
 @Builder
 public class ValidateTokenRequest {
     private String accessToken;
+    @Builder.Default
+    private TokenValidationMode mode = TokenValidationMode.CLAIMS_ONLY;
 
     public com.lotecs.auth.grpc.ValidateTokenRequest toProto() {
         return com.lotecs.auth.grpc.ValidateTokenRequest.newBuilder()
                 .setAccessToken(accessToken != null ? accessToken : "")
+                .setMode(mode != null ? mode.toProto() : com.lotecs.auth.grpc.TokenValidationMode.TOKEN_VALIDATION_MODE_CLAIMS_ONLY)
                 .build();
     }
 }
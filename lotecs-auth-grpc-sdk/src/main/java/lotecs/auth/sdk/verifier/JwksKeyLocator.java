@@ -0,0 +1,116 @@
+package lotecs.auth.sdk.verifier;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.KeyException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.Key;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JWKS 기반 서명 키 조회.
+ *
+ * <p>kid별 공개키를 보관한다. 모르는 kid가 오면 최소 간격을 두고 JWKS를 다시 조회하고(키 롤오버),
+ * 마지막 조회 후 refreshInterval이 지나면 다음 검증 스레드 하나가 다시 조회하고, 나머지는 기존 키로 검증한다(폐기된 키 제거).
+ * 조회에 실패하면 기존 키를 계속 사용하며, 재시도는 최소 간격을 따른다.</p>
+ */
+@Slf4j
+class JwksKeyLocator extends LocatorAdapter<Key> {
+
+    private final HttpClient httpClient;
+    private final URI jwksUri;
+    private final Duration requestTimeout;
+    private final long refreshIntervalNanos;
+    private final long minRefreshIntervalNanos;
+
+    private final AtomicBoolean periodicRefreshing = new AtomicBoolean();
+
+    private volatile Map<String, Key> keys = Map.of();
+    private volatile boolean attempted;
+    private volatile long lastRefreshNanos;
+
+    JwksKeyLocator(URI jwksUri, Duration requestTimeout, Duration refreshInterval, Duration minRefreshInterval) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .build();
+        this.jwksUri = jwksUri;
+        this.requestTimeout = requestTimeout;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        if (attempted && System.nanoTime() - lastRefreshNanos >= refreshIntervalNanos
+                && periodicRefreshing.compareAndSet(false, true)) {
+            try {
+                refreshIfAllowed();
+            } finally {
+                periodicRefreshing.set(false);
+            }
+        }
+
+        String kid = header.getKeyId();
+        Key key = keys.get(kid);
+        if (key != null) {
+            return key;
+        }
+        refreshIfAllowed();
+        key = keys.get(kid);
+        if (key == null) {
+            throw new KeyException("Unknown signing key id: " + kid);
+        }
+        return key;
+    }
+
+    private synchronized void refreshIfAllowed() {
+        long now = System.nanoTime();
+        if (attempted && now - lastRefreshNanos < minRefreshIntervalNanos) {
+            return;
+        }
+        attempted = true;
+        lastRefreshNanos = now;
+        try {
+            keys = fetchKeys();
+            log.debug("JWKS loaded: uri={}, keys={}", jwksUri, keys.keySet());
+        } catch (IOException | RuntimeException e) {
+            log.warn("JWKS refresh failed, keeping {} cached keys: uri={}, error={}", keys.size(), jwksUri, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("JWKS refresh interrupted: uri={}", jwksUri);
+        }
+    }
+
+    private Map<String, Key> fetchKeys() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("JWKS request failed: HTTP " + response.statusCode());
+        }
+
+        JwkSet jwkSet = Jwks.setParser().build().parse(response.body());
+        Map<String, Key> loaded = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk.getId() != null) {
+                loaded.put(jwk.getId(), jwk.toKey());
+            }
+        }
+        return Map.copyOf(loaded);
+    }
+}
@@ -0,0 +1,138 @@
+package lotecs.auth.sdk.verifier;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.sdk.autoconfigure.AuthGrpcSdkProperties;
+import lotecs.auth.sdk.client.AuthServiceClient;
+import lotecs.auth.sdk.dto.auth.TokenValidationMode;
+import lotecs.auth.sdk.dto.auth.UserInfo;
+import lotecs.auth.sdk.dto.auth.ValidateTokenRequest;
+import lotecs.auth.sdk.dto.auth.ValidateTokenResponse;
+
+import java.net.URI;
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증 서버 호출 없이 토큰을 검증하는 로컬 검증기.
+ *
+ * <p>JWKS로 받은 공개키로 서명을 검증하고 exp, issuer, audience를 확인한 뒤 클레임을 {@link UserInfo}로 변환한다.
+ * {@link RevocationChecker}가 폐기됐을 수 있다고 응답한 토큰만 인증 서버 ValidateToken(CLAIMS_ONLY)으로 재확인한다.
+ * 인증 서버가 HMAC(공유 secret)으로 서명하는 환경에서는 공개키가 없으므로 {@link AuthServiceClient#validateToken}을 사용한다.</p>
+ */
+@Slf4j
+public class LocalTokenVerifier {
+
+    private final JwtParser parser;
+    private final RevocationChecker revocationChecker;
+    private final AuthServiceClient remoteClient;
+
+    public LocalTokenVerifier(AuthGrpcSdkProperties.LocalVerification properties,
+                              RevocationChecker revocationChecker,
+                              AuthServiceClient remoteClient) {
+        this(properties, jwksLocator(properties), revocationChecker, remoteClient);
+    }
+
+    LocalTokenVerifier(AuthGrpcSdkProperties.LocalVerification properties,
+                       Locator<Key> keyLocator,
+                       RevocationChecker revocationChecker,
+                       AuthServiceClient remoteClient) {
+        this.parser = Jwts.parser()
+                .keyLocator(keyLocator)
+                .requireIssuer(properties.getIssuer())
+                .requireAudience(properties.getAudience())
+                .clockSkewSeconds(properties.getClockSkew().toSeconds())
+                .build();
+        this.revocationChecker = revocationChecker != null ? revocationChecker : RevocationChecker.NONE;
+        this.remoteClient = properties.isRemoteFallback() ? remoteClient : null;
+    }
+
+    /**
+     * 토큰 검증. 응답 형식은 {@link AuthServiceClient#validateToken}과 같다.
+     */
+    public ValidateTokenResponse verify(String accessToken) {
+        if (accessToken == null || accessToken.isBlank()) {
+            return invalid("Token is empty");
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(accessToken).getPayload();
+        } catch (ExpiredJwtException e) {
+            return invalid("Token expired");
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Local token verification failed: {}", e.getMessage());
+            return invalid(e.getMessage());
+        }
+
+        if (revocationChecker.mightBeRevoked(TokenDigests.of(accessToken))) {
+            if (remoteClient == null) {
+                return invalid("Token has been revoked");
+            }
+            log.debug("Token might be revoked, confirming with auth server");
+            return remoteClient.validateToken(ValidateTokenRequest.builder()
+                    .accessToken(accessToken)
+                    .mode(TokenValidationMode.CLAIMS_ONLY)
+                    .build());
+        }
+
+        return ValidateTokenResponse.builder()
+                .valid(true)
+                .user(toUserInfo(claims))
+                .build();
+    }
+
+    private static UserInfo toUserInfo(Claims claims) {
+        String username = claims.get("username", String.class);
+        return UserInfo.builder()
+                .userId(claims.get("userId", String.class))
+                .tenantId(claims.get("tenantId", String.class))
+                .username(username != null ? username : claims.getSubject())
+                .email(claims.get("email", String.class))
+                .roles(toList(claims.get("roles")))
+                .permissions(toList(claims.get("authorities")))
+                .build();
+    }
+
+    /**
+     * 목록 클레임 변환 (JSON 배열 또는 "A,B" 형식 문자열)
+     */
+    private static List<String> toList(Object value) {
+        if (value instanceof Collection<?> values) {
+            return values.stream().map(String::valueOf).toList();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            return Arrays.stream(text.split(","))
+                    .map(String::trim)
+                    .filter(item -> !item.isEmpty())
+                    .toList();
+        }
+        return List.of();
+    }
+
+    private static ValidateTokenResponse invalid(String errorMessage) {
+        return ValidateTokenResponse.builder()
+                .valid(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    private static Locator<Key> jwksLocator(AuthGrpcSdkProperties.LocalVerification properties) {
+        if (properties.getJwksUri() == null || properties.getJwksUri().isBlank()) {
+            throw new IllegalStateException("lotecs.auth.grpc.local-verification.jwks-uri is required");
+        }
+        return new JwksKeyLocator(
+                URI.create(properties.getJwksUri()),
+                properties.getJwksRequestTimeout(),
+                properties.getJwksRefreshInterval(),
+                properties.getJwksMinRefreshInterval()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package lotecs.auth.sdk.verifier;
+
+/**
+ * 로컬 토큰 검증 시 폐기(로그아웃) 여부 확인.
+ *
+ * <p>토큰 digest({@link TokenDigests#of(String)})로 조회한다. Bloom filter처럼 오탐이 있는 구현은
+ * true를 "폐기됐을 수 있음"으로 반환하며, 이때 {@link LocalTokenVerifier}는 인증 서버에 원격 검증을 요청한다.</p>
+ */
+@FunctionalInterface
+public interface RevocationChecker {
+
+    /**
+     * 폐기 정보를 사용하지 않음
+     */
+    RevocationChecker NONE = tokenDigest -> false;
+
+    boolean mightBeRevoked(String tokenDigest);
+}
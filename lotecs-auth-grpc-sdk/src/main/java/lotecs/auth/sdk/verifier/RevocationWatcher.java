@@ -0,0 +1,186 @@
+package lotecs.auth.sdk.verifier;
+
+import com.lotecs.auth.grpc.AuthServiceGrpc;
+import com.lotecs.auth.grpc.RevocationEvent;
+import com.lotecs.auth.grpc.RevocationSnapshot;
+import com.lotecs.auth.grpc.WatchRevocationsRequest;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import lombok.extern.slf4j.Slf4j;
+import lotecs.auth.sdk.autoconfigure.AuthGrpcSdkProperties;
+import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 서버 WatchRevocations 스트림 기반 {@link RevocationChecker}.
+ *
+ * <p>서버가 보내는 폐기 digest 변경분과 주기적 Bloom filter snapshot을 메모리에 유지해,
+ * {@link LocalTokenVerifier}가 요청마다 인증 서버를 호출하지 않고 폐기 여부를 판단하게 한다.
+ * snapshot을 받으면 그 version 이전의 변경분은 snapshot에 포함되므로 버린다.</p>
+ *
+ * <p>스트림이 끊기면 마지막 version부터 재접속한다(지수 backoff). 아직 snapshot을 받지 못했거나
+ * maxStaleness 이상 끊겨 있으면 모든 토큰을 "폐기됐을 수 있음"으로 반환해 원격 확인으로 넘긴다.</p>
+ */
+@Slf4j
+public class RevocationWatcher implements RevocationChecker, SmartLifecycle {
+
+    @GrpcClient("lotecs-auth")
+    private AuthServiceGrpc.AuthServiceStub authServiceStub;
+
+    private final AuthGrpcSdkProperties.RevocationWatch properties;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Long> deltas = new ConcurrentHashMap<>();
+
+    private volatile BloomSnapshot snapshot;
+    private volatile long lastVersion;
+    private volatile boolean connected;
+    private volatile long disconnectedAtNanos = System.nanoTime();
+    private volatile boolean running;
+    private volatile ClientCallStreamObserver<WatchRevocationsRequest> call;
+    private long reconnectDelayMillis;
+
+    public RevocationWatcher(AuthGrpcSdkProperties.RevocationWatch properties) {
+        this(properties, null);
+    }
+
+    RevocationWatcher(AuthGrpcSdkProperties.RevocationWatch properties, AuthServiceGrpc.AuthServiceStub authServiceStub) {
+        this.properties = properties;
+        this.authServiceStub = authServiceStub;
+        this.reconnectDelayMillis = properties.getReconnectDelay().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "revocation-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public boolean mightBeRevoked(String tokenDigest) {
+        BloomSnapshot current = snapshot;
+        if (current == null || isStale()) {
+            return true;
+        }
+        return deltas.containsKey(tokenDigest) || current.mightContain(tokenDigest);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        scheduler.execute(this::connect);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ClientCallStreamObserver<WatchRevocationsRequest> current = call;
+        if (current != null) {
+            current.cancel("RevocationWatcher stopped", null);
+        }
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 수신한 폐기 이벤트 반영
+     */
+    void apply(RevocationEvent event) {
+        if (event.hasSnapshot()) {
+            snapshot = BloomSnapshot.fromProto(event.getSnapshot());
+            deltas.values().removeIf(version -> version <= event.getVersion());
+        }
+        for (String digest : event.getTokenDigestsList()) {
+            deltas.put(digest, event.getVersion());
+        }
+        lastVersion = Math.max(lastVersion, event.getVersion());
+        connected = true;
+    }
+
+    private boolean isStale() {
+        return !connected && System.nanoTime() - disconnectedAtNanos >= properties.getMaxStaleness().toNanos();
+    }
+
+    private void connect() {
+        if (!running) {
+            return;
+        }
+        WatchRevocationsRequest request = WatchRevocationsRequest.newBuilder()
+                .setSinceVersion(lastVersion)
+                .build();
+        log.debug("Watching revocations: sinceVersion={}", lastVersion);
+
+        authServiceStub.watchRevocations(request, new ClientResponseObserver<WatchRevocationsRequest, RevocationEvent>() {
+            @Override
+            public void beforeStart(ClientCallStreamObserver<WatchRevocationsRequest> requestStream) {
+                call = requestStream;
+            }
+
+            @Override
+            public void onNext(RevocationEvent event) {
+                apply(event);
+                reconnectDelayMillis = properties.getReconnectDelay().toMillis();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.warn("Revocation stream failed: {}", t.getMessage());
+                reconnect();
+            }
+
+            @Override
+            public void onCompleted() {
+                reconnect();
+            }
+        });
+    }
+
+    private void reconnect() {
+        if (connected) {
+            connected = false;
+            disconnectedAtNanos = System.nanoTime();
+        }
+        if (!running) {
+            return;
+        }
+        long delay = reconnectDelayMillis;
+        reconnectDelayMillis = Math.min(delay * 2, properties.getMaxReconnectDelay().toMillis());
+        scheduler.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 서버 RevocationSnapshot Bloom filter.
+     * i번째 비트 위치는 {@code unsigned(h1 + i * h2) mod bitCount} (h1, h2: digest 앞/뒤 64비트)
+     */
+    record BloomSnapshot(long[] bits, int bitCount, int hashCount) {
+
+        static BloomSnapshot fromProto(RevocationSnapshot proto) {
+            long[] bits = proto.getBitsList().stream().mapToLong(Long::longValue).toArray();
+            return new BloomSnapshot(bits, proto.getBitCount(), proto.getHashCount());
+        }
+
+        boolean mightContain(String digest) {
+            if (bitCount <= 0) {
+                return false;
+            }
+            long h1 = HexFormat.fromHexDigitsToLong(digest, 0, 16);
+            long h2 = HexFormat.fromHexDigitsToLong(digest, 16, 32);
+            for (int i = 0; i < hashCount; i++) {
+                int index = (int) Long.remainderUnsigned(h1 + i * h2, bitCount);
+                if ((bits[index >>> 6] & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package lotecs.auth.sdk.verifier;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 digest: SHA-256 앞 128비트의 16진수 문자열 (32자).
+ * 인증 서버의 토큰 폐기 이벤트와 같은 형식이다.
+ */
+public final class TokenDigests {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private TokenDigests() {
+    }
+
+    public static String of(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return HexFormat.of().formatHex(hash, 0, 16);
+    }
+}
@@ -82,6 +82,20 @@ class DtoConversionTest {
             com.lotecs.auth.grpc.ValidateTokenRequest proto = request.toProto();
 
             assertThat(proto.getAccessToken()).isEqualTo("token123");
+            assertThat(proto.getMode()).isEqualTo(com.lotecs.auth.grpc.TokenValidationMode.TOKEN_VALIDATION_MODE_CLAIMS_ONLY);
+        }
+
+        @Test
+        @DisplayName("ValidateTokenRequest의 검증 모드를 Proto로 변환해야 한다")
+        void shouldConvertValidateTokenModeToProto() {
+            ValidateTokenRequest request = ValidateTokenRequest.builder()
+                    .accessToken("token123")
+                    .mode(TokenValidationMode.FRESH_USER)
+                    .build();
+
+            com.lotecs.auth.grpc.ValidateTokenRequest proto = request.toProto();
+
+            assertThat(proto.getMode()).isEqualTo(com.lotecs.auth.grpc.TokenValidationMode.TOKEN_VALIDATION_MODE_FRESH_USER);
         }
 
         @Test
@@ -99,6 +113,44 @@ class DtoConversionTest {
             assertThat(proto.getTenantId()).isEqualTo("TENANT001");
             assertThat(proto.getPermissionCode()).isEqualTo("ADMIN_READ");
         }
+
+        @Test
+        @DisplayName("CheckPermissionsRequest를 Proto로 변환해야 한다")
+        void shouldConvertCheckPermissionsRequestToProto() {
+            CheckPermissionsRequest request = CheckPermissionsRequest.builder()
+                    .tenantId("TENANT001")
+                    .userId("user123")
+                    .permissionCodes(List.of("USER:READ", "USER:WRITE"))
+                    .checks(List.of(PermissionCheckItem.builder()
+                            .userId("user456")
+                            .permissionCode("ROLE:READ")
+                            .build()))
+                    .mode(PermissionCheckMode.ALL)
+                    .build();
+
+            com.lotecs.auth.grpc.CheckPermissionsRequest proto = request.toProto();
+
+            assertThat(proto.getTenantId()).isEqualTo("TENANT001");
+            assertThat(proto.getUserId()).isEqualTo("user123");
+            assertThat(proto.getPermissionCodesList()).containsExactly("USER:READ", "USER:WRITE");
+            assertThat(proto.getChecksList()).hasSize(1);
+            assertThat(proto.getChecks(0).getUserId()).isEqualTo("user456");
+            assertThat(proto.getMode()).isEqualTo(com.lotecs.auth.grpc.PermissionCheckMode.PERMISSION_CHECK_MODE_ALL);
+        }
+
+        @Test
+        @DisplayName("CheckPermissionsResponse를 Proto에서 변환해야 한다")
+        void shouldConvertCheckPermissionsResponseFromProto() {
+            com.lotecs.auth.grpc.CheckPermissionsResponse proto = com.lotecs.auth.grpc.CheckPermissionsResponse.newBuilder()
+                    .setGranted(false)
+                    .addAllResults(List.of(true, false))
+                    .build();
+
+            CheckPermissionsResponse response = CheckPermissionsResponse.fromProto(proto);
+
+            assertThat(response.isGranted()).isFalse();
+            assertThat(response.getResults()).containsExactly(true, false);
+        }
     }
 
     @Nested
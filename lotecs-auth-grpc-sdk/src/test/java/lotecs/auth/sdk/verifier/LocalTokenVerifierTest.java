@@ -0,0 +1,123 @@
+package lotecs.auth.sdk.verifier;
+
+import io.jsonwebtoken.Jwts;
+import lotecs.auth.sdk.autoconfigure.AuthGrpcSdkProperties;
+import lotecs.auth.sdk.client.AuthServiceClient;
+import lotecs.auth.sdk.dto.auth.ValidateTokenRequest;
+import lotecs.auth.sdk.dto.auth.ValidateTokenResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalTokenVerifier 단위 테스트")
+class LocalTokenVerifierTest {
+
+    private static final KeyPair KEY_PAIR = Jwts.SIG.RS256.keyPair().build();
+
+    private final AuthGrpcSdkProperties.LocalVerification properties = new AuthGrpcSdkProperties.LocalVerification();
+
+    @Nested
+    @DisplayName("로컬 검증")
+    class Verify {
+
+        @Test
+        @DisplayName("유효한 토큰의 클레임을 UserInfo로 변환한다")
+        void shouldMapClaimsToUserInfo() {
+            LocalTokenVerifier verifier = verifier(RevocationChecker.NONE, null);
+
+            ValidateTokenResponse response = verifier.verify(token("lotecs-platform", Instant.now().plusSeconds(900)));
+
+            assertThat(response.isValid()).isTrue();
+            assertThat(response.getUser().getUserId()).isEqualTo("U1");
+            assertThat(response.getUser().getTenantId()).isEqualTo("T1");
+            assertThat(response.getUser().getUsername()).isEqualTo("admin");
+            assertThat(response.getUser().getRoles()).containsExactly("ROLE_ADMIN", "ROLE_USER");
+            assertThat(response.getUser().getPermissions()).containsExactly("MENU_VIEW", "USER_EDIT");
+        }
+
+        @Test
+        @DisplayName("만료된 토큰은 거절한다")
+        void shouldRejectExpiredToken() {
+            LocalTokenVerifier verifier = verifier(RevocationChecker.NONE, null);
+
+            ValidateTokenResponse response = verifier.verify(token("lotecs-platform", Instant.now().minusSeconds(60)));
+
+            assertThat(response.isValid()).isFalse();
+            assertThat(response.getErrorMessage()).isEqualTo("Token expired");
+        }
+
+        @Test
+        @DisplayName("issuer가 다르면 거절한다")
+        void shouldRejectWrongIssuer() {
+            LocalTokenVerifier verifier = verifier(RevocationChecker.NONE, null);
+
+            ValidateTokenResponse response = verifier.verify(token("other-issuer", Instant.now().plusSeconds(900)));
+
+            assertThat(response.isValid()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("폐기 확인")
+    class Revocation {
+
+        @Test
+        @DisplayName("폐기됐을 수 있는 토큰은 원격 검증 결과를 따른다")
+        void shouldConfirmWithRemoteWhenMightBeRevoked() {
+            String token = token("lotecs-platform", Instant.now().plusSeconds(900));
+            AtomicInteger remoteCalls = new AtomicInteger();
+            AuthServiceClient remote = new AuthServiceClient() {
+                @Override
+                public ValidateTokenResponse validateToken(ValidateTokenRequest request) {
+                    remoteCalls.incrementAndGet();
+                    return ValidateTokenResponse.builder().valid(false).errorMessage("revoked").build();
+                }
+            };
+            LocalTokenVerifier verifier = verifier(TokenDigests.of(token)::equals, remote);
+
+            ValidateTokenResponse response = verifier.verify(token);
+
+            assertThat(response.isValid()).isFalse();
+            assertThat(remoteCalls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("원격 확인을 끄면 폐기됐을 수 있는 토큰을 거절한다")
+        void shouldRejectWithoutRemoteFallback() {
+            properties.setRemoteFallback(false);
+            String token = token("lotecs-platform", Instant.now().plusSeconds(900));
+            LocalTokenVerifier verifier = verifier(TokenDigests.of(token)::equals, new AuthServiceClient());
+
+            assertThat(verifier.verify(token).isValid()).isFalse();
+        }
+    }
+
+    private LocalTokenVerifier verifier(RevocationChecker revocationChecker, AuthServiceClient remote) {
+        return new LocalTokenVerifier(properties, header -> KEY_PAIR.getPublic(), revocationChecker, remote);
+    }
+
+    private static String token(String issuer, Instant expiresAt) {
+        return Jwts.builder()
+                .header().keyId("key-1").and()
+                .subject("admin")
+                .issuer(issuer)
+                .audience().add("lotecs-services").and()
+                .issuedAt(Date.from(expiresAt.minusSeconds(900)))
+                .expiration(Date.from(expiresAt))
+                .claim("userId", "U1")
+                .claim("tenantId", "T1")
+                .claim("username", "admin")
+                .claim("roles", "ROLE_ADMIN,ROLE_USER")
+                .claim("authorities", List.of("MENU_VIEW", "USER_EDIT"))
+                .signWith(KEY_PAIR.getPrivate())
+                .compact();
+    }
+}